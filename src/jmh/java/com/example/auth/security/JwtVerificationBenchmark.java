@@ -0,0 +1,60 @@
+package com.example.auth.security;
+
+import com.example.auth.service.TokenService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 비용 마이크로 벤치마크
+ * - legacyPerRequest: 보호된 요청 1건당 인증 필터와 인터셉터가 각각 JwtUtil.validateToken 호출 (HMAC 검증 + 클레임 파싱 2회)
+ * - resolvePerRequest: VerifiedTokenResolver 1회 (최근 검증 토큰 캐시 적중 시 다이제스트 계산 + 블랙리스트 조회만 수행)
+ * 블랙리스트 조회(TokenService)는 목으로 대체하며, 실행: ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "jmh-benchmark-secret-key-must-be-at-least-256-bits-long";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenResolver verifiedTokenResolver;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "accessExpiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", TimeUnit.DAYS.toMillis(14));
+        jwtUtil.init();
+
+        verifiedTokenResolver = new VerifiedTokenResolver(jwtUtil, Mockito.mock(TokenService.class));
+        ReflectionTestUtils.setField(verifiedTokenResolver, "maxSize", 10000);
+        ReflectionTestUtils.setField(verifiedTokenResolver, "ttlSeconds", 300L);
+
+        token = jwtUtil.createAccessToken(0L);
+    }
+
+    @Benchmark
+    public Object validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Object legacyPerRequest() {
+        jwtUtil.validateToken(token);
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Object resolvePerRequest() {
+        return verifiedTokenResolver.resolve(token);
+    }
+}
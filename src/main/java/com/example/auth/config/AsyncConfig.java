@@ -1,12 +1,147 @@
 package com.example.auth.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기/스케줄링 설정
+ * {@code @Async} 작업은 작업 종류별 BulkheadExecutor로 격리하여 야간 크롤링 같은 대량 작업이
+ * 조회수/이미지/로그인 처리 스레드를 점유하지 못하도록 합니다. 크기는 async.{작업}.* 설정으로 조정합니다.
+ * {@code @Scheduled} 작업은 전용 taskScheduler에서 실행하여 SSE 하트비트 스케줄러와 스레드를 나누지 않습니다.
+ */
+@Slf4j
 @Configuration
 @EnableAsync
 @EnableScheduling
-public class AsyncConfig {
-    // 추가 설정이 필요하면 여기에 구현 (ThreadPoolTaskExecutor 등)
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${async.default.core-size:2}")
+    private int defaultCoreSize;
+
+    @Value("${async.default.max-size:4}")
+    private int defaultMaxSize;
+
+    @Value("${async.default.queue-capacity:200}")
+    private int defaultQueueCapacity;
+
+    /**
+     * 실행기를 지정하지 않은 {@code @Async} 작업의 기본 실행기
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor defaultAsyncExecutor() {
+        return new BulkheadExecutor("async-default", defaultCoreSize, defaultMaxSize, defaultQueueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 콕포스트 인기 순위 갱신 실행기
+     * 같은 포스트의 최신 조회수로 다시 갱신되므로 밀리면 가장 오래된 작업을 버림
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor viewCountAsyncExecutor(
+            @Value("${async.view-count.core-size:2}") int coreSize,
+            @Value("${async.view-count.max-size:4}") int maxSize,
+            @Value("${async.view-count.queue-capacity:1000}") int queueCapacity) {
+        return new BulkheadExecutor("async-view-count", coreSize, maxSize, queueCapacity,
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    /**
+     * 이미지 URL 반영 실행기 (프로필/캠페인 썸네일)
+     * 반영이 누락되면 안 되므로 밀리면 호출 스레드에서 직접 실행
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor imageAsyncExecutor(
+            @Value("${async.image.core-size:2}") int coreSize,
+            @Value("${async.image.max-size:4}") int maxSize,
+            @Value("${async.image.queue-capacity:200}") int queueCapacity) {
+        return new BulkheadExecutor("async-image", coreSize, maxSize, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * SNS 크롤링 실행기 (인스타그램 연동 처리/전체 수집)
+     * 플랫폼별 요청은 SnsCrawlEngine 레인 실행기에서 처리하므로 이 실행기에는 수집 작업 단위만 들어옴.
+     * 레인 실행기와 같이 밀리면 호출 스레드에서 직접 실행하여 수집/연동 처리가 누락되지 않도록 함
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor snsCrawlAsyncExecutor(
+            @Value("${async.sns-crawl.core-size:2}") int coreSize,
+            @Value("${async.sns-crawl.max-size:2}") int maxSize,
+            @Value("${async.sns-crawl.queue-capacity:500}") int queueCapacity) {
+        return new BulkheadExecutor("async-sns-crawl", coreSize, maxSize, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 카카오 로그인 실행기
+     * 사용자 대기 중인 요청이므로 긴 큐에 쌓아두지 않고 포화 시 즉시 실패
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor kakaoAsyncExecutor(
+            @Value("${async.kakao.core-size:4}") int coreSize,
+            @Value("${async.kakao.max-size:8}") int maxSize,
+            @Value("${async.kakao.queue-capacity:50}") int queueCapacity) {
+        return new BulkheadExecutor("async-kakao", coreSize, maxSize, queueCapacity,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * {@code @Scheduled} 작업 스케줄러
+     * 이 빈이 없으면 유일한 ScheduledExecutorService(SSE 하트비트 스케줄러)가 모든 배치 작업을 떠맡게 되므로 별도로 정의
+     * 새벽 3~4시에 긴 배치가 몰리므로 여러 스레드로 실행
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setErrorHandler(ex -> log.error("스케줄 작업 실패: {}", ex.getMessage(), ex));
+        return scheduler;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return defaultAsyncExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 작업 실패: method={}.{}, error={}",
+                        method.getDeclaringClass().getSimpleName(), method.getName(), ex.getMessage(), ex);
+    }
+
+    /**
+     * 알림 아웃박스 디스패치 실행기
+     * 스케줄러 스레드를 막지 않도록 아웃박스 처리 루프는 이 단일 스레드에서만 실행
+     * 처리 루프는 한 번에 하나만 예약되므로(running 플래그) 큐는 1칸이면 충분하고, 넘치면 거부 후 다음 주기에 처리
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor outboxDispatchExecutor() {
+        return new BulkheadExecutor("outbox-dispatch", 1, 1, 1,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 알림 아웃박스 이메일 발송 실행기
+     * SES 동시 호출 수를 스레드 수로 제한하고, 큐가 차면 디스패치 스레드가 직접 발송하여 속도를 맞춤
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BulkheadExecutor outboxEmailExecutor(
+            @Value("${notification.outbox.email-concurrency:4}") int concurrency,
+            @Value("${notification.outbox.email-queue-capacity:100}") int queueCapacity) {
+        return new BulkheadExecutor("outbox-email", concurrency, concurrency, queueCapacity,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 }
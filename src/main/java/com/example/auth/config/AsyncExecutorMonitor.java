@@ -0,0 +1,61 @@
+package com.example.auth.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 비동기 실행기(BulkheadExecutor) 상태 로그
+ * 1분마다 실행기별 스레드/큐 사용량과 구간 처리량, 대기/실행 시간을 기록하고 큐 포화나 거부가 있으면 경고합니다.
+ * 빈으로 등록되지 않는 실행기(SNS 수집 레인 등)는 register로 추가합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncExecutorMonitor {
+
+    private static final double QUEUE_WARN_RATIO = 0.8;
+
+    private final List<BulkheadExecutor> executors;
+
+    private final List<BulkheadExecutor> registeredExecutors = new CopyOnWriteArrayList<>();
+
+    /**
+     * 빈이 아닌 실행기를 상태 로그 대상에 추가
+     */
+    public void register(BulkheadExecutor executor) {
+        registeredExecutors.add(executor);
+    }
+
+    public void unregister(BulkheadExecutor executor) {
+        registeredExecutors.remove(executor);
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void logExecutorStats() {
+        executors.forEach(this::logStats);
+        registeredExecutors.forEach(this::logStats);
+    }
+
+    private void logStats(BulkheadExecutor executor) {
+        BulkheadExecutor.Stats stats = executor.snapshotAndReset();
+        if (stats.completed() == 0 && stats.failed() == 0 && stats.rejected() == 0 && stats.activeCount() == 0) {
+            return;
+        }
+
+        log.info("비동기 실행기 상태 - {}: 스레드 {}/{} 실행 중, 큐 {}/{}, 1분간 완료 {} / 실패 {} / 거부 {}, 대기 평균 {}ms (최대 {}ms), 실행 평균 {}ms (최대 {}ms)",
+                stats.name(), stats.activeCount(), stats.poolSize(), stats.queueSize(), stats.queueCapacity(),
+                stats.completed(), stats.failed(), stats.rejected(),
+                String.format("%.1f", stats.avgWaitMs()), String.format("%.1f", stats.maxWaitMs()),
+                String.format("%.1f", stats.avgRunMs()), String.format("%.1f", stats.maxRunMs()));
+
+        if (stats.queueUsage() >= QUEUE_WARN_RATIO || stats.rejected() > 0) {
+            log.warn("비동기 실행기 포화 - {}: 큐 사용률 {}%, 1분간 거부 {}건",
+                    stats.name(), Math.round(stats.queueUsage() * 100), stats.rejected());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.auth.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 작업 종류별 격리 실행기 (벌크헤드)
+ * 스레드 수와 대기 큐 크기가 고정되어 있어 한 작업 종류가 밀려도 다른 실행기의 스레드/큐를 잠식하지 않으며,
+ * 큐가 가득 차면 지정한 거부 정책(호출 스레드 실행, 가장 오래된 작업 폐기, 예외)을 따릅니다.
+ * 대기 시간(큐 진입 ~ 실행 시작)과 실행 시간, 거부/실패 건수를 누적하여 AsyncExecutorMonitor가 주기적으로 기록합니다.
+ */
+@Slf4j
+public class BulkheadExecutor extends ThreadPoolExecutor {
+
+    private final String name;
+    private final int queueCapacity;
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong totalRunNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxRunNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 실행기 상태 스냅샷 (누적 값은 직전 스냅샷 이후 구간 값)
+     */
+    public record Stats(String name, int poolSize, int activeCount, int queueSize, int queueCapacity,
+                        long completed, long failed, long rejected,
+                        double avgWaitMs, double maxWaitMs, double avgRunMs, double maxRunMs) {
+
+        public double queueUsage() {
+            return queueCapacity == 0 ? 0 : (double) queueSize / queueCapacity;
+        }
+    }
+
+    public BulkheadExecutor(String name, int coreSize, int maxSize, int queueCapacity,
+                            RejectedExecutionHandler rejectionPolicy) {
+        super(coreSize, Math.max(coreSize, maxSize), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(name), rejectionPolicy);
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        // 거부 건수를 세기 위해 지정한 정책을 감쌈
+        setRejectedExecutionHandler((task, executor) -> {
+            rejectedCount.incrementAndGet();
+            log.warn("비동기 실행기 포화로 작업 거부: executor={}, active={}, queue={}/{}",
+                    name, executor.getActiveCount(), executor.getQueue().size(), queueCapacity);
+            rejectionPolicy.rejectedExecution(task, executor);
+        });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // 가장 오래된 작업 폐기 정책은 이미 감싼 작업을 다시 execute 하므로 중복으로 감싸지 않음
+        super.execute(command instanceof TimedTask ? command : new TimedTask(command, System.nanoTime()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 현재 상태와 직전 스냅샷 이후 구간 통계를 반환하고 구간 값을 초기화
+     */
+    public Stats snapshotAndReset() {
+        long completed = completedCount.getAndSet(0);
+        long failed = failedCount.getAndSet(0);
+        long rejected = rejectedCount.getAndSet(0);
+        long waitNanos = totalWaitNanos.getAndSet(0);
+        long runNanos = totalRunNanos.getAndSet(0);
+        long maxWait = maxWaitNanos.getThenReset();
+        long maxRun = maxRunNanos.getThenReset();
+        long executed = completed + failed;
+
+        return new Stats(name, getPoolSize(), getActiveCount(), getQueue().size(), queueCapacity,
+                completed, failed, rejected,
+                executed == 0 ? 0 : toMillis(waitNanos) / executed, toMillis(maxWait),
+                executed == 0 ? 0 : toMillis(runNanos) / executed, toMillis(maxRun));
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 큐 진입 시각을 기록해 대기/실행 시간을 측정하는 작업 래퍼
+     */
+    private final class TimedTask implements Runnable {
+
+        private final Runnable delegate;
+        private final long enqueuedNanos;
+
+        private TimedTask(Runnable delegate, long enqueuedNanos) {
+            this.delegate = delegate;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        @Override
+        public void run() {
+            long startNanos = System.nanoTime();
+            long waitNanos = startNanos - enqueuedNanos;
+            totalWaitNanos.addAndGet(waitNanos);
+            maxWaitNanos.accumulate(waitNanos);
+
+            boolean success = false;
+            try {
+                delegate.run();
+                success = true;
+            } finally {
+                long runNanos = System.nanoTime() - startNanos;
+                totalRunNanos.addAndGet(runNanos);
+                maxRunNanos.accumulate(runNanos);
+                (success ? completedCount : failedCount).incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.auth.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 캠페인 생성일(created_at) NOT NULL 제약 적용 작업 (1회성)
+ * --campaign.created-at.migrate=true 로 실행한 인스턴스 하나에서만 수행하고 종료합니다.
+ * 1. 비어 있는 created_at을 id 구간별 트랜잭션으로 채움 (updated_at, 없으면 현재 시각)
+ * 2. 컬럼 기본값을 현재 시각으로 지정 (created_at을 빼고 INSERT 하는 쓰기 경로 보호)
+ * 3. CHECK (created_at IS NOT NULL) NOT VALID 추가 후 VALIDATE (검증은 쓰기를 막지 않는 잠금으로 수행)
+ * campaigns는 관리자 서비스도 쓰므로, 그쪽이 created_at을 항상 채우는지 확인한 뒤 실행해야 합니다 (NULL INSERT는 거부됨).
+ * 예) java -jar app.jar --campaign.created-at.migrate=true --spring.main.web-application-type=none
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "campaign.created-at.migrate", havingValue = "true")
+public class CampaignCreatedAtMigrationRunner implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${campaign.created-at.migration-batch-size:5000}")
+    private int batchSize;
+
+    private static final String CONSTRAINT_EXISTS_SQL =
+            "SELECT COUNT(*) FROM pg_constraint WHERE conrelid = to_regclass(?) AND conname = ?";
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            log.info("캠페인 생성일 NOT NULL 적용 작업을 시작합니다.");
+            long startTime = System.currentTimeMillis();
+
+            int campaigns = backfill("campaigns", "id", "UPDATE campaigns SET created_at = COALESCE(updated_at, NOW())"
+                    + " WHERE id > ? AND id <= ? AND created_at IS NULL");
+            // 읽기 모델은 원본이 비어 있던 동안 고정 값으로 채워져 있으므로 원본 생성일로 맞춤
+            int views = backfill("campaign_list_view", "campaign_id", "UPDATE campaign_list_view v SET created_at = c.created_at"
+                    + " FROM campaigns c WHERE v.campaign_id = c.id AND v.campaign_id > ? AND v.campaign_id <= ?"
+                    + " AND v.created_at IS DISTINCT FROM c.created_at");
+
+            jdbcTemplate.execute("ALTER TABLE campaigns ALTER COLUMN created_at SET DEFAULT NOW()");
+            addNotNullCheck("campaigns", "campaigns_created_at_not_null");
+            addNotNullCheck("campaign_list_view", "campaign_list_view_created_at_not_null");
+
+            log.info("캠페인 생성일 NOT NULL 적용 작업이 완료되었습니다 - 채운 캠페인 {}건, 읽기 모델 {}건, 소요: {}ms",
+                    campaigns, views, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("캠페인 생성일 NOT NULL 적용 실패: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+    /**
+     * id 구간 (fromId, toId] 마다 별도 트랜잭션으로 UPDATE 실행 (테이블 전체를 한 번에 잠그지 않음)
+     */
+    private int backfill(String table, String idColumn, String updateSql) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+        long upTo = maxId != null ? maxId : 0L;
+
+        int updated = 0;
+        for (long fromId = 0; fromId < upTo; fromId += batchSize) {
+            long from = fromId;
+            Integer rows = transactionTemplate.execute(status ->
+                    jdbcTemplate.update(updateSql, from, Math.min(from + batchSize, upTo)));
+            updated += rows != null ? rows : 0;
+        }
+        log.info("캠페인 생성일 채우기 - {}: {}건", table, updated);
+        return updated;
+    }
+
+    /**
+     * NOT VALID로 추가하면 기존 행을 검사하지 않아 잠금이 짧고, VALIDATE는 쓰기를 막지 않는 잠금으로 기존 행을 검사
+     */
+    private void addNotNullCheck(String table, String constraint) {
+        Integer exists = jdbcTemplate.queryForObject(CONSTRAINT_EXISTS_SQL, Integer.class, table, constraint);
+        if (exists == null || exists == 0) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + constraint
+                    + " CHECK (created_at IS NOT NULL) NOT VALID");
+        }
+        jdbcTemplate.execute("ALTER TABLE " + table + " VALIDATE CONSTRAINT " + constraint);
+        log.info("캠페인 생성일 제약 검증 완료 - {}.{}", table, constraint);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.auth.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 campaign_list_view 커버링 인덱스를 생성하는 컴포넌트
+ * JPA @Index로는 INCLUDE 컬럼과 부분 인덱스(WHERE)를 표현할 수 없어 DDL을 직접 실행합니다.
+ * 목록 컬럼을 모두 INCLUDE 하므로 인기순/최신순/마감임박순 페이지는 index-only scan으로 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CampaignListViewIndexInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INCLUDE_COLUMNS = """
+            INCLUDE (title, thumbnail_url, recruitment_end_date, max_applicants, campaign_type,
+                     product_short_info, category_name, category_type, current_applicants, is_always_open)""";
+
+    private static final List<String> INDEX_DDL = List.of(
+            // 인기순 (필터 없음 / 카테고리 필터)
+            "CREATE INDEX IF NOT EXISTS idx_clv_popular ON campaign_list_view "
+                    + "(approval_status, current_applicants DESC, created_at DESC, campaign_id DESC) " + INCLUDE_COLUMNS,
+            "CREATE INDEX IF NOT EXISTS idx_clv_category_popular ON campaign_list_view "
+                    + "(approval_status, category_type, category_name, current_applicants DESC, created_at DESC, campaign_id DESC) " + INCLUDE_COLUMNS,
+            // 최신순 (필터 없음 / 카테고리 필터 / 캠페인 타입 필터)
+            "CREATE INDEX IF NOT EXISTS idx_clv_latest ON campaign_list_view "
+                    + "(approval_status, created_at DESC, campaign_id DESC) " + INCLUDE_COLUMNS,
+            "CREATE INDEX IF NOT EXISTS idx_clv_category_latest ON campaign_list_view "
+                    + "(approval_status, category_type, category_name, created_at DESC, campaign_id DESC) " + INCLUDE_COLUMNS,
+            "CREATE INDEX IF NOT EXISTS idx_clv_type_latest ON campaign_list_view "
+                    + "(approval_status, campaign_type, created_at DESC, campaign_id DESC) " + INCLUDE_COLUMNS,
+            // 마감 임박순 - 상시 캠페인은 대상이 아니므로 부분 인덱스
+            "CREATE INDEX IF NOT EXISTS idx_clv_deadline ON campaign_list_view "
+                    + "(approval_status, recruitment_end_date, campaign_id) " + INCLUDE_COLUMNS
+                    + " WHERE is_always_open = false",
+            "CREATE INDEX IF NOT EXISTS idx_clv_category_deadline ON campaign_list_view "
+                    + "(approval_status, category_type, category_name, recruitment_end_date, campaign_id) " + INCLUDE_COLUMNS
+                    + " WHERE is_always_open = false",
+            // 키워드 검색 - 2-gram 토큰 배열 포함 검색 (@>)
+            "CREATE INDEX IF NOT EXISTS idx_clv_search_tokens ON campaign_list_view USING GIN (search_tokens)"
+    );
+
+    @Override
+    public void run(String... args) {
+        log.info("캠페인 목록 읽기 모델 인덱스 확인을 시작합니다.");
+
+        for (String ddl : INDEX_DDL) {
+            try {
+                jdbcTemplate.execute(ddl);
+            } catch (Exception e) {
+                // 인덱스 생성 실패는 조회 성능에만 영향을 주므로 기동은 계속 진행
+                log.error("캠페인 목록 읽기 모델 인덱스 생성 실패: {}", e.getMessage());
+            }
+        }
+
+        log.info("캠페인 목록 읽기 모델 인덱스 확인이 완료되었습니다.");
+    }
+}
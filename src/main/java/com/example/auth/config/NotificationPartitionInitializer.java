@@ -0,0 +1,40 @@
+package com.example.auth.config;
+
+import com.example.auth.service.NotificationPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 notifications 월별 파티션을 준비하는 컴포넌트
+ * 이미 파티션 테이블이면 인덱스와 앞으로 쓸 월 파티션만 만듭니다.
+ * 아직 일반 테이블이면 알림함 인덱스만 쓰기를 막지 않는 방식(CONCURRENTLY)으로 만듭니다.
+ * 일반 테이블의 전환은 잠금이 필요하므로 시작 시 수행하지 않고 NotificationPartitionMigrationRunner로 따로 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPartitionInitializer implements CommandLineRunner {
+
+    private final NotificationPartitionManager notificationPartitionManager;
+
+    @Override
+    public void run(String... args) {
+        log.info("알림 테이블 파티션 확인을 시작합니다.");
+
+        try {
+            if (notificationPartitionManager.isPartitioned()) {
+                notificationPartitionManager.ensureIndexes();
+                notificationPartitionManager.ensurePartitions();
+            } else {
+                log.warn("알림 테이블이 아직 파티션 테이블이 아닙니다. --notification.partition.migrate=true 로 전환 작업을 한 번 실행하세요.");
+                notificationPartitionManager.ensureUnpartitionedIndexes();
+            }
+        } catch (Exception e) {
+            log.error("알림 테이블 파티션 준비 실패: {}", e.getMessage(), e);
+        }
+
+        log.info("알림 테이블 파티션 확인이 완료되었습니다.");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.auth.config;
+
+import com.example.auth.service.NotificationPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * notifications 파티션 테이블 전환 작업 (1회성)
+ * --notification.partition.migrate=true 로 실행한 인스턴스 하나에서만 전환을 수행하고 종료합니다.
+ * 실패하면 종료 코드 1로 끝나며, 기존 테이블은 그대로 남으므로 원인을 확인한 뒤 다시 실행하면 됩니다.
+ * 예) java -jar app.jar --notification.partition.migrate=true --spring.main.web-application-type=none
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.partition.migrate", havingValue = "true")
+public class NotificationPartitionMigrationRunner implements ApplicationRunner {
+
+    private final NotificationPartitionManager notificationPartitionManager;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            log.info("알림 테이블 파티션 전환 작업을 시작합니다.");
+            notificationPartitionManager.migrate();
+            notificationPartitionManager.ensureIndexes();
+            notificationPartitionManager.ensurePartitions();
+            log.info("알림 테이블 파티션 전환 작업이 완료되었습니다.");
+        } catch (Exception e) {
+            log.error("알림 테이블 파티션 전환 실패: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+}
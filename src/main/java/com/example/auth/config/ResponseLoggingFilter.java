@@ -2,41 +2,247 @@ package com.example.auth.config;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
+/**
+ * API 오류 응답 본문 로깅 필터
+ * 응답 본문은 버퍼링하지 않고 그대로 클라이언트로 흘려보내며, 상태 코드가 400 이상으로 정해진 뒤 쓰이는 본문만
+ * 앞부분 최대 maxCaptureBytes 바이트를 복사해 둡니다. SSE 등 스트리밍 응답은 필터 대상에서 제외합니다.
+ */
 @Slf4j
 @Component
 public class ResponseLoggingFilter extends OncePerRequestFilter {
 
+    private static final List<String> STREAMING_CONTENT_TYPES = List.of(
+            MediaType.TEXT_EVENT_STREAM_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            "application/stream+json",
+            "video/",
+            "audio/"
+    );
+
+    @Value("${logging.response-body.max-capture-bytes:4096}")
+    private int maxCaptureBytes;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // API 응답만 대상, SSE 연결은 제외
+        if (!request.getRequestURI().startsWith("/api/") || request.getRequestURI().startsWith("/api/sse/")) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        ErrorCapturingResponseWrapper responseWrapper = new ErrorCapturingResponseWrapper(response, maxCaptureBytes);
 
         try {
             filterChain.doFilter(request, responseWrapper);
         } finally {
-            if (request.getRequestURI().startsWith("/api/")) {
-                // API 응답인 경우만 로깅
-                int status = responseWrapper.getStatus();
-                if (status >= 400) { // 오류 응답만 로깅
-                    byte[] content = responseWrapper.getContentAsByteArray();
-                    String responseBody = new String(content, StandardCharsets.UTF_8);
-                    log.debug("응답 상태 코드: {} - 응답 본문: {}", status, responseBody);
+            int status = responseWrapper.getStatus();
+            if (status >= 400 && !request.isAsyncStarted()) { // 오류 응답만 로깅
+                responseWrapper.flushCapture();
+                if (responseWrapper.isTruncated()) {
+                    log.debug("응답 상태 코드: {} - 응답 본문(앞 {}바이트): {}",
+                            status, maxCaptureBytes, responseWrapper.getCapturedBody());
+                } else {
+                    log.debug("응답 상태 코드: {} - 응답 본문: {}", status, responseWrapper.getCapturedBody());
+                }
+            }
+        }
+    }
+
+    private static boolean isStreamingContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String lower = contentType.toLowerCase();
+        return STREAMING_CONTENT_TYPES.stream().anyMatch(lower::startsWith);
+    }
+
+    /**
+     * 본문을 그대로 통과시키면서 오류 상태일 때만 앞부분을 고정 크기 배열에 복사하는 응답 래퍼
+     */
+    private static class ErrorCapturingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final int maxCaptureBytes;
+        private byte[] captured; // 오류 본문이 처음 쓰일 때 할당
+        private int capturedLength = 0;
+        private boolean truncated = false;
+
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private CapturingWriter capturingWriter;
+
+        ErrorCapturingResponseWrapper(HttpServletResponse response, int maxCaptureBytes) {
+            super(response);
+            this.maxCaptureBytes = maxCaptureBytes;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new CapturingOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                capturingWriter = new CapturingWriter(super.getWriter());
+                writer = new PrintWriter(capturingWriter);
+            }
+            return writer;
+        }
+
+        String getCapturedBody() {
+            if (captured == null) {
+                return "";
+            }
+            return new String(captured, 0, capturedLength, StandardCharsets.UTF_8);
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        void flushCapture() {
+            if (capturingWriter != null) {
+                capturingWriter.flushPending();
+            }
+        }
+
+        /**
+         * 캡처 여부는 쓰는 시점에 판단 (오류 상태 코드가 설정된 뒤의 비스트리밍 본문만)
+         */
+        private boolean isCapturing() {
+            return !truncated && getStatus() >= 400 && !isStreamingContentType(getContentType());
+        }
+
+        private void capture(byte[] bytes, int offset, int length) {
+            if (length <= 0 || !isCapturing()) {
+                return;
+            }
+            if (captured == null) {
+                captured = new byte[maxCaptureBytes];
+            }
+            int copy = Math.min(length, maxCaptureBytes - capturedLength);
+            System.arraycopy(bytes, offset, captured, capturedLength, copy);
+            capturedLength += copy;
+            if (copy < length) {
+                truncated = true;
+            }
+        }
+
+        private class CapturingOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            CapturingOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+                capture(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+                capture(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+
+        /**
+         * Writer 경로 캡처: 문자를 모았다가 응답 인코딩으로 바이트 변환하여 캡처 (앞부분 한도까지만)
+         */
+        private class CapturingWriter extends Writer {
+
+            private final Writer delegate;
+            private final StringBuilder pending = new StringBuilder();
+
+            CapturingWriter(Writer delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                delegate.write(cbuf, off, len);
+                if (isCapturing() && pending.length() < maxCaptureBytes) {
+                    pending.append(cbuf, off, Math.min(len, maxCaptureBytes - pending.length()));
+                    if (pending.length() >= maxCaptureBytes) {
+                        flushPending();
+                    }
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            void flushPending() {
+                if (pending.isEmpty()) {
+                    return;
                 }
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+                byte[] bytes = pending.toString().getBytes(charset);
+                pending.setLength(0);
+                capture(bytes, 0, bytes.length);
             }
-            responseWrapper.copyBodyToResponse();
         }
     }
-}
\ No newline at end of file
+}
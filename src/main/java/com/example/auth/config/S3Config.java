@@ -4,6 +4,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 
@@ -20,14 +21,24 @@ public class S3Config {
     @Value("${aws.s3.accelerate.enabled:false}")
     private boolean accelerateEnabled;
 
+    // 로컬 S3 호환 서버(MinIO, LocalStack 등) 주소 - 지정하면 경로 방식(/버킷/키)으로 접근
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
     @Bean
     @Primary
     public AmazonS3Client amazonS3Client() {
 
         //  BasicAWSCredentials 및 AWSStaticCredentialsProvider 사용 코드 제거
 
-        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
-                .withRegion(region);
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard();
+
+        if (!endpoint.isBlank()) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        } else {
+            builder.withRegion(region);
+        }
 
         // S3 Transfer Acceleration 활성화 (옵션)
         if (accelerateEnabled) {
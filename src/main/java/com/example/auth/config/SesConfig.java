@@ -0,0 +1,21 @@
+package com.example.auth.config;
+
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailServiceClientBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * AWS SES 클라이언트 설정
+ */
+@Configuration
+public class SesConfig {
+
+    @Bean
+    public AmazonSimpleEmailService amazonSimpleEmailService(@Value("${aws.ses.region:us-east-1}") String region) {
+        return AmazonSimpleEmailServiceClientBuilder.standard()
+                .withRegion(region)
+                .build();
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.auth.config;
 
+import com.example.auth.service.SseConnection;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SSE (Server-Sent Events) 설정
@@ -18,35 +22,38 @@ public class SseConfig {
 
     /**
      * SSE 연결 저장소
-     * userId -> SseEmitter 매핑
-     * Thread-Safe한 ConcurrentHashMap 사용
+     * userId -> SseConnection(emitter + 송신 큐) 집합 매핑 (웹/모바일 탭 등 사용자당 여러 연결)
+     * Thread-Safe한 ConcurrentHashMap 사용, 집합은 ConcurrentHashMap.newKeySet()
      */
     @Bean
-    public ConcurrentHashMap<String, SseEmitter> sseEmitters() {
+    public ConcurrentHashMap<String, Set<SseConnection>> sseEmitters() {
         return new ConcurrentHashMap<>();
     }
 
     /**
-     * SSE 하트비트 전송을 위한 스케줄러
-     * 연결 유지를 위해 주기적으로 하트비트 전송
+     * SSE 하트비트 타이밍 휠/전송 감시 전용 스케줄러 (단일 스레드)
+     * 1초마다 타이밍 휠 한 칸의 연결에 하트비트를 넣어 30초 주기를 고르게 분산
+     * {@code @Scheduled} 작업은 AsyncConfig의 taskScheduler에서 실행되므로 야간 배치가 하트비트/연결 위치 갱신을 밀어내지 않음
      */
     @Bean(destroyMethod = "shutdown")
     public ScheduledExecutorService sseHeartbeatScheduler() {
-        return Executors.newScheduledThreadPool(2, r -> {
-            Thread thread = new Thread(r, "sse-heartbeat-");
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-heartbeat");
             thread.setDaemon(true);
             return thread;
         });
     }
 
     /**
-     * SSE 알림 전송을 위한 ExecutorService
-     * 비동기 알림 전송 처리
+     * SSE 알림 전송을 위한 작업자 풀
+     * SseDispatcher가 연결별 송신 큐를 비우는 작업자 (연결당 동시에 최대 1개 작업)
+     * 전송이 기한을 넘기면 SseDispatcher가 풀 크기를 일시적으로 늘려 멈춘 작업자를 대신하므로 ThreadPoolExecutor로 노출
      */
     @Bean(destroyMethod = "shutdown")
-    public ExecutorService sseNotificationExecutor() {
-        return Executors.newFixedThreadPool(5, r -> {
-            Thread thread = new Thread(r, "sse-notification-");
+    public ThreadPoolExecutor sseNotificationExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(5, 5, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "sse-notification-" + sequence.incrementAndGet());
             thread.setDaemon(true);
             return thread;
         });
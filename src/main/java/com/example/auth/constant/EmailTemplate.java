@@ -0,0 +1,190 @@
+package com.example.auth.constant;
+
+import java.util.Set;
+
+/**
+ * SES 이메일 템플릿
+ * 애플리케이션 시작 시 SES에 한 번 등록해 두고(SESService), 발송 때는 템플릿 이름과 수신자별 치환값만 보냅니다.
+ * 본문의 {{변수}}는 SES(Handlebars)가 수신자별로 HTML 이스케이프하여 치환합니다.
+ */
+public enum EmailTemplate {
+
+    CAMPAIGN_SELECTED("chkok-campaign-selected", "🎉 캠페인에 선정되었어요!",
+            Set.of("nickname", "campaignTitle"), """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
+                    <h1 style="color: #2388FF; text-align: center;">
+                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;"> 축하해요!
+                    </h1>
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
+                        <h2 style="margin-top: 0; color: white;">{{nickname}}님이 선정되었어요!</h2>
+                        <p style="font-size: 18px; margin: 15px 0; color: white;">
+                            <strong style="color: white;">캠페인: {{campaignTitle}}</strong>
+                        </p>
+                    </div>
+                                            
+                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
+                        <ol style="color: #666; padding-left: 20px;">
+                            <li>체험콕에 로그인해주세요</li>
+                            <li>마이페이지에서 선정된 캠페인을 확인해주세요</li>
+                            <li>캠페인 미션을 수행해주세요</li>
+                            <li>미션 완료 후 결과물을 제출해주세요</li>
+                        </ol>
+                    </div>
+                    
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="https://chkok.kr" 
+                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
+                            캠페인 확인하기
+                        </a>
+                    </div>
+                    
+                    <p style="color: #666; text-align: center;">
+                        선정을 축하드려요! 멋진 체험 후기를 기대할게요! 🌟
+                    </p>
+                    
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
+                    <p style="font-size: 12px; color: #888; text-align: center;">
+                        체험콕<br>
+                        이 이메일은 발송 전용이에요.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """),
+
+    MISSION_APPROVED("chkok-mission-approved", "미션이 완료되었어요!",
+            Set.of("nickname", "campaignTitle", "clientFeedback"), """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
+                    <h1 style="color: #2388FF; text-align: center;">
+                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;">미션 완료!</h1>
+                    
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
+                        <h2 style="margin-top: 0; color: white;">{{nickname}}님의 미션이 완료되었어요!</h2>
+                        <p style="font-size: 18px; margin: 10px 0; color: white;">
+                            <strong>캠페인:</strong> {{campaignTitle}}
+                        </p>
+                    </div>
+                    
+                    {{#if clientFeedback}}
+                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">광고주 피드백</h3>
+                        <p style="color: #555; margin-bottom: 0;">{{clientFeedback}}</p>
+                    </div>
+                    {{/if}}
+                    
+                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #f9f9f9;">
+                        <h3 style="margin-top: 0; color: #555;">🎁 다음 단계</h3>
+                        <ol style="color: #555; margin-bottom: 0;">
+                            <li>체험 후기 공유는 언제든지 환영해요</li>
+                            <li>다른 멋진 캠페인도 참여해보세요!</li>
+                        </ol>
+                    </div>
+                    
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="https://chkok.kr" 
+                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
+                            새로운 캠페인 둘러보기
+                        </a>
+                    </div>
+                    
+                    <p style="color: #666; text-align: center;">
+                        수고하셨어요! 앞으로도 많은 참여 부탁드려요. 🌟
+                    </p>
+                    
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
+                    <p style="font-size: 12px; color: #888; text-align: center;">
+                        체험콕<br>
+                        이 이메일은 발송 전용이에요.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """),
+
+    MISSION_REVISION_REQUEST("chkok-mission-revision-request", "미션 수정이 요청왔어요!",
+            Set.of("nickname", "campaignTitle", "revisionReason"), """
+            <html>
+            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #2388FF;">
+                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
+                    <h1 style="color: #2388FF; text-align: center;"><img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;"> 미션 수정 요청!</h1>
+                    
+                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0;">
+                        <h2 style="margin-top: 0; color: white; text-align: center;">{{nickname}}님, 미션 수정이 필요해요</h2>
+                        <p style="font-size: 18px; margin: 10px 0; color: white; text-align: center;">
+                            <strong>캠페인:</strong> {{campaignTitle}}
+                        </p>
+                    </div>
+                    
+                     <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">수정 요청 사유</h3>
+                        <p style="color: #555; font-size: 18px; margin-bottom: 0; background-color: #f9f9f9; padding: 15px; border-radius: 4px;">
+                            "{{revisionReason}}"
+                        </p>
+                    </div>
+                    
+                     <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
+                        <h3 style="margin-top: 0; color: #555;">수정 가이드</h3>
+                        <ol style="color: #555; margin-bottom: 0; padding-left: 20px;">
+                            <li>위의 수정 사유를 확인해주세요</li>
+                            <li>해당 부분을 보완하여 다시 제출해주세요</li>
+                            <li>추가 문의사항은 고객센터로 연락해주세요</li>
+                        </ol>
+                    </div>
+                    
+                    <div style="text-align: center; margin: 30px 0;">
+                        <a href="https://chkok.kr" 
+                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
+                            미션 수정하러 가기
+                        </a>
+                    </div>
+                    
+                    <p style="color: #666; text-align: center;">
+                        빠른 시일 내에 수정해서 다시 제출해주세요. 💪
+                    </p>
+                    
+                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
+                    <p style="font-size: 12px; color: #888; text-align: center;">
+                        체험콕<br>
+                        이 이메일은 발송 전용이에요.
+                    </p>
+                </div>
+            </body>
+            </html>
+            """);
+
+    private final String templateName;
+    private final String subject;
+    private final Set<String> variables;
+    private final String htmlPart;
+
+    EmailTemplate(String templateName, String subject, Set<String> variables, String htmlPart) {
+        this.templateName = templateName;
+        this.subject = subject;
+        this.variables = variables;
+        this.htmlPart = htmlPart;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * 템플릿이 참조하는 변수 (치환값이 빠지면 SES 렌더링이 실패하므로 발송 전에 빈 값으로 채움)
+     */
+    public Set<String> getVariables() {
+        return variables;
+    }
+
+    public String getHtmlPart() {
+        return htmlPart;
+    }
+}
@@ -2,7 +2,9 @@ package com.example.auth.controller;
 
 import com.example.auth.common.BaseResponse;
 import com.example.auth.dto.campaign.*;
+import com.example.auth.dto.common.CursorPageResponse;
 import com.example.auth.dto.common.PageResponse;
+import com.example.auth.exception.InvalidCursorException;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.service.CampaignViewService;
 import com.example.auth.service.SearchAnalyticsService;
@@ -47,10 +49,42 @@ public class CampaignViewController {
             case "popular" -> "currentApplicants";
             case "deadline" -> "recruitmentEndDate";
             case "latest" -> "createdAt";
+            case "relevance" -> "relevance";
             default -> "createdAt";
         };
     }
 
+    /**
+     * 관련도순 커서 페이징 요청 거부 응답 (관련도는 검색어마다 달라지는 점수라 이어 조회할 정렬 키가 없음)
+     */
+    private ResponseEntity<?> unsupportedCursorSortResponse() {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(BaseResponse.fail("관련도순 정렬은 커서 페이징을 지원하지 않습니다. page 기반 페이징으로 조회해주세요.",
+                        "UNSUPPORTED_CURSOR_SORT", HttpStatus.BAD_REQUEST.value()));
+    }
+
+    /**
+     * 단일 캠페인 타입 파라미터를 리스트로 변환
+     */
+    private List<String> toCampaignTypeList(String campaignType) {
+        return (campaignType != null && !campaignType.isEmpty()) ? List.of(campaignType) : null;
+    }
+
+    /**
+     * 커서 페이징 결과를 목록 응답 Wrapper로 변환
+     */
+    private CampaignListResponseWrapper toCursorResponseWrapper(CursorPageResponse<CampaignListSimpleResponse> cursorResponse) {
+        CampaignListResponseWrapper responseWrapper = new CampaignListResponseWrapper();
+        responseWrapper.setCampaigns(cursorResponse.getContent());
+        responseWrapper.setCursor(CampaignListResponseWrapper.CursorInfo.builder()
+                .pageSize(cursorResponse.getPageSize())
+                .nextCursor(cursorResponse.getNextCursor())
+                .hasNext(cursorResponse.isHasNext())
+                .totalElements(cursorResponse.getTotalElements())
+                .build());
+        return responseWrapper;
+    }
+
     // ===== 인기순/마감순 특화 API =====
 
     @Operation(
@@ -145,12 +179,21 @@ public class CampaignViewController {
             @RequestParam(required = false) String campaignType,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "커서 페이징 커서 (첫 페이지는 빈 값으로 요청, 이후 응답의 nextCursor 전달). 생략시 page 기반 페이징")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("인기 캠페인 목록 조회 요청 - page: {}, size: {}, categoryType: {}, categoryName: {}, campaignType: {}, includePaging: {}",
                     page, size, categoryType, categoryName, campaignType, includePaging);
 
+            if (cursor != null) {
+                var cursorResponse = viewService.getCampaignListByCursor(CampaignListCursor.SORT_POPULAR, cursor, size,
+                        categoryType, categoryName, toCampaignTypeList(campaignType), null, includePaging);
+                return ResponseEntity.ok(BaseResponse.success(toCursorResponseWrapper(cursorResponse), "인기 캠페인 목록 조회 성공"));
+            }
+
             var pageResponse = viewService.getCampaignListWithFilters(Math.max(0, page - 1), size, "currentApplicants", true, categoryType, categoryName, campaignType);
             List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
 
@@ -175,6 +218,10 @@ public class CampaignViewController {
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "인기 캠페인 목록 조회 성공"));
             }
+        } catch (InvalidCursorException e) {
+            log.warn("잘못된 커서 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
         } catch (Exception e) {
             log.error("인기 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -278,12 +325,21 @@ public class CampaignViewController {
             @RequestParam(required = false) String campaignType,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "커서 페이징 커서 (첫 페이지는 빈 값으로 요청, 이후 응답의 nextCursor 전달). 생략시 page 기반 페이징")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("마감 임박 캠페인 목록 조회 요청 - page: {}, size: {}, categoryType: {}, categoryName: {}, campaignType: {}, includePaging: {}",
                     page, size, categoryType, categoryName, campaignType, includePaging);
 
+            if (cursor != null) {
+                var cursorResponse = viewService.getCampaignListByCursor(CampaignListCursor.SORT_DEADLINE, cursor, size,
+                        categoryType, categoryName, toCampaignTypeList(campaignType), null, includePaging);
+                return ResponseEntity.ok(BaseResponse.success(toCursorResponseWrapper(cursorResponse), "마감 임박 캠페인 목록 조회 성공"));
+            }
+
             var pageResponse = viewService.getCampaignListByDeadlineSoonWithFilters(Math.max(0, page - 1), size, categoryType, categoryName, campaignType);
             List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
 
@@ -308,6 +364,10 @@ public class CampaignViewController {
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "마감 임박 캠페인 목록 조회 성공"));
             }
+        } catch (InvalidCursorException e) {
+            log.warn("잘못된 커서 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
         } catch (Exception e) {
             log.error("마감 임박 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -407,12 +467,21 @@ public class CampaignViewController {
             @RequestParam(required = false) String campaignType,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "커서 페이징 커서 (첫 페이지는 빈 값으로 요청, 이후 응답의 nextCursor 전달). 생략시 page 기반 페이징")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("최신 캠페인 목록 조회 요청 - page: {}, size: {}, categoryType: {}, categoryName: {}, campaignType: {}, includePaging: {}",
                     page, size, categoryType, categoryName, campaignType, includePaging);
 
+            if (cursor != null) {
+                var cursorResponse = viewService.getCampaignListByCursor(CampaignListCursor.SORT_LATEST, cursor, size,
+                        categoryType, categoryName, toCampaignTypeList(campaignType), null, includePaging);
+                return ResponseEntity.ok(BaseResponse.success(toCursorResponseWrapper(cursorResponse), "최신 캠페인 목록 조회 성공"));
+            }
+
             var pageResponse = viewService.getCampaignListWithFilters(Math.max(0, page - 1), size, "createdAt", true, categoryType, categoryName, campaignType);
             List<CampaignListSimpleResponse> campaigns = pageResponse.getContent();
 
@@ -437,6 +506,10 @@ public class CampaignViewController {
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "최신 캠페인 목록 조회 성공"));
             }
+        } catch (InvalidCursorException e) {
+            log.warn("잘못된 커서 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
         } catch (Exception e) {
             log.error("최신 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -549,7 +622,10 @@ public class CampaignViewController {
             @RequestParam(required = false, defaultValue = "latest") String sort,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "커서 페이징 커서 (첫 페이지는 빈 값으로 요청, 이후 응답의 nextCursor 전달). 생략시 page 기반 페이징, 관련도순(relevance)과 함께 쓰면 400 UNSUPPORTED_CURSOR_SORT")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("방문 캠페인 목록 조회 요청 - page: {}, size: {}, categoryName: {}, campaignTypes: {}, sort: {}, includePaging: {}",
@@ -567,6 +643,15 @@ public class CampaignViewController {
                 log.info("변환된 캠페인 타입 리스트: {}", campaignTypeList);
             }
 
+            if (cursor != null) {
+                if ("relevance".equals(convertSortParameter(sort))) {
+                    return unsupportedCursorSortResponse();
+                }
+                var cursorResponse = viewService.getCampaignListByCursor(convertSortParameter(sort), cursor, size,
+                        "방문", categoryName, campaignTypeList, null, includePaging);
+                return ResponseEntity.ok(BaseResponse.success(toCursorResponseWrapper(cursorResponse), "방문 캠페인 목록 조회 성공"));
+            }
+
             // 정렬 기준에 따라 적절한 서비스 메서드 호출
             if ("deadline".equals(sort)) {
                 // 마감 임박순은 별도 메서드 사용
@@ -602,6 +687,10 @@ public class CampaignViewController {
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "방문 캠페인 목록 조회 성공"));
             }
+        } catch (InvalidCursorException e) {
+            log.warn("잘못된 커서 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
         } catch (Exception e) {
             log.error("방문 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -712,7 +801,10 @@ public class CampaignViewController {
             @RequestParam(required = false, defaultValue = "latest") String sort,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "커서 페이징 커서 (첫 페이지는 빈 값으로 요청, 이후 응답의 nextCursor 전달). 생략시 page 기반 페이징, 관련도순(relevance)과 함께 쓰면 400 UNSUPPORTED_CURSOR_SORT")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             log.info("배송 캠페인 목록 조회 요청 - page: {}, size: {}, categoryName: {}, campaignTypes: {}, sort: {}, includePaging: {}",
@@ -730,6 +822,15 @@ public class CampaignViewController {
                 log.info("변환된 캠페인 타입 리스트: {}", campaignTypeList);
             }
 
+            if (cursor != null) {
+                if ("relevance".equals(convertSortParameter(sort))) {
+                    return unsupportedCursorSortResponse();
+                }
+                var cursorResponse = viewService.getCampaignListByCursor(convertSortParameter(sort), cursor, size,
+                        "배송", categoryName, campaignTypeList, null, includePaging);
+                return ResponseEntity.ok(BaseResponse.success(toCursorResponseWrapper(cursorResponse), "배송 캠페인 목록 조회 성공"));
+            }
+
             // 정렬 기준에 따라 적절한 서비스 메서드 호출
             if ("deadline".equals(sort)) {
                 // 마감 임박순은 별도 메서드 사용
@@ -765,6 +866,10 @@ public class CampaignViewController {
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "배송 캠페인 목록 조회 성공"));
             }
+        } catch (InvalidCursorException e) {
+            log.warn("잘못된 커서 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
         } catch (Exception e) {
             log.error("배송 캠페인 목록 조회 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -1084,14 +1189,17 @@ public class CampaignViewController {
             @Parameter(description = "요청할 캠페인 갯수")
             @RequestParam(required = false, defaultValue = "10") int size,
 
-            @Parameter(description = "정렬 기준 (latest: 최신순, popular: 인기순)")
+            @Parameter(description = "정렬 기준 (latest: 최신순, popular: 인기순, relevance: 관련도순)")
             @RequestParam(required = false, defaultValue = "latest") String sort,
 
             @Parameter(description = "캠페인 플랫폼 (쉼표로 구분): 인스타그램, 블로그, 유튜브, 틱톡")
             @RequestParam(required = false) String campaignTypes,
 
             @Parameter(description = "페이징 정보 포함 여부")
-            @RequestParam(required = false, defaultValue = "true") boolean includePaging
+            @RequestParam(required = false, defaultValue = "true") boolean includePaging,
+
+            @Parameter(description = "커서 페이징 커서 (첫 페이지는 빈 값으로 요청, 이후 응답의 nextCursor 전달). 생략시 page 기반 페이징, 관련도순(relevance)과 함께 쓰면 400 UNSUPPORTED_CURSOR_SORT")
+            @RequestParam(required = false) String cursor
     ) {
         try {
             // 키워드 검증
@@ -1120,6 +1228,17 @@ public class CampaignViewController {
             String sortField = convertSortParameter(sort);
             boolean isDescending = true; // 인기순, 최신순 모두 내림차순
 
+            if (cursor != null) {
+                // 검색 커서 페이징은 인기순/최신순만 지원 (관련도순은 최신순으로 바꾸지 않고 거부)
+                if ("relevance".equals(sortField)) {
+                    return unsupportedCursorSortResponse();
+                }
+                String cursorSort = CampaignListCursor.SORT_POPULAR.equals(sortField) ? sortField : CampaignListCursor.SORT_LATEST;
+                var cursorResponse = viewService.getCampaignListByCursor(cursorSort, cursor, size,
+                        null, null, campaignTypeList, keyword.trim(), includePaging);
+                return ResponseEntity.ok(BaseResponse.success(toCursorResponseWrapper(cursorResponse), "캠페인 검색 성공"));
+            }
+
             var pageResponse = viewService.searchCampaignsWithFilters(
                     keyword.trim(), Math.max(0, page - 1), size, sortField, isDescending, campaignTypeList);
 
@@ -1146,6 +1265,10 @@ public class CampaignViewController {
                 Map<String, Object> responseData = Map.of("campaigns", campaigns);
                 return ResponseEntity.ok(BaseResponse.success(responseData, "캠페인 검색 성공"));
             }
+        } catch (InvalidCursorException e) {
+            log.warn("잘못된 커서 페이징 요청: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(BaseResponse.fail("잘못된 커서입니다. 첫 페이지부터 다시 조회해주세요.", "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
         } catch (Exception e) {
             log.error("캠페인 검색 중 오류 발생: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -5,6 +5,8 @@ import com.example.auth.constant.SortOption;
 import com.example.auth.dto.KokPostDetailResponse;
 import com.example.auth.dto.KokPostDetailWrapper;
 import com.example.auth.dto.KokPostListResponse;
+import com.example.auth.dto.common.CursorPageResponse;
+import com.example.auth.exception.InvalidCursorException;
 import com.example.auth.service.KokPostService;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -92,26 +95,50 @@ public class KokPostController {
             description = "모든 체험콕 홍보글의 목록을 조회합니다. (실시간 조회수 적용)\n\n" +
                     "정렬 옵션:\n" +
                     "- latest: 최신순 (기본값)\n" +
-                    "- popular: 인기순 (조회수 기준)"
+                    "- popular: 인기순 (조회수 기준)\n\n" +
+                    "cursor 또는 size를 지정하면 최신순 커서 페이징 응답(content, nextCursor, hasNext)을 반환합니다."
     )
     @GetMapping
-    public ApiResponse<List<KokPostListResponse>> getAllKokPosts(
+    public ApiResponse<?> getAllKokPosts(
             @Parameter(description = "정렬 옵션 (latest: 최신순, popular: 인기순)")
-            @RequestParam(required = false, defaultValue = "latest") String sort
+            @RequestParam(required = false, defaultValue = "latest") String sort,
+            @Parameter(description = "다음 페이지 커서 (최신순, 이전 응답의 nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (지정 시 커서 페이징 응답, 최대 50)")
+            @RequestParam(required = false) Integer size
     ) {
-        log.info("개선된 체험콕 글 전체 목록 조회 API 호출 - 정렬: {}", sort);
-
-        List<KokPostListResponse> response;
+        log.info("개선된 체험콕 글 전체 목록 조회 API 호출 - 정렬: {}, 커서: {}, 크기: {}", sort, cursor, size);
 
         if ("popular".equals(sort)) {
-            // 인기순 정렬 시 캐시된 인기 포스트 활용
-            response = kokPostService.getPopularKokPosts(100);
-        } else {
-            // 기본 정렬
-            SortOption sortOption = SortOption.fromValue(sort);
-            response = kokPostService.getAllKokPosts(sortOption);
+            // 인기순 정렬 시 캐시된 인기 포스트 활용 (size 지정 시 상위 size개)
+            List<KokPostListResponse> response = kokPostService.getPopularKokPosts(size != null ? Math.min(size, 100) : 100);
+            return ApiResponse.success(
+                    String.format("체험콕 글 목록을 성공적으로 조회했습니다. (총 %d개, 정렬: %s)",
+                            response.size(), sort),
+                    response
+            );
+        }
+
+        // 커서 또는 페이지 크기를 지정하면 최신순 커서 페이징
+        if (cursor != null || size != null) {
+            try {
+                CursorPageResponse<KokPostListResponse> page =
+                        kokPostService.getKokPostsByCursor(cursor, size != null ? size : 20);
+                return ApiResponse.success(
+                        String.format("체험콕 글 목록을 성공적으로 조회했습니다. (%d개, 다음 페이지: %s)",
+                                page.getContent().size(), page.isHasNext()),
+                        page
+                );
+            } catch (InvalidCursorException e) {
+                log.warn("잘못된 체험콕 글 목록 커서 - {}", e.getMessage());
+                return ApiResponse.error(e.getMessage(), HttpStatus.BAD_REQUEST);
+            }
         }
 
+        // 기본 정렬
+        SortOption sortOption = SortOption.fromValue(sort);
+        List<KokPostListResponse> response = kokPostService.getAllKokPosts(sortOption);
+
         return ApiResponse.success(
                 String.format("체험콕 글 목록을 성공적으로 조회했습니다. (총 %d개, 정렬: %s)",
                         response.size(), sort),
@@ -1,11 +1,13 @@
 package com.example.auth.controller;
 
 import com.example.auth.common.BaseResponse;
+import com.example.auth.dto.common.CursorPageResponse;
 import com.example.auth.dto.common.PageResponse;
 import com.example.auth.dto.notification.CampaignStatusNotificationRequest;
 import com.example.auth.dto.notification.NotificationReadRequest;
 import com.example.auth.dto.notification.NotificationResponse;
 import com.example.auth.dto.notification.NotificationSummaryResponse;
+import com.example.auth.exception.InvalidCursorException;
 import com.example.auth.exception.JwtValidationException;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.exception.TokenErrorType;
@@ -49,7 +51,11 @@ public class NotificationController {
                       "### 타입 필터\n" +
                       "- **all**: 모든 알림 (기본값)\n" +
                       "- **unread**: 읽지 않은 알림만\n" +
-                      "- **read**: 읽은 알림만"
+                      "- **read**: 읽은 알림만\n\n" +
+                      "### 커서 페이징\n" +
+                      "- cursor를 지정하면(첫 페이지는 빈 값) page 대신 최신순 커서 페이징 응답(content, nextCursor, hasNext)을 반환합니다.\n" +
+                      "- 다음 페이지는 이전 응답의 nextCursor를 그대로 전달합니다.\n" +
+                      "- 전체 개수(totalElements)는 includeTotal=true일 때만 포함됩니다."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -110,11 +116,15 @@ public class NotificationController {
             @Parameter(description = "페이지 번호 (1부터 시작)", example = "1")
             @RequestParam(defaultValue = "1") int page,
             @Parameter(description = "페이지 크기 (1-50)", example = "20")
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "다음 페이지 커서 (지정 시 커서 페이징, 첫 페이지는 빈 값, 이전 응답의 nextCursor)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 페이징에서 전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeTotal
     ) {
         try {
             Long userId = tokenUtils.getUserIdFromToken(bearerToken);
-            log.info("사용자 알림 목록 조회 요청: userId={}, type={}, page={}, size={}", userId, type, page, size);
+            log.info("사용자 알림 목록 조회 요청: userId={}, type={}, page={}, size={}, cursor={}", userId, type, page, size, cursor);
 
             // 페이지 번호 검증
             if (page < 1) {
@@ -135,6 +145,19 @@ public class NotificationController {
                                 "INVALID_TYPE", HttpStatus.BAD_REQUEST.value()));
             }
 
+            // 커서를 지정하면 (createdAt, id) 커서 페이징
+            if (cursor != null) {
+                try {
+                    CursorPageResponse<NotificationResponse> cursorResponse =
+                            notificationService.getUserNotificationsByCursor(userId, type, cursor, size, includeTotal);
+                    return ResponseEntity.ok(BaseResponse.success(cursorResponse, "알림 목록 조회 성공"));
+                } catch (InvalidCursorException e) {
+                    log.warn("잘못된 알림 목록 커서: {}", e.getMessage());
+                    return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                            .body(BaseResponse.fail(e.getMessage(), "INVALID_CURSOR", HttpStatus.BAD_REQUEST.value()));
+                }
+            }
+
             PageResponse<NotificationResponse> pageResponse = 
                     notificationService.getUserNotifications(userId, type, page - 1, size);
 
@@ -39,14 +39,15 @@ public class SseController {
         summary = "SSE 연결 생성",
         description = "실시간 알림을 받기 위한 SSE 연결을 생성합니다.\n\n" +
                       "### 주요 기능\n" +
-                      "- 사용자별 개별 SSE 연결 생성\n" +
+                      "- 사용자별 SSE 연결 생성 (웹/모바일 탭 등 여러 연결 동시 유지)\n" +
                       "- 자동 하트비트를 통한 연결 유지\n" +
                       "- 연결 타임아웃: 30분\n" +
-                      "- 기존 연결이 있으면 자동 종료 후 새 연결 생성\n\n" +
+                      "- 재연결 시 Last-Event-ID 헤더를 보내면 끊긴 동안의 이벤트를 다시 전송\n\n" +
                       "### 이벤트 타입\n" +
                       "- **connect**: 연결 성공 확인\n" +
-                      "- **notification**: 새로운 알림\n" +
-                      "- **notification-summary**: 알림 요약 업데이트\n"+
+                      "- **notification**: 새로운 알림 (사용자별 단조 증가 id 포함)\n" +
+                      "- **notification-summary**: 알림 요약 업데이트 (id 포함)\n" +
+                      "- **resync**: 재전송 구간이 만료되어 알림 목록을 다시 조회해야 함\n"+
                       "```"
     )
     @ApiResponses(value = {
@@ -61,7 +62,10 @@ public class SseController {
                     value = """
                         event: connect
                         data: SSE 연결이 성공적으로 설정되었습니다.
-                        id: 170392560
+
+                        event: notification
+                        data: {"id":1,"title":"캠페인이 승인되었습니다"}
+                        id: 1703925600000-0
                         """
                 )
             )
@@ -79,7 +83,9 @@ public class SseController {
                 required = true,
                 example = ""
             )
-            @RequestHeader(value = "Authorization", required = false) String authHeader
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Parameter(description = "마지막으로 수신한 이벤트 ID (재연결 시 브라우저 EventSource가 자동 전송)")
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     ) {
         try {
             // 토큰 추출 (Authorization 헤더에서)
@@ -91,9 +97,9 @@ public class SseController {
             }
 
             Long userId = tokenUtils.getUserIdFromToken(bearerToken);
-            log.info("SSE 연결 요청: userId={}", userId);
+            log.info("SSE 연결 요청: userId={}, lastEventId={}", userId, lastEventId);
 
-            SseEmitter emitter = sseEmitterService.createEmitter(userId.toString());
+            SseEmitter emitter = sseEmitterService.createEmitter(userId.toString(), lastEventId);
 
             return ResponseEntity.ok()
                     .header("Cache-Control", "no-cache")
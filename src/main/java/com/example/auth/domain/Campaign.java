@@ -14,7 +14,8 @@ import java.util.List;
  * 캠페인 엔티티
  */
 @Entity
-@Table(name = "campaigns")
+@Table(name = "campaigns",
+       indexes = @Index(name = "idx_campaigns_updated_at", columnList = "updated_at"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -65,6 +66,9 @@ public class Campaign {
     @Builder.Default
     private Boolean isAlwaysOpen = false;
 
+    @Column(name = "recruitment_closed_at")
+    private LocalDateTime recruitmentClosedAt; // 모집 마감 처리 시각 (신청자 APPLIED -> PENDING 전환 완료, 모집 종료일 변경 시 초기화 - 초기화되지 않아도 마감 처리일 이후로 연장되면 다시 마감 대상)
+
     @Column(name = "review_start_date")
     private LocalDate reviewStartDate;
 
@@ -74,6 +78,14 @@ public class Campaign {
     @Column(name = "admin_memo", columnDefinition = "TEXT")
     private String adminMemo;
 
+    /**
+     * 현재 신청자 수 (APPLIED + SELECTED) 비정규화 카운터
+     * 엔티티 갱신 시 덮어쓰지 않도록 updatable = false, 변경은 CampaignApplicantCounterService를 통해서만 수행
+     */
+    @Column(name = "current_applicants", updatable = false, columnDefinition = "integer default 0")
+    @Builder.Default
+    private Integer currentApplicants = 0;
+
     // 관계 매핑
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
@@ -94,7 +106,7 @@ public class Campaign {
     @Builder.Default
     private List<CampaignApplication> applications = new ArrayList<>();
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
 
@@ -168,15 +180,10 @@ public class Campaign {
 
     /**
      * 현재 신청자 수 반환
+     * applications 컬렉션을 로딩하지 않고 비정규화 카운터(current_applicants)를 사용
      */
     public int getCurrentApplicantCount() {
-        if (applications == null) {
-            return 0;
-        }
-        return (int) applications.stream()
-                .filter(app -> app.getApplicationStatus() == com.example.auth.constant.ApplicationStatus.APPLIED ||
-                              app.getApplicationStatus() == com.example.auth.constant.ApplicationStatus.SELECTED)
-                .count();
+        return currentApplicants != null ? currentApplicants : 0;
     }
 
     /**
@@ -243,7 +250,10 @@ public class Campaign {
      */
     public void updateSchedule(LocalDate recruitmentStartDate, LocalDate recruitmentEndDate, LocalDate selectionDate) {
         if (recruitmentStartDate != null) this.recruitmentStartDate = recruitmentStartDate;
-        if (recruitmentEndDate != null) this.recruitmentEndDate = recruitmentEndDate;
+        if (recruitmentEndDate != null) {
+            this.recruitmentEndDate = recruitmentEndDate;
+            this.recruitmentClosedAt = null; // 새 종료일 기준으로 다시 마감 처리
+        }
         if (selectionDate != null) this.selectionDate = selectionDate;
         this.updatedAt = LocalDateTime.now();
     }
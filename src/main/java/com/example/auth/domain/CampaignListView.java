@@ -0,0 +1,77 @@
+package com.example.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인 목록 조회용 읽기 모델 (campaign_list_view)
+ * 목록 화면에 필요한 컬럼, 카테고리, 신청자 수, 검색 색인을 캠페인 1건당 1행으로 미리 펼쳐 둡니다.
+ * 쓰기는 CampaignListViewService의 네이티브 upsert로만 이루어지며, 정렬/필터용 커버링 인덱스는
+ * CampaignListViewIndexInitializer에서 생성합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "campaign_list_view")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampaignListView {
+
+    @Id
+    @Column(name = "campaign_id")
+    private Long campaignId;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "recruitment_end_date")
+    private LocalDate recruitmentEndDate;
+
+    @Column(name = "max_applicants")
+    private Integer maxApplicants;
+
+    @Column(name = "campaign_type", length = 50)
+    private String campaignType;
+
+    @Column(name = "product_short_info", length = 500)
+    private String productShortInfo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "category_name", length = 50)
+    private String categoryName;
+
+    @Column(name = "category_type", length = 20)
+    private String categoryType;
+
+    @Column(name = "current_applicants", nullable = false)
+    private Integer currentApplicants;
+
+    @Column(name = "is_always_open")
+    private Boolean isAlwaysOpen;
+
+    @Column(name = "approval_status", length = 20)
+    private String approvalStatus;
+
+    // 검색 색인 - 제목과 제품 간략 정보를 공백 제거/소문자로 정규화한 문자열과 그 2-gram 토큰 (GIN 인덱스)
+    @Column(name = "search_text", columnDefinition = "TEXT")
+    private String searchText;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "search_tokens", columnDefinition = "text[]")
+    private String[] searchTokens;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+}
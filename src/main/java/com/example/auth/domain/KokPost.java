@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
  * 체험콕에서 가게 홍보용으로 작성한 글 엔티티
  */
 @Entity
-@Table(name = "kokposts")
+@Table(name = "kokposts",
+       indexes = @Index(name = "idx_kokposts_created_at_id", columnList = "created_at DESC, id DESC"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
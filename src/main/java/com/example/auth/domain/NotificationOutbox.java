@@ -0,0 +1,103 @@
+package com.example.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 아웃박스 엔티티
+ * 업무 트랜잭션 안에서 보낼 알림/이메일을 기록해 두고, NotificationOutboxDispatcher가 커밋 이후 비동기로 처리합니다.
+ * 행 삽입/상태 변경은 JDBC 배치로 수행하며, 이 엔티티는 테이블 정의 용도입니다.
+ */
+@Entity
+@Table(name = "notification_outbox", indexes = {
+        @Index(name = "idx_notification_outbox_status_next", columnList = "status, next_attempt_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 이벤트 타입
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private EventType eventType;
+
+    /**
+     * 수신자 ID
+     */
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 이벤트 내용 (JSON)
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * 처리 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    /**
+     * 처리 시도 횟수
+     */
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /**
+     * 다음 처리 가능 시각 (재시도 백오프)
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 처리 중 점유 만료 시각 (디스패처 비정상 종료 시 이 시각 이후 다시 처리)
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 처리 완료 시각 (SENT/FAILED)
+     */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * 아웃박스 이벤트 타입
+     */
+    public enum EventType {
+        IN_APP_NOTIFICATION,        // 알림함 저장 + SSE 실시간 전송
+        TEMPLATED_EMAIL             // SES 템플릿 이메일 (캠페인 선정, 미션 승인/수정 요청 등)
+    }
+
+    /**
+     * 아웃박스 처리 상태
+     */
+    public enum Status {
+        PENDING, PROCESSING, SENT, FAILED
+    }
+}
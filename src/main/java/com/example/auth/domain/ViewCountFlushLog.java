@@ -0,0 +1,40 @@
+package com.example.auth.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 반영 완료 기록 엔티티
+ * ViewCountBatchScheduler가 처리 중 해시(청크) 키를 조회수 UPDATE와 같은 트랜잭션에서 기록하여,
+ * 커밋 이후 해시 정리 전에 종료되더라도 복구 시 이미 반영된 청크를 다시 반영하지 않도록 합니다.
+ * 행 삽입/조회는 JDBC로 수행하며, 이 엔티티는 테이블 정의 용도입니다.
+ */
+@Entity
+@Table(name = "view_count_flush_log", indexes = {
+        @Index(name = "idx_view_count_flush_log_applied_at", columnList = "applied_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewCountFlushLog {
+
+    /**
+     * 처리 중 해시 키 (kokpost:inflight:daily:{배치 id}:{청크 번호})
+     */
+    @Id
+    @Column(name = "inflight_key", length = 200)
+    private String inflightKey;
+
+    /**
+     * 반영 건수
+     */
+    @Column(name = "post_count", nullable = false)
+    private Integer postCount;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -12,9 +12,16 @@ public class YouTubeChannelInfo {
 
     private String kind;
     private String etag;
-    private String pageInfo;
+    private PageInfo pageInfo;
     private List<Item> items;
 
+    @Getter
+    @ToString
+    public static class PageInfo {
+        private int totalResults;
+        private int resultsPerPage;
+    }
+
     @Getter
     @ToString
     public static class Item {
@@ -22,6 +29,16 @@ public class YouTubeChannelInfo {
         private String etag;
         private String id;
         private Snippet snippet;
+        private Statistics statistics;
+    }
+
+    @Getter
+    @ToString
+    public static class Statistics {
+        private String viewCount;
+        private String subscriberCount;
+        private boolean hiddenSubscriberCount;
+        private String videoCount;
     }
 
     @Getter
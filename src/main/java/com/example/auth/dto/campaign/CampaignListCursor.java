@@ -0,0 +1,101 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 캠페인 목록 커서 (정렬 키 튜플)
+ * - 인기순: (currentApplicants, createdAt, id)
+ * - 최신순: (createdAt, id)
+ * - 마감 임박순: (recruitmentEndDate, id)
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CampaignListCursor {
+
+    public static final String SORT_POPULAR = "currentApplicants";
+    public static final String SORT_LATEST = "createdAt";
+    public static final String SORT_DEADLINE = "recruitmentEndDate";
+
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final Integer currentApplicants;
+    private final LocalDateTime createdAt;
+    private final LocalDate recruitmentEndDate;
+    private final Long id;
+
+    /**
+     * 커서를 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION,
+                sort,
+                currentApplicants != null ? currentApplicants.toString() : "",
+                createdAt != null ? createdAt.toString() : "",
+                recruitmentEndDate != null ? recruitmentEndDate.toString() : "",
+                id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 기준에 필요한 키가 모두 있는지 확인
+     * 비어 있는 키는 행 비교(<) 결과가 NULL이 되어 다음 페이지가 조용히 비므로 커서로 쓰지 않습니다.
+     */
+    private boolean hasSortKeys() {
+        return switch (sort) {
+            case SORT_POPULAR -> currentApplicants != null && createdAt != null;
+            case SORT_DEADLINE -> recruitmentEndDate != null;
+            default -> createdAt != null;
+        };
+    }
+
+    /**
+     * 커서 문자열 디코딩 (빈 문자열이면 첫 페이지로 간주하여 null 반환)
+     *
+     * @param cursor 인코딩된 커서
+     * @param expectedSort 요청한 정렬 기준 (다른 정렬의 커서는 거부)
+     * @throws InvalidCursorException 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static CampaignListCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("지원하지 않는 커서 형식입니다.");
+            }
+            if (!parts[1].equals(expectedSort)) {
+                throw new InvalidCursorException("정렬 기준이 다른 커서입니다.");
+            }
+
+            CampaignListCursor decoded = new CampaignListCursor(
+                    parts[1],
+                    parts[2].isEmpty() ? null : Integer.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : LocalDateTime.parse(parts[3]),
+                    parts[4].isEmpty() ? null : LocalDate.parse(parts[4]),
+                    Long.valueOf(parts[5]));
+            if (!decoded.hasSortKeys()) {
+                throw new InvalidCursorException("정렬 키가 비어 있는 커서입니다.");
+            }
+            return decoded;
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.auth.dto.campaign;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +17,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Schema(description = "캠페인 목록 조회 응답")
 public class CampaignListResponseWrapper {
     
@@ -24,6 +26,9 @@ public class CampaignListResponseWrapper {
     
     @Schema(description = "페이징 정보")
     private PaginationInfo pagination;
+
+    @Schema(description = "커서 페이징 정보 (cursor 파라미터로 요청한 경우에만 포함)")
+    private CursorInfo cursor;
     
     /**
      * 페이징 정보를 담는 내부 클래스
@@ -52,4 +57,27 @@ public class CampaignListResponseWrapper {
         @Schema(description = "마지막 페이지 여부", example = "false")
         private boolean last;
     }
+
+    /**
+     * 커서 페이징 정보를 담는 내부 클래스
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "커서 페이징 정보")
+    public static class CursorInfo {
+        @Schema(description = "페이지 크기", example = "10")
+        private int pageSize;
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 생략)", example = "djF8Y3JlYXRlZEF0fHwyMDI1LTA2LTAxVDEwOjAwfHwxMjM")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "전체 항목 수 (캐시된 추정치, includePaging=false면 생략)", example = "42")
+        private Long totalElements;
+    }
 }
@@ -73,7 +73,7 @@ public class CampaignListSimpleResponse {
                 .campaignType(campaign.getCampaignType())
                 .title(campaign.getTitle())
                 .productShortInfo(campaign.getProductShortInfo())
-                .currentApplicants(0) // 별도로 계산 필요 - 기본값은 0
+                .currentApplicants(campaign.getCurrentApplicantCount()) // 비정규화 카운터 (applications 로딩 없음)
                 .maxApplicants(campaign.getIsAlwaysOpen() != null && campaign.getIsAlwaysOpen() ? null : campaign.getMaxApplicants()) // 상시 캠페인은 maxApplicants null 처리
                 .recruitmentEndDate(campaign.getRecruitmentEndDate())
                 .thumbnailUrl(campaign.getThumbnailUrl());
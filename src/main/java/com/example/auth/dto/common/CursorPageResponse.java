@@ -0,0 +1,39 @@
+package com.example.auth.dto.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이징 응답을 위한 공통 DTO
+ * OFFSET/COUNT 없이 마지막 항목의 정렬 키로 다음 페이지를 조회합니다.
+ * @param <T> 페이징 데이터 항목의 타입
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "커서 페이징 응답")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "조회된 데이터 목록")
+    private List<T> content;
+
+    @Schema(description = "페이지 크기", example = "10")
+    private int pageSize;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "djF8Y3VycmVudEFwcGxpY2FudHN8MTJ8...")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 항목 수 (캐시된 추정치, 요청하지 않으면 null)", example = "42")
+    private Long totalElements;
+}
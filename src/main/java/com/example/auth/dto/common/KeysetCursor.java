@@ -0,0 +1,62 @@
+package com.example.auth.dto.common;
+
+import com.example.auth.exception.InvalidCursorException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 최신순 목록 커서 (정렬 키 튜플: createdAt, id)
+ * 목록마다 버전 태그를 달아 다른 목록에서 받은 커서는 거부합니다.
+ * 클라이언트에는 Base64URL로 인코딩된 불투명 문자열로만 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    public static final String KOK_POST = "k1";
+    public static final String NOTIFICATION = "n1";
+
+    private static final String DELIMITER = "|";
+
+    private final String version;
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    /**
+     * 커서를 불투명 문자열로 인코딩
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER, version, createdAt.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩 (빈 문자열이면 첫 페이지로 간주하여 null 반환)
+     *
+     * @throws InvalidCursorException 형식이 잘못되었거나 버전 태그가 다른 경우
+     */
+    public static KeysetCursor decode(String cursor, String version) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3 || !version.equals(parts[0])) {
+                throw new InvalidCursorException("지원하지 않는 커서 형식입니다.");
+            }
+
+            return new KeysetCursor(version, LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (InvalidCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+    }
+}
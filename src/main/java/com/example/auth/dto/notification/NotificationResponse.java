@@ -67,6 +67,16 @@ public class NotificationResponse {
      */
     private LocalDateTime readAt;
     
+    /**
+     * 목록 조회 프로젝션용 생성자 (JPQL SELECT new ... 로 엔티티를 로딩하지 않고 바로 생성)
+     */
+    public NotificationResponse(Long notificationId, Notification.NotificationType notificationType, String title,
+                                String message, Long relatedEntityId, String relatedEntityType, Boolean isRead,
+                                LocalDateTime createdAt, LocalDateTime readAt) {
+        this(notificationId, notificationType.name(), notificationType.getDescription(), title, message,
+                relatedEntityId, relatedEntityType, Boolean.TRUE.equals(isRead), createdAt, readAt);
+    }
+
     /**
      * Notification 엔티티로부터 DTO 생성
      */
@@ -0,0 +1,16 @@
+package com.example.auth.exception;
+
+/**
+ * 커서 페이징 커서가 잘못된 경우 (형식 오류, 다른 목록/정렬 기준의 커서, 정렬 키 누락)
+ * 클라이언트는 첫 페이지부터 다시 조회해야 합니다.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
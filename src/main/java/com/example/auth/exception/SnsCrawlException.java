@@ -0,0 +1,26 @@
+package com.example.auth.exception;
+
+/**
+ * SNS 팔로워 수 수집 관련 예외
+ */
+public class SnsCrawlException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public SnsCrawlException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public SnsCrawlException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    /**
+     * 재시도하면 성공할 수 있는 오류인지 (429, 5xx, 타임아웃/연결 오류)
+     */
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -3,8 +3,7 @@ package com.example.auth.interceptor;
 import com.example.auth.exception.TokenErrorType;
 import com.example.auth.exception.JwtValidationException;
 import com.example.auth.exception.UnauthorizedException;
-import com.example.auth.security.JwtUtil;
-import com.example.auth.service.TokenService;
+import com.example.auth.security.VerifiedTokenResolver;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +21,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthInterceptor implements HandlerInterceptor {
 
-    private final JwtUtil jwtUtil;
-    private final TokenService tokenService;
+    private final VerifiedTokenResolver verifiedTokenResolver;
 
     // API 패턴을 기반으로 인증이 필요하지 않은 경로들 지정 (모든 HTTP 메서드)
     private final List<String> publicApis = Arrays.asList(
@@ -59,11 +57,11 @@ public class JwtAuthInterceptor implements HandlerInterceptor {
         }
 
         try {
-            // 만료 여부 먼저 확인 (ExpiredJwtException 발생 가능)
-            jwtUtil.validateToken(token);
+            // 만료 여부 먼저 확인 - 인증 필터에서 이미 검증했다면 요청 속성의 결과를 재사용
+            VerifiedTokenResolver.VerifiedToken verified = verifiedTokenResolver.resolve(request, token);
 
             // 만료되지 않았다면 블랙리스트 확인
-            if (tokenService.isBlacklisted(token)) {
+            if (verified.blacklisted()) {
                 log.warn("블랙리스트된 토큰입니다: {}", path);
                 throw new UnauthorizedException("로그아웃된 토큰입니다.");
             }
@@ -144,6 +144,15 @@ public interface CampaignApplicationRepository extends JpaRepository<CampaignApp
      */
     void deleteByUserId(Long userId);
 
+    /**
+     * 특정 사용자가 신청한 캠페인 ID 목록을 조회합니다.
+     *
+     * @param userId 신청자 ID
+     * @return 캠페인 ID 목록
+     */
+    @Query("SELECT DISTINCT ca.campaign.id FROM CampaignApplication ca WHERE ca.user.id = :userId")
+    List<Long> findCampaignIdsByUserId(@Param("userId") Long userId);
+
     /**
      * 특정 캠페인의 모든 신청을 삭제합니다.
      *
@@ -0,0 +1,436 @@
+package com.example.auth.repository;
+
+import com.example.auth.domain.CampaignListView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 캠페인 목록 읽기 모델 리포지토리
+ * 조회 쿼리는 CampaignRepository의 최적화 네이티브 쿼리와 동일한 컬럼 순서로 반환합니다.
+ * (id, title, thumbnail_url, recruitment_end_date, max_applicants, campaign_type, product_short_info,
+ *  created_at, category_name, category_type, current_applicants, is_always_open)
+ */
+@Repository
+public interface CampaignListViewRepository extends JpaRepository<CampaignListView, Long> {
+
+    // ===== 목록 조회 (커버링 인덱스로 처리) =====
+
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        ORDER BY v.current_applicants DESC, v.created_at DESC, v.campaign_id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        """, nativeQuery = true)
+    Page<Object[]> findPopular(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            Pageable pageable);
+
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        ORDER BY v.created_at DESC, v.campaign_id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        """, nativeQuery = true)
+    Page<Object[]> findLatest(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            Pageable pageable);
+
+    // 마감 임박순 - 상시 캠페인 제외 (부분 인덱스 idx_clv_deadline 사용)
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND v.is_always_open = false
+        AND v.recruitment_end_date >= CAST(:currentDate AS date)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        ORDER BY v.recruitment_end_date ASC, v.campaign_id ASC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND v.is_always_open = false
+        AND v.recruitment_end_date >= CAST(:currentDate AS date)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        """, nativeQuery = true)
+    Page<Object[]> findDeadlineSoon(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            Pageable pageable);
+
+    // ===== 키워드 검색 (2-gram GIN 인덱스로 후보를 좁힌 뒤 정규화 문자열로 부분 일치 확인) =====
+
+    /**
+     * 키워드 검색 - 정렬: relevance(제목 접두 일치 > 제목 포함 > 제품 정보 포함), currentApplicants, createdAt
+     * keyword는 TextUtils.normalizeForSearchIndex + escapeLikePattern을 거친 값이어야 합니다.
+     */
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (:searchTokenCount = 0 OR v.search_tokens @> CAST(:searchTokens AS text[]))
+        AND v.search_text LIKE CONCAT('%', CAST(:keyword AS text), '%')
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        ORDER BY
+            CASE WHEN CAST(:sort AS text) = 'relevance' THEN
+                CASE WHEN lower(regexp_replace(v.title, '\\s+', '', 'g')) LIKE CONCAT(CAST(:keyword AS text), '%') THEN 3
+                     WHEN lower(regexp_replace(v.title, '\\s+', '', 'g')) LIKE CONCAT('%', CAST(:keyword AS text), '%') THEN 2
+                     ELSE 1 END
+            ELSE 0 END DESC,
+            CASE WHEN CAST(:sort AS text) IN ('relevance', 'currentApplicants') THEN v.current_applicants ELSE 0 END DESC,
+            v.created_at DESC, v.campaign_id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(*)
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (:searchTokenCount = 0 OR v.search_tokens @> CAST(:searchTokens AS text[]))
+        AND v.search_text LIKE CONCAT('%', CAST(:keyword AS text), '%')
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        """, nativeQuery = true)
+    Page<Object[]> searchByKeyword(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("keyword") String keyword,
+            @Param("searchTokenCount") Integer searchTokenCount,
+            @Param("searchTokens") String searchTokens,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            @Param("sort") String sort,
+            Pageable pageable);
+
+    // ===== 커서(keyset) 페이징 조회 - OFFSET 없이 마지막 정렬 키 이후부터 조회 =====
+
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        AND (CAST(:keyword AS text) IS NULL
+             OR ((:searchTokenCount = 0 OR v.search_tokens @> CAST(:searchTokens AS text[]))
+                 AND v.search_text LIKE CONCAT('%', CAST(:keyword AS text), '%')))
+        AND (CAST(:cursorId AS bigint) IS NULL
+             OR (v.current_applicants, v.created_at, v.campaign_id)
+                < (CAST(:cursorApplicants AS integer), CAST(:cursorCreatedAt AS timestamp), CAST(:cursorId AS bigint)))
+        ORDER BY v.current_applicants DESC, v.created_at DESC, v.campaign_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findPopularAfter(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            @Param("keyword") String keyword,
+            @Param("searchTokenCount") Integer searchTokenCount,
+            @Param("searchTokens") String searchTokens,
+            @Param("cursorApplicants") Integer cursorApplicants,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        AND (CAST(:keyword AS text) IS NULL
+             OR ((:searchTokenCount = 0 OR v.search_tokens @> CAST(:searchTokens AS text[]))
+                 AND v.search_text LIKE CONCAT('%', CAST(:keyword AS text), '%')))
+        AND (CAST(:cursorId AS bigint) IS NULL
+             OR (v.created_at, v.campaign_id) < (CAST(:cursorCreatedAt AS timestamp), CAST(:cursorId AS bigint)))
+        ORDER BY v.created_at DESC, v.campaign_id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findLatestAfter(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            @Param("keyword") String keyword,
+            @Param("searchTokenCount") Integer searchTokenCount,
+            @Param("searchTokens") String searchTokens,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT v.campaign_id, v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants,
+               v.campaign_type, v.product_short_info, v.created_at,
+               v.category_name, v.category_type,
+               v.current_applicants,
+               v.is_always_open
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND v.is_always_open = false
+        AND v.recruitment_end_date >= CAST(:currentDate AS date)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        AND (CAST(:cursorId AS bigint) IS NULL
+             OR (v.recruitment_end_date, v.campaign_id) > (CAST(:cursorEndDate AS date), CAST(:cursorId AS bigint)))
+        ORDER BY v.recruitment_end_date ASC, v.campaign_id ASC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<Object[]> findDeadlineSoonAfter(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            @Param("cursorEndDate") LocalDate cursorEndDate,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * 커서 페이징용 전체 건수 (결과는 서비스에서 짧게 캐시하여 추정치로 사용)
+     */
+    @Query(value = """
+        SELECT COUNT(*)
+        FROM campaign_list_view v
+        WHERE v.approval_status = CAST(:approvalStatus AS text)
+        AND (CASE WHEN :deadlineOnly
+                  THEN v.is_always_open = false AND v.recruitment_end_date >= CAST(:currentDate AS date)
+                  ELSE v.recruitment_end_date >= CAST(:currentDate AS date) OR v.is_always_open = true END)
+        AND (CAST(:categoryType AS text) IS NULL OR v.category_type = CAST(:categoryType AS text))
+        AND (CAST(:categoryName AS text) IS NULL OR v.category_name = CAST(:categoryName AS text))
+        AND (:campaignTypesSize = 0 OR v.campaign_type = ANY(CAST(:campaignTypesArray AS text[])))
+        AND (CAST(:keyword AS text) IS NULL
+             OR ((:searchTokenCount = 0 OR v.search_tokens @> CAST(:searchTokens AS text[]))
+                 AND v.search_text LIKE CONCAT('%', CAST(:keyword AS text), '%')))
+        """, nativeQuery = true)
+    long countListing(
+            @Param("approvalStatus") String approvalStatus,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("categoryType") String categoryType,
+            @Param("categoryName") String categoryName,
+            @Param("campaignTypesSize") Integer campaignTypesSize,
+            @Param("campaignTypesArray") String campaignTypesArray,
+            @Param("keyword") String keyword,
+            @Param("searchTokenCount") Integer searchTokenCount,
+            @Param("searchTokens") String searchTokens,
+            @Param("deadlineOnly") boolean deadlineOnly);
+
+    // ===== 갱신 =====
+    // 원본 created_at이 비어 있으면(관리자 서비스 등 다른 쓰기 경로) 고정 값 1970-01-01로 채워
+    // 커서 정렬 키 (created_at, campaign_id)가 항상 있고 동기화 때마다 바뀌지 않도록 함
+
+    /**
+     * 캠페인 1건을 원본(campaigns + campaign_categories)에서 다시 읽어 upsert
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO campaign_list_view (campaign_id, title, thumbnail_url, recruitment_end_date, max_applicants,
+                                        campaign_type, product_short_info, created_at, category_name, category_type,
+                                        current_applicants, is_always_open, approval_status,
+                                        search_text, search_tokens, refreshed_at)
+        SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants,
+               c.campaign_type, c.product_short_info, COALESCE(c.created_at, TIMESTAMP '1970-01-01 00:00:00'),
+               cc.category_name, cc.category_type, COALESCE(c.current_applicants, 0), COALESCE(c.is_always_open, false), c.approval_status,
+               t.search_text,
+               ARRAY(SELECT DISTINCT substr(t.search_text, g.i, 2) FROM generate_series(1, length(t.search_text) - 1) AS g(i)),
+               NOW()
+        FROM campaigns c
+        LEFT JOIN campaign_categories cc ON c.category_id = cc.id
+        CROSS JOIN LATERAL (
+            SELECT lower(regexp_replace(COALESCE(c.title, '') || '|' || COALESCE(c.product_short_info, ''), '\\s+', '', 'g')) AS search_text
+        ) t
+        WHERE c.id = :campaignId
+        ON CONFLICT (campaign_id) DO UPDATE SET
+            title = EXCLUDED.title,
+            thumbnail_url = EXCLUDED.thumbnail_url,
+            recruitment_end_date = EXCLUDED.recruitment_end_date,
+            max_applicants = EXCLUDED.max_applicants,
+            campaign_type = EXCLUDED.campaign_type,
+            product_short_info = EXCLUDED.product_short_info,
+            created_at = EXCLUDED.created_at,
+            category_name = EXCLUDED.category_name,
+            category_type = EXCLUDED.category_type,
+            current_applicants = EXCLUDED.current_applicants,
+            is_always_open = EXCLUDED.is_always_open,
+            approval_status = EXCLUDED.approval_status,
+            search_text = EXCLUDED.search_text,
+            search_tokens = EXCLUDED.search_tokens,
+            refreshed_at = EXCLUDED.refreshed_at
+        """, nativeQuery = true)
+    int upsertByCampaignId(@Param("campaignId") Long campaignId);
+
+    // 주기적 동기화 공통 부분 - 대상 조건(WHERE) 앞뒤 조각, 원본과 달라진 행(누락 포함)만 upsert
+    String SYNC_CHANGED_HEAD = """
+        INSERT INTO campaign_list_view (campaign_id, title, thumbnail_url, recruitment_end_date, max_applicants,
+                                        campaign_type, product_short_info, created_at, category_name, category_type,
+                                        current_applicants, is_always_open, approval_status,
+                                        search_text, search_tokens, refreshed_at)
+        SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants,
+               c.campaign_type, c.product_short_info, COALESCE(c.created_at, TIMESTAMP '1970-01-01 00:00:00'),
+               cc.category_name, cc.category_type, COALESCE(c.current_applicants, 0), COALESCE(c.is_always_open, false), c.approval_status,
+               t.search_text,
+               ARRAY(SELECT DISTINCT substr(t.search_text, g.i, 2) FROM generate_series(1, length(t.search_text) - 1) AS g(i)),
+               NOW()
+        FROM campaigns c
+        LEFT JOIN campaign_categories cc ON c.category_id = cc.id
+        CROSS JOIN LATERAL (
+            SELECT lower(regexp_replace(COALESCE(c.title, '') || '|' || COALESCE(c.product_short_info, ''), '\\s+', '', 'g')) AS search_text
+        ) t
+        LEFT JOIN campaign_list_view v ON v.campaign_id = c.id
+        WHERE """;
+
+    String SYNC_CHANGED_TAIL = """
+
+        AND (v.campaign_id IS NULL
+             OR v.search_text IS NULL
+             OR (c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants, c.campaign_type,
+                 c.product_short_info, COALESCE(c.created_at, TIMESTAMP '1970-01-01 00:00:00'), cc.category_name, cc.category_type,
+                 COALESCE(c.current_applicants, 0), COALESCE(c.is_always_open, false), c.approval_status)
+                IS DISTINCT FROM
+                (v.title, v.thumbnail_url, v.recruitment_end_date, v.max_applicants, v.campaign_type,
+                 v.product_short_info, v.created_at, v.category_name, v.category_type,
+                 v.current_applicants, v.is_always_open, v.approval_status))
+        ON CONFLICT (campaign_id) DO UPDATE SET
+            title = EXCLUDED.title,
+            thumbnail_url = EXCLUDED.thumbnail_url,
+            recruitment_end_date = EXCLUDED.recruitment_end_date,
+            max_applicants = EXCLUDED.max_applicants,
+            campaign_type = EXCLUDED.campaign_type,
+            product_short_info = EXCLUDED.product_short_info,
+            created_at = EXCLUDED.created_at,
+            category_name = EXCLUDED.category_name,
+            category_type = EXCLUDED.category_type,
+            current_applicants = EXCLUDED.current_applicants,
+            is_always_open = EXCLUDED.is_always_open,
+            approval_status = EXCLUDED.approval_status,
+            search_text = EXCLUDED.search_text,
+            search_tokens = EXCLUDED.search_tokens,
+            refreshed_at = EXCLUDED.refreshed_at
+        """;
+
+    /**
+     * ID 구간 (fromId, toId] 에서 원본과 달라진 행(누락 포함)만 upsert
+     * 관리자 직접 승인 등 애플리케이션을 거치지 않은 변경을 따라잡기 위한 주기적 전체 동기화용
+     */
+    @Modifying
+    @Query(value = SYNC_CHANGED_HEAD + "c.id > :fromId AND c.id <= :toId" + SYNC_CHANGED_TAIL, nativeQuery = true)
+    int upsertChangedInRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * since 이후 수정된 캠페인(campaigns.updated_at) 중 원본과 달라진 행만 upsert (1분 주기 증분 동기화용)
+     */
+    @Modifying
+    @Query(value = SYNC_CHANGED_HEAD + "c.updated_at >= :since" + SYNC_CHANGED_TAIL, nativeQuery = true)
+    int upsertChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 신청자 수만 원본 카운터 값으로 동기화 (신청/취소/선정 시 호출)
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE campaign_list_view v
+        SET current_applicants = COALESCE(c.current_applicants, 0), refreshed_at = NOW()
+        FROM campaigns c
+        WHERE c.id = v.campaign_id AND v.campaign_id = :campaignId
+        """, nativeQuery = true)
+    int syncCurrentApplicants(@Param("campaignId") Long campaignId);
+
+    @Modifying
+    @Query(value = "DELETE FROM campaign_list_view WHERE campaign_id = :campaignId", nativeQuery = true)
+    int deleteByCampaignId(@Param("campaignId") Long campaignId);
+
+    /**
+     * 원본 캠페인이 삭제된 행 정리
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM campaign_list_view v
+        WHERE NOT EXISTS (SELECT 1 FROM campaigns c WHERE c.id = v.campaign_id)
+        """, nativeQuery = true)
+    int deleteOrphans();
+}
@@ -8,11 +8,13 @@ import com.example.auth.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -85,14 +87,58 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     @Query("SELECT c FROM Campaign c WHERE c.creator.id = :creatorId AND c.recruitmentEndDate < :date AND c.isAlwaysOpen = false")
     Page<Campaign> findExpiredByCreatorId(@Param("creatorId") Long creatorId, @Param("date") LocalDate date, Pageable pageable);
 
-    // 자동완성용 메서드 (승인된 활성 캠페인만)
-    @Query("SELECT DISTINCT c.title FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true)")
-    List<String> findApprovedTitles(@Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate);
+    // 자동완성용 메서드 (승인된 활성 캠페인만) [title, 최대 신청자 수]
+    @Query("SELECT c.title, MAX(c.currentApplicants) FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) GROUP BY c.title")
+    List<Object[]> findApprovedTitlesWithApplicants(@Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate);
 
     // 신청자 수 관련 메서드들
     @Query("SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign.id = :campaignId AND ca.applicationStatus IN ('APPLIED', 'SELECTED')")
     int countCurrentApplicationsByCampaignId(@Param("campaignId") Long campaignId);
 
+    /**
+     * 신청자 수 카운터를 원자적으로 증감 (음수 방지)
+     */
+    @Modifying
+    @Query(value = "UPDATE campaigns SET current_applicants = GREATEST(COALESCE(current_applicants, 0) + :delta, 0) WHERE id = :campaignId",
+           nativeQuery = true)
+    int adjustCurrentApplicants(@Param("campaignId") Long campaignId, @Param("delta") int delta);
+
+    /**
+     * 신청자 수 재계산 전 캠페인 행 잠금 (신청/취소는 같은 트랜잭션에서 이 행을 증감하므로 진행 중인 변경이 커밋될 때까지 대기)
+     */
+    @Query(value = "SELECT id FROM campaigns WHERE id = :campaignId FOR UPDATE", nativeQuery = true)
+    Long lockForApplicantCount(@Param("campaignId") Long campaignId);
+
+    /**
+     * 신청자 수 카운터를 지정 값으로 설정 (정합성 보정용, lockForApplicantCount로 잠근 뒤 다시 센 값만 사용)
+     */
+    @Modifying
+    @Query(value = "UPDATE campaigns SET current_applicants = :count WHERE id = :campaignId", nativeQuery = true)
+    int updateCurrentApplicants(@Param("campaignId") Long campaignId, @Param("count") int count);
+
+    /**
+     * 여러 캠페인의 신청자 수 카운터 조회 [id, current_applicants]
+     */
+    @Query("SELECT c.id, c.currentApplicants FROM Campaign c WHERE c.id IN :campaignIds")
+    List<Object[]> findCurrentApplicantsByIds(@Param("campaignIds") Collection<Long> campaignIds);
+
+    /**
+     * ID 구간 내에서 카운터와 실제 신청 수가 다른 캠페인 조회 [id, actual_count]
+     */
+    @Query(value = """
+        SELECT c.id, COUNT(ca.id) AS actual_count
+        FROM campaigns c
+        LEFT JOIN campaign_applications ca
+               ON ca.campaign_id = c.id AND ca.application_status IN ('APPLIED', 'SELECTED')
+        WHERE c.id > :fromId AND c.id <= :toId
+        GROUP BY c.id, c.current_applicants
+        HAVING COALESCE(c.current_applicants, -1) <> COUNT(ca.id)
+        """, nativeQuery = true)
+    List<Object[]> findApplicantCountDrift(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM Campaign c")
+    Long findMaxId();
+
     // 캠페인 통계 메서드
     @Query("SELECT " +
            "COUNT(CASE WHEN ca.applicationStatus = 'APPLIED' THEN 1 END) as applied, " +
@@ -158,16 +204,10 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
         SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants, 
                c.campaign_type, c.product_short_info, c.created_at, 
                cc.category_name, cc.category_type, 
-               COALESCE(app_count.current_applicants, 0) as current_applicants,
+               COALESCE(c.current_applicants, 0) as current_applicants,
                c.is_always_open
         FROM campaigns c
         LEFT JOIN campaign_categories cc ON c.category_id = cc.id
-        LEFT JOIN (
-            SELECT ca.campaign_id, COUNT(*) as current_applicants
-            FROM campaign_applications ca 
-            WHERE ca.application_status IN ('APPLIED', 'SELECTED')
-            GROUP BY ca.campaign_id
-        ) app_count ON c.id = app_count.campaign_id
         WHERE c.approval_status = :approvalStatus
         AND (:currentDate IS NULL OR c.recruitment_end_date >= :currentDate OR c.is_always_open = true)
         AND (:categoryType IS NULL OR cc.category_type = :categoryType)
@@ -186,16 +226,10 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
         SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants, 
                c.campaign_type, c.product_short_info, c.created_at, 
                cc.category_name, cc.category_type, 
-               COALESCE(app_count.current_applicants, 0) as current_applicants,
+               COALESCE(c.current_applicants, 0) as current_applicants,
                c.is_always_open
         FROM campaigns c
         LEFT JOIN campaign_categories cc ON c.category_id = cc.id
-        LEFT JOIN (
-            SELECT ca.campaign_id, COUNT(*) as current_applicants
-            FROM campaign_applications ca 
-            WHERE ca.application_status IN ('APPLIED', 'SELECTED')
-            GROUP BY ca.campaign_id
-        ) app_count ON c.id = app_count.campaign_id
         WHERE c.approval_status = CAST(:approvalStatus AS text)
         AND (CAST(:currentDate AS date) IS NULL OR c.recruitment_end_date >= CAST(:currentDate AS date) OR c.is_always_open = true)
         AND (CAST(:categoryType AS text) IS NULL OR cc.category_type = CAST(:categoryType AS text))
@@ -214,16 +248,10 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
         SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants, 
                c.campaign_type, c.product_short_info, c.created_at, 
                cc.category_name, cc.category_type, 
-               COALESCE(app_count.current_applicants, 0) as current_applicants,
+               COALESCE(c.current_applicants, 0) as current_applicants,
                c.is_always_open
         FROM campaigns c
         LEFT JOIN campaign_categories cc ON c.category_id = cc.id
-        LEFT JOIN (
-            SELECT ca.campaign_id, COUNT(*) as current_applicants
-            FROM campaign_applications ca 
-            WHERE ca.application_status IN ('APPLIED', 'SELECTED')
-            GROUP BY ca.campaign_id
-        ) app_count ON c.id = app_count.campaign_id
         WHERE c.approval_status = CAST(:approvalStatus AS text)
         AND (CAST(:currentDate AS date) IS NULL OR c.recruitment_end_date >= CAST(:currentDate AS date) OR c.is_always_open = true)
         AND (CAST(:categoryType AS text) IS NULL OR cc.category_type = CAST(:categoryType AS text))
@@ -244,16 +272,10 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
         SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants, 
                c.campaign_type, c.product_short_info, c.created_at, 
                cc.category_name, cc.category_type, 
-               COALESCE(app_count.current_applicants, 0) as current_applicants,
+               COALESCE(c.current_applicants, 0) as current_applicants,
                c.is_always_open
         FROM campaigns c
         LEFT JOIN campaign_categories cc ON c.category_id = cc.id
-        LEFT JOIN (
-            SELECT ca.campaign_id, COUNT(*) as current_applicants
-            FROM campaign_applications ca 
-            WHERE ca.application_status IN ('APPLIED', 'SELECTED')
-            GROUP BY ca.campaign_id
-        ) app_count ON c.id = app_count.campaign_id
         WHERE c.approval_status = CAST(:approvalStatus AS text)
         AND (CAST(:currentDate AS date) IS NULL OR c.recruitment_end_date >= CAST(:currentDate AS date) OR c.is_always_open = true)
         AND (CAST(:categoryType AS text) IS NULL OR cc.category_type = CAST(:categoryType AS text))
@@ -274,15 +296,9 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
     @Query(value = """
         SELECT c.id, c.title, c.thumbnail_url, c.recruitment_end_date, c.max_applicants, 
                c.created_at, cc.category_name, cc.category_type, 
-               COALESCE(app_count.current_applicants, 0) as current_applicants
+               COALESCE(c.current_applicants, 0) as current_applicants
         FROM campaigns c
         LEFT JOIN campaign_categories cc ON c.category_id = cc.id
-        LEFT JOIN (
-            SELECT ca.campaign_id, COUNT(*) as current_applicants
-            FROM campaign_applications ca 
-            WHERE ca.application_status IN ('APPLIED', 'SELECTED')
-            GROUP BY ca.campaign_id
-        ) app_count ON c.id = app_count.campaign_id
         WHERE c.approval_status = :approvalStatus
         AND c.recruitment_end_date >= :currentDate
         AND (:categoryType IS NULL OR cc.category_type = :categoryType)
@@ -296,42 +312,13 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
             @Param("sort") String sort,
             Pageable pageable);
 
-    // 검색 관련 쿼리들 (상시 캠페인 포함)
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND (c.title LIKE %:keyword% OR c.productShortInfo LIKE %:keyword%)")
-    Page<Campaign> searchApprovedActiveByKeywordOrderByLatest(
-            @Param("approvalStatus") ApprovalStatus approvalStatus,
-            @Param("currentDate") LocalDate currentDate,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND (c.title LIKE %:keyword% OR c.productShortInfo LIKE %:keyword%) ORDER BY (SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign = c AND ca.applicationStatus IN ('APPLIED', 'SELECTED')) DESC")
-    Page<Campaign> searchApprovedActiveByKeywordOrderByPopularity(
-            @Param("approvalStatus") ApprovalStatus approvalStatus,
-            @Param("currentDate") LocalDate currentDate,
-            @Param("keyword") String keyword,
-            Pageable pageable);
-
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND (c.title LIKE %:keyword% OR c.productShortInfo LIKE %:keyword%) AND c.campaignType IN :campaignTypes ORDER BY c.createdAt DESC")
-    Page<Campaign> searchApprovedActiveByKeywordAndCampaignTypesOrderByLatest(
-            @Param("approvalStatus") ApprovalStatus approvalStatus,
-            @Param("currentDate") LocalDate currentDate,
-            @Param("keyword") String keyword,
-            @Param("campaignTypes") List<String> campaignTypes,
-            Pageable pageable);
-
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND (c.title LIKE %:keyword% OR c.productShortInfo LIKE %:keyword%) AND c.campaignType IN :campaignTypes ORDER BY (SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign = c AND ca.applicationStatus IN ('APPLIED', 'SELECTED')) DESC")
-    Page<Campaign> searchApprovedActiveByKeywordAndCampaignTypesOrderByPopularity(
-            @Param("approvalStatus") ApprovalStatus approvalStatus,
-            @Param("currentDate") LocalDate currentDate,
-            @Param("keyword") String keyword,
-            @Param("campaignTypes") List<String> campaignTypes,
-            Pageable pageable);
+    // 키워드 검색은 CampaignListViewRepository.searchByKeyword (2-gram 검색 색인) 사용
 
     // 정렬별 승인된 활성 캠페인 조회 메서드들 (상시 캠페인 포함)
     @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) ORDER BY c.createdAt DESC")
     Page<Campaign> findApprovedActiveOrderByLatest(@Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, Pageable pageable);
 
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) ORDER BY (SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign = c AND ca.applicationStatus IN ('APPLIED', 'SELECTED')) DESC")
+    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) ORDER BY c.currentApplicants DESC, c.createdAt DESC")
     Page<Campaign> findApprovedActiveOrderByCurrentApplicantsDesc(@Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, Pageable pageable);
 
     // 카테고리별 정렬 쿼리들 (상시 캠페인 포함)
@@ -340,7 +327,7 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
             @Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, 
             @Param("categoryType") CampaignCategory.CategoryType categoryType, Pageable pageable);
 
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND c.category.categoryType = :categoryType ORDER BY (SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign = c AND ca.applicationStatus IN ('APPLIED', 'SELECTED')) DESC")
+    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND c.category.categoryType = :categoryType ORDER BY c.currentApplicants DESC, c.createdAt DESC")
     Page<Campaign> findApprovedActiveByCategoryTypeOrderByCurrentApplicantsDesc(
             @Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, 
             @Param("categoryType") CampaignCategory.CategoryType categoryType, Pageable pageable);
@@ -351,7 +338,7 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
             @Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, 
             @Param("campaignType") String campaignType, Pageable pageable);
 
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND c.campaignType = :campaignType ORDER BY (SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign = c AND ca.applicationStatus IN ('APPLIED', 'SELECTED')) DESC")
+    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND c.campaignType = :campaignType ORDER BY c.currentApplicants DESC, c.createdAt DESC")
     Page<Campaign> findApprovedActiveByCampaignTypeOrderByCurrentApplicantsDesc(
             @Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, 
             @Param("campaignType") String campaignType, Pageable pageable);
@@ -363,7 +350,7 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
             @Param("categoryType") CampaignCategory.CategoryType categoryType, @Param("categoryName") String categoryName, 
             Pageable pageable);
 
-    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND c.category.categoryType = :categoryType AND c.category.categoryName = :categoryName ORDER BY (SELECT COUNT(ca) FROM CampaignApplication ca WHERE ca.campaign = c AND ca.applicationStatus IN ('APPLIED', 'SELECTED')) DESC")
+    @Query("SELECT c FROM Campaign c WHERE c.approvalStatus = :approvalStatus AND (c.recruitmentEndDate >= :currentDate OR c.isAlwaysOpen = true) AND c.category.categoryType = :categoryType AND c.category.categoryName = :categoryName ORDER BY c.currentApplicants DESC, c.createdAt DESC")
     Page<Campaign> findApprovedActiveByCategoryTypeAndNameOrderByCurrentApplicantsDesc(
             @Param("approvalStatus") ApprovalStatus approvalStatus, @Param("currentDate") LocalDate currentDate, 
             @Param("categoryType") CampaignCategory.CategoryType categoryType, @Param("categoryName") String categoryName, 
@@ -389,7 +376,7 @@ public interface CampaignRepository extends JpaRepository<Campaign, Long> {
             @Param("creatorId") Long creatorId, @Param("approvalStatus") ApprovalStatus approvalStatus, @Param("date") LocalDate date);
 
     // CampaignStatusScheduler에서 사용하는 메서드들 (상시 캠페인 고려)
-    @Query("SELECT c FROM Campaign c WHERE c.recruitmentEndDate < :currentDate AND c.isAlwaysOpen = false AND c.approvalStatus = :approvalStatus")
+    @Query("SELECT c FROM Campaign c WHERE c.recruitmentEndDate < :currentDate AND c.isAlwaysOpen = false AND c.approvalStatus = :approvalStatus AND (c.recruitmentClosedAt IS NULL OR cast(c.recruitmentClosedAt as LocalDate) <= c.recruitmentEndDate)")
     List<Campaign> findExpiredCampaigns(@Param("currentDate") LocalDate currentDate, @Param("approvalStatus") ApprovalStatus approvalStatus);
 
     @Query("SELECT COUNT(c) FROM Campaign c WHERE c.recruitmentEndDate BETWEEN :currentDate AND :futureDate AND c.isAlwaysOpen = false AND c.approvalStatus = :approvalStatus")
@@ -1,6 +1,7 @@
 package com.example.auth.repository;
 
 import com.example.auth.domain.KokPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -8,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +31,22 @@ public interface KokPostRepository extends JpaRepository<KokPost, Long> {
      */
     List<KokPost> findAllByOrderByCreatedAtDesc();
 
+    /**
+     * 최신순 첫 페이지 (커서 페이징)
+     */
+    @Query("SELECT k FROM KokPost k ORDER BY k.createdAt DESC, k.id DESC")
+    List<KokPost> findLatest(Pageable pageable);
+
+    /**
+     * 최신순 다음 페이지 - 커서 (createdAt, id) 이후 (OFFSET 없이 인덱스 범위 조회)
+     */
+    @Query("""
+        SELECT k FROM KokPost k
+        WHERE k.createdAt < :createdAt OR (k.createdAt = :createdAt AND k.id < :id)
+        ORDER BY k.createdAt DESC, k.id DESC
+        """)
+    List<KokPost> findLatestAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
     /**
      * 제목으로 검색 (대소문자 구분 없음)
      */
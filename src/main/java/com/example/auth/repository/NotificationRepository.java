@@ -1,6 +1,7 @@
 package com.example.auth.repository;
 
 import com.example.auth.domain.Notification;
+import com.example.auth.dto.notification.NotificationResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,26 +17,84 @@ import java.util.List;
  */
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
+    String INBOX_PROJECTION = "SELECT new com.example.auth.dto.notification.NotificationResponse("
+            + "n.id, n.notificationType, n.title, n.message, n.relatedEntityId, n.relatedEntityType, n.isRead, n.createdAt, n.readAt) "
+            + "FROM Notification n ";
+
+    /**
+     * 사용자의 알림 목록 조회 (최신순, OFFSET 페이징)
+     */
+    @Query(value = INBOX_PROJECTION + "WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.id DESC",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId")
+    Page<NotificationResponse> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자의 읽음/읽지 않음 알림 목록 조회 (최신순, OFFSET 페이징)
+     */
+    @Query(value = INBOX_PROJECTION + "WHERE n.userId = :userId AND n.isRead = :isRead ORDER BY n.createdAt DESC, n.id DESC",
+           countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = :isRead")
+    Page<NotificationResponse> findRecentByUserIdAndIsRead(@Param("userId") Long userId, @Param("isRead") boolean isRead,
+                                                           Pageable pageable);
+
+    /**
+     * 알림함 첫 페이지 (커서 페이징, 최신순)
+     */
+    @Query(INBOX_PROJECTION + "WHERE n.userId = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findInbox(@Param("userId") Long userId, Pageable pageable);
+
     /**
-     * 사용자의 알림 목록 조회 (최신순)
+     * 알림함 다음 페이지 - 커서 (createdAt, id) 이후 (OFFSET 없이 (user_id, created_at DESC, id DESC) 인덱스 범위 조회)
      */
-    Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query(INBOX_PROJECTION + """
+        WHERE n.userId = :userId
+          AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+        ORDER BY n.createdAt DESC, n.id DESC
+        """)
+    List<NotificationResponse> findInboxAfter(@Param("userId") Long userId,
+                                              @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 
     /**
-     * 사용자의 읽지 않은 알림 목록 조회
+     * 읽음/읽지 않음 알림함 첫 페이지 (커서 페이징, 최신순)
      */
-    Page<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query(INBOX_PROJECTION + "WHERE n.userId = :userId AND n.isRead = :isRead ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationResponse> findInboxByIsRead(@Param("userId") Long userId, @Param("isRead") boolean isRead,
+                                                 Pageable pageable);
 
     /**
-     * 사용자의 읽은 알림 목록 조회
+     * 읽음/읽지 않음 알림함 다음 페이지 (OFFSET 없이 (user_id, is_read, created_at DESC, id DESC) 인덱스 범위 조회)
      */
-    Page<Notification> findByUserIdAndIsReadTrueOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    @Query(INBOX_PROJECTION + """
+        WHERE n.userId = :userId AND n.isRead = :isRead
+          AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+        ORDER BY n.createdAt DESC, n.id DESC
+        """)
+    List<NotificationResponse> findInboxByIsReadAfter(@Param("userId") Long userId, @Param("isRead") boolean isRead,
+                                                      @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                      Pageable pageable);
+
+    /**
+     * 알림함 전체 개수 (커서 페이징에서 요청한 경우만)
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId")
+    long countInbox(@Param("userId") Long userId);
+
+    /**
+     * 읽음/읽지 않음 알림함 개수 (커서 페이징에서 요청한 경우만)
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = :isRead")
+    long countInboxByIsRead(@Param("userId") Long userId, @Param("isRead") boolean isRead);
 
     /**
      * 사용자의 읽지 않은 알림 개수 조회
      */
     long countByUserIdAndIsReadFalse(Long userId);
 
+    /**
+     * 여러 사용자의 읽지 않은 알림 개수 조회 (카운터 보정용, 결과: [userId, count], 0건인 사용자는 행 없음)
+     */
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n WHERE n.userId IN :userIds AND n.isRead = false GROUP BY n.userId")
+    List<Object[]> countUnreadGroupByUserId(@Param("userIds") List<Long> userIds);
+
     /**
      * 사용자의 특정 타입 알림 조회
      */
@@ -50,21 +109,14 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     int markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
 
     /**
-     * 특정 알림들을 읽음 처리
+     * 특정 알림들을 읽음 처리 (이미 읽은 알림은 제외하여 반환값 = 새로 읽음 처리된 건수)
      */
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.id IN :notificationIds AND n.userId = :userId")
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt WHERE n.id IN :notificationIds AND n.userId = :userId AND n.isRead = false")
     int markAsReadByIds(@Param("notificationIds") List<Long> notificationIds, 
                         @Param("userId") Long userId, 
                         @Param("readAt") LocalDateTime readAt);
 
-    /**
-     * 오래된 읽은 알림 삭제 (데이터 정리용)
-     */
-    @Modifying
-    @Query("DELETE FROM Notification n WHERE n.isRead = true AND n.readAt < :cutoffDate")
-    int deleteOldReadNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
-
     /**
      * 사용자의 알림 개수 제한 (최신 N개만 유지)
      */
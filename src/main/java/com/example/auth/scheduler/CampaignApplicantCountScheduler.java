@@ -0,0 +1,95 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.repository.CampaignRepository;
+import com.example.auth.service.CampaignApplicantCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 신청자 수 카운터 정합성 보정 스케줄러
+ * campaigns.current_applicants 와 campaign_applications 실제 집계를 ID 구간 단위로 비교하여 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignApplicantCountScheduler {
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignApplicantCounterService applicantCounterService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String RECONCILE_LOCK_KEY = "campaign:applicants:reconcile:lock";
+    private static final int LOCK_TIMEOUT_MINUTES = 30;
+    private static final long CHUNK_SIZE = 1000; // 구간당 캠페인 ID 수
+
+    /**
+     * 시작 1분 후 1회 실행 (컬럼 추가 직후 기존 데이터 채우기 포함)
+     */
+    @Scheduled(initialDelay = 60000, fixedRate = Long.MAX_VALUE)
+    public void reconcileOnStartup() {
+        reconcileApplicantCounts();
+    }
+
+    /**
+     * 매일 새벽 4시 30분 정합성 보정
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void scheduledReconcile() {
+        reconcileApplicantCounts();
+    }
+
+    /**
+     * 전체 캠페인을 구간 단위(구간마다 별도 트랜잭션)로 보정
+     */
+    public void reconcileApplicantCounts() {
+        if (!acquireLock()) {
+            log.info("다른 인스턴스에서 신청자 수 보정이 실행 중입니다. 건너뜁니다.");
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            long maxId = campaignRepository.findMaxId();
+            int totalFixed = 0;
+
+            for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+                try {
+                    totalFixed += applicantCounterService.reconcileRange(fromId, fromId + CHUNK_SIZE);
+                } catch (Exception e) {
+                    log.error("신청자 수 보정 실패 - 구간: ({}, {}]", fromId, fromId + CHUNK_SIZE, e);
+                }
+            }
+
+            log.info("신청자 수 카운터 보정 완료 - 보정 {}건, 최대 ID: {}, 소요: {}ms",
+                    totalFixed, maxId, System.currentTimeMillis() - startTime);
+
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private boolean acquireLock() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    RECONCILE_LOCK_KEY, "locked_" + System.currentTimeMillis(),
+                    LOCK_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.error("신청자 수 보정 락 획득 중 오류", e);
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(RECONCILE_LOCK_KEY);
+        } catch (Exception e) {
+            log.error("신청자 수 보정 락 해제 중 오류", e);
+        }
+    }
+}
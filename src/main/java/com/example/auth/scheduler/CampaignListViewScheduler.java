@@ -0,0 +1,180 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.repository.CampaignRepository;
+import com.example.auth.service.AutoCompleteService;
+import com.example.auth.service.CampaignListViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캠페인 목록 읽기 모델 동기화 스케줄러
+ * 관리자 승인처럼 애플리케이션 밖에서 일어난 campaigns 변경을 비교하여 반영
+ * - 1분마다: 마지막 동기화 이후 updated_at이 바뀐 캠페인만 비교 (워터마크는 Redis에 보관)
+ * - 1시간마다: 전체를 ID 구간 단위로 비교하고 원본이 삭제된 행 정리
+ *   (updated_at을 건드리지 않는 카테고리명 변경, 카운터 직접 수정, 늦게 커밋된 트랜잭션 보정)
+ * (campaign_applications 집계 없이 campaigns 와 campaign_list_view 의 PK 조인만 수행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignListViewScheduler {
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignListViewService campaignListViewService;
+    private final AutoCompleteService autoCompleteService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String SYNC_LOCK_KEY = "campaign:list-view:sync:lock";
+    private static final String SYNC_WATERMARK_KEY = "campaign:list-view:sync:watermark";
+    private static final int LOCK_TIMEOUT_MINUTES = 5;
+    private static final long CHUNK_SIZE = 1000; // 구간당 캠페인 ID 수
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1); // 커밋 지연/서버 간 시계 차이 여유
+    private static final Duration WATERMARK_TTL = Duration.ofDays(1);
+
+    /**
+     * 시작 30초 후부터 1분마다 변경분 동기화 (워터마크가 없으면 전체 동기화)
+     */
+    @Scheduled(initialDelay = 30000, fixedDelay = 60000)
+    public void scheduledSync() {
+        syncChanges();
+    }
+
+    /**
+     * 매시 15분 전체 동기화
+     */
+    @Scheduled(cron = "0 15 * * * *")
+    public void scheduledFullSync() {
+        syncListView();
+    }
+
+    /**
+     * 마지막 동기화 이후 수정된 캠페인만 동기화
+     */
+    public void syncChanges() {
+        if (!acquireLock()) {
+            log.debug("다른 인스턴스에서 캠페인 목록 읽기 모델 동기화가 실행 중입니다. 건너뜁니다.");
+            return;
+        }
+
+        try {
+            LocalDateTime watermark = readWatermark();
+            if (watermark == null) {
+                syncAll();
+                return;
+            }
+
+            long startTime = System.currentTimeMillis();
+            LocalDateTime startedAt = LocalDateTime.now();
+            int upserted = campaignListViewService.syncChangedSince(watermark.minus(WATERMARK_OVERLAP));
+            writeWatermark(startedAt);
+
+            if (upserted > 0) {
+                log.info("캠페인 목록 읽기 모델 변경분 동기화 완료 - 기준: {}, 갱신 {}건, 소요: {}ms",
+                        watermark, upserted, System.currentTimeMillis() - startTime);
+
+                // 관리자 승인 등 외부 변경이 감지되면 자동완성 스냅샷도 갱신
+                autoCompleteService.requestRefresh();
+            }
+
+        } catch (Exception e) {
+            log.error("캠페인 목록 읽기 모델 변경분 동기화 중 오류", e);
+        } finally {
+            releaseLock();
+        }
+    }
+
+    /**
+     * 전체 캠페인을 ID 구간 단위로 비교하여 동기화하고 원본이 삭제된 행 정리
+     */
+    public void syncListView() {
+        if (!acquireLock()) {
+            log.debug("다른 인스턴스에서 캠페인 목록 읽기 모델 동기화가 실행 중입니다. 건너뜁니다.");
+            return;
+        }
+
+        try {
+            syncAll();
+        } catch (Exception e) {
+            log.error("캠페인 목록 읽기 모델 동기화 중 오류", e);
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private void syncAll() {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        long maxId = campaignRepository.findMaxId();
+        int totalUpserted = 0;
+        boolean failed = false;
+
+        for (long fromId = 0; fromId < maxId; fromId += CHUNK_SIZE) {
+            try {
+                totalUpserted += campaignListViewService.syncRange(fromId, fromId + CHUNK_SIZE);
+            } catch (Exception e) {
+                failed = true;
+                log.error("캠페인 목록 읽기 모델 동기화 실패 - 구간: ({}, {}]", fromId, fromId + CHUNK_SIZE, e);
+            }
+        }
+
+        int removed = campaignListViewService.removeOrphans();
+
+        // 실패한 구간이 있으면 워터마크를 앞당기지 않아 다음 주기에 다시 전체 동기화
+        if (!failed) {
+            writeWatermark(startedAt);
+        }
+
+        if (totalUpserted > 0 || removed > 0) {
+            log.info("캠페인 목록 읽기 모델 동기화 완료 - 갱신 {}건, 삭제 {}건, 소요: {}ms",
+                    totalUpserted, removed, System.currentTimeMillis() - startTime);
+
+            // 관리자 승인 등 외부 변경이 감지되면 자동완성 스냅샷도 갱신
+            autoCompleteService.requestRefresh();
+        }
+    }
+
+    private LocalDateTime readWatermark() {
+        String value = redisTemplate.opsForValue().get(SYNC_WATERMARK_KEY);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            log.warn("캠페인 목록 읽기 모델 동기화 워터마크 형식 오류 - 전체 동기화로 대체: {}", value);
+            return null;
+        }
+    }
+
+    private void writeWatermark(LocalDateTime startedAt) {
+        redisTemplate.opsForValue().set(SYNC_WATERMARK_KEY, startedAt.toString(), WATERMARK_TTL);
+    }
+
+    private boolean acquireLock() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    SYNC_LOCK_KEY, "locked_" + System.currentTimeMillis(),
+                    LOCK_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.error("캠페인 목록 읽기 모델 동기화 락 획득 중 오류", e);
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(SYNC_LOCK_KEY);
+        } catch (Exception e) {
+            log.error("캠페인 목록 읽기 모델 동기화 락 해제 중 오류", e);
+        }
+    }
+}
@@ -1,22 +1,32 @@
 package com.example.auth.scheduler;
 
-import com.example.auth.constant.ApplicationStatus;
-import com.example.auth.domain.Campaign;
-import com.example.auth.domain.CampaignApplication;
+import com.example.auth.domain.Notification;
 import com.example.auth.repository.CampaignRepository;
-import com.example.auth.repository.CampaignApplicationRepository;
+import com.example.auth.service.CampaignApplicantCounterService;
+import com.example.auth.service.NotificationOutboxService;
+import com.example.auth.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 캠페인 상태 자동 관리 스케줄러
- * 일반 캠페인의 모집 종료일이 되면 APPLIED → PENDING 상태로 변경
+ * 일반 캠페인의 모집 종료일이 지나면 신청자 상태를 APPLIED → PENDING으로 변경
+ * 캠페인 청크 단위로 마감 표시(recruitment_closed_at)와 신청 상태 전환을 한 문장으로 처리하고 청크마다 커밋하므로,
+ * 마감 처리된 캠페인은 다음 실행 때 다시 조회하지 않으며 중간에 실패해도 남은 캠페인부터 이어서 처리합니다.
  */
 @Slf4j
 @Component
@@ -24,54 +34,131 @@ import java.util.List;
 public class CampaignStatusScheduler {
 
     private final CampaignRepository campaignRepository;
-    private final CampaignApplicationRepository applicationRepository;
+    private final CampaignApplicantCounterService applicantCounterService;
+    private final NotificationService notificationService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int CAMPAIGN_CHUNK_SIZE = 100; // 청크(트랜잭션)당 마감 처리 캠페인 수
+
+    // 마감 대상 캠페인을 청크만큼 잠가 마감 표시하고, 해당 캠페인의 APPLIED 신청을 PENDING으로 일괄 전환
+    // 결과: 전환된 신청마다 한 행 (전환된 신청이 없는 캠페인은 user_id가 NULL인 한 행)
+    // 다른 인스턴스가 처리 중인 캠페인은 SKIP LOCKED로 건너뜀
+    // 마감 후 종료일이 연장되었는데 recruitment_closed_at이 초기화되지 않은 경우(Admin 서비스 수정 등)도 새 종료일이 지나면 다시 마감
+    private static final String CLOSE_EXPIRED_CHUNK_SQL = """
+            WITH closed AS (
+                UPDATE campaigns
+                   SET recruitment_closed_at = ?
+                 WHERE id IN (
+                        SELECT id
+                          FROM campaigns
+                         WHERE recruitment_end_date < ?
+                           AND is_always_open = false
+                           AND approval_status = 'APPROVED'
+                           AND (recruitment_closed_at IS NULL OR recruitment_closed_at::date <= recruitment_end_date)
+                         ORDER BY id
+                         LIMIT ?
+                           FOR UPDATE SKIP LOCKED)
+                RETURNING id, title
+            ), moved AS (
+                UPDATE campaign_applications a
+                   SET application_status = 'PENDING', updated_at = now()
+                  FROM closed c
+                 WHERE a.campaign_id = c.id
+                   AND a.application_status = 'APPLIED'
+                RETURNING a.campaign_id, a.user_id
+            )
+            SELECT c.id AS campaign_id, c.title, m.user_id
+              FROM closed c
+              LEFT JOIN moved m ON m.campaign_id = c.id
+             ORDER BY c.id
+            """;
+
+    /**
+     * 청크 하나에서 마감 처리된 캠페인 (userIds는 APPLIED -> PENDING으로 전환된 신청자)
+     */
+    private record ClosedCampaign(long campaignId, String title, List<Long> userIds) {
+    }
 
     /**
      * 매일 자정(0시)에 캠페인 모집 상태 체크 및 업데이트
      * 일반 캠페인의 모집 종료일이 지나면 신청자 상태를 APPLIED → PENDING으로 변경
      */
     @Scheduled(cron = "0 0 0 * * ?") // 매일 자정(0시)
-    @Transactional
     public void updateExpiredCampaignApplications() {
         log.info("캠페인 모집 종료 상태 업데이트 스케줄러 시작");
-        
+
+        LocalDate today = LocalDate.now();
+        int totalCampaigns = 0;
+        int totalUpdated = 0;
+        int chunkCount = 0;
+
         try {
-            LocalDate today = LocalDate.now();
-            
-            // 일반 캠페인 중 모집 종료일이 지난 캠페인들 조회
-            List<Campaign> expiredCampaigns = campaignRepository.findExpiredCampaigns(today);
-            
-            if (expiredCampaigns.isEmpty()) {
+            List<ClosedCampaign> chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> closeExpiredChunk(today));
+                if (chunk == null || chunk.isEmpty()) {
+                    break;
+                }
+
+                int updated = chunk.stream().mapToInt(campaign -> campaign.userIds().size()).sum();
+                chunkCount++;
+                totalCampaigns += chunk.size();
+                totalUpdated += updated;
+                log.info("캠페인 모집 마감 청크 {} 커밋: 캠페인 {}개 (마지막 ID: {}), 신청자 {}명 APPLIED → PENDING (누적 캠페인 {}개, 신청자 {}명)",
+                        chunkCount, chunk.size(), chunk.get(chunk.size() - 1).campaignId(), updated, totalCampaigns, totalUpdated);
+            } while (chunk.size() == CAMPAIGN_CHUNK_SIZE);
+
+            if (totalCampaigns == 0) {
                 log.info("모집 종료된 캠페인이 없습니다.");
                 return;
             }
-            
-            log.info("모집 종료된 캠페인 {}개 처리 시작", expiredCampaigns.size());
-            
-            int totalUpdated = 0;
-            
-            for (Campaign campaign : expiredCampaigns) {
-                // 해당 캠페인의 APPLIED 상태 신청자들을 PENDING으로 변경
-                List<CampaignApplication> appliedApplications = 
-                    applicationRepository.findByCampaignAndApplicationStatus(campaign, ApplicationStatus.APPLIED);
-                
-                if (!appliedApplications.isEmpty()) {
-                    appliedApplications.forEach(app -> app.updateStatus(ApplicationStatus.PENDING));
-                    applicationRepository.saveAll(appliedApplications);
-                    
-                    totalUpdated += appliedApplications.size();
-                    log.info("캠페인 '{}' (ID: {}) 신청자 {}명 상태 변경: APPLIED → PENDING", 
-                            campaign.getTitle(), campaign.getId(), appliedApplications.size());
-                }
-            }
-            
-            log.info("캠페인 모집 종료 상태 업데이트 완료: 총 {}명의 신청자 상태 변경", totalUpdated);
-            
+
+            log.info("캠페인 모집 종료 상태 업데이트 완료: 캠페인 {}개, 총 {}명의 신청자 상태 변경", totalCampaigns, totalUpdated);
+
         } catch (Exception e) {
-            log.error("캠페인 상태 업데이트 스케줄러 실행 중 오류 발생", e);
+            // 커밋된 청크는 마감 표시가 남아 있으므로 다음 실행 때 남은 캠페인부터 처리
+            log.error("캠페인 상태 업데이트 스케줄러 실행 중 오류 발생: 처리 완료 캠페인 {}개, 신청자 {}명", totalCampaigns, totalUpdated, e);
         }
     }
-    
+
+    /**
+     * 캠페인 한 청크 마감 처리 - 전환된 신청자 기준으로 같은 트랜잭션에서 신청자 수 카운터 차감과 알림 아웃박스 기록
+     */
+    private List<ClosedCampaign> closeExpiredChunk(LocalDate today) {
+        Map<Long, ClosedCampaign> closed = new LinkedHashMap<>();
+        jdbcTemplate.query(CLOSE_EXPIRED_CHUNK_SQL, rs -> {
+            long campaignId = rs.getLong("campaign_id");
+            String title = rs.getString("title");
+            ClosedCampaign campaign = closed.computeIfAbsent(campaignId,
+                    id -> new ClosedCampaign(id, title, new ArrayList<>()));
+            long userId = rs.getLong("user_id");
+            if (!rs.wasNull()) {
+                campaign.userIds().add(userId);
+            }
+        }, Timestamp.valueOf(LocalDateTime.now()), Date.valueOf(today), CAMPAIGN_CHUNK_SIZE);
+
+        List<Notification> notifications = new ArrayList<>();
+        for (ClosedCampaign campaign : closed.values()) {
+            if (campaign.userIds().isEmpty()) {
+                continue;
+            }
+            applicantCounterService.adjust(campaign.campaignId(), -campaign.userIds().size());
+            for (Long userId : campaign.userIds()) {
+                notifications.add(notificationService.buildCampaignRecruitmentClosedNotification(
+                        userId, campaign.campaignId(), campaign.title()));
+            }
+            log.debug("캠페인 '{}' (ID: {}) 신청자 {}명 상태 변경: APPLIED → PENDING",
+                    campaign.title(), campaign.campaignId(), campaign.userIds().size());
+        }
+
+        if (!notifications.isEmpty()) {
+            notificationOutboxService.enqueueNotifications(notifications);
+        }
+        return new ArrayList<>(closed.values());
+    }
+
     /**
      * 매시간마다 상태 점검 (선택적)
      * 더 빈번한 체크가 필요한 경우 사용
@@ -80,10 +167,10 @@ public class CampaignStatusScheduler {
     @Transactional(readOnly = true)
     public void checkCampaignStatus() {
         LocalDate today = LocalDate.now();
-        
+
         // 오늘 종료되는 캠페인 개수 체크
         long expiringSoon = campaignRepository.countExpiringSoonCampaigns(today);
-        
+
         if (expiringSoon > 0) {
             log.info("오늘 모집 종료 예정인 캠페인: {}개", expiringSoon);
         }
@@ -0,0 +1,377 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.constant.EmailTemplate;
+import com.example.auth.domain.Notification;
+import com.example.auth.domain.NotificationOutbox.EventType;
+import com.example.auth.domain.NotificationOutbox.Status;
+import com.example.auth.repository.NotificationRepository;
+import com.example.auth.service.NotificationCounterService;
+import com.example.auth.service.NotificationOutboxService.NotificationPayload;
+import com.example.auth.service.NotificationOutboxService.TemplatedEmailPayload;
+import com.example.auth.service.NotificationService;
+import com.example.auth.service.SESService;
+import com.example.auth.service.SESService.BulkEmailRecipient;
+import com.example.auth.service.SESService.BulkEmailResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 알림 아웃박스 디스패처
+ * notification_outbox에서 처리할 행을 FOR UPDATE SKIP LOCKED로 묶음 단위 점유하여 여러 인스턴스가 같은 행을 동시에 잡지 않습니다.
+ * - 알림함 알림: 묶음 전체를 한 트랜잭션에서 저장 + SENT 처리하고, 커밋 후 SSE로 전송
+ * - 템플릿 이메일: 50명 단위 SES 대량 발송으로 묶어 outboxEmailExecutor에서 제한된 동시성으로 발송, 실패 시 지수 백오프로 재시도 (최대 maxAttempts회)
+ * 점유 중 인스턴스가 죽으면 locked_until이 지난 뒤 다른 인스턴스가 다시 점유하므로, 이메일은 최소 1회(at-least-once) 발송됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxDispatcher {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationRepository notificationRepository;
+    private final NotificationService notificationService;
+    private final NotificationCounterService notificationCounterService;
+    private final SESService sesService;
+    private final ExecutorService outboxDispatchExecutor;
+    private final ExecutorService outboxEmailExecutor;
+
+    @Value("${notification.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notification.outbox.lock-timeout-seconds:300}")
+    private long lockTimeoutSeconds;
+
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays;
+
+    private static final long BASE_BACKOFF_SECONDS = 5;
+    private static final long MAX_BACKOFF_SECONDS = 600; // 재시도 간격 상한 10분
+    private static final int PURGE_CHUNK_SIZE = 5000;
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+    private static final int EMAIL_CHUNK_SIZE = 50; // SendBulkTemplatedEmail 1회 최대 수신자 수
+    private static final String NON_RETRYABLE_EMAIL_ERROR = "MESSAGE_REJECTED"; // 수신 거부/잘못된 주소는 재시도해도 실패
+
+    // 처리 대기 행을 점유 (PENDING 중 재시도 시각이 된 행 + 점유 만료된 PROCESSING 행)
+    private static final String CLAIM_SQL = """
+            UPDATE notification_outbox
+               SET status = 'PROCESSING', attempts = attempts + 1, locked_until = ?
+             WHERE id IN (
+                   SELECT id FROM notification_outbox
+                    WHERE (status = 'PENDING' AND next_attempt_at <= ?)
+                       OR (status = 'PROCESSING' AND locked_until < ?)
+                    ORDER BY id
+                    LIMIT ?
+                      FOR UPDATE SKIP LOCKED)
+            RETURNING id, event_type, user_id, payload, attempts
+            """;
+
+    private static final String MARK_SENT_SQL = """
+            UPDATE notification_outbox
+               SET status = 'SENT', processed_at = ?, locked_until = NULL, last_error = NULL
+             WHERE id = ?
+            """;
+
+    private static final String MARK_RETRY_SQL = """
+            UPDATE notification_outbox
+               SET status = ?, next_attempt_at = ?, processed_at = ?, locked_until = NULL, last_error = ?
+             WHERE id = ?
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM notification_outbox
+             WHERE id IN (SELECT id FROM notification_outbox WHERE status = 'SENT' AND processed_at < ? LIMIT ?)
+            """;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 점유한 아웃박스 행 (eventType은 이 버전이 모르는 값이면 null, rawEventType에 원래 값 보관)
+     */
+    private record OutboxEntry(long id, EventType eventType, String rawEventType, Long userId, String payload, int attempts) {
+    }
+
+    /**
+     * 처리 실패 결과 (재시도 또는 FAILED)
+     */
+    private record Failure(OutboxEntry entry, String error, boolean retryable) {
+    }
+
+    /**
+     * 커밋 직후 아웃박스 처리 요청 (이미 처리 중이면 진행 중인 루프 또는 다음 주기가 이어서 처리)
+     */
+    public void requestDispatch() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            outboxDispatchExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("알림 아웃박스 처리 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 1초마다 아웃박스 확인 (커밋 직후 요청을 놓친 경우, 재시도 대기, 다른 인스턴스의 점유 만료 행 처리)
+     */
+    @Scheduled(initialDelay = 10000, fixedDelay = 1000)
+    public void poll() {
+        requestDispatch();
+    }
+
+    /**
+     * 처리된 SENT 행 정리 (보관 기간 경과분, 청크 단위 삭제)
+     */
+    @Scheduled(cron = "0 10 4 * * *") // 매일 새벽 4시 10분
+    public void purgeSentEntries() {
+        Timestamp threshold = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, threshold, PURGE_CHUNK_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_CHUNK_SIZE);
+
+        if (total > 0) {
+            log.info("알림 아웃박스 정리 완료: 삭제 {}건 ({}일 경과 SENT)", total, retentionDays);
+        }
+    }
+
+    private void drain() {
+        try {
+            List<OutboxEntry> entries;
+            do {
+                entries = claim();
+                if (!entries.isEmpty()) {
+                    process(entries);
+                }
+            } while (entries.size() == batchSize);
+        } catch (Exception e) {
+            log.error("알림 아웃박스 처리 실패: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 처리할 행을 묶음 단위로 점유 (단일 UPDATE ... RETURNING, 자동 커밋)
+     */
+    private List<OutboxEntry> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxEntry(
+                        rs.getLong("id"),
+                        toEventType(rs.getString("event_type")),
+                        rs.getString("event_type"),
+                        rs.getObject("user_id", Long.class),
+                        rs.getString("payload"),
+                        rs.getInt("attempts")),
+                Timestamp.valueOf(now.plusSeconds(lockTimeoutSeconds)), nowTs, nowTs, batchSize);
+    }
+
+    /**
+     * 이벤트 타입 변환 (이 버전이 모르는 값은 null - 한 행 때문에 묶음 전체가 멈추지 않도록 예외를 던지지 않음)
+     */
+    private static EventType toEventType(String value) {
+        try {
+            return EventType.valueOf(value);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+
+    private void process(List<OutboxEntry> entries) {
+        List<OutboxEntry> notificationEntries = new ArrayList<>();
+        List<OutboxEntry> emailEntries = new ArrayList<>();
+        List<Failure> failures = new ArrayList<>();
+        for (OutboxEntry entry : entries) {
+            if (entry.eventType() == null) {
+                failures.add(new Failure(entry, "알 수 없는 이벤트 타입: " + entry.rawEventType(), false));
+            } else if (entry.eventType() == EventType.IN_APP_NOTIFICATION) {
+                notificationEntries.add(entry);
+            } else {
+                emailEntries.add(entry);
+            }
+        }
+
+        if (!notificationEntries.isEmpty()) {
+            failures.addAll(processNotifications(notificationEntries));
+        }
+        if (!emailEntries.isEmpty()) {
+            failures.addAll(processEmails(emailEntries));
+        }
+        markFailures(failures);
+
+        log.debug("알림 아웃박스 묶음 처리: 전체 {}건 (알림 {}건, 이메일 {}건), 실패 {}건",
+                entries.size(), notificationEntries.size(), emailEntries.size(), failures.size());
+    }
+
+    /**
+     * 알림함 알림: 저장과 SENT 처리를 한 트랜잭션으로 묶고, 커밋 후 SSE 전송
+     */
+    private List<Failure> processNotifications(List<OutboxEntry> entries) {
+        List<Failure> failures = new ArrayList<>();
+        List<OutboxEntry> parsed = new ArrayList<>(entries.size());
+        List<Notification> notifications = new ArrayList<>(entries.size());
+        for (OutboxEntry entry : entries) {
+            try {
+                notifications.add(objectMapper.readValue(entry.payload(), NotificationPayload.class).toNotification());
+                parsed.add(entry);
+            } catch (Exception e) {
+                failures.add(new Failure(entry, "내용 해석 실패: " + e.getMessage(), false));
+            }
+        }
+        if (parsed.isEmpty()) {
+            return failures;
+        }
+
+        List<Notification> saved;
+        try {
+            saved = transactionTemplate.execute(status -> {
+                List<Notification> result = notificationRepository.saveAll(notifications);
+                notificationCounterService.onCreated(result);
+                markSent(parsed);
+                return result;
+            });
+        } catch (Exception e) {
+            log.error("아웃박스 알림 저장 실패: count={}, error={}", parsed.size(), e.getMessage(), e);
+            parsed.forEach(entry -> failures.add(new Failure(entry, "알림 저장 실패: " + e.getMessage(), true)));
+            return failures;
+        }
+
+        // 저장은 커밋되었으므로 SSE 전송 실패는 재시도하지 않음 (클라이언트는 알림함 조회/재연결로 확인)
+        for (Notification notification : saved) {
+            notificationService.sendRealtimeNotification(notification.getUserId(), notification);
+        }
+        return failures;
+    }
+
+    /**
+     * 템플릿 이메일: 템플릿별로 50명 단위 대량 발송 묶음을 만들어 이메일 실행기에서 병렬 발송하고,
+     * 묶음 전체 완료를 기다려 결과를 한 번에 반영 (전체 발송 속도는 SesSendRateLimiter가 제한)
+     */
+    private List<Failure> processEmails(List<OutboxEntry> entries) {
+        List<Failure> failures = new ArrayList<>();
+        Map<EmailTemplate, List<OutboxEntry>> entriesByTemplate = new EnumMap<>(EmailTemplate.class);
+        Map<EmailTemplate, List<BulkEmailRecipient>> recipientsByTemplate = new EnumMap<>(EmailTemplate.class);
+        for (OutboxEntry entry : entries) {
+            try {
+                TemplatedEmailPayload payload = objectMapper.readValue(entry.payload(), TemplatedEmailPayload.class);
+                entriesByTemplate.computeIfAbsent(payload.template(), key -> new ArrayList<>()).add(entry);
+                recipientsByTemplate.computeIfAbsent(payload.template(), key -> new ArrayList<>())
+                        .add(new BulkEmailRecipient(payload.toEmail(), payload.templateData()));
+            } catch (Exception e) {
+                failures.add(new Failure(entry, "내용 해석 실패: " + e.getMessage(), false));
+            }
+        }
+
+        List<List<OutboxEntry>> chunkEntries = new ArrayList<>();
+        List<CompletableFuture<List<BulkEmailResult>>> futures = new ArrayList<>();
+        entriesByTemplate.forEach((template, templateEntries) -> {
+            List<BulkEmailRecipient> recipients = recipientsByTemplate.get(template);
+            for (int from = 0; from < templateEntries.size(); from += EMAIL_CHUNK_SIZE) {
+                int to = Math.min(from + EMAIL_CHUNK_SIZE, templateEntries.size());
+                List<BulkEmailRecipient> chunk = recipients.subList(from, to);
+                chunkEntries.add(templateEntries.subList(from, to));
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> sesService.sendBulkTemplatedEmail(template, chunk), outboxEmailExecutor));
+            }
+        });
+
+        List<OutboxEntry> sent = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            List<OutboxEntry> chunk = chunkEntries.get(i);
+            List<BulkEmailResult> results;
+            try {
+                results = futures.get(i).join();
+            } catch (Exception e) {
+                chunk.forEach(entry -> failures.add(new Failure(entry, e.getMessage(), true)));
+                continue;
+            }
+            for (int j = 0; j < chunk.size(); j++) {
+                BulkEmailResult result = results.get(j);
+                if (result.success()) {
+                    sent.add(chunk.get(j));
+                } else {
+                    failures.add(new Failure(chunk.get(j), result.errorCode() + ": " + result.error(),
+                            !NON_RETRYABLE_EMAIL_ERROR.equals(result.errorCode())));
+                }
+            }
+        }
+
+        if (!sent.isEmpty()) {
+            markSent(sent);
+            log.info("아웃박스 템플릿 이메일 발송 완료: {}건 ({}개 묶음)", sent.size(), futures.size());
+        }
+        return failures;
+    }
+
+    private void markSent(List<OutboxEntry> entries) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, entry.id());
+        });
+    }
+
+    /**
+     * 실패 반영: 재시도 가능하고 횟수가 남았으면 PENDING + 백오프, 아니면 FAILED
+     */
+    private void markFailures(List<Failure> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(MARK_RETRY_SQL, failures, failures.size(), (ps, failure) -> {
+            OutboxEntry entry = failure.entry();
+            boolean retry = failure.retryable() && entry.attempts() < maxAttempts;
+            ps.setString(1, (retry ? Status.PENDING : Status.FAILED).name());
+            ps.setTimestamp(2, Timestamp.valueOf(retry ? now.plusSeconds(backoffSeconds(entry.attempts())) : now));
+            ps.setTimestamp(3, retry ? null : Timestamp.valueOf(now));
+            ps.setString(4, truncate(failure.error()));
+            ps.setLong(5, entry.id());
+
+            if (!retry) {
+                log.error("알림 아웃박스 처리 최종 실패: id={}, type={}, userId={}, attempts={}, error={}",
+                        entry.id(), entry.rawEventType(), entry.userId(), entry.attempts(), failure.error());
+            }
+        });
+        log.warn("알림 아웃박스 처리 실패 {}건 재시도/실패 처리", failures.size());
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = BASE_BACKOFF_SECONDS << Math.min(attempts - 1, 20);
+        return Math.min(backoff, MAX_BACKOFF_SECONDS);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > LAST_ERROR_MAX_LENGTH ? error.substring(0, LAST_ERROR_MAX_LENGTH) : error;
+    }
+}
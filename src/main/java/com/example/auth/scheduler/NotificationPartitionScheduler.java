@@ -0,0 +1,46 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.NotificationPartitionManager;
+import com.example.auth.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 월별 파티션 관리 스케줄러
+ * 매일 앞으로 쓸 월 파티션을 미리 만들고, notification.partition.retention-enabled=true이면 보관 기간이 지난 월 파티션을 삭제합니다.
+ * 아직 파티션 테이블로 전환되지 않았으면 아무것도 하지 않습니다.
+ * 파티션 DDL은 IF NOT EXISTS / 목록 재조회로 처리하므로 여러 인스턴스에서 동시에 실행되어도 한쪽만 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationPartitionScheduler {
+
+    private final NotificationPartitionManager notificationPartitionManager;
+    private final NotificationService notificationService;
+
+    /**
+     * 매일 새벽 3시 40분 파티션 생성 및 만료 파티션 삭제
+     */
+    @Scheduled(cron = "0 40 3 * * *")
+    public void managePartitions() {
+        if (!notificationPartitionManager.isPartitioned()) {
+            log.debug("알림 테이블이 파티션 테이블이 아니어서 파티션 관리를 건너뜁니다.");
+            return;
+        }
+
+        try {
+            notificationPartitionManager.ensurePartitions();
+        } catch (Exception e) {
+            log.error("알림 파티션 생성 실패: {}", e.getMessage(), e);
+        }
+
+        try {
+            notificationService.cleanupOldNotifications();
+        } catch (Exception e) {
+            log.error("알림 파티션 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.service.NotificationCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽지 않은 알림 수 카운터 정합성 보정 스케줄러
+ * Redis 카운터 해시를 HSCAN으로 청크 단위로 읽어, 청크마다 notifications GROUP BY 1회로 실제 값과 비교하여 보정
+ * (Redis 반영 실패, 미스 채움과 커밋 후 증가가 겹친 경우 등으로 생긴 오차 정리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCountScheduler {
+
+    private final NotificationCounterService notificationCounterService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String RECONCILE_LOCK_KEY = "notification:unread:reconcile:lock";
+    private static final int LOCK_TIMEOUT_MINUTES = 30;
+    private static final int CHUNK_SIZE = 1000; // 청크당 사용자 수
+
+    /**
+     * 매시간 20분 정합성 보정
+     */
+    @Scheduled(cron = "0 20 * * * *")
+    public void reconcileUnreadCounts() {
+        if (!acquireLock()) {
+            log.info("다른 인스턴스에서 읽지 않은 알림 수 보정이 실행 중입니다. 건너뜁니다.");
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            int scanned = 0;
+            int totalFixed = 0;
+            Map<Long, String> chunk = new LinkedHashMap<>();
+
+            ScanOptions options = ScanOptions.scanOptions().count(CHUNK_SIZE).build();
+            try (Cursor<Map.Entry<Object, Object>> cursor =
+                         redisTemplate.opsForHash().scan(NotificationCounterService.UNREAD_COUNT_KEY, options)) {
+                while (cursor.hasNext()) {
+                    Map.Entry<Object, Object> entry = cursor.next();
+                    chunk.put(Long.parseLong(entry.getKey().toString()), entry.getValue().toString());
+                    scanned++;
+                    if (chunk.size() >= CHUNK_SIZE) {
+                        totalFixed += reconcileChunk(chunk);
+                        chunk.clear();
+                    }
+                }
+            }
+            totalFixed += reconcileChunk(chunk);
+
+            log.info("읽지 않은 알림 수 카운터 보정 완료 - 확인 {}명, 보정 {}명, 소요: {}ms",
+                    scanned, totalFixed, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 카운터 보정 실패", e);
+        } finally {
+            releaseLock();
+        }
+    }
+
+    private int reconcileChunk(Map<Long, String> chunk) {
+        try {
+            return notificationCounterService.reconcile(chunk);
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 보정 실패 - 청크 {}명", chunk.size(), e);
+            return 0;
+        }
+    }
+
+    private boolean acquireLock() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    RECONCILE_LOCK_KEY, "locked_" + System.currentTimeMillis(),
+                    LOCK_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 보정 락 획득 중 오류", e);
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(RECONCILE_LOCK_KEY);
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 보정 락 해제 중 오류", e);
+        }
+    }
+}
@@ -55,11 +55,12 @@ public class S3CleanupScheduler {
             
             if (autoDeleteEnabled && totalFound > 0) {
                 int deletedCount = (Integer) result.getOrDefault("deletedCount", 0);
-                log.info("S3 미사용 이미지 정리 완료 - 발견: {}개, 삭제: {}개", 
-                        totalFound, deletedCount);
+                int failedCount = (Integer) result.getOrDefault("failedCount", 0);
+                log.info("S3 미사용 이미지 정리 완료 - 발견: {}개, 삭제: {}개, 실패: {}개", 
+                        totalFound, deletedCount, failedCount);
             } else if (totalFound > 0) {
-                log.info("S3 미사용 이미지 검색 완료 - 발견: {}개 (자동 삭제 비활성화 상태)", 
-                        totalFound);
+                log.info("S3 미사용 이미지 검색 완료 - 발견: {}개, {} bytes (자동 삭제 비활성화 상태)", 
+                        totalFound, result.get("totalSize"));
             } else {
                 log.info("미사용 이미지가 발견되지 않았습니다.");
             }
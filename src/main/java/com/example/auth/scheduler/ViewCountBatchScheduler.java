@@ -1,36 +1,146 @@
 package com.example.auth.scheduler;
 
-import com.example.auth.domain.KokPost;
-import com.example.auth.repository.KokPostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-
+import java.util.function.Consumer;
+
+/**
+ * Redis 누적 조회수를 DB로 반영하는 배치
+ * 조회수 증가 Lua 스크립트가 postId를 대기 집합(kokpost:dirty:daily)에 등록하므로 KEYS 스캔 없이 대상을 찾습니다.
+ * 청크마다 Lua 1회로 대기 집합에서 꺼낸 누적값을 읽고 지운 뒤(GETDEL) 처리 중 해시로 옮기고,
+ * JDBC 배치 UPDATE 1회로 반영합니다. DB 반영이 실패하면 처리 중 해시의 값을 다시 누적 키로 되돌립니다.
+ * 처리 중 해시 키는 UPDATE와 같은 트랜잭션에서 view_count_flush_log에 기록하므로, 커밋 후 해시 정리 전에 종료되어도
+ * 복구 시 이미 반영된 청크는 되돌리지 않고 지웁니다. 단건 반영도 같은 배치 락 안에서만 수행합니다.
+ * 꺼내기/되돌리기 스크립트는 대기 집합에서 읽은 postId로 누적 키 이름을 스크립트 안에서 만들기 때문에(KEYS로 선언되지 않은 키 접근)
+ * 단일 노드(standalone) Redis를 전제로 합니다. Redis Cluster나 키 기반으로 라우팅하는 프록시에서는 거부되므로,
+ * 전환하려면 조회수 증가 스크립트의 키까지 같은 해시 태그로 바꾸고 누적 키를 KEYS로 넘기도록 함께 변경해야 합니다.
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class ViewCountBatchScheduler {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final KokPostRepository kokPostRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String DAILY_VIEW_COUNT_KEY_PREFIX = "kokpost:daily:";
+    private static final String DAILY_DIRTY_SET_KEY = "kokpost:dirty:daily";
+    private static final String INFLIGHT_KEY_PREFIX = "kokpost:inflight:daily:"; // 청크별 처리 중 해시 (postId -> 증가량)
+    private static final String INFLIGHT_INDEX_KEY = "kokpost:inflight:daily"; // 처리 중 해시 목록 (비정상 종료 복구용)
+    private static final String QUARANTINE_KEY = "kokpost:quarantine:daily"; // 숫자가 아닌 누적값 격리 해시
+    private static final String DB_VIEW_COUNT_CACHE_PREFIX = "db_view_count:";
     private static final String BATCH_LOCK_KEY = "kokpost:batch:lock";
     private static final String BATCH_STATUS_KEY = "kokpost:batch:status";
-    private static final int BATCH_SIZE = 100; // 배치 처리 크기
+    private static final int BATCH_SIZE = 1000; // 청크당 포스트 수 (Lua 1회 + JDBC 배치 1회)
     private static final int LOCK_TIMEOUT_MINUTES = 30; // 배치 락 타임아웃
+    private static final int INFLIGHT_TTL_DAYS = 7;
+    private static final int FLUSH_LOG_RETENTION_DAYS = INFLIGHT_TTL_DAYS + 1; // 처리 중 해시보다 오래 보관
+
+    private static final String INSERT_FLUSH_LOG_SQL =
+            "INSERT INTO view_count_flush_log (inflight_key, post_count, applied_at) VALUES (?, ?, ?) ON CONFLICT (inflight_key) DO NOTHING";
+    private static final String EXISTS_FLUSH_LOG_SQL =
+            "SELECT EXISTS (SELECT 1 FROM view_count_flush_log WHERE inflight_key = ?)";
+    private static final String DELETE_OLD_FLUSH_LOG_SQL = "DELETE FROM view_count_flush_log WHERE applied_at < ?";
+
+    private static final String UPDATE_VIEW_COUNT_SQL = "UPDATE kokposts SET view_count = view_count + ? WHERE id = ?";
+
+    // 대기 집합에서 postId를 꺼내 누적값을 읽고 삭제한 뒤 처리 중 해시로 옮김 - 결과: [postId, 증가량, postId, 증가량, ...]
+    // ARGV[4..]가 있으면 해당 postId만 처리 (관리용 단건 반영)
+    // 누적 키(ARGV[1] .. postId)는 KEYS로 선언하지 않으므로 standalone Redis 전용 (클래스 설명 참고)
+    private static final String DRAIN_SCRIPT = """
+        local dirty_key = KEYS[1]
+        local inflight_key = KEYS[2]
+        local inflight_index_key = KEYS[3]
+        local quarantine_key = KEYS[4]
+        local prefix = ARGV[1]
+        local count = tonumber(ARGV[2])
+        local ttl = tonumber(ARGV[3])
+
+        local ids
+        if #ARGV > 3 then
+            ids = {}
+            for i = 4, #ARGV do
+                redis.call('SREM', dirty_key, ARGV[i])
+                table.insert(ids, ARGV[i])
+            end
+        else
+            ids = redis.call('SPOP', dirty_key, count)
+        end
+
+        local result = {}
+        for _, id in ipairs(ids) do
+            local key = prefix .. id
+            local value = redis.call('GET', key)
+            if value then
+                redis.call('DEL', key)
+                local amount = tonumber(value)
+                if amount then
+                    if amount > 0 then
+                        redis.call('HINCRBY', inflight_key, id, amount)
+                        table.insert(result, id)
+                        table.insert(result, value)
+                    end
+                else
+                    redis.call('HSET', quarantine_key, id, value)
+                end
+            end
+        end
+
+        if #result > 0 then
+            redis.call('EXPIRE', inflight_key, ttl)
+            redis.call('SADD', inflight_index_key, inflight_key)
+        end
+        return result
+        """;
+
+    // 처리 중 해시의 값을 누적 키와 대기 집합으로 되돌림 (DB 반영 실패/비정상 종료 시)
+    // 누적 키를 스크립트 안에서 만들므로 꺼내기 스크립트와 같이 standalone Redis 전용
+    private static final String RESTORE_SCRIPT = """
+        local inflight_key = KEYS[1]
+        local dirty_key = KEYS[2]
+        local inflight_index_key = KEYS[3]
+        local prefix = ARGV[1]
+        local ttl = tonumber(ARGV[2])
+
+        local entries = redis.call('HGETALL', inflight_key)
+        for i = 1, #entries, 2 do
+            local key = prefix .. entries[i]
+            redis.call('INCRBY', key, entries[i + 1])
+            redis.call('EXPIRE', key, ttl)
+            redis.call('SADD', dirty_key, entries[i])
+        end
+
+        redis.call('DEL', inflight_key)
+        redis.call('SREM', inflight_index_key, inflight_key)
+        return #entries / 2
+        """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> drainScript = new DefaultRedisScript<>(DRAIN_SCRIPT, List.class);
+    private static final DefaultRedisScript<Long> restoreScript = new DefaultRedisScript<>(RESTORE_SCRIPT, Long.class);
 
     /**
-     * 매일 새벽 3시에 Redis 누적 조회수를 DB로 업데이트 (개선된 버전)
+     * 매일 새벽 3시에 Redis 누적 조회수를 DB로 업데이트
      */
     @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
     public void scheduledViewCountUpdate() {
@@ -38,18 +148,55 @@ public class ViewCountBatchScheduler {
     }
 
     /**
-     * 매시간 정각에도 부분 업데이트 실행 (실시간성 향상)
+     * 매시간 정각에도 업데이트 실행 (실시간성 향상)
      */
     @Scheduled(cron = "0 0 * * * *") // 매시간 정각
     public void hourlyViewCountUpdate() {
-        log.info("시간당 조회수 부분 업데이트 시작");
+        log.info("시간당 조회수 업데이트 시작");
         partialViewCountUpdate();
     }
 
     /**
-     * 메인 배치 업데이트 메서드 (개선된 버전)
+     * 기존 누적 키를 대기 집합에 등록 (시작 시 1회, 대기 집합 도입 이전 키 이관용)
+     * KEYS 대신 SCAN으로 조금씩 순회하므로 Redis를 막지 않습니다.
+     */
+    @Scheduled(initialDelay = 60000, fixedRate = Long.MAX_VALUE)
+    public void registerLegacyDailyKeys() {
+        try {
+            int registered = 0;
+            List<String> postIds = new ArrayList<>(BATCH_SIZE);
+
+            ScanOptions options = ScanOptions.scanOptions().match(DAILY_VIEW_COUNT_KEY_PREFIX + "*").count(BATCH_SIZE).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    String postId = cursor.next().substring(DAILY_VIEW_COUNT_KEY_PREFIX.length());
+                    if (postId.isEmpty() || !postId.chars().allMatch(Character::isDigit)) {
+                        continue; // 이전 배치의 처리 완료 마크 등
+                    }
+                    postIds.add(postId);
+                    if (postIds.size() == BATCH_SIZE) {
+                        redisTemplate.opsForSet().add(DAILY_DIRTY_SET_KEY, postIds.toArray(new String[0]));
+                        registered += postIds.size();
+                        postIds.clear();
+                    }
+                }
+            }
+            if (!postIds.isEmpty()) {
+                redisTemplate.opsForSet().add(DAILY_DIRTY_SET_KEY, postIds.toArray(new String[0]));
+                registered += postIds.size();
+            }
+
+            if (registered > 0) {
+                log.info("기존 조회수 누적 키 대기 집합 등록 완료 - {}건", registered);
+            }
+        } catch (Exception e) {
+            log.error("기존 조회수 누적 키 등록 실패", e);
+        }
+    }
+
+    /**
+     * 메인 배치 업데이트 메서드
      */
-    @Transactional
     public void updateViewCountFromRedisToDb() {
         // 분산 환경에서 중복 실행 방지를 위한 락 획득
         if (!acquireBatchLock()) {
@@ -58,75 +205,10 @@ public class ViewCountBatchScheduler {
         }
 
         try {
-            log.info("=== 개선된 조회수 배치 업데이트 시작 ===");
+            log.info("=== 조회수 배치 업데이트 시작 ===");
             updateBatchStatus("RUNNING", "전체 배치 업데이트 시작");
 
-            // Redis에서 모든 일일 조회수 키 조회
-            Set<String> keys = redisTemplate.keys(DAILY_VIEW_COUNT_KEY_PREFIX + "*");
-
-            if (keys == null || keys.isEmpty()) {
-                log.info("업데이트할 조회수 데이터가 없습니다.");
-                updateBatchStatus("COMPLETED", "업데이트할 데이터 없음");
-                return;
-            }
-
-            // 배치 단위로 처리
-            List<String> keysList = keys.stream().toList();
-            int totalKeys = keysList.size();
-            int processedCount = 0;
-            int successCount = 0;
-            int errorCount = 0;
-
-            log.info("총 {}개의 조회수 업데이트 대상 발견", totalKeys);
-
-            for (int i = 0; i < totalKeys; i += BATCH_SIZE) {
-                int endIndex = Math.min(i + BATCH_SIZE, totalKeys);
-                List<String> batchKeys = keysList.subList(i, endIndex);
-
-                log.info("배치 처리 중... ({}/{}) - 현재 배치 크기: {}",
-                        i + 1, totalKeys, batchKeys.size());
-
-                for (String key : batchKeys) {
-                    try {
-                        if (processSingleViewCount(key)) {
-                            successCount++;
-                        } else {
-                            errorCount++;
-                        }
-                        processedCount++;
-
-                        // 진행률 업데이트
-                        if (processedCount % 10 == 0) {
-                            double progress = (double) processedCount / totalKeys * 100;
-                            updateBatchStatus("RUNNING",
-                                    String.format("진행률: %.1f%% (%d/%d)", progress, processedCount, totalKeys));
-                        }
-
-                    } catch (Exception e) {
-                        log.error("개별 조회수 업데이트 실패 - key: {}", key, e);
-                        errorCount++;
-                        processedCount++;
-                    }
-                }
-
-                // 배치 간 짧은 대기 (DB 부하 분산)
-                if (i + BATCH_SIZE < totalKeys) {
-                    try {
-                        Thread.sleep(100); // 100ms 대기
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        log.warn("배치 처리 중 인터럽트 발생");
-                        break;
-                    }
-                }
-            }
-
-            // 캐시 정리
-            cleanupViewCountCache();
-
-            String completionMessage = String.format(
-                    "배치 업데이트 완료 - 총: %d건, 성공: %d건, 실패: %d건",
-                    processedCount, successCount, errorCount);
+            String completionMessage = flushDirtyViewCounts();
 
             log.info("=== {} ===", completionMessage);
             updateBatchStatus("COMPLETED", completionMessage);
@@ -140,275 +222,219 @@ public class ViewCountBatchScheduler {
     }
 
     /**
-     * 부분 업데이트 (시간당 실행)
+     * 시간당 업데이트 - 대기 집합 전체를 반영 (락을 얻지 못하면 다음 실행으로 넘김)
      */
     private void partialViewCountUpdate() {
-        try {
-            Set<String> keys = redisTemplate.keys(DAILY_VIEW_COUNT_KEY_PREFIX + "*");
-
-            if (keys == null || keys.isEmpty()) {
-                return;
-            }
-
-            // 조회수가 많은 상위 50개만 부분 업데이트
-            keys.stream()
-                    .limit(50)
-                    .forEach(this::processSingleViewCount);
-
-            log.info("시간당 부분 업데이트 완료 - 처리 대상: {}개", Math.min(keys.size(), 50));
+        if (!acquireBatchLock()) {
+            return;
+        }
 
+        try {
+            log.info("시간당 {}", flushDirtyViewCounts());
         } catch (Exception e) {
-            log.error("시간당 부분 업데이트 실패", e);
+            log.error("시간당 조회수 업데이트 실패", e);
+        } finally {
+            releaseBatchLock();
         }
     }
 
     /**
-     * 🛡️ 안전한 단일 조회수 처리 (데이터 소실 방지)
+     * 대기 집합이 빌 때까지 청크 단위로 DB 반영
      */
-    private boolean processSingleViewCount(String key) {
-        String batchId = "single_" + System.currentTimeMillis();
-        
-        try {
-            // 키에서 postId 추출
-            Long postId = extractPostIdFromKey(key);
-
-            // 1단계: 백업 생성
-            if (!createSafetyBackup(key, postId, batchId)) {
-                log.error("백업 생성 실패 - 처리 중단: {}", key);
-                return false;
+    private String flushDirtyViewCounts() {
+        long startTime = System.currentTimeMillis();
+
+        // 이전 실행이 중간에 종료되어 남은 처리 중 해시를 먼저 정리 (반영된 청크는 삭제, 반영되지 않은 청크는 되돌림)
+        recoverInflightBatches();
+        purgeFlushLog();
+
+        String batchId = "batch_" + startTime;
+        int chunkIndex = 0;
+        int successCount = 0;
+        int errorCount = 0;
+        long totalViews = 0;
+
+        while (true) {
+            String inflightKey = INFLIGHT_KEY_PREFIX + batchId + ":" + chunkIndex++;
+            Map<Long, Long> increments = drain(inflightKey, List.of());
+            if (increments.isEmpty()) {
+                break;
             }
 
-            // Redis에서 누적 조회수 가져오기
-            String countStr = redisTemplate.opsForValue().get(key);
-            if (countStr == null || "0".equals(countStr)) {
-                cleanupBackup(postId, batchId);
-                return true; // 업데이트할 데이터 없음
-            }
-
-            Long incrementCount = Long.parseLong(countStr);
-
-            // 2단계: 안전한 DB 업데이트 (트랜잭션)
-            boolean dbUpdateSuccess = performSafeDbUpdate(postId, incrementCount, batchId);
-            
-            if (dbUpdateSuccess) {
-                // 3단계: 성공 시에만 지연 삭제 (즉시 삭제 X)
-                markForSafeDeletion(key, postId, batchId);
-                
-                // DB 조회수 캐시 무효화
-                String dbCacheKey = "db_view_count:" + postId;
-                redisTemplate.delete(dbCacheKey);
-
-                log.debug("안전한 조회수 업데이트 완료 - postId: {}, 증가량: {}", postId, incrementCount);
-                return true;
+            if (applyIncrements(inflightKey, increments)) {
+                successCount += increments.size();
+                totalViews += increments.values().stream().mapToLong(Long::longValue).sum();
             } else {
-                // 실패 시 백업에서 복구
-                restoreFromBackup(key, postId, batchId);
-                return false;
+                errorCount += increments.size();
+                break; // 되돌린 값이 다시 대기 집합에 들어가므로 반복하지 않고 다음 실행에서 재시도
             }
 
-        } catch (NumberFormatException e) {
-            log.error("잘못된 숫자 형식 - key: {}", key, e);
-            // 잘못된 데이터는 격리 후 삭제
-            quarantineBadData(key, batchId);
-            return false;
-        } catch (Exception e) {
-            log.error("조회수 처리 실패 - 복구 시도: {}", key, e);
-            // 예외 발생 시 백업에서 복구
-            try {
-                Long postId = extractPostIdFromKey(key);
-                restoreFromBackup(key, postId, batchId);
-            } catch (Exception restoreEx) {
-                log.error("복구도 실패 - 수동 확인 필요: {}", key, restoreEx);
+            if (chunkIndex % 10 == 0) {
+                updateBatchStatus("RUNNING", String.format("진행 중: %d건 반영", successCount));
             }
-            return false;
         }
+
+        return String.format("조회수 업데이트 완료 - 성공: %d건, 실패: %d건, 반영 조회수: %d, 소요: %dms",
+                successCount, errorCount, totalViews, System.currentTimeMillis() - startTime);
     }
 
     /**
-     * 백업 생성
+     * 청크 반영 - 트랜잭션 1개에서 반영 완료 기록과 JDBC 배치 UPDATE 후 처리 중 해시 삭제, DB 조회수 캐시 일괄 무효화
      */
-    private boolean createSafetyBackup(String originalKey, Long postId, String batchId) {
+    private boolean applyIncrements(String inflightKey, Map<Long, Long> increments) {
+        List<Object[]> batchArgs = new ArrayList<>(increments.size());
+        increments.forEach((postId, amount) -> batchArgs.add(new Object[]{amount, postId}));
+
         try {
-            String backupKey = "kokpost:safety_backup:" + batchId + ":" + postId;
-            String originalValue = redisTemplate.opsForValue().get(originalKey);
-            
-            if (originalValue != null) {
-                // 백업 생성 (7일 보관)
-                redisTemplate.opsForValue().set(backupKey, originalValue, 7, TimeUnit.DAYS);
-                
-                // 백업 메타데이터 저장
-                String metaKey = "kokpost:backup_meta:" + batchId + ":" + postId;
-                String metaData = String.format("{\"original_key\":\"%s\",\"timestamp\":\"%s\",\"value\":\"%s\"}", 
-                    originalKey, LocalDateTime.now(), originalValue);
-                redisTemplate.opsForValue().set(metaKey, metaData, 7, TimeUnit.DAYS);
-                
-                log.debug("백업 생성 완료 - postId: {}, batchId: {}", postId, batchId);
-                return true;
-            }
-            return false;
+            transactionTemplate.executeWithoutResult(status -> {
+                int recorded = jdbcTemplate.update(INSERT_FLUSH_LOG_SQL, inflightKey, increments.size(), Timestamp.valueOf(LocalDateTime.now()));
+                if (recorded == 0) {
+                    // 이미 반영된 청크 (커밋 후 해시 정리 전에 중단된 경우)
+                    log.warn("이미 반영된 조회수 청크 - 중복 반영 생략: {}", inflightKey);
+                    return;
+                }
+                int[] updated = jdbcTemplate.batchUpdate(UPDATE_VIEW_COUNT_SQL, batchArgs);
+                long missing = Arrays.stream(updated).filter(rows -> rows == 0).count();
+                if (missing > 0) {
+                    // 삭제된 포스트의 조회수는 반영 대상이 아니므로 버림
+                    log.warn("존재하지 않는 포스트 조회수 {}건 제외", missing);
+                }
+            });
         } catch (Exception e) {
-            log.error("백업 생성 실패 - postId: {}, batchId: {}", postId, batchId, e);
-            return false;
+            // 커밋 응답만 실패했을 수 있으므로 반영 기록을 확인한 뒤 되돌림
+            log.error("조회수 DB 반영 실패 - {}건 복구 시도", increments.size(), e);
+            return settle(inflightKey);
         }
+
+        discard(inflightKey);
+        try {
+            redisTemplate.delete(increments.keySet().stream()
+                    .map(postId -> DB_VIEW_COUNT_CACHE_PREFIX + postId)
+                    .toList());
+        } catch (Exception e) {
+            log.warn("DB 조회수 캐시 무효화 실패 - {}", inflightKey, e);
+        }
+        return true;
     }
 
     /**
-     *  DB 업데이트
+     * 반영 완료 기록이 있으면 처리 중 해시를 지우고(true), 없으면 누적 키로 되돌림(false)
      */
-    @Transactional(rollbackFor = Exception.class)
-    private boolean performSafeDbUpdate(Long postId, Long incrementCount, String batchId) {
+    private boolean settle(String inflightKey) {
+        Boolean applied;
         try {
-            // 1. 현재 상태 확인
-            Optional<KokPost> postOpt = kokPostRepository.findById(postId);
-            if (postOpt.isEmpty()) {
-                log.warn("존재하지 않는 포스트 - postId: {}", postId);
-                return false;
-            }
-
-            Long currentCount = postOpt.get().getViewCount();
-            
-            // 2. 업데이트 실행
-            int updatedRows = kokPostRepository.incrementViewCountByAmount(postId, incrementCount);
-            
-            if (updatedRows != 1) {
-                log.error("예상과 다른 업데이트 결과 - postId: {}, updatedRows: {}", postId, updatedRows);
-                throw new RuntimeException("DB 업데이트 이상");
-            }
-            
-            // 3. 업데이트 검증
-            Long newCount = kokPostRepository.findById(postId)
-                .map(KokPost::getViewCount)
-                .orElseThrow(() -> new RuntimeException("업데이트 후 포스트 조회 실패"));
-            
-            if (!newCount.equals(currentCount + incrementCount)) {
-                log.error("업데이트 검증 실패 - postId: {}, 예상: {}, 실제: {}", 
-                    postId, currentCount + incrementCount, newCount);
-                throw new RuntimeException("업데이트 검증 실패");
-            }
-            
-            // 4. 성공 로그 기록
-            recordSuccessfulUpdate(postId, incrementCount, currentCount, newCount, batchId);
-            
-            return true;
-            
+            applied = jdbcTemplate.queryForObject(EXISTS_FLUSH_LOG_SQL, Boolean.class, inflightKey);
         } catch (Exception e) {
-            log.error("안전한 DB 업데이트 실패 - postId: {}, incrementCount: {}", postId, incrementCount, e);
+            // 반영 여부를 알 수 없으면 되돌리지 않고 다음 실행에서 다시 확인
+            log.error("조회수 반영 기록 조회 실패 - 다음 실행에서 재확인: {}", inflightKey, e);
             return false;
         }
+
+        if (Boolean.TRUE.equals(applied)) {
+            discard(inflightKey);
+            return true;
+        }
+        restore(inflightKey);
+        return false;
     }
 
     /**
-     * 지연 삭제 마킹 (즉시 삭제 방지)
+     * 반영이 끝난 처리 중 해시와 목록 항목 삭제 (실패해도 반영 기록이 있어 다음 복구 때 다시 삭제)
      */
-    private void markForSafeDeletion(String originalKey, Long postId, String batchId) {
+    private void discard(String inflightKey) {
         try {
-            // 삭제 예약 (24시간 후 실제 삭제)
-            String deleteMarkKey = "kokpost:delete_scheduled:" + postId;
-            String deleteInfo = String.format("{\"original_key\":\"%s\",\"batchId\":\"%s\",\"scheduled_time\":\"%s\"}", 
-                originalKey, batchId, LocalDateTime.now().plusDays(1));
-            
-            redisTemplate.opsForValue().set(deleteMarkKey, deleteInfo, 2, TimeUnit.DAYS);
-            
-            // 원본 키에 처리 완료 마크 추가 (중복 처리 방지)
-            String processedMarkKey = originalKey + ":processed:" + batchId;
-            redisTemplate.opsForValue().set(processedMarkKey, "completed", 2, TimeUnit.DAYS);
-            
-            log.debug("지연 삭제 마킹 완료 - postId: {}", postId);
-            
+            redisTemplate.delete(inflightKey);
+            redisTemplate.opsForSet().remove(INFLIGHT_INDEX_KEY, inflightKey);
         } catch (Exception e) {
-            log.error("지연 삭제 마킹 실패 - postId: {}", postId, e);
+            log.warn("조회수 처리 중 해시 정리 실패 - 다음 실행에서 재정리: {}", inflightKey, e);
         }
     }
 
     /**
-     * 🔄 백업에서 복구
+     * 처리 중 해시 보관 기간이 지난 반영 완료 기록 삭제
      */
-    private void restoreFromBackup(String originalKey, Long postId, String batchId) {
+    private void purgeFlushLog() {
         try {
-            String backupKey = "kokpost:safety_backup:" + batchId + ":" + postId;
-            String backupValue = redisTemplate.opsForValue().get(backupKey);
-            
-            if (backupValue != null) {
-                // 원본 키 복구
-                redisTemplate.opsForValue().set(originalKey, backupValue, 2, TimeUnit.DAYS);
-                
-                // 복구 로그 기록
-                String recoveryLogKey = "kokpost:recovery_log:" + batchId + ":" + postId;
-                String recoveryInfo = String.format("{\"restored_key\":\"%s\",\"value\":\"%s\",\"timestamp\":\"%s\"}", 
-                    originalKey, backupValue, LocalDateTime.now());
-                redisTemplate.opsForValue().set(recoveryLogKey, recoveryInfo, 7, TimeUnit.DAYS);
-                
-                log.info("백업에서 복구 완료 - postId: {}, 복구된 값: {}", postId, backupValue);
-            } else {
-                log.error("백업 데이터를 찾을 수 없음 - postId: {}, batchId: {}", postId, batchId);
+            int deleted = jdbcTemplate.update(DELETE_OLD_FLUSH_LOG_SQL, Timestamp.valueOf(LocalDateTime.now().minusDays(FLUSH_LOG_RETENTION_DAYS)));
+            if (deleted > 0) {
+                log.info("오래된 조회수 반영 기록 {}건 삭제", deleted);
             }
-            
         } catch (Exception e) {
-            log.error("백업 복구 실패 - postId: {}, batchId: {}", postId, batchId, e);
+            log.warn("조회수 반영 기록 정리 실패", e);
         }
     }
 
     /**
-     * 잘못된 데이터 격리
+     * 대기 집합에서 postId를 꺼내 누적값을 처리 중 해시로 이동 (Lua 1회)
      */
-    private void quarantineBadData(String key, String batchId) {
-        try {
-            String badValue = redisTemplate.opsForValue().get(key);
-            if (badValue != null) {
-                // 격리 영역으로 이동
-                String quarantineKey = "kokpost:quarantine:" + batchId + ":" + System.currentTimeMillis();
-                String quarantineData = String.format("{\"original_key\":\"%s\",\"bad_value\":\"%s\",\"timestamp\":\"%s\"}", 
-                    key, badValue, LocalDateTime.now());
-                
-                redisTemplate.opsForValue().set(quarantineKey, quarantineData, 30, TimeUnit.DAYS);
-                redisTemplate.delete(key); // 원본 삭제
-                
-                log.warn("잘못된 데이터 격리 완료 - key: {}, value: {}", key, badValue);
-            }
-        } catch (Exception e) {
-            log.error("데이터 격리 실패 - key: {}", key, e);
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> drain(String inflightKey, List<String> postIds) {
+        List<String> args = new ArrayList<>(3 + postIds.size());
+        args.add(DAILY_VIEW_COUNT_KEY_PREFIX);
+        args.add(String.valueOf(BATCH_SIZE));
+        args.add(String.valueOf(TimeUnit.DAYS.toSeconds(INFLIGHT_TTL_DAYS)));
+        args.addAll(postIds);
+
+        List<Object> result = redisTemplate.execute(drainScript,
+                List.of(DAILY_DIRTY_SET_KEY, inflightKey, INFLIGHT_INDEX_KEY, QUARANTINE_KEY),
+                args.toArray());
+
+        Map<Long, Long> increments = new LinkedHashMap<>();
+        if (result == null) {
+            return increments;
         }
+        for (int i = 0; i + 1 < result.size(); i += 2) {
+            increments.put(Long.parseLong(String.valueOf(result.get(i))), Long.parseLong(String.valueOf(result.get(i + 1))));
+        }
+        return increments;
     }
 
     /**
-     * 성공 로그 기록
+     * 처리 중 해시를 누적 키로 되돌림
      */
-    private void recordSuccessfulUpdate(Long postId, Long incrementCount, Long oldCount, Long newCount, String batchId) {
+    private void restore(String inflightKey) {
         try {
-            String logKey = "kokpost:update_log:" + batchId + ":" + postId;
-            String logData = String.format(
-                "{\"postId\":%d,\"increment\":%d,\"old_count\":%d,\"new_count\":%d,\"timestamp\":\"%s\",\"batchId\":\"%s\"}", 
-                postId, incrementCount, oldCount, newCount, LocalDateTime.now(), batchId);
-            
-            redisTemplate.opsForValue().set(logKey, logData, 30, TimeUnit.DAYS);
-            
+            Long restored = redisTemplate.execute(restoreScript,
+                    List.of(inflightKey, DAILY_DIRTY_SET_KEY, INFLIGHT_INDEX_KEY),
+                    DAILY_VIEW_COUNT_KEY_PREFIX, String.valueOf(TimeUnit.DAYS.toSeconds(2)));
+            log.info("조회수 누적값 복구 완료 - {}, {}건", inflightKey, restored);
         } catch (Exception e) {
-            log.error("성공 로그 기록 실패", e);
+            log.error("조회수 누적값 복구 실패 - 수동 확인 필요: {}", inflightKey, e);
         }
     }
 
     /**
-     *  백업 정리
+     * 이전 배치에서 남은 처리 중 해시 정리 (SSCAN으로 목록을 나눠 읽은 뒤 정리 - 읽는 도중 목록에서 지우지 않도록)
      */
-    private void cleanupBackup(Long postId, String batchId) {
-        try {
-            String backupKey = "kokpost:safety_backup:" + batchId + ":" + postId;
-            String metaKey = "kokpost:backup_meta:" + batchId + ":" + postId;
-            
-            redisTemplate.delete(backupKey);
-            redisTemplate.delete(metaKey);
-            
-        } catch (Exception e) {
-            log.error("백업 정리 실패 - postId: {}", postId, e);
+    private void recoverInflightBatches() {
+        Set<String> inflightKeys = new LinkedHashSet<>();
+        scanSet(INFLIGHT_INDEX_KEY, inflightKeys::addAll);
+        if (inflightKeys.isEmpty()) {
+            return;
         }
+        log.warn("이전 배치에서 남은 처리 중 조회수 {}건을 정리합니다.", inflightKeys.size());
+        inflightKeys.forEach(this::settle);
     }
 
     /**
-     * Redis 키에서 postId 추출
+     * 집합 멤버를 SSCAN으로 BATCH_SIZE 단위씩 읽어 전달 (SMEMBERS처럼 집합 전체를 한 번에 응답받지 않도록)
+     * SSCAN은 같은 멤버를 두 번 돌려줄 수 있으므로 중복에 영향이 없는 곳에서만 사용
      */
-    private Long extractPostIdFromKey(String key) {
-        String postIdStr = key.substring(DAILY_VIEW_COUNT_KEY_PREFIX.length());
-        return Long.parseLong(postIdStr);
+    private void scanSet(String key, Consumer<List<String>> chunkConsumer) {
+        List<String> chunk = new ArrayList<>(BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(key, options)) {
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == BATCH_SIZE) {
+                    chunkConsumer.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
     }
 
     /**
@@ -471,33 +497,18 @@ public class ViewCountBatchScheduler {
     }
 
     /**
-     * 조회수 관련 캐시 정리
+     * SCAN으로 패턴에 맞는 키 개수 계산 (관리용 통계 - KEYS 대신 사용)
      */
-    private void cleanupViewCountCache() {
-        try {
-            // DB 조회수 캐시 정리 (1시간 이상 된 캐시)
-            Set<String> dbCacheKeys = redisTemplate.keys("db_view_count:*");
-            if (dbCacheKeys != null && !dbCacheKeys.isEmpty()) {
-                // TTL이 짧은 캐시들만 삭제 (자연스러운 만료 대기)
-                log.info("DB 조회수 캐시 정리 대상: {}개", dbCacheKeys.size());
+    private long countKeys(String pattern) {
+        long count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                cursor.next();
+                count++;
             }
-
-            // 오래된 중복 체크 키 정리
-            Set<String> duplicateKeys = redisTemplate.keys("kokpost:duplicate:*");
-            if (duplicateKeys != null && !duplicateKeys.isEmpty()) {
-                long expiredCount = duplicateKeys.stream()
-                        .mapToLong(key -> {
-                            Long ttl = redisTemplate.getExpire(key);
-                            return (ttl != null && ttl < 3600) ? 1 : 0; // 1시간 미만 TTL
-                        })
-                        .sum();
-
-                log.info("중복 체크 키 정리 - 전체: {}개, 곧 만료: {}개", duplicateKeys.size(), expiredCount);
-            }
-
-        } catch (Exception e) {
-            log.error("캐시 정리 중 오류", e);
         }
+        return count;
     }
 
     /**
@@ -526,31 +537,36 @@ public class ViewCountBatchScheduler {
      */
     public String getRedisViewCountStatistics() {
         try {
-            Set<String> dailyKeys = redisTemplate.keys(DAILY_VIEW_COUNT_KEY_PREFIX + "*");
-            Set<String> duplicateKeys = redisTemplate.keys("kokpost:duplicate:*");
-            Set<String> viewCountKeys = redisTemplate.keys("kokpost:view:*");
-
-            // 총 누적 조회수 계산
-            long totalPendingViews = 0;
-            if (dailyKeys != null) {
-                for (String key : dailyKeys) {
+            // 대기 포스트 수는 SCARD, 누적 조회수는 SSCAN으로 나눠 읽은 postId마다 MGET 1회 (SSCAN 중복 반환 시 근사치)
+            Long dirtySize = redisTemplate.opsForSet().size(DAILY_DIRTY_SET_KEY);
+            long duplicateKeys = countKeys("kokpost:duplicate:*");
+            long viewCountKeys = countKeys("kokpost:view:*");
+
+            long[] totalPendingViews = {0};
+            scanSet(DAILY_DIRTY_SET_KEY, postIds -> {
+                List<String> counts = redisTemplate.opsForValue().multiGet(postIds.stream()
+                        .map(postId -> DAILY_VIEW_COUNT_KEY_PREFIX + postId)
+                        .toList());
+                if (counts == null) {
+                    return;
+                }
+                for (String countStr : counts) {
                     try {
-                        String countStr = redisTemplate.opsForValue().get(key);
                         if (countStr != null) {
-                            totalPendingViews += Long.parseLong(countStr);
+                            totalPendingViews[0] += Long.parseLong(countStr);
                         }
                     } catch (NumberFormatException e) {
-                        log.warn("잘못된 조회수 데이터 - key: {}", key);
+                        log.warn("잘못된 조회수 데이터 - value: {}", countStr);
                     }
                 }
-            }
+            });
 
             return String.format(
                     "{\"dailyKeys\":%d,\"duplicateKeys\":%d,\"viewCountKeys\":%d,\"totalPendingViews\":%d,\"timestamp\":\"%s\"}",
-                    dailyKeys != null ? dailyKeys.size() : 0,
-                    duplicateKeys != null ? duplicateKeys.size() : 0,
-                    viewCountKeys != null ? viewCountKeys.size() : 0,
-                    totalPendingViews,
+                    dirtySize != null ? dirtySize : 0,
+                    duplicateKeys,
+                    viewCountKeys,
+                    totalPendingViews[0],
                     LocalDateTime.now()
             );
 
@@ -566,14 +582,22 @@ public class ViewCountBatchScheduler {
 
     /**
      * 특정 포스트의 Redis 조회수 강제 DB 반영 (관리용)
+     * 배치의 복구 단계가 반영 중인 처리 중 해시를 되돌리지 않도록 같은 배치 락을 잡고 실행
      */
     public boolean forceUpdateSinglePost(Long postId) {
+        if (!acquireBatchLock()) {
+            log.warn("조회수 배치 실행 중이라 강제 업데이트를 건너뜁니다 - postId: {}", postId);
+            return false;
+        }
+
         try {
-            String key = DAILY_VIEW_COUNT_KEY_PREFIX + postId;
-            boolean result = processSingleViewCount(key);
+            String inflightKey = INFLIGHT_KEY_PREFIX + "single_" + System.currentTimeMillis() + ":" + postId;
+            Map<Long, Long> increments = drain(inflightKey, List.of(String.valueOf(postId)));
+
+            boolean result = increments.isEmpty() || applyIncrements(inflightKey, increments);
 
             if (result) {
-                log.info("포스트 조회수 강제 업데이트 완료 - postId: {}", postId);
+                log.info("포스트 조회수 강제 업데이트 완료 - postId: {}, 증가량: {}", postId, increments.getOrDefault(postId, 0L));
             } else {
                 log.warn("포스트 조회수 강제 업데이트 실패 - postId: {}", postId);
             }
@@ -583,6 +607,8 @@ public class ViewCountBatchScheduler {
         } catch (Exception e) {
             log.error("포스트 조회수 강제 업데이트 중 오류 - postId: {}", postId, e);
             return false;
+        } finally {
+            releaseBatchLock();
         }
     }
 
@@ -593,9 +619,9 @@ public class ViewCountBatchScheduler {
         try {
             long startTime = System.currentTimeMillis();
 
-            // Redis 키 개수 조회
-            Set<String> dailyKeys = redisTemplate.keys(DAILY_VIEW_COUNT_KEY_PREFIX + "*");
-            int pendingUpdates = dailyKeys != null ? dailyKeys.size() : 0;
+            // 대기 집합 크기 조회 (SCARD)
+            Long dirtySize = redisTemplate.opsForSet().size(DAILY_DIRTY_SET_KEY);
+            long pendingUpdates = dirtySize != null ? dirtySize : 0;
 
             // 메모리 사용량 확인
             Runtime runtime = Runtime.getRuntime();
@@ -613,4 +639,4 @@ public class ViewCountBatchScheduler {
             log.error("배치 메트릭 수집 실패", e);
         }
     }
-}
\ No newline at end of file
+}
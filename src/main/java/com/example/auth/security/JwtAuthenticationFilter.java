@@ -1,10 +1,6 @@
 package com.example.auth.security;
 
-import com.example.auth.constant.UserRole;
-import com.example.auth.domain.User;
 import com.example.auth.exception.JwtValidationException;
-import com.example.auth.repository.UserRepository;
-import com.example.auth.service.TokenService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,9 +29,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-    private final TokenService tokenService;
-    private final UserRepository userRepository;
+    private final VerifiedTokenResolver verifiedTokenResolver;
+    private final UserPrincipalCache userPrincipalCache;
 
     // 인증이 필요하지 않은 공개 API 경로들
     private final List<String> publicPaths = Arrays.asList(
@@ -75,11 +70,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                // 토큰 검증
-                Claims claims = jwtUtil.validateToken(token);
+                // 토큰 검증 + 블랙리스트 확인 (결과는 요청 속성에 저장되어 인터셉터/TokenUtils가 재사용)
+                VerifiedTokenResolver.VerifiedToken verified = verifiedTokenResolver.resolve(request, token);
+                Claims claims = verified.claims();
 
-                // 블랙리스트 확인
-                if (tokenService.isBlacklisted(token)) {
+                if (verified.blacklisted()) {
                     log.warn("블랙리스트된 토큰으로 요청: {}", path);
                     filterChain.doFilter(request, response);
                     return;
@@ -89,15 +84,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String userIdStr = claims.getSubject();
                 Long userId = Long.parseLong(userIdStr);
 
-                // 사용자 정보 조회하여 실제 권한 설정
-                Optional<User> userOptional = userRepository.findById(userId);
-                if (userOptional.isPresent()) {
-                    User user = userOptional.get();
-                    String roleString = user.getRole();
-                    UserRole userRole = UserRole.fromString(roleString);
-                    
-                    // Spring Security 권한 형태로 변환
-                    String authority = "ROLE_" + userRole.name();
+                // 사용자 권한 조회 (로컬 캐시, 미스 시에만 DB 조회)하여 실제 권한 설정
+                Optional<String> authorityOptional = userPrincipalCache.getAuthority(userId);
+                if (authorityOptional.isPresent()) {
+                    String authority = authorityOptional.get();
 
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
@@ -107,7 +97,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                             );
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("JWT 인증 성공 - userId: {}, role: {}, path: {}", userId, userRole, path);
+                    log.debug("JWT 인증 성공 - userId: {}, role: {}, path: {}", userId, authority, path);
                 } else {
                     log.warn("존재하지 않는 사용자 ID: {}", userId);
                     SecurityContextHolder.clearContext();
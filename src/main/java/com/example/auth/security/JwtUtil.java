@@ -11,6 +11,8 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Date;
 
@@ -101,4 +103,15 @@ public class JwtUtil {
     public Claims getClaims(String token) {
         return validateToken(token); // 중복 제거용 리팩토링
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰 SHA-256 다이제스트 (블랙리스트 키, 검증 캐시 키로 사용)
+     */
+    public static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.auth.security;
+
+import com.example.auth.constant.UserRole;
+import com.example.auth.repository.UserRepository;
+import com.example.auth.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 필터용 사용자 권한 로컬 캐시 (userId -> Spring Security 권한 문자열)
+ * 인증된 요청마다 users 테이블을 조회하지 않도록 짧은 TTL로 인스턴스 메모리에 보관합니다.
+ * 권한 변경/탈퇴 시 invalidate()를 호출하면 Redis Pub/Sub으로 모든 인스턴스의 캐시가 함께 비워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache implements MessageListener {
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String INVALIDATION_CHANNEL = "auth:principal:invalidate";
+
+    @Value("${jwt.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentHashMap<Long, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+    private record CachedPrincipal(String authority, long expiresAt) {
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자 권한 조회 (캐시 미스 또는 만료 시에만 DB 조회)
+     *
+     * @return "ROLE_USER" 형태의 권한, 존재하지 않는 사용자면 empty
+     */
+    public Optional<String> getAuthority(Long userId) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = cache.get(userId);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.authority());
+        }
+
+        Optional<String> authority = userRepository.findById(userId)
+                .map(user -> "ROLE_" + UserRole.fromString(user.getRole()).name());
+
+        authority.ifPresentOrElse(
+                value -> {
+                    if (cache.size() >= maxSize) {
+                        evictExpired(now);
+                    }
+                    cache.put(userId, new CachedPrincipal(value, now + ttlSeconds * 1000));
+                },
+                () -> cache.remove(userId));
+
+        return authority;
+    }
+
+    /**
+     * 사용자 권한 캐시 무효화 (권한 변경, 탈퇴 등)
+     * 로컬 캐시는 즉시 비우고, 트랜잭션 커밋 후 다른 인스턴스에 무효화 메시지를 발행합니다.
+     */
+    public void invalidate(Long userId) {
+        cache.remove(userId);
+
+        Runnable publish = () -> {
+            cache.remove(userId); // 커밋 전에 다시 적재된 값 제거
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("사용자 권한 캐시 무효화 메시지 발행 실패 - userId: {}, 다른 인스턴스는 TTL 만료 후 반영: {}",
+                        userId, e.getMessage());
+            }
+        };
+
+        TransactionUtils.runAfterCommit(publish);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long userId = Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8));
+            cache.remove(userId);
+            log.debug("사용자 권한 캐시 무효화 수신 - userId: {}", userId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 사용자 권한 캐시 무효화 메시지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최대 크기 도달 시 만료 항목 정리, 그래도 가득 차면 전체 비움 (다음 요청부터 다시 적재)
+     */
+    private void evictExpired(long now) {
+        cache.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+        if (cache.size() >= maxSize) {
+            log.info("사용자 권한 캐시 최대 크기 도달 - {}건 비움", cache.size());
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.auth.security;
+
+import com.example.auth.exception.JwtValidationException;
+import com.example.auth.exception.TokenErrorType;
+import com.example.auth.service.TokenService;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JWT 1회 검증 공용 컴포넌트
+ * - 요청 단위: 검증 결과(Claims, 블랙리스트 여부)를 요청 속성에 저장하여 필터/인터셉터/TokenUtils가 재사용
+ * - 요청 간: 최근 검증한 토큰 다이제스트 -> Claims를 제한된 크기로 캐시하여 서명 검증/파싱 생략 (토큰 만료 시각 준수)
+ * 블랙리스트는 캐시하지 않고 요청마다 TokenService(로컬 블룸 필터)로 확인합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenResolver {
+
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = VerifiedTokenResolver.class.getName() + ".VERIFIED_TOKEN";
+
+    private final JwtUtil jwtUtil;
+    private final TokenService tokenService;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${jwt.verified-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<String, CachedClaims> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 검증된 토큰
+     *
+     * @param token       원본 토큰
+     * @param claims      서명 검증된 클레임
+     * @param blacklisted 로그아웃(블랙리스트) 여부
+     */
+    public record VerifiedToken(String token, Claims claims, boolean blacklisted) {
+
+        public Long userId() {
+            return Long.valueOf(claims.getSubject());
+        }
+    }
+
+    private record CachedClaims(Claims claims, long expiresAt) {
+    }
+
+    /**
+     * 현재 요청 기준 토큰 검증 (같은 요청에서는 한 번만 검증)
+     *
+     * @throws JwtValidationException 만료/위조 등 검증 실패 시
+     */
+    public VerifiedToken resolve(HttpServletRequest request, String token) {
+        Object attribute = request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE);
+        if (attribute instanceof VerifiedToken verified && verified.token().equals(token)) {
+            return verified;
+        }
+
+        VerifiedToken verified = verify(token);
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, verified);
+        return verified;
+    }
+
+    /**
+     * RequestContextHolder의 현재 요청 기준 토큰 검증 (요청 밖에서 호출되면 캐시만 사용)
+     */
+    public VerifiedToken resolve(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return resolve(servletAttributes.getRequest(), token);
+        }
+        return verify(token);
+    }
+
+    /**
+     * 현재 요청에서 이미 검증된 토큰 (없으면 null)
+     */
+    public static VerifiedToken current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object attribute = attributes.getAttribute(VERIFIED_TOKEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return attribute instanceof VerifiedToken verified ? verified : null;
+    }
+
+    private VerifiedToken verify(String token) {
+        byte[] digest = JwtUtil.digest(token);
+        Claims claims = getClaims(token, HexFormat.of().formatHex(digest));
+        return new VerifiedToken(token, claims, tokenService.isBlacklisted(token, digest));
+    }
+
+    /**
+     * 캐시된 클레임 조회, 없거나 만료되었으면 서명 검증 후 캐시
+     */
+    private Claims getClaims(String token, String cacheKey) {
+        long now = System.currentTimeMillis();
+        CachedClaims cached = cache.get(cacheKey);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return cached.claims();
+            }
+            cache.remove(cacheKey);
+        }
+
+        // 만료/위조 토큰은 여기서 JwtValidationException 발생 (캐시하지 않음)
+        Claims claims = jwtUtil.validateToken(token);
+
+        long expiresAt = now + ttlSeconds * 1000;
+        if (claims.getExpiration() != null) {
+            expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+        }
+        if (expiresAt > now) {
+            if (cache.size() >= maxSize) {
+                evictExpired(now);
+            }
+            cache.put(cacheKey, new CachedClaims(claims, expiresAt));
+        } else {
+            throw new JwtValidationException("토큰이 만료되었습니다.", TokenErrorType.EXPIRED);
+        }
+        return claims;
+    }
+
+    /**
+     * 최대 크기 도달 시 만료 항목 정리, 그래도 가득 차면 전체 비움
+     */
+    private void evictExpired(long now) {
+        cache.entrySet().removeIf(entry -> entry.getValue().expiresAt() <= now);
+        if (cache.size() >= maxSize) {
+            log.info("JWT 검증 캐시 최대 크기 도달 - {}건 비움", cache.size());
+            cache.clear();
+        }
+    }
+}
@@ -13,7 +13,7 @@ public class AsyncKakaoService {
     
     private final KakaoService kakaoService;
     
-    @Async
+    @Async("kakaoAsyncExecutor")
     public CompletableFuture<String> processKakaoLoginAsync(String code, String redirectUri) {
         try {
             // 비동기로 카카오 로그인 처리
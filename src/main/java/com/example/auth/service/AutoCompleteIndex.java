@@ -0,0 +1,229 @@
+package com.example.auth.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 자동완성용 불변 인덱스 스냅샷
+ * - 접두사 트라이: 노드마다 순위순 상위 MAX_SUGGESTIONS개 항목을 미리 계산해 두어 조회는 O(검색어 길이)
+ * - 포함 검색: 1글자/2글자(bigram) 포스팅 리스트를 순위순으로 저장해 두고 앞에서부터 검증
+ * 순위: 신청자 수(인기) 내림차순 → 제목 길이 오름차순 → 제목 사전순
+ * 빌드 후에는 변경되지 않으므로 여러 스레드에서 잠금 없이 조회합니다.
+ */
+public final class AutoCompleteIndex {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    public static final AutoCompleteIndex EMPTY = build(List.of());
+
+    private static final int[] NO_IDS = new int[0];
+
+    // 순위순으로 정렬된 항목
+    private final String[] titles;
+    private final String[] normalizedTitles;
+
+    // 배열 기반 트라이 (노드 0 = 루트)
+    private final char[][] childKeys;
+    private final int[][] childNodes;
+    private final int[][] topIds;
+
+    // 포함 검색용 포스팅 리스트 (키 오름차순, 값은 순위순 항목 ID)
+    private final int[] charKeys;
+    private final int[][] charPostings;
+    private final int[] bigramKeys;
+    private final int[][] bigramPostings;
+
+    /**
+     * 자동완성 대상 항목 (제목, 인기 점수)
+     */
+    public record Entry(String title, int popularity) {
+    }
+
+    private AutoCompleteIndex(String[] titles, String[] normalizedTitles,
+                              char[][] childKeys, int[][] childNodes, int[][] topIds,
+                              int[] charKeys, int[][] charPostings, int[] bigramKeys, int[][] bigramPostings) {
+        this.titles = titles;
+        this.normalizedTitles = normalizedTitles;
+        this.childKeys = childKeys;
+        this.childNodes = childNodes;
+        this.topIds = topIds;
+        this.charKeys = charKeys;
+        this.charPostings = charPostings;
+        this.bigramKeys = bigramKeys;
+        this.bigramPostings = bigramPostings;
+    }
+
+    public static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return titles.length;
+    }
+
+    /**
+     * 자동완성 제안 조회 - 접두사 일치 항목을 먼저, 부족하면 포함 일치 항목을 순위순으로 채움
+     *
+     * @param normalizedQuery normalize()를 거친 검색어
+     */
+    public List<String> search(String normalizedQuery, int limit) {
+        int max = Math.min(limit, MAX_SUGGESTIONS);
+        if (normalizedQuery.isEmpty() || max <= 0 || titles.length == 0) {
+            return List.of();
+        }
+
+        List<String> results = new ArrayList<>(max);
+
+        // 1) 접두사 일치 - 트라이 노드의 미리 계산된 상위 항목
+        int node = findNode(normalizedQuery);
+        if (node >= 0) {
+            for (int id : topIds[node]) {
+                results.add(titles[id]);
+                if (results.size() == max) {
+                    return results;
+                }
+            }
+        }
+
+        // 2) 포함 일치 - 접두사 항목 수가 limit 미만이면 topIds에 접두사 일치 항목이 모두 들어 있으므로 startsWith는 건너뜀
+        int[] postings = normalizedQuery.length() >= 2
+                ? lookup(bigramKeys, bigramPostings, bigramKey(normalizedQuery.charAt(0), normalizedQuery.charAt(1)))
+                : lookup(charKeys, charPostings, normalizedQuery.charAt(0));
+
+        for (int id : postings) {
+            String normalized = normalizedTitles[id];
+            if (!normalized.startsWith(normalizedQuery) && normalized.contains(normalizedQuery)) {
+                results.add(titles[id]);
+                if (results.size() == max) {
+                    break;
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private int findNode(String query) {
+        int node = 0;
+        for (int i = 0; i < query.length(); i++) {
+            int index = Arrays.binarySearch(childKeys[node], query.charAt(i));
+            if (index < 0) {
+                return -1;
+            }
+            node = childNodes[node][index];
+        }
+        return node;
+    }
+
+    private static int[] lookup(int[] keys, int[][] postings, int key) {
+        int index = Arrays.binarySearch(keys, key);
+        return index >= 0 ? postings[index] : NO_IDS;
+    }
+
+    private static int bigramKey(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /**
+     * 항목 목록으로 인덱스 생성 (같은 제목은 인기 점수가 높은 항목 하나만 사용)
+     */
+    public static AutoCompleteIndex build(List<Entry> entries) {
+        Map<String, Entry> unique = new TreeMap<>();
+        for (Entry entry : entries) {
+            if (entry.title() == null || entry.title().isBlank()) {
+                continue;
+            }
+            unique.merge(entry.title(), entry, (a, b) -> a.popularity() >= b.popularity() ? a : b);
+        }
+
+        List<Entry> ranked = new ArrayList<>(unique.values());
+        ranked.sort(Comparator.comparingInt(Entry::popularity).reversed()
+                .thenComparingInt(entry -> entry.title().length())
+                .thenComparing(Entry::title));
+
+        int size = ranked.size();
+        String[] titles = new String[size];
+        String[] normalizedTitles = new String[size];
+        for (int id = 0; id < size; id++) {
+            titles[id] = ranked.get(id).title();
+            normalizedTitles[id] = normalize(titles[id]);
+        }
+
+        // 트라이 구성 - 항목을 순위순으로 넣으므로 노드별 상위 항목은 앞에서부터 MAX_SUGGESTIONS개
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> tops = new ArrayList<>();
+        children.add(new TreeMap<>());
+        tops.add(new ArrayList<>());
+
+        TreeMap<Integer, List<Integer>> charIndex = new TreeMap<>();
+        TreeMap<Integer, List<Integer>> bigramIndex = new TreeMap<>();
+
+        for (int id = 0; id < size; id++) {
+            String normalized = normalizedTitles[id];
+
+            int node = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                Integer next = children.get(node).get(normalized.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(normalized.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    tops.add(new ArrayList<>());
+                }
+                node = next;
+                if (tops.get(node).size() < MAX_SUGGESTIONS) {
+                    tops.get(node).add(id);
+                }
+            }
+
+            for (int i = 0; i < normalized.length(); i++) {
+                addPosting(charIndex, normalized.charAt(i), id);
+                if (i + 1 < normalized.length()) {
+                    addPosting(bigramIndex, bigramKey(normalized.charAt(i), normalized.charAt(i + 1)), id);
+                }
+            }
+        }
+
+        int nodeCount = children.size();
+        char[][] childKeys = new char[nodeCount][];
+        int[][] childNodes = new int[nodeCount][];
+        int[][] topIds = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> nodeChildren = children.get(node);
+            childKeys[node] = new char[nodeChildren.size()];
+            childNodes[node] = new int[nodeChildren.size()];
+            int index = 0;
+            for (Map.Entry<Character, Integer> child : nodeChildren.entrySet()) {
+                childKeys[node][index] = child.getKey();
+                childNodes[node][index] = child.getValue();
+                index++;
+            }
+            topIds[node] = tops.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int[] charKeys = charIndex.keySet().stream().mapToInt(Integer::intValue).toArray();
+        int[][] charPostings = charIndex.values().stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+        int[] bigramKeys = bigramIndex.keySet().stream().mapToInt(Integer::intValue).toArray();
+        int[][] bigramPostings = bigramIndex.values().stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).toArray()).toArray(int[][]::new);
+
+        return new AutoCompleteIndex(titles, normalizedTitles, childKeys, childNodes, topIds,
+                charKeys, charPostings, bigramKeys, bigramPostings);
+    }
+
+    /**
+     * 항목 ID는 순위순으로 증가하므로 마지막 값과 같으면 중복(같은 제목 내 반복 글자)
+     */
+    private static void addPosting(TreeMap<Integer, List<Integer>> index, int key, int id) {
+        List<Integer> ids = index.computeIfAbsent(key, k -> new ArrayList<>());
+        if (ids.isEmpty() || ids.get(ids.size() - 1) != id) {
+            ids.add(id);
+        }
+    }
+}
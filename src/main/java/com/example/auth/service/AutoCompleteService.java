@@ -2,6 +2,7 @@ package com.example.auth.service;
 
 import com.example.auth.domain.Campaign;
 import com.example.auth.repository.CampaignRepository;
+import com.example.auth.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -10,8 +11,12 @@ import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.time.LocalDate;
-import java.util.stream.Collectors;
 
+/**
+ * 캠페인 제목 자동완성 서비스
+ * 각 인스턴스가 DB에서 직접 만든 불변 인덱스(AutoCompleteIndex)를 메모리에 두고 통째로 교체합니다.
+ * Redis에는 스냅샷 버전만 두어, 한 인스턴스가 갱신을 요청하면 다른 인스턴스가 버전 변경을 보고 다시 빌드합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,92 +24,104 @@ public class AutoCompleteService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final CampaignRepository campaignRepository;
-    
-    private static final String CAMPAIGN_TITLES_KEY = "campaign:titles";
+
+    private static final String SNAPSHOT_VERSION_KEY = "autocomplete:snapshot:version";
+
+    private volatile AutoCompleteIndex index = AutoCompleteIndex.EMPTY;
+    private volatile boolean initialized = false;
+    private volatile String loadedVersion;
 
     /**
      * 자동완성 제안 조회 (캠페인 제목 검색)
      */
     public List<String> getSuggestions(String prefix, int limit) {
         log.debug("자동완성 조회 요청 - prefix: {}, limit: {}", prefix, limit);
-        
+
         if (prefix == null || prefix.trim().isEmpty()) {
             return List.of();
         }
-        
-        String normalizedPrefix = prefix.toLowerCase().trim();
-        
-        // Redis에서 캠페인 제목들 조회
-        Set<String> allTitles = redisTemplate.opsForSet().members(CAMPAIGN_TITLES_KEY);
-        
-        if (allTitles == null || allTitles.isEmpty()) {
-            log.warn("Redis에 캐시된 캠페인 제목이 없습니다. 즉시 갱신을 시도합니다.");
+
+        if (!initialized) {
+            log.warn("자동완성 인덱스가 아직 없습니다. 즉시 생성을 시도합니다.");
             refreshCampaignData();
-            allTitles = redisTemplate.opsForSet().members(CAMPAIGN_TITLES_KEY);
         }
-        
-        // null 체크
-        if (allTitles == null) {
-            return List.of();
-        }
-        
-        // 제목에서 키워드 포함 검색
-        List<String> suggestions = allTitles.stream()
-                .filter(title -> title != null)
-                .filter(title -> title.toLowerCase().contains(normalizedPrefix))
-                .sorted((a, b) -> {
-                    // 정확히 시작하는 것을 우선순위로
-                    boolean aStarts = a.toLowerCase().startsWith(normalizedPrefix);
-                    boolean bStarts = b.toLowerCase().startsWith(normalizedPrefix);
-                    
-                    if (aStarts && !bStarts) return -1;
-                    if (!aStarts && bStarts) return 1;
-                    
-                    // 길이가 짧은 것을 우선순위로
-                    return Integer.compare(a.length(), b.length());
-                })
-                .limit(limit)
-                .collect(Collectors.toList());
-        
+
+        List<String> suggestions = index.search(AutoCompleteIndex.normalize(prefix), limit);
+
         log.debug("자동완성 결과 - {}개 제안", suggestions.size());
         return suggestions;
     }
 
     /**
-     * 캠페인 데이터 캐시 갱신 (10분마다 실행)
+     * 캠페인 데이터로 인덱스 재생성 (10분마다 실행 - 모집 마감된 캠페인 제외 반영)
      */
     @Scheduled(cron = "0 */10 * * * *")
     public void refreshCampaignData() {
-        try {
-            log.info("캠페인 제목 캐시 갱신 시작");
-            
-            // DB에서 승인된 활성 캠페인 제목만 조회 (만료된 캠페인 제외)
-            List<String> campaignTitles = campaignRepository.findApprovedTitles(Campaign.ApprovalStatus.APPROVED, LocalDate.now());
-            
-            log.info("캐시할 캠페인 제목 수: {}", campaignTitles.size());
-            
-            // Redis 캐시 갱신 (제목만 저장)
-            updateRedisCache(campaignTitles);
-            
-            log.info("캠페인 제목 캐시 갱신 완료 - {}개 제목", campaignTitles.size());
-            
-        } catch (Exception e) {
-            log.error("캠페인 제목 캐시 갱신 중 오류 발생", e);
-        }
+        rebuildIndex(readSnapshotVersion());
+    }
+
+    /**
+     * 자동완성 대상 변경 알림 (캠페인 승인/제목 변경 등)
+     * 스냅샷 버전만 올리면 모든 인스턴스가 syncSnapshotVersion에서 다시 빌드합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 버전을 올립니다.
+     */
+    public void requestRefresh() {
+        Runnable bump = () -> {
+            try {
+                redisTemplate.opsForValue().increment(SNAPSHOT_VERSION_KEY);
+            } catch (Exception e) {
+                log.warn("자동완성 스냅샷 버전 갱신 실패 - 로컬 인덱스만 재생성합니다: {}", e.getMessage());
+                refreshCampaignData();
+            }
+        };
+
+        TransactionUtils.runAfterCommit(bump);
     }
 
     /**
-     * Redis 캐시 업데이트 (제목만 저장)
+     * 스냅샷 버전 확인 (10초마다 GET 1회) - 다른 인스턴스가 버전을 올렸으면 재생성
      */
-    private void updateRedisCache(List<String> titles) {
-        // 기존 캐시 삭제
-        redisTemplate.delete(CAMPAIGN_TITLES_KEY);
-        
-        // 새 제목 데이터 저장
-        if (!titles.isEmpty()) {
-            redisTemplate.opsForSet().add(CAMPAIGN_TITLES_KEY, titles.toArray(new String[0]));
+    @Scheduled(initialDelay = 10000, fixedDelay = 10000)
+    public void syncSnapshotVersion() {
+        String version = readSnapshotVersion();
+        if (version != null && !version.equals(loadedVersion)) {
+            log.info("자동완성 스냅샷 버전 변경 감지 - {} -> {}", loadedVersion, version);
+            rebuildIndex(version);
         }
     }
-}
 
+    private synchronized void rebuildIndex(String version) {
+        try {
+            long startTime = System.currentTimeMillis();
+
+            // DB에서 승인된 활성 캠페인 제목과 신청자 수 조회 (만료된 캠페인 제외)
+            List<Object[]> rows = campaignRepository.findApprovedTitlesWithApplicants(
+                    Campaign.ApprovalStatus.APPROVED, LocalDate.now());
+
+            List<AutoCompleteIndex.Entry> entries = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                int popularity = row[1] != null ? ((Number) row[1]).intValue() : 0;
+                entries.add(new AutoCompleteIndex.Entry((String) row[0], popularity));
+            }
 
+            index = AutoCompleteIndex.build(entries);
+            loadedVersion = version;
+            initialized = true;
+
+            log.info("자동완성 인덱스 생성 완료 - {}개 제목, 버전: {}, 소요: {}ms",
+                    index.size(), version, System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("자동완성 인덱스 생성 중 오류 발생", e);
+        }
+    }
+
+    private String readSnapshotVersion() {
+        try {
+            return redisTemplate.opsForValue().get(SNAPSHOT_VERSION_KEY);
+        } catch (Exception e) {
+            log.warn("자동완성 스냅샷 버전 조회 실패: {}", e.getMessage());
+            return loadedVersion;
+        }
+    }
+}
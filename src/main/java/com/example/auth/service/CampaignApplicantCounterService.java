@@ -0,0 +1,225 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.ApplicationStatus;
+import com.example.auth.repository.CampaignRepository;
+import com.example.auth.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캠페인 신청자 수 카운터 서비스
+ * campaigns.current_applicants 컬럼(원본)과 Redis 미러를 함께 관리하여
+ * 목록 조회 시 campaign_applications를 집계하지 않도록 합니다.
+ * 목록 읽기 모델(campaign_list_view)의 신청자 수도 같은 트랜잭션에서 함께 갱신합니다.
+ * 카운트 대상 상태: APPLIED, SELECTED
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignApplicantCounterService {
+
+    private final CampaignRepository campaignRepository;
+    private final CampaignListViewService campaignListViewService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String APPLICANT_COUNT_KEY_PREFIX = "campaign:applicants:";
+    private static final long APPLICANT_COUNT_TTL_SECONDS = 600; // 10분 (보정 전 최대 오차 범위)
+
+    // Lua 스크립트 - 미러 키가 있을 때만 증감 (없으면 다음 조회 시 DB 값으로 채움)
+    private static final String ADJUST_MIRROR_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            return -1
+        end
+        local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+        if value < 0 then
+            redis.call('SET', KEYS[1], '0')
+            value = 0
+        end
+        redis.call('EXPIRE', KEYS[1], ARGV[2])
+        return value
+        """;
+
+    private static final DefaultRedisScript<Long> ADJUST_MIRROR = new DefaultRedisScript<>(ADJUST_MIRROR_SCRIPT, Long.class);
+
+    /**
+     * 신청자 수 카운트 대상 상태인지 확인
+     */
+    public static boolean isCounted(ApplicationStatus status) {
+        return status == ApplicationStatus.APPLIED || status == ApplicationStatus.SELECTED;
+    }
+
+    /**
+     * 신청 상태 변경에 따른 카운터 반영 (신규 신청은 from = null, 삭제는 to = null)
+     */
+    @Transactional
+    public void onStatusChanged(Long campaignId, ApplicationStatus from, ApplicationStatus to) {
+        int delta = (isCounted(to) ? 1 : 0) - (isCounted(from) ? 1 : 0);
+        adjust(campaignId, delta);
+    }
+
+    /**
+     * 카운터 증감 - DB는 현재 트랜잭션에서, Redis 미러는 커밋 이후에 반영
+     */
+    @Transactional
+    public void adjust(Long campaignId, int delta) {
+        if (campaignId == null || delta == 0) {
+            return;
+        }
+
+        campaignRepository.adjustCurrentApplicants(campaignId, delta);
+        campaignListViewService.refreshApplicantCount(campaignId);
+        TransactionUtils.runAfterCommit(() -> adjustMirror(campaignId, delta));
+
+        log.debug("신청자 수 카운터 반영 - campaignId: {}, delta: {}", campaignId, delta);
+    }
+
+    /**
+     * 신청자 수 조회 (Redis 미러 우선, 미스 시 DB 카운터)
+     */
+    @Transactional(readOnly = true)
+    public int getApplicantCount(Long campaignId) {
+        return getApplicantCounts(List.of(campaignId)).getOrDefault(campaignId, 0);
+    }
+
+    /**
+     * 여러 캠페인의 신청자 수를 한 번에 조회 (MGET 1회 + 미스분 DB 조회 1회)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getApplicantCounts(Collection<Long> campaignIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (campaignIds == null || campaignIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Long> ids = new ArrayList<>(campaignIds);
+        List<Long> misses = new ArrayList<>();
+
+        try {
+            List<String> keys = ids.stream().map(this::mirrorKey).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+            for (int i = 0; i < ids.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                if (value != null) {
+                    counts.put(ids.get(i), Integer.parseInt(value));
+                } else {
+                    misses.add(ids.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("신청자 수 Redis 조회 실패 - DB 카운터 사용: {}", e.getMessage());
+            misses = ids;
+        }
+
+        if (!misses.isEmpty()) {
+            for (Object[] row : campaignRepository.findCurrentApplicantsByIds(misses)) {
+                Long campaignId = (Long) row[0];
+                int count = row[1] != null ? ((Number) row[1]).intValue() : 0;
+                counts.put(campaignId, count);
+                writeMirror(campaignId, count);
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * 특정 캠페인들의 카운터를 실제 신청 수로 재계산 (대량 삭제 이후 등)
+     */
+    @Transactional
+    public void recalculate(Collection<Long> campaignIds) {
+        campaignIds.stream().sorted().forEach(this::recount);
+    }
+
+    /**
+     * ID 구간 (fromId, toId] 의 카운터 정합성 보정
+     *
+     * @return 보정된 캠페인 수
+     */
+    @Transactional
+    public int reconcileRange(Long fromId, Long toId) {
+        // 차이 조회는 후보만 고르고, 실제 값은 행을 잠근 뒤 다시 세어 반영 (조회와 반영 사이의 신청/취소가 유실되지 않도록)
+        List<Long> candidates = campaignRepository.findApplicantCountDrift(fromId, toId).stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .sorted()
+                .toList();
+
+        int corrected = 0;
+        for (Long campaignId : candidates) {
+            if (recount(campaignId)) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 캠페인 행을 잠근 뒤 실제 신청 수를 세어 카운터에 반영 (현재 트랜잭션 안에서 실행)
+     * 잠금을 얻은 뒤의 조회는 그 전에 커밋된 신청/취소를 모두 보고, 이후의 신청/취소는 잠금이 풀린 뒤 증감하므로 반영 결과가 유실되지 않음.
+     * Redis 미러는 커밋 후 삭제하여 다음 조회 때 DB 값으로 채움 (같은 시점의 미러 증감을 오래된 값으로 덮어쓰지 않도록)
+     *
+     * @return 카운터가 바뀌었는지
+     */
+    private boolean recount(Long campaignId) {
+        if (campaignRepository.lockForApplicantCount(campaignId) == null) {
+            return false;
+        }
+
+        int actual = campaignRepository.countCurrentApplicationsByCampaignId(campaignId);
+        Integer current = campaignRepository.findCurrentApplicantsByIds(List.of(campaignId)).stream()
+                .findFirst()
+                .map(row -> row[1] != null ? ((Number) row[1]).intValue() : null)
+                .orElse(null);
+        if (current != null && current == actual) {
+            return false;
+        }
+
+        campaignRepository.updateCurrentApplicants(campaignId, actual);
+        campaignListViewService.refreshApplicantCount(campaignId);
+        TransactionUtils.runAfterCommit(() -> evictMirror(campaignId));
+        log.info("신청자 수 카운터 보정 - campaignId: {}, 기존: {}, 실제 신청 수: {}", campaignId, current, actual);
+        return true;
+    }
+
+    private void adjustMirror(Long campaignId, int delta) {
+        try {
+            redisTemplate.execute(ADJUST_MIRROR, List.of(mirrorKey(campaignId)),
+                    String.valueOf(delta), String.valueOf(APPLICANT_COUNT_TTL_SECONDS));
+        } catch (Exception e) {
+            log.warn("신청자 수 Redis 미러 반영 실패 - campaignId: {}, delta: {}", campaignId, delta, e);
+            evictMirror(campaignId);
+        }
+    }
+
+    private void writeMirror(Long campaignId, int count) {
+        try {
+            redisTemplate.opsForValue().set(mirrorKey(campaignId), String.valueOf(count),
+                    Duration.ofSeconds(APPLICANT_COUNT_TTL_SECONDS));
+        } catch (Exception e) {
+            log.warn("신청자 수 Redis 미러 저장 실패 - campaignId: {}", campaignId, e);
+        }
+    }
+
+    private void evictMirror(Long campaignId) {
+        try {
+            redisTemplate.delete(mirrorKey(campaignId));
+        } catch (Exception e) {
+            log.warn("신청자 수 Redis 미러 삭제 실패 - campaignId: {}", campaignId, e);
+        }
+    }
+
+    private String mirrorKey(Long campaignId) {
+        return APPLICANT_COUNT_KEY_PREFIX + campaignId;
+    }
+}
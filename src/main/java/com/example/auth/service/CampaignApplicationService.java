@@ -29,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -48,7 +49,8 @@ public class CampaignApplicationService {
     private final UserSnsPlatformRepository userSnsPlatformRepository;
     private final MissionSubmissionRepository missionSubmissionRepository;
     private final NotificationService notificationService;
-    private final SESService sesService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final CampaignApplicantCounterService applicantCounterService;
 
     /**
      * 캠페인 신청을 생성합니다.
@@ -136,6 +138,7 @@ public class CampaignApplicationService {
                 .build();
 
         CampaignApplication savedApplication = applicationRepository.save(application);
+        applicantCounterService.onStatusChanged(campaignId, null, initialStatus);
         
         if (campaign.getIsAlwaysOpen()) {
             log.info("상시 캠페인 신청 완료 - 바로 대기 상태: userId={}, campaignId={}, applicationId={}, status=PENDING", 
@@ -485,6 +488,7 @@ public class CampaignApplicationService {
         }
 
         applicationRepository.delete(application);
+        applicantCounterService.onStatusChanged(application.getCampaign().getId(), application.getApplicationStatus(), null);
         log.info("캠페인 신청 취소 완료: applicationId={}, userId={}", applicationId, currentUserId);
     }
 
@@ -681,6 +685,9 @@ public class CampaignApplicationService {
         // 일괄 저장
         List<CampaignApplication> selectedApplications = applicationRepository.saveAll(applicationsToSelect);
 
+        // PENDING → SELECTED 전환분만큼 신청자 수 카운터 증가
+        applicantCounterService.adjust(campaignId, selectedApplications.size());
+
         // 미선정자 목록 (APPLIED 상태 그대로 유지)
         List<CampaignApplication> unselectedApplications = allApplications.stream()
                 .filter(app -> !selectedApplicationIds.contains(app.getId()))
@@ -689,47 +696,20 @@ public class CampaignApplicationService {
         log.info("캠페인 신청자 선정 완료: campaignId={}, selectedCount={}, unselectedCount={}",
                 campaignId, selectedApplications.size(), unselectedApplications.size());
 
-        // 선정자들에게 알림 전송
-        selectedApplications.forEach(application -> {
-            try {
-                // SSE 알림 전송
-                notificationService.sendCampaignSelectionNotification(
-                        application.getUser().getId(),
-                        campaignId,
-                        campaign.getTitle(),
-                        messageToSelected
-                );
-                
-                // 이메일 전송
-                sesService.sendCampaignSelectedEmail(
-                        application.getUser().getEmail(),
-                        application.getUser().getNickname(),
-                        campaign.getTitle()
-                );
-                
-                log.info("캠페인 선정 알림 및 이메일 전송 성공: userId={}, campaignId={}", 
-                        application.getUser().getId(), campaignId);
-                        
-            } catch (Exception e) {
-                log.error("선정 알림/이메일 전송 실패: userId={}, campaignId={}, error={}",
-                        application.getUser().getId(), campaignId, e.getMessage(), e);
-            }
-        });
-
-        // 미선정자들에게 알림 전송 (항상 전송)
-        unselectedApplications.forEach(application -> {
-            try {
-                notificationService.sendCampaignNotSelectedNotification(
-                        application.getUser().getId(),
-                        campaignId,
-                        campaign.getTitle(),
-                        messageToUnselected
-                );
-            } catch (Exception e) {
-                log.error("미선정 알림 전송 실패: userId={}, campaignId={}, error={}",
-                        application.getUser().getId(), campaignId, e.getMessage(), e);
-            }
-        });
+        // 선정/미선정 알림과 선정 이메일은 아웃박스에 기록하고, 커밋 후 NotificationOutboxDispatcher가 발송
+        List<Notification> notifications = new ArrayList<>(selectedApplications.size() + unselectedApplications.size());
+        selectedApplications.forEach(application -> notifications.add(
+                notificationService.buildCampaignSelectionNotification(
+                        application.getUser().getId(), campaignId, campaign.getTitle(), messageToSelected)));
+        // 미선정자들에게도 알림 전송 (항상 전송)
+        unselectedApplications.forEach(application -> notifications.add(
+                notificationService.buildCampaignNotSelectedNotification(
+                        application.getUser().getId(), campaignId, campaign.getTitle(), messageToUnselected)));
+        notificationOutboxService.enqueueNotifications(notifications);
+
+        notificationOutboxService.enqueueCampaignSelectedEmails(
+                selectedApplications.stream().map(CampaignApplication::getUser).collect(Collectors.toList()),
+                campaign.getTitle());
 
         // 응답 데이터 생성
         List<com.example.auth.dto.application.CampaignSelectionResponse.SelectedApplicantInfo> selectedApplicantInfos =
@@ -798,6 +778,9 @@ public class CampaignApplicationService {
 
         applicationRepository.saveAll(selectedApplications);
 
+        // SELECTED → PENDING 전환분만큼 신청자 수 카운터 감소
+        applicantCounterService.adjust(campaignId, -selectedApplications.size());
+
         log.info("캠페인 선정 취소 완료: campaignId={}, canceledCount={}", campaignId, selectedApplications.size());
 
         // 선정 취소 알림 전송 (선택사항)
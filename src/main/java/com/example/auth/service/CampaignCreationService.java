@@ -42,6 +42,7 @@ public class CampaignCreationService {
     private final UserRepository userRepository;
     private final S3Service s3Service;
     private final ImageProcessingService imageProcessingService;
+    private final CampaignListViewService campaignListViewService;
 
     /**
      * 캠페인 생성 메서드
@@ -131,6 +132,9 @@ public class CampaignCreationService {
             }
         }
 
+        // 목록 읽기 모델 반영
+        campaignListViewService.refresh(savedCampaign.getId());
+
         // 비동기로 리사이징 완료 후 썸네일 URL 업데이트
         if (request.getThumbnailUrl() != null && !request.getThumbnailUrl().isEmpty()) {
             String cleanUrl = cleanPresignedUrl(request.getThumbnailUrl());
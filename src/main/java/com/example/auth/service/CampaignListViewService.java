@@ -0,0 +1,93 @@
+package com.example.auth.service;
+
+import com.example.auth.repository.CampaignListViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캠페인 목록 읽기 모델(campaign_list_view) 갱신 서비스
+ * 캠페인/신청 변경이 일어난 트랜잭션 안에서 해당 캠페인 행만 갱신하고,
+ * 애플리케이션을 거치지 않은 변경은 CampaignListViewScheduler가 주기적으로 따라잡습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CampaignListViewService {
+
+    private final CampaignListViewRepository campaignListViewRepository;
+
+    /**
+     * 캠페인 1건의 목록 행을 원본에서 다시 채움 (생성/수정/썸네일 변경 시)
+     */
+    @Transactional
+    public void refresh(Long campaignId) {
+        if (campaignId == null) {
+            return;
+        }
+
+        // 같은 트랜잭션에서 변경된 엔티티를 먼저 반영해야 INSERT ... SELECT가 최신 값을 읽음
+        campaignListViewRepository.flush();
+        campaignListViewRepository.upsertByCampaignId(campaignId);
+
+        log.debug("캠페인 목록 읽기 모델 갱신 - campaignId: {}", campaignId);
+    }
+
+    /**
+     * 신청자 수만 갱신 (신청 카운터 변경 시)
+     */
+    @Transactional
+    public void refreshApplicantCount(Long campaignId) {
+        if (campaignId == null) {
+            return;
+        }
+
+        campaignListViewRepository.syncCurrentApplicants(campaignId);
+    }
+
+    /**
+     * 캠페인 삭제 시 목록 행 제거
+     */
+    @Transactional
+    public void remove(Long campaignId) {
+        if (campaignId == null) {
+            return;
+        }
+
+        campaignListViewRepository.deleteByCampaignId(campaignId);
+        log.debug("캠페인 목록 읽기 모델 삭제 - campaignId: {}", campaignId);
+    }
+
+    /**
+     * ID 구간 (fromId, toId] 에서 원본과 달라진 행만 동기화
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int syncRange(Long fromId, Long toId) {
+        return campaignListViewRepository.upsertChangedInRange(fromId, toId);
+    }
+
+    /**
+     * since 이후 수정된 캠페인 중 원본과 달라진 행만 동기화
+     *
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    public int syncChangedSince(LocalDateTime since) {
+        return campaignListViewRepository.upsertChangedSince(since);
+    }
+
+    /**
+     * 원본이 삭제된 목록 행 정리
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int removeOrphans() {
+        return campaignListViewRepository.deleteOrphans();
+    }
+}
@@ -42,6 +42,8 @@ public class CampaignUpdateService {
     private final UserRepository userRepository;
     private final S3Service s3Service;
     private final ImageProcessingService imageProcessingService;
+    private final CampaignListViewService campaignListViewService;
+    private final AutoCompleteService autoCompleteService;
 
     // 상시 수정 가능한 필드들
     private static final Set<String> ALWAYS_EDITABLE_FIELDS = Set.of(
@@ -92,8 +94,14 @@ public class CampaignUpdateService {
         if (hasSignificantChanges(request)) {
             campaign.resetApprovalStatus();
             log.info("캠페인 수정으로 인해 승인 상태가 PENDING으로 변경되었습니다. 캠페인 ID: {}", campaignId);
+
+            // 승인 대기 캠페인은 자동완성 대상에서 빠지므로 스냅샷 갱신 요청
+            autoCompleteService.requestRefresh();
         }
 
+        // 목록 읽기 모델 반영
+        campaignListViewService.refresh(campaign.getId());
+
         log.info("캠페인이 수정되었습니다. ID: {}, 제목: {}", campaign.getId(), campaign.getTitle());
 
         return CreateCampaignResponse.fromEntity(campaign);
@@ -311,6 +319,7 @@ public class CampaignUpdateService {
         }
         if (request.getRecruitmentEndDate() != null) {
             campaign.setRecruitmentEndDate(request.getRecruitmentEndDate());
+            campaign.setRecruitmentClosedAt(null); // 새 종료일 기준으로 다시 마감 처리
         }
         if (request.getSelectionDate() != null) {
             campaign.setSelectionDate(request.getSelectionDate());
@@ -555,6 +564,8 @@ public class CampaignUpdateService {
 
         // 캠페인 삭제 (CASCADE로 연관 데이터도 함께 삭제됨)
         campaignRepository.delete(campaign);
+        campaignListViewService.remove(campaignId);
+        autoCompleteService.requestRefresh();
         
         log.info("캠페인이 삭제되었습니다. ID: {}, 제목: {}, 삭제자: {}", 
                 campaignId, campaign.getTitle(), user.getNickname());
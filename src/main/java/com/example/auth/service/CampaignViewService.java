@@ -7,12 +7,16 @@ import com.example.auth.domain.MissionSubmission;
 import com.example.auth.dto.campaign.CampaignListSimpleResponse;
 import com.example.auth.dto.campaign.*;
 import com.example.auth.dto.campaign.view.*;
+import com.example.auth.dto.common.CursorPageResponse;
 import com.example.auth.dto.common.PageResponse;
 import com.example.auth.exception.AccessDeniedException;
+import com.example.auth.exception.InvalidCursorException;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.repository.CampaignApplicationRepository;
+import com.example.auth.repository.CampaignListViewRepository;
 import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.MissionSubmissionRepository;
+import com.example.auth.util.TextUtils;
 import com.example.auth.constant.CampaignProgressStatus;
 import com.example.auth.constant.ApplicationStatus;
 import lombok.RequiredArgsConstructor;
@@ -22,12 +26,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Date;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +42,7 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.function.LongSupplier;
 
 @Slf4j
 @Service
@@ -45,6 +53,12 @@ public class CampaignViewService {
     private final MissionSubmissionRepository missionSubmissionRepository;
     private static final Campaign.ApprovalStatus APPROVED_STATUS = Campaign.ApprovalStatus.APPROVED;
     private final CampaignApplicationRepository campaignApplicationRepository;
+    private final CampaignListViewRepository campaignListViewRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final String LIST_COUNT_KEY_PREFIX = "campaign:list:count:";
+    private static final Duration LIST_COUNT_TTL = Duration.ofSeconds(60);
 
     /**
      * 현재 날짜를 반환하는 헬퍼 메서드
@@ -68,6 +82,35 @@ public class CampaignViewService {
         }
     }
 
+    /**
+     * 네이티브 쿼리용 카테고리 타입 파라미터 (유효하지 않으면 필터 미적용)
+     */
+    private String toCategoryTypeParam(String categoryType) {
+        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
+        return categoryTypeEnum != null ? categoryTypeEnum.name() : null;
+    }
+
+    /**
+     * 네이티브 쿼리용 카테고리명 파라미터 (빈 문자열은 필터 미적용)
+     */
+    private String toCategoryNameParam(String categoryName) {
+        return (categoryName != null && !categoryName.isEmpty()) ? categoryName : null;
+    }
+
+    /**
+     * campaignTypes를 PostgreSQL 배열 리터럴로 변환 (없으면 null)
+     */
+    private String toCampaignTypesArray(List<String> campaignTypes) {
+        if (campaignTypes == null || campaignTypes.isEmpty()) {
+            return null;
+        }
+        return "{" + String.join(",", campaignTypes) + "}";
+    }
+
+    private int campaignTypesSize(List<String> campaignTypes) {
+        return campaignTypes != null ? campaignTypes.size() : 0;
+    }
+
     /**
      * 네이티브 쿼리로 최고 성능 캠페인 목록 조회 - N+1 문제 완전 해결
      */
@@ -84,13 +127,13 @@ public class CampaignViewService {
         Page<Object[]> resultPage;
         
         if ("popular".equals(sort)) {
-            // 인기순 - 네이티브 쿼리로 한 번에 조회
-            resultPage = campaignRepository.findOptimizedCampaignListByPopularity(
-                    APPROVED_STATUS.name(), currentDate, categoryType, null, pageable);
+            // 인기순 - 목록 읽기 모델에서 한 번에 조회
+            resultPage = campaignListViewRepository.findPopular(
+                    APPROVED_STATUS.name(), currentDate, toCategoryTypeParam(categoryType), null, 0, null, pageable);
         } else {
-            // 최신순 - 네이티브 쿼리로 한 번에 조회
-            resultPage = campaignRepository.findOptimizedCampaignListByLatest(
-                    APPROVED_STATUS.name(), currentDate, categoryType, null, pageable);
+            // 최신순 - 목록 읽기 모델에서 한 번에 조회
+            resultPage = campaignListViewRepository.findLatest(
+                    APPROVED_STATUS.name(), currentDate, toCategoryTypeParam(categoryType), null, 0, null, pageable);
         }
         
         // DTO 변환 (모든 데이터가 이미 조회됨)
@@ -204,21 +247,6 @@ public class CampaignViewService {
             return response;
         });
 
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
         return PageResponse.from(responsePage);
     }
 
@@ -259,21 +287,6 @@ public class CampaignViewService {
             return response;
         });
 
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
         return PageResponse.from(responsePage);
     }
 
@@ -303,26 +316,18 @@ public class CampaignViewService {
     }
 
     /**
-     * 최적화된 네이티브 쿼리로 인기순 캠페인 목록 조회 (복수 campaignTypes 지원)
+     * 목록 읽기 모델에서 인기순 캠페인 목록 조회 (복수 campaignTypes 지원)
      */
     @Transactional(readOnly = true)
     public PageResponse<CampaignListSimpleResponse> getOptimizedCampaignListByPopularityWithTypes(int page, int size, String categoryType, String categoryName, List<String> campaignTypes) {
         LocalDate currentDate = getCurrentDate();
         Pageable pageable = PageRequest.of(page, size);
         
-        log.info("네이티브 인기순 쿼리 실행 (복수 타입) - categoryType: {}, categoryName: {}, campaignTypes: {}", categoryType, categoryName, campaignTypes);
-        
-        // campaignTypes를 PostgreSQL 배열 형태로 변환
-        Integer campaignTypesSize = (campaignTypes != null) ? campaignTypes.size() : 0;
-        String campaignTypesArray = null;
-        
-        if (campaignTypes != null && !campaignTypes.isEmpty()) {
-            campaignTypesArray = "{" + String.join(",", campaignTypes) + "}";
-        }
+        log.info("읽기 모델 인기순 조회 (복수 타입) - categoryType: {}, categoryName: {}, campaignTypes: {}", categoryType, categoryName, campaignTypes);
         
-        Page<Object[]> resultPage = campaignRepository.findOptimizedCampaignListByPopularityWithTypes(
-                APPROVED_STATUS.name(), currentDate, categoryType, categoryName, 
-                campaignTypesSize, campaignTypesArray, pageable);
+        Page<Object[]> resultPage = campaignListViewRepository.findPopular(
+                APPROVED_STATUS.name(), currentDate, toCategoryTypeParam(categoryType), toCategoryNameParam(categoryName),
+                campaignTypesSize(campaignTypes), toCampaignTypesArray(campaignTypes), pageable);
         
         // DTO 변환
         Page<CampaignListSimpleResponse> responsePage = resultPage.map(this::mapOptimizedResultToResponse);
@@ -333,26 +338,18 @@ public class CampaignViewService {
     }
 
     /**
-     * 최적화된 네이티브 쿼리로 최신순 캠페인 목록 조회 (복수 campaignTypes 지원)
+     * 목록 읽기 모델에서 최신순 캠페인 목록 조회 (복수 campaignTypes 지원)
      */
     @Transactional(readOnly = true)
     public PageResponse<CampaignListSimpleResponse> getOptimizedCampaignListByLatestWithTypes(int page, int size, String categoryType, String categoryName, List<String> campaignTypes) {
         LocalDate currentDate = getCurrentDate();
         Pageable pageable = PageRequest.of(page, size);
         
-        log.info("네이티브 최신순 쿼리 실행 (복수 타입) - categoryType: {}, categoryName: {}, campaignTypes: {}", categoryType, categoryName, campaignTypes);
-        
-        // campaignTypes를 PostgreSQL 배열 형태로 변환
-        Integer campaignTypesSize = (campaignTypes != null) ? campaignTypes.size() : 0;
-        String campaignTypesArray = null;
-        
-        if (campaignTypes != null && !campaignTypes.isEmpty()) {
-            campaignTypesArray = "{" + String.join(",", campaignTypes) + "}";
-        }
+        log.info("읽기 모델 최신순 조회 (복수 타입) - categoryType: {}, categoryName: {}, campaignTypes: {}", categoryType, categoryName, campaignTypes);
         
-        Page<Object[]> resultPage = campaignRepository.findOptimizedCampaignListByLatestWithTypes(
-                APPROVED_STATUS.name(), currentDate, categoryType, categoryName, 
-                campaignTypesSize, campaignTypesArray, pageable);
+        Page<Object[]> resultPage = campaignListViewRepository.findLatest(
+                APPROVED_STATUS.name(), currentDate, toCategoryTypeParam(categoryType), toCategoryNameParam(categoryName),
+                campaignTypesSize(campaignTypes), toCampaignTypesArray(campaignTypes), pageable);
         
         // DTO 변환
         Page<CampaignListSimpleResponse> responsePage = resultPage.map(this::mapOptimizedResultToResponse);
@@ -362,6 +359,131 @@ public class CampaignViewService {
         return PageResponse.from(responsePage);
     }
 
+    /**
+     * 커서(keyset) 기반 캠페인 목록 조회 - 인기순/최신순/마감 임박순, 키워드 검색 공통
+     * OFFSET 없이 이전 페이지 마지막 항목의 정렬 키 이후부터 size + 1건을 읽어 다음 페이지 여부를 판단합니다.
+     *
+     * @param sort 정렬 기준 (currentApplicants, createdAt, recruitmentEndDate)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null 또는 빈 문자열)
+     * @param keyword 검색 키워드 (목록 조회는 null, 마감 임박순에서는 무시)
+     * @param includeTotal 전체 건수 포함 여부 (60초 캐시된 추정치)
+     * @throws InvalidCursorException 커서가 잘못되었거나 정렬 기준과 맞지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<CampaignListSimpleResponse> getCampaignListByCursor(
+            String sort, String cursor, int size, String categoryType, String categoryName,
+            List<String> campaignTypes, String keyword, boolean includeTotal) {
+
+        String sortKey = CampaignListCursor.SORT_POPULAR.equals(sort) || CampaignListCursor.SORT_DEADLINE.equals(sort)
+                ? sort : CampaignListCursor.SORT_LATEST;
+        CampaignListCursor after = CampaignListCursor.decode(cursor, sortKey);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        String categoryTypeParam = toCategoryTypeParam(categoryType);
+        String categoryNameParam = toCategoryNameParam(categoryName);
+        SearchKeyword searchKeyword = SearchKeyword.of(keyword);
+        String keywordParam = searchKeyword != null ? searchKeyword.pattern() : null;
+        int searchTokenCount = searchKeyword != null ? searchKeyword.tokenCount() : 0;
+        String searchTokens = searchKeyword != null ? searchKeyword.tokens() : null;
+        int typesSize = campaignTypesSize(campaignTypes);
+        String typesArray = toCampaignTypesArray(campaignTypes);
+        LocalDate currentDate = getCurrentDate();
+
+        List<Object[]> rows = switch (sortKey) {
+            case CampaignListCursor.SORT_POPULAR -> campaignListViewRepository.findPopularAfter(
+                    APPROVED_STATUS.name(), currentDate, categoryTypeParam, categoryNameParam, typesSize, typesArray,
+                    keywordParam, searchTokenCount, searchTokens,
+                    after != null ? after.getCurrentApplicants() : null,
+                    after != null ? after.getCreatedAt() : null,
+                    after != null ? after.getId() : null,
+                    pageSize + 1);
+            case CampaignListCursor.SORT_DEADLINE -> campaignListViewRepository.findDeadlineSoonAfter(
+                    APPROVED_STATUS.name(), currentDate, categoryTypeParam, categoryNameParam, typesSize, typesArray,
+                    after != null ? after.getRecruitmentEndDate() : null,
+                    after != null ? after.getId() : null,
+                    pageSize + 1);
+            default -> campaignListViewRepository.findLatestAfter(
+                    APPROVED_STATUS.name(), currentDate, categoryTypeParam, categoryNameParam, typesSize, typesArray,
+                    keywordParam, searchTokenCount, searchTokens,
+                    after != null ? after.getCreatedAt() : null,
+                    after != null ? after.getId() : null,
+                    pageSize + 1);
+        };
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Object[]> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new CampaignListCursor(
+                    sortKey,
+                    ((Number) last[10]).intValue(),
+                    toLocalDateTime(last[7]),
+                    toLocalDate(last[3]),
+                    ((Number) last[0]).longValue()).encode();
+        }
+
+        Long totalElements = null;
+        if (includeTotal) {
+            boolean deadlineOnly = CampaignListCursor.SORT_DEADLINE.equals(sortKey);
+            String countKeyword = deadlineOnly ? null : keywordParam;
+            totalElements = getCachedListCount(
+                    String.join("|", String.valueOf(deadlineOnly), String.valueOf(categoryTypeParam),
+                            String.valueOf(categoryNameParam), String.valueOf(typesArray), String.valueOf(countKeyword)),
+                    () -> campaignListViewRepository.countListing(APPROVED_STATUS.name(), currentDate,
+                            categoryTypeParam, categoryNameParam, typesSize, typesArray,
+                            countKeyword, searchTokenCount, searchTokens, deadlineOnly));
+        }
+
+        log.info("커서 목록 조회 완료 - sort: {}, {}개 캠페인, hasNext: {}", sortKey, pageRows.size(), hasNext);
+
+        return CursorPageResponse.<CampaignListSimpleResponse>builder()
+                .content(pageRows.stream().map(this::mapOptimizedResultToResponse).collect(Collectors.toList()))
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+
+    /**
+     * 목록 전체 건수를 Redis에 짧게 캐시하여 반환 (필터 조합별, Redis 장애 시 DB 직접 조회)
+     */
+    private long getCachedListCount(String filterKey, LongSupplier loader) {
+        String key = LIST_COUNT_KEY_PREFIX + filterKey;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("목록 건수 캐시 조회 실패 - DB 조회: {}", e.getMessage());
+        }
+
+        long count = loader.getAsLong();
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(count), LIST_COUNT_TTL);
+        } catch (Exception e) {
+            log.warn("목록 건수 캐시 저장 실패: {}", e.getMessage());
+        }
+        return count;
+    }
+
+    private LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        return (LocalDate) value;
+    }
+
     /**
      * 정렬 파라미터 변환
      */
@@ -553,35 +675,7 @@ public class CampaignViewService {
         log.info("캠페인 검색 실행 - keyword: {}, page: {}, size: {}", keyword, page, size);
 
         // 승인된 활성 캠페인만 최신순으로 고정
-        Pageable pageable = PageRequest.of(page, size);
-        LocalDate currentDate = getCurrentDate();
-
-        log.info("승인된 활성 캠페인만 최신순 정렬로 검색 실행");
-        Page<Campaign> campaignPage = campaignRepository.searchApprovedActiveByKeywordOrderByLatest(
-                APPROVED_STATUS, currentDate, keyword, pageable);
-
-        log.info("검색 결과 - 총 {}개 캠페인 발견, 현재 페이지 {}개",
-                campaignPage.getTotalElements(), campaignPage.getNumberOfElements());
-
-        // DTO 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(CampaignListSimpleResponse::fromEntity);
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
-        log.info("최종 응답 준비 완료 - {}개 캠페인", campaigns.size());
-        return PageResponse.from(responsePage);
+        return searchCampaignsWithFilters(keyword, page, size, "createdAt", true, null);
     }
 
     /**
@@ -594,111 +688,58 @@ public class CampaignViewService {
         log.info("필터링된 캠페인 검색 실행 - keyword: {}, page: {}, size: {}, sortField: {}, campaignTypes: {}", 
                 keyword, page, size, sortField, campaignTypes);
 
-        LocalDate currentDate = getCurrentDate();
-        Pageable pageable = PageRequest.of(page, size);
+        SearchKeyword searchKeyword = SearchKeyword.of(keyword);
+        if (searchKeyword == null) {
+            return PageResponse.from(Page.<CampaignListSimpleResponse>empty(PageRequest.of(page, size)));
+        }
 
-        Page<Campaign> campaignPage;
+        // 관련도순/인기순/최신순 정렬과 캠페인 타입 필터를 검색 쿼리 안에서 함께 처리
+        String sort = "relevance".equals(sortField) || "currentApplicants".equals(sortField) ? sortField : "createdAt";
 
-        if ("currentApplicants".equals(sortField)) {
-            // 인기순 (신청자 수 기준) 검색
-            log.info("인기순 검색 실행");
-            if (campaignTypes != null && !campaignTypes.isEmpty()) {
-                campaignPage = campaignRepository.searchApprovedActiveByKeywordAndCampaignTypesOrderByPopularity(
-                        APPROVED_STATUS, currentDate, keyword, campaignTypes, pageable);
-            } else {
-                campaignPage = campaignRepository.searchApprovedActiveByKeywordOrderByPopularity(
-                        APPROVED_STATUS, currentDate, keyword, pageable);
-            }
-        } else {
-            // 최신순 검색
-            log.info("최신순 검색 실행");
-            if (campaignTypes != null && !campaignTypes.isEmpty()) {
-                campaignPage = campaignRepository.searchApprovedActiveByKeywordAndCampaignTypesOrderByLatest(
-                        APPROVED_STATUS, currentDate, keyword, campaignTypes, pageable);
-            } else {
-                campaignPage = campaignRepository.searchApprovedActiveByKeywordOrderByLatest(
-                        APPROVED_STATUS, currentDate, keyword, pageable);
-            }
-        }
+        Page<Object[]> resultPage = campaignListViewRepository.searchByKeyword(
+                APPROVED_STATUS.name(), getCurrentDate(), searchKeyword.pattern(),
+                searchKeyword.tokenCount(), searchKeyword.tokens(),
+                campaignTypesSize(campaignTypes), toCampaignTypesArray(campaignTypes),
+                sort, PageRequest.of(page, size));
 
         log.info("검색 결과 - 총 {}개 캠페인 발견, 현재 페이지 {}개",
-                campaignPage.getTotalElements(), campaignPage.getNumberOfElements());
+                resultPage.getTotalElements(), resultPage.getNumberOfElements());
 
-        // DTO 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(CampaignListSimpleResponse::fromEntity);
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
+        return PageResponse.from(resultPage.map(this::mapOptimizedResultToResponse));
+    }
 
-        log.info("필터링된 검색 완료 - {}개 캠페인", campaigns.size());
-        return PageResponse.from(responsePage);
+    /**
+     * 검색 색인 조회용 키워드 (정규화 + LIKE 이스케이프된 패턴, 2-gram 토큰 배열 리터럴)
+     */
+    private record SearchKeyword(String pattern, int tokenCount, String tokens) {
+
+        static SearchKeyword of(String keyword) {
+            String normalized = TextUtils.normalizeForSearchIndex(keyword);
+            if (normalized.isEmpty()) {
+                return null;
+            }
+            List<String> bigrams = TextUtils.toBigrams(normalized);
+            return new SearchKeyword(TextUtils.escapeLikePattern(normalized), bigrams.size(),
+                    TextUtils.toPostgresArrayLiteral(bigrams));
+        }
     }
 
     /**
-     * 카테고리명 포함하여 캠페인 목록 조회 (페이징 처리) - 기존 방식으로 임시 복구
+     * 카테고리명 포함하여 캠페인 목록 조회 (페이징 처리) - 목록 읽기 모델 사용
      */
     @Transactional(readOnly = true)
     public PageResponse<CampaignListSimpleResponse> getCampaignListWithFilters(int page, int size, String sort, boolean onlyActive,
                                                                                String categoryType, String categoryName, String campaignType) {
-        log.info("기존 방식 캠페인 목록 조회 - page: {}, size: {}, sort: {}, categoryType: {}, categoryName: {}",
+        log.info("캠페인 목록 조회 - page: {}, size: {}, sort: {}, categoryType: {}, categoryName: {}",
                 page, size, sort, categoryType, categoryName);
-        
-        // 정렬 기준에 따라 페이지 정보 생성
-        Pageable pageable;
-        boolean sortByCurrentApplicants = "currentApplicants".equals(sort);
-
-        if (sortByCurrentApplicants) {
-            // currentApplicants로 정렬하는 경우 쿼리에서 ORDER BY를 처리하므로 Pageable에는 정렬 없이 생성
-            pageable = PageRequest.of(page, size);
-        } else {
-            // 기본 정렬 처리
-            pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sort != null ? sort : "createdAt"));
-        }
 
-        Page<Campaign> campaignPage;
+        List<String> campaignTypes = (campaignType != null && !campaignType.isEmpty()) ? List.of(campaignType) : null;
 
-        if (sortByCurrentApplicants) {
+        if (isPopularSort(sort)) {
             // 신청 인원수 기준 정렬 (신청 많은 순)
-            campaignPage = getCampaignPageSortedByCurrentApplicantsWithFilters(categoryType, categoryName, campaignType, onlyActive, pageable);
-        } else {
-            // 기존 정렬 방식
-            campaignPage = getCampaignPageWithStandardSortWithFilters(categoryType, categoryName, campaignType, onlyActive, pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
+            return getOptimizedCampaignListByPopularityWithTypes(page, size, categoryType, categoryName, campaignTypes);
         }
-
-        log.info("기존 방식 조회 완료 - {}개 캠페인", campaigns.size());
-        return PageResponse.from(responsePage);
+        return getOptimizedCampaignListByLatestWithTypes(page, size, categoryType, categoryName, campaignTypes);
     }
 
     /**
@@ -711,7 +752,7 @@ public class CampaignViewService {
                 page, size, sort, categoryType, categoryName, campaignTypes);
         
         // 최적화된 네이티브 쿼리 사용 - 복수 campaignTypes 지원
-        if ("currentApplicants".equals(sort)) {
+        if (isPopularSort(sort)) {
             log.info("인기순 정렬 - 복수 campaignTypes 지원 네이티브 쿼리 사용");
             return getOptimizedCampaignListByPopularityWithTypes(page, size, categoryType, categoryName, campaignTypes);
         } else {
@@ -720,200 +761,35 @@ public class CampaignViewService {
         }
     }
 
+    /**
+     * 목록 정렬 기준 확인 - 신청 많은 순이면 true
+     * 그 밖의 값(createdAt, 생략, 목록에서 지원하지 않는 relevance 등)은 기존과 같이 최신순으로 조회
+     */
+    private boolean isPopularSort(String sort) {
+        return "currentApplicants".equals(sort);
+    }
+
     /**
      * 플랫폼 타입 리스트를 포함하여 마감 임박순 캠페인 목록 조회
      */
     @Transactional(readOnly = true)
     public PageResponse<CampaignListSimpleResponse> getCampaignListByDeadlineSoonWithCampaignTypes(int page, int size,
                                                                                                    String categoryType, String categoryName, List<String> campaignTypes) {
-        // 마감일 오름차순 정렬 (마감 가까운 순)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "recruitmentEndDate"));
-        LocalDate currentDate = getCurrentDate();
-
-        Page<Campaign> campaignPage;
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
         log.info("마감 임박순 조회 - categoryType: {}, categoryName: {}, campaignTypes: {}", categoryType, categoryName, campaignTypes);
 
-        // 모든 필터 조건을 고려한 조회
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty() && campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 카테고리 타입, 카테고리명, 캠페인 타입들 모두 있는 경우
-            campaignPage = campaignRepository.findApprovedActiveByCategoryTypeAndNameAndCampaignTypesOrderByLatest(
-                    APPROVED_STATUS, currentDate, categoryTypeEnum, categoryName, campaignTypes, pageable);
-        } else if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            // 카테고리 타입과 카테고리명만 있는 경우
-            campaignPage = campaignRepository.findByApprovalStatusAndCategoryCategoryTypeAndCategoryCategoryNameAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, categoryTypeEnum, categoryName, currentDate, pageable);
-        } else if (categoryTypeEnum != null && campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 카테고리 타입과 캠페인 타입들만 있는 경우
-            campaignPage = campaignRepository.findApprovedActiveByCategoryTypeAndCampaignTypesOrderByLatest(
-                    APPROVED_STATUS, currentDate, categoryTypeEnum, campaignTypes, pageable);
-        } else if (categoryTypeEnum != null) {
-            // 카테고리 타입만 있는 경우
-            campaignPage = campaignRepository.findByApprovalStatusAndCategoryCategoryTypeAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, categoryTypeEnum, currentDate, pageable);
-        } else if (campaignTypes != null && !campaignTypes.isEmpty()) {
-            // 캠페인 타입들만 있는 경우 - 복수 캠페인 타입 처리
-            if (campaignTypes.size() == 1) {
-                // 단일 캠페인 타입
-                String firstCampaignType = campaignTypes.get(0);
-                campaignPage = campaignRepository.findByApprovalStatusAndCampaignTypeAndRecruitmentEndDateGreaterThanEqual(
-                        APPROVED_STATUS, firstCampaignType, currentDate, pageable);
-            } else {
-                // 복수 캠페인 타입 - 전체 조회 후 필터링 (임시 방법)
-                campaignPage = campaignRepository.findByApprovalStatusAndRecruitmentEndDateGreaterThanEqual(
-                        APPROVED_STATUS, currentDate, pageable);
-                // TODO: 복수 campaignType 지원하는 전용 쿼리 추가 필요
-            }
-        } else {
-            // 필터 없이 모든 승인된 활성 캠페인
-            campaignPage = campaignRepository.findByApprovalStatusAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, currentDate, pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
-        // campaignTypes 필터링이 복수인 경우 후처리 필터링
-        if (campaignTypes != null && campaignTypes.size() > 1) {
-            campaigns = campaigns.stream()
-                    .filter(campaign -> campaignTypes.contains(campaign.getCampaignType()))
-                    .collect(Collectors.toList());
-            log.info("복수 campaignTypes 후처리 필터링 완료 - {}개 캠페인", campaigns.size());
-        }
+        // 마감일 오름차순 정렬 (마감 가까운 순) - 상시 캠페인 제외
+        Page<Object[]> resultPage = campaignListViewRepository.findDeadlineSoon(
+                APPROVED_STATUS.name(), getCurrentDate(), toCategoryTypeParam(categoryType), toCategoryNameParam(categoryName),
+                campaignTypesSize(campaignTypes), toCampaignTypesArray(campaignTypes), PageRequest.of(page, size));
 
-        return PageResponse.from(responsePage);
+        return PageResponse.from(resultPage.map(this::mapOptimizedResultToResponse));
     }
 
     @Transactional(readOnly = true)
     public PageResponse<CampaignListSimpleResponse> getCampaignListByDeadlineSoonWithFilters(int page, int size,
                                                                                              String categoryType, String categoryName, String campaignType) {
-        // 마감일 오름차순 정렬 (마감 가까운 순)
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "recruitmentEndDate"));
-        LocalDate currentDate = getCurrentDate();
-
-        Page<Campaign> campaignPage;
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
-        // 카테고리 타입과 카테고리명 모두 있는 경우 - 상시 캠페인 제외
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            campaignPage = campaignRepository.findByApprovalStatusAndCategoryCategoryTypeAndCategoryCategoryNameAndIsAlwaysOpenFalseAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, categoryTypeEnum, categoryName, currentDate, pageable);
-        }
-        // 카테고리 타입만 있는 경우 - 상시 캠페인 제외
-        else if (categoryTypeEnum != null) {
-            campaignPage = campaignRepository.findByApprovalStatusAndCategoryCategoryTypeAndIsAlwaysOpenFalseAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, categoryTypeEnum, currentDate, pageable);
-        }
-        // 캠페인 타입만 있는 경우 - 상시 캠페인 제외
-        else if (campaignType != null && !campaignType.isEmpty()) {
-            campaignPage = campaignRepository.findByApprovalStatusAndCampaignTypeAndIsAlwaysOpenFalseAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, campaignType, currentDate, pageable);
-        }
-        // 필터 없이 모든 승인된 활성 캠페인 - 상시 캠페인 제외
-        else {
-            campaignPage = campaignRepository.findByApprovalStatusAndIsAlwaysOpenFalseAndRecruitmentEndDateGreaterThanEqual(
-                    APPROVED_STATUS, currentDate, pageable);
-        }
-
-        // 엔티티를 간소화된 DTO로 변환
-        Page<CampaignListSimpleResponse> responsePage = campaignPage.map(campaign -> {
-            CampaignListSimpleResponse response = CampaignListSimpleResponse.fromEntity(campaign);
-            return response;
-        });
-
-        // 신청 인원수를 실제 데이터로 설정
-        List<CampaignListSimpleResponse> campaigns = responsePage.getContent();
-        if (!campaigns.isEmpty()) {
-            campaigns.forEach(campaignResponse -> {
-                // 실제 캠페인에서 신청자 수를 가져와 설정
-                Campaign actualCampaign = campaignPage.getContent().stream()
-                        .filter(c -> c.getId().equals(campaignResponse.getId()))
-                        .findFirst()
-                        .orElse(null);
-                if (actualCampaign != null) {
-                    campaignResponse.setCurrentApplicants(actualCampaign.getCurrentApplicantCount());
-                }
-            });
-        }
-
-        return PageResponse.from(responsePage);
-    }
-
-    /**
-     * 카테고리명 포함하여 승인된 활성 캠페인을 인기순으로 정렬
-     */
-    private Page<Campaign> getCampaignPageSortedByCurrentApplicantsWithFilters(String categoryType, String categoryName, String campaignType,
-                                                                               boolean onlyActive, Pageable pageable) {
-        LocalDate currentDate = getCurrentDate();
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
-        // 카테고리 타입과 카테고리명 모두 있는 경우
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            return campaignRepository.findApprovedActiveByCategoryTypeAndNameOrderByCurrentApplicantsDesc(
-                    APPROVED_STATUS, currentDate, categoryTypeEnum, categoryName, pageable);
-        }
-        // 카테고리 타입만 있는 경우
-        else if (categoryTypeEnum != null) {
-            return campaignRepository.findApprovedActiveByCategoryTypeOrderByCurrentApplicantsDesc(
-                    APPROVED_STATUS, currentDate, categoryTypeEnum, pageable);
-        }
-        // 캠페인 타입만 있는 경우
-        else if (campaignType != null && !campaignType.isEmpty()) {
-            return campaignRepository.findApprovedActiveByCampaignTypeOrderByCurrentApplicantsDesc(
-                    APPROVED_STATUS, currentDate, campaignType, pageable);
-        }
-        // 필터 없이 모든 승인된 활성 캠페인
-        else {
-            return campaignRepository.findApprovedActiveOrderByCurrentApplicantsDesc(APPROVED_STATUS, currentDate, pageable);
-        }
-    }
-
-    /**
-     * 카테고리명과 플랫폼 타입 리스트 포함하여 승인된 활성 캠페인을 최신순으로 정렬
-     */
-    private Page<Campaign> getCampaignPageWithStandardSortWithFilters(String categoryType, String categoryName, String campaignType,
-                                                                      boolean onlyActive, Pageable pageable) {
-        LocalDate currentDate = getCurrentDate();
-        CampaignCategory.CategoryType categoryTypeEnum = convertCategoryType(categoryType);
-
-        // 카테고리 타입과 카테고리명 모두 있는 경우
-        if (categoryTypeEnum != null && categoryName != null && !categoryName.isEmpty()) {
-            return campaignRepository.findApprovedActiveByCategoryTypeAndNameOrderByLatest(
-                    APPROVED_STATUS, currentDate, categoryTypeEnum, categoryName, pageable);
-        }
-        // 카테고리 타입만 있는 경우
-        else if (categoryTypeEnum != null) {
-            return campaignRepository.findApprovedActiveByCategoryTypeOrderByLatest(
-                    APPROVED_STATUS, currentDate, categoryTypeEnum, pageable);
-        }
-        // 캠페인 타입만 있는 경우
-        else if (campaignType != null && !campaignType.isEmpty()) {
-            return campaignRepository.findApprovedActiveByCampaignTypeOrderByLatest(
-                    APPROVED_STATUS, currentDate, campaignType, pageable);
-        }
-        // 필터 없이 모든 승인된 활성 캠페인
-        else {
-            return campaignRepository.findApprovedActiveOrderByLatest(APPROVED_STATUS, currentDate, pageable);
-        }
+        List<String> campaignTypes = (campaignType != null && !campaignType.isEmpty()) ? List.of(campaignType) : null;
+        return getCampaignListByDeadlineSoonWithCampaignTypes(page, size, categoryType, categoryName, campaignTypes);
     }
 
     // ===== 캠페인 진행 상태 조회 =====
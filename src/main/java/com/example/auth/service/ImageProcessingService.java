@@ -22,13 +22,14 @@ public class ImageProcessingService {
     private final UserRepository userRepository;
     private final CampaignRepository campaignRepository;
     private final S3Service s3Service;
+    private final CampaignListViewService campaignListViewService;
 
     /**
      * Lambda 처리 완료 후 사용자 프로필 이미지 URL을 리사이징된 URL로 업데이트
      * @param userId 사용자 ID
      * @param originalImageUrl 원본 이미지 URL
      */
-    @Async
+    @Async("imageAsyncExecutor")
     public void updateUserProfileImageWhenReady(Long userId, String originalImageUrl) {
         try {
             // 리사이징 기능이 비활성화되어 있거나 Lambda가 없는 경우 즉시 원본 URL로 업데이트
@@ -50,7 +51,7 @@ public class ImageProcessingService {
      * @param campaignId 캠페인 ID
      * @param originalImageUrl 원본 이미지 URL
      */
-    @Async
+    @Async("imageAsyncExecutor")
     public void updateCampaignThumbnailWhenReady(Long campaignId, String originalImageUrl) {
         try {
             // 리사이징 기능이 비활성화되어 있거나 Lambda가 없는 경우 즉시 원본 URL로 업데이트
@@ -96,6 +97,7 @@ public class ImageProcessingService {
             if (campaign != null) {
                 campaign.setThumbnailUrl(imageUrl);
                 campaignRepository.save(campaign);
+                campaignListViewService.refresh(campaignId);
                 log.info("캠페인 썸네일 이미지 URL 업데이트 완료: campaignId={}, url={}", campaignId, imageUrl);
             } else {
                 log.warn("캠페인을 찾을 수 없습니다: campaignId={}", campaignId);
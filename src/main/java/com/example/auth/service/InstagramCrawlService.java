@@ -22,7 +22,7 @@ public class InstagramCrawlService {
      * @param platform 연동된 플랫폼 정보
      * @return 팔로워 수 또는 0
      */
-    @Async
+    @Async("snsCrawlAsyncExecutor")
     public CompletableFuture<Integer> crawlFollowerCount(UserSnsPlatform platform) {
         String url = platform.getAccountUrl();
         log.info("인스타그램 연동 처리: platformId={}, url={}", platform.getId(), url);
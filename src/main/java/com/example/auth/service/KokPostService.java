@@ -5,25 +5,36 @@ import com.example.auth.domain.Campaign;
 import com.example.auth.domain.KokPost;
 import com.example.auth.dto.KokPostDetailResponse;
 import com.example.auth.dto.KokPostListResponse;
+import com.example.auth.dto.common.CursorPageResponse;
+import com.example.auth.dto.common.KeysetCursor;
+import com.example.auth.exception.InvalidCursorException;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.KokPostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,48 +46,80 @@ public class KokPostService {
     private final KokPostRepository kokPostRepository;
     private final CampaignRepository campaignRepository;
     private final RedisTemplate<String, String> redisTemplate;
+    private final Executor viewCountAsyncExecutor;
 
     // Redis 키 상수
     private static final String VIEW_COUNT_KEY_PREFIX = "kokpost:view:";
     private static final String DUPLICATE_CHECK_KEY_PREFIX = "kokpost:duplicate:";
     private static final String DAILY_VIEW_COUNT_KEY_PREFIX = "kokpost:daily:";
+    private static final String DAILY_DIRTY_SET_KEY = "kokpost:dirty:daily"; // DB 반영 대기 postId 집합
     private static final String POPULAR_POSTS_KEY = "kokpost:popular";
+    private static final String DB_VIEW_COUNT_CACHE_PREFIX = "db_view_count:";
+    private static final String CAMPAIGN_STATUS_CACHE_PREFIX = "campaign_status:";
 
     // TTL 설정 (시간)
     private static final int DUPLICATE_CHECK_TTL_HOURS = 24;
     private static final int VIEW_COUNT_CACHE_TTL_HOURS = 1;
     private static final int POPULAR_POSTS_TTL_HOURS = 1;
 
-    // Lua 스크립트 - 원자적 조회수 증가
-    private static final String VIEW_COUNT_INCREMENT_SCRIPT = """
+    private static final int MAX_PAGE_SIZE = 50; // 커서 페이징 최대 크기
+
+    // Lua 스크립트 - 조회 1건을 Redis 왕복 1회로 처리
+    // 중복 체크, 실시간/일일 조회수 증가, DB 반영 대기 등록, 백업 증가, 인기 포스트 갱신을 수행하고
+    // 캐시된 DB 조회수와 캠페인 상태를 함께 반환합니다. 결과: {redis 조회수, DB 조회수 | '', 캠페인 상태 | ''}
+    static final String VIEW_COUNT_INCREMENT_SCRIPT = """
         local duplicate_key = KEYS[1]
         local view_count_key = KEYS[2]
         local daily_key = KEYS[3]
+        local backup_key = KEYS[4]
+        local dirty_key = KEYS[5]
+        local db_count_key = KEYS[6]
+        local popular_key = KEYS[7]
+        local campaign_status_key = KEYS[8]
         local ttl = tonumber(ARGV[1])
-        
+        local post_id = ARGV[2]
+        local popular_ttl = tonumber(ARGV[3])
+
+        local count
         -- 중복 체크
         if redis.call('EXISTS', duplicate_key) == 0 then
             -- 중복 방지 키 설정
             redis.call('SETEX', duplicate_key, ttl, 'viewed')
-            
+
             -- 실시간 조회수 증가
-            local new_count = redis.call('INCR', view_count_key)
+            count = redis.call('INCR', view_count_key)
             redis.call('EXPIRE', view_count_key, ttl * 2)
-            
+
             -- 일일 누적 조회수 증가 (배치 처리용)
             redis.call('INCR', daily_key)
             redis.call('EXPIRE', daily_key, ttl * 2)
-            
-            return new_count
+
+            -- DB 반영 대기 집합에 등록 (배치가 KEYS 없이 대상 조회)
+            redis.call('SADD', dirty_key, post_id)
+
+            -- 🛡️ 백업 키에도 동시 증가 (데이터 소실 방지)
+            redis.call('INCR', backup_key)
+            redis.call('EXPIRE', backup_key, ttl * 3) -- 더 긴 TTL
         else
             -- 중복 조회인 경우 현재 조회수 반환
-            local current_count = redis.call('GET', view_count_key)
-            return current_count or 0
+            count = tonumber(redis.call('GET', view_count_key) or '0')
+        end
+
+        -- DB 조회수 캐시가 있으면 총 조회수로 인기 포스트 갱신 (상위 100개 유지)
+        local db_count = redis.call('GET', db_count_key)
+        if db_count then
+            redis.call('ZADD', popular_key, tonumber(db_count) + count, post_id)
+            redis.call('ZREMRANGEBYRANK', popular_key, 0, -101)
+            redis.call('EXPIRE', popular_key, popular_ttl)
         end
+
+        return {tostring(count), db_count or '', redis.call('GET', campaign_status_key) or ''}
         """;
 
-    private final DefaultRedisScript<Long> viewCountScript =
-            new DefaultRedisScript<>(VIEW_COUNT_INCREMENT_SCRIPT, Long.class);
+    // 스크립트 객체는 한 번만 생성 - SHA1을 재사용하여 EVALSHA로 실행 (캐시에 없을 때만 EVAL)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> viewCountScript =
+            new DefaultRedisScript<>(VIEW_COUNT_INCREMENT_SCRIPT, List.class);
 
     /**
      * 캠페인별 콕포스트 상세 조회 (개선된 버전)
@@ -88,24 +131,39 @@ public class KokPostService {
         KokPost kokPost = kokPostRepository.findByCampaignId(campaignId)
                 .orElseThrow(() -> new ResourceNotFoundException("해당 캠페인의 체험콕 글을 찾을 수 없습니다."));
 
-        // 2. 조회수 증가 처리 (원자적 연산)
-        Long realTimeViewCount = processViewCountIncrement(kokPost.getId(), clientIP, userAgent);
+        // 2. 조회수 증가 + 인기 포스트 갱신 + 캐시 조회 (Redis 왕복 1회)
+        ViewCountResult viewCountResult = processViewCountIncrement(kokPost.getId(), campaignId, clientIP, userAgent);
+        Long realTimeViewCount = viewCountResult.totalViewCount();
 
-        // 3. 캠페인 상태 확인 (캐시 활용)
-        Boolean isCampaignOpen = getCampaignStatus(campaignId);
+        // 3. 캠페인 상태 확인 (스크립트 결과에 없을 때만 DB 조회 후 캐시)
+        Boolean isCampaignOpen = viewCountResult.campaignOpen() != null
+                ? viewCountResult.campaignOpen()
+                : getCampaignStatus(campaignId);
 
-        // 4. 비동기로 인기 포스트 업데이트
-        updatePopularPostsAsync(kokPost.getId(), realTimeViewCount);
+        // 4. DB 조회수 캐시가 없어 스크립트에서 인기 포스트를 갱신하지 못한 경우에만 별도 갱신
+        if (!viewCountResult.popularUpdated()) {
+            updatePopularPostsAsync(kokPost.getId(), realTimeViewCount);
+        }
 
         log.info("콕포스트 상세 조회 완료 - postId: {}, 실시간 조회수: {}", kokPost.getId(), realTimeViewCount);
 
         return KokPostDetailResponse.fromEntityWithViewCount(kokPost, isCampaignOpen, realTimeViewCount);
     }
 
+    /**
+     * 조회수 처리 결과
+     *
+     * @param totalViewCount DB + Redis 실시간 조회수
+     * @param campaignOpen   캐시된 캠페인 모집 상태 (캐시 미스 시 null)
+     * @param popularUpdated 스크립트에서 인기 포스트 순위를 갱신했는지 여부
+     */
+    private record ViewCountResult(Long totalViewCount, Boolean campaignOpen, boolean popularUpdated) {
+    }
+
     /**
      * 원자적 조회수 증가 처리 (Lua 스크립트 사용) - 백업 포함
      */
-    private Long processViewCountIncrement(Long postId, String clientIP, String userAgent) {
+    private ViewCountResult processViewCountIncrement(Long postId, Long campaignId, String clientIP, String userAgent) {
         try {
             // 복합 키 생성 (IP + UserAgent + 시간대)
             String complexKey = generateComplexKey(postId, clientIP, userAgent);
@@ -115,68 +173,40 @@ public class KokPostService {
             String dailyCountKey = DAILY_VIEW_COUNT_KEY_PREFIX + postId;
             String backupKey = "kokpost:backup_daily:" + postId; // 백업 키 추가
 
-            // 🛡️ 백업 포함 Lua 스크립트 실행 (원자적 연산)
-            Long newViewCount = redisTemplate.execute(
-                    createBackupIncludeScript(),
-                    List.of(duplicateKey, viewCountKey, dailyCountKey, backupKey),
-                    String.valueOf(DUPLICATE_CHECK_TTL_HOURS * 3600)
+            // 🛡️ 백업 포함 Lua 스크립트 실행 (원자적 연산, EVALSHA)
+            List<?> result = redisTemplate.execute(
+                    viewCountScript,
+                    List.of(duplicateKey, viewCountKey, dailyCountKey, backupKey, DAILY_DIRTY_SET_KEY,
+                            DB_VIEW_COUNT_CACHE_PREFIX + postId, POPULAR_POSTS_KEY, CAMPAIGN_STATUS_CACHE_PREFIX + campaignId),
+                    String.valueOf(DUPLICATE_CHECK_TTL_HOURS * 3600),
+                    String.valueOf(postId),
+                    String.valueOf(POPULAR_POSTS_TTL_HOURS * 3600)
             );
 
-            // DB 조회수와 합산하여 총 조회수 계산
-            Long dbViewCount = getDbViewCount(postId);
-            Long totalViewCount = dbViewCount + (newViewCount != null ? newViewCount : 0L);
+            long newViewCount = result != null ? Long.parseLong(String.valueOf(result.get(0))) : 0L;
+            String cachedDbCount = result != null ? String.valueOf(result.get(1)) : "";
+            String cachedStatus = result != null ? String.valueOf(result.get(2)) : "";
+
+            // DB 조회수와 합산하여 총 조회수 계산 (캐시 미스 시에만 DB 조회)
+            Long cachedDbViewCount = parseCachedDbCount(cachedDbCount.isEmpty() ? null : cachedDbCount);
+            boolean dbCountCached = cachedDbViewCount != null;
+            Long dbViewCount = dbCountCached ? cachedDbViewCount : getDbViewCount(postId);
+            Long totalViewCount = dbViewCount + newViewCount;
 
             log.debug("안전한 조회수 처리 완료 - postId: {}, Redis: {}, DB: {}, 총합: {}",
                     postId, newViewCount, dbViewCount, totalViewCount);
 
-            return totalViewCount;
+            return new ViewCountResult(totalViewCount,
+                    cachedStatus.isEmpty() ? null : Boolean.parseBoolean(cachedStatus),
+                    dbCountCached);
 
         } catch (Exception e) {
             log.error("조회수 증가 처리 중 오류 발생 - postId: {}", postId, e);
             // 오류 시 DB 조회수만 반환
-            return getDbViewCount(postId);
+            return new ViewCountResult(getDbViewCount(postId), null, false);
         }
     }
 
-    /**
-     * 🛡️ 백업 포함 Lua 스크립트 생성
-     */
-    private DefaultRedisScript<Long> createBackupIncludeScript() {
-        String backupIncludeScript = """
-            local duplicate_key = KEYS[1]
-            local view_count_key = KEYS[2]
-            local daily_key = KEYS[3]
-            local backup_key = KEYS[4]
-            local ttl = tonumber(ARGV[1])
-            
-            -- 중복 체크
-            if redis.call('EXISTS', duplicate_key) == 0 then
-                -- 중복 방지 키 설정
-                redis.call('SETEX', duplicate_key, ttl, 'viewed')
-                
-                -- 실시간 조회수 증가
-                local new_count = redis.call('INCR', view_count_key)
-                redis.call('EXPIRE', view_count_key, ttl * 2)
-                
-                -- 일일 누적 조회수 증가 (배치 처리용)
-                redis.call('INCR', daily_key)
-                redis.call('EXPIRE', daily_key, ttl * 2)
-                
-                -- 🛡️ 백업 키에도 동시 증가 (데이터 소실 방지)
-                redis.call('INCR', backup_key)
-                redis.call('EXPIRE', backup_key, ttl * 3) -- 더 긴 TTL
-                
-                return new_count
-            else
-                -- 중복 조회인 경우 현재 조회수 반환
-                local current_count = redis.call('GET', view_count_key)
-                return current_count or 0
-            end
-            """;
-        
-        return new DefaultRedisScript<>(backupIncludeScript, Long.class);
-    }
-
     /**
      * 복합 키 생성 (중복 방지 정확도 향상)
      */
@@ -193,11 +223,11 @@ public class KokPostService {
      * DB에서 기본 조회수 조회 (캐시 적용)
      */
     private Long getDbViewCount(Long postId) {
-        String cacheKey = "db_view_count:" + postId;
-        String cachedCount = redisTemplate.opsForValue().get(cacheKey);
+        String cacheKey = DB_VIEW_COUNT_CACHE_PREFIX + postId;
+        Long cachedCount = parseCachedDbCount(redisTemplate.opsForValue().get(cacheKey));
 
         if (cachedCount != null) {
-            return Long.parseLong(cachedCount);
+            return cachedCount;
         }
 
         // 캐시 미스 시 DB 조회
@@ -216,7 +246,7 @@ public class KokPostService {
      * 캠페인 상태 조회 (캐시 적용)
      */
     private Boolean getCampaignStatus(Long campaignId) {
-        String cacheKey = "campaign_status:" + campaignId;
+        String cacheKey = CAMPAIGN_STATUS_CACHE_PREFIX + campaignId;
         String cachedStatus = redisTemplate.opsForValue().get(cacheKey);
 
         if (cachedStatus != null) {
@@ -237,9 +267,18 @@ public class KokPostService {
 
     /**
      * 비동기로 인기 포스트 순위 업데이트
+     * 같은 클래스 안에서 호출되어 @Async 프록시를 거치지 않으므로 조회수 전용 실행기에 직접 제출
      */
-    @Async
     public CompletableFuture<Void> updatePopularPostsAsync(Long postId, Long viewCount) {
+        try {
+            return CompletableFuture.runAsync(() -> updatePopularPosts(postId, viewCount), viewCountAsyncExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("인기 포스트 업데이트 작업 거부 - postId: {}", postId);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void updatePopularPosts(Long postId, Long viewCount) {
         try {
             // Redis Sorted Set으로 인기 포스트 관리
             redisTemplate.opsForZSet().add(POPULAR_POSTS_KEY, String.valueOf(postId), viewCount.doubleValue());
@@ -255,8 +294,6 @@ public class KokPostService {
         } catch (Exception e) {
             log.error("인기 포스트 업데이트 실패 - postId: {}", postId, e);
         }
-
-        return CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -301,18 +338,113 @@ public class KokPostService {
      * 실시간 조회수 조회
      */
     public Long getRealTimeViewCount(Long postId) {
+        return getRealTimeViewCounts(List.of(postId)).getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 여러 포스트의 실시간 조회수 일괄 조회 - Redis MGET 1회, 캐시 미스는 findAllById 1회
+     */
+    public Map<Long, Long> getRealTimeViewCounts(List<Long> postIds) {
+        return resolveRealTimeViewCounts(postIds, missingIds -> kokPostRepository.findAllById(missingIds).stream()
+                .collect(Collectors.toMap(KokPost::getId, post -> post.getViewCount() != null ? post.getViewCount() : 0L)));
+    }
+
+    /**
+     * 실시간 조회수 = DB 조회수(캐시) + Redis 실시간 조회수
+     * 실시간 카운터와 DB 조회수 캐시를 한 번의 MGET으로 읽고, DB 조회수 캐시 미스만 dbLoader로 채운 뒤 파이프라인으로 캐시합니다.
+     */
+    private Map<Long, Long> resolveRealTimeViewCounts(List<Long> postIds, Function<List<Long>, Map<Long, Long>> dbLoader) {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return viewCounts;
+        }
+
+        List<String> keys = new ArrayList<>(postIds.size() * 2);
+        postIds.forEach(postId -> keys.add(VIEW_COUNT_KEY_PREFIX + postId));
+        postIds.forEach(postId -> keys.add(DB_VIEW_COUNT_CACHE_PREFIX + postId));
+
+        List<String> values;
         try {
-            String viewCountKey = VIEW_COUNT_KEY_PREFIX + postId;
-            String redisCount = redisTemplate.opsForValue().get(viewCountKey);
-            Long redisViewCount = redisCount != null ? Long.parseLong(redisCount) : 0L;
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.error("실시간 조회수 일괄 조회 실패 - DB 조회수만 사용합니다.", e);
+            values = null;
+        }
 
-            Long dbViewCount = getDbViewCount(postId);
+        int size = postIds.size();
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Long postId = postIds.get(i);
+            Long dbCount = values != null ? parseCachedDbCount(values.get(size + i)) : null;
+            if (dbCount == null) {
+                missingIds.add(postId);
+                continue;
+            }
+            viewCounts.put(postId, dbCount + parseCount(values.get(i)));
+        }
 
-            return dbViewCount + redisViewCount;
+        if (!missingIds.isEmpty()) {
+            Map<Long, Long> dbCounts = dbLoader.apply(missingIds);
+            Map<Long, Long> toCache = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Long postId = postIds.get(i);
+                if (viewCounts.containsKey(postId)) {
+                    continue;
+                }
+                long dbCount = dbCounts.getOrDefault(postId, 0L);
+                viewCounts.put(postId, dbCount + (values != null ? parseCount(values.get(i)) : 0L));
+                if (dbCounts.containsKey(postId)) {
+                    toCache.put(postId, dbCount);
+                }
+            }
+            cacheDbViewCounts(toCache);
+        }
+
+        return viewCounts;
+    }
 
+    /**
+     * DB 조회수 캐시 일괄 저장 (파이프라인 1회, 1시간 TTL)
+     */
+    private void cacheDbViewCounts(Map<Long, Long> dbCounts) {
+        if (dbCounts.isEmpty()) {
+            return;
+        }
+        try {
+            long ttlSeconds = Duration.ofHours(VIEW_COUNT_CACHE_TTL_HOURS).toSeconds();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                dbCounts.forEach((postId, count) -> connection.stringCommands().setEx(
+                        (DB_VIEW_COUNT_CACHE_PREFIX + postId).getBytes(StandardCharsets.UTF_8),
+                        ttlSeconds,
+                        String.valueOf(count).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
         } catch (Exception e) {
-            log.error("실시간 조회수 조회 실패 - postId: {}", postId, e);
-            return getDbViewCount(postId);
+            log.warn("DB 조회수 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 조회수 캐시 값 (없거나 형식이 잘못되었으면 null - 캐시 미스로 보고 DB에서 다시 읽어 덮어씀)
+     */
+    private Long parseCachedDbCount(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 DB 조회수 캐시 데이터 - value: {}", value);
+            return null;
+        }
+    }
+
+    private long parseCount(String value) {
+        try {
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 조회수 데이터 - value: {}", value);
+            return 0L;
         }
     }
 
@@ -333,6 +465,41 @@ public class KokPostService {
         return convertToResponseWithCampaignStatus(kokPosts);
     }
 
+    /**
+     * 콕포스트 최신순 커서 페이징 조회 - size + 1건을 읽어 다음 페이지 여부 판단
+     *
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public CursorPageResponse<KokPostListResponse> getKokPostsByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor decoded = KeysetCursor.decode(cursor, KeysetCursor.KOK_POST);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<KokPost> kokPosts = decoded == null
+                ? kokPostRepository.findLatest(limit)
+                : kokPostRepository.findLatestAfter(decoded.getCreatedAt(), decoded.getId(), limit);
+
+        boolean hasNext = kokPosts.size() > pageSize;
+        if (hasNext) {
+            kokPosts = kokPosts.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            KokPost last = kokPosts.get(kokPosts.size() - 1);
+            nextCursor = new KeysetCursor(KeysetCursor.KOK_POST, last.getCreatedAt(), last.getId()).encode();
+        }
+
+        log.info("콕포스트 커서 목록 조회 완료 - 크기: {}, 다음 페이지: {}", kokPosts.size(), hasNext);
+
+        return CursorPageResponse.<KokPostListResponse>builder()
+                .content(convertToResponseWithCampaignStatus(kokPosts))
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     /**
      * 제목으로 콕포스트 검색 (기존 메서드 유지)
      */
@@ -368,11 +535,21 @@ public class KokPostService {
                         Campaign::isRecruitmentOpen
                 ));
 
+        // 실시간 조회수 일괄 조회 (MGET 1회, DB 조회수 캐시 미스는 이미 읽은 엔티티 값 사용)
+        Map<Long, KokPost> postById = kokPosts.stream()
+                .collect(Collectors.toMap(KokPost::getId, Function.identity(), (a, b) -> a));
+        Map<Long, Long> viewCounts = resolveRealTimeViewCounts(new ArrayList<>(postById.keySet()),
+                missingIds -> missingIds.stream()
+                        .collect(Collectors.toMap(Function.identity(), id -> {
+                            Long viewCount = postById.get(id).getViewCount();
+                            return viewCount != null ? viewCount : 0L;
+                        })));
+
         // 응답 객체 생성하면서 실시간 조회수 적용
         return kokPosts.stream()
                 .map(kokPost -> {
                     Boolean isCampaignOpen = campaignOpenStatusMap.getOrDefault(kokPost.getCampaignId(), false);
-                    Long realTimeViewCount = getRealTimeViewCount(kokPost.getId());
+                    Long realTimeViewCount = viewCounts.getOrDefault(kokPost.getId(), kokPost.getViewCount());
 
                     return KokPostListResponse.builder()
                             .id(kokPost.getId())
@@ -1,6 +1,7 @@
 package com.example.auth.service;
 
 import com.example.auth.constant.ApplicationStatus;
+import com.example.auth.constant.EmailTemplate;
 import com.example.auth.domain.*;
 import com.example.auth.dto.mission.*;
 import com.example.auth.exception.BusinessException;
@@ -30,7 +31,8 @@ public class MissionManagementService {
     private final CampaignRepository campaignRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
-    private final SESService sesService;
+    private final NotificationOutboxService notificationOutboxService;
+    private final CampaignApplicantCounterService applicantCounterService;
 
     /**
      * 1-1. 인플루언서 다중 선정 (PENDING → SELECTED)
@@ -70,6 +72,7 @@ public class MissionManagementService {
                 // 상태 변경: PENDING → SELECTED
                 application.select();
                 campaignApplicationRepository.save(application);
+                applicantCounterService.onStatusChanged(campaignId, ApplicationStatus.PENDING, ApplicationStatus.SELECTED);
 
                 // 선정 알림 발송 (SSE)
                 notificationService.sendInfluencerSelectedNotification(
@@ -77,20 +80,8 @@ public class MissionManagementService {
                         application.getCampaign().getTitle()
                 );
 
-                // 🔥 선정 이메일 발송 추가
-                try {
-                    sesService.sendCampaignSelectedEmail(
-                            application.getUser().getEmail(),
-                            application.getUser().getNickname(),
-                            campaign.getTitle()
-                    );
-                    log.info("캠페인 선정 이메일 전송 성공: userId={}, campaignId={}, email={}", 
-                            application.getUser().getId(), campaignId, application.getUser().getEmail());
-                } catch (Exception emailException) {
-                    log.error("캠페인 선정 이메일 전송 실패: userId={}, campaignId={}, email={}, error={}", 
-                            application.getUser().getId(), campaignId, application.getUser().getEmail(), emailException.getMessage());
-                    // 이메일 실패가 선정 프로세스를 중단시키지 않도록 예외를 잡아서 로그만 기록
-                }
+                // 선정 이메일은 아웃박스에 기록하고 커밋 후 대량 발송 묶음으로 발송
+                notificationOutboxService.enqueueCampaignSelectedEmails(List.of(application.getUser()), campaign.getTitle());
 
                 successfulSelections.add(applicationId);
 
@@ -166,6 +157,7 @@ public class MissionManagementService {
                 // 상태 변경: → REJECTED
                 application.reject();  // ApplicationStatus.REJECTED로 변경
                 campaignApplicationRepository.save(application);
+                applicantCounterService.onStatusChanged(campaignId, currentStatus, ApplicationStatus.REJECTED);
 
                 // 반려 알림 발송
                 notificationService.sendInfluencerRejectedNotification(
@@ -397,20 +389,16 @@ public class MissionManagementService {
 
             // ApplicationStatus는 SELECTED 상태 유지 (재제출 가능하도록)
 
-            // 미션 수정 요청 이메일 발송
-            try {
-                sesService.sendMissionRevisionRequestEmail(
-                        application.getUser().getEmail(),
-                        application.getUser().getNickname(),
-                        application.getCampaign().getTitle(),
-                        request.getRevisionReason()
-                );
-                log.info("미션 수정 요청 이메일 전송 성공: userId={}, submissionId={}", 
-                        application.getUser().getId(), submissionId);
-            } catch (Exception e) {
-                log.error("미션 수정 요청 이메일 전송 실패: userId={}, submissionId={}, error={}", 
-                        application.getUser().getId(), submissionId, e.getMessage(), e);
-            }
+            // 미션 수정 요청 이메일 (아웃박스 기록, 커밋 후 발송)
+            notificationOutboxService.enqueueTemplatedEmail(
+                    application.getUser().getId(),
+                    application.getUser().getEmail(),
+                    EmailTemplate.MISSION_REVISION_REQUEST,
+                    SESService.templateData(
+                            "nickname", application.getUser().getNickname(),
+                            "campaignTitle", application.getCampaign().getTitle(),
+                            "revisionReason", request.getRevisionReason() != null
+                                    ? request.getRevisionReason() : "세부 사항을 보완해 주세요."));
 
         } else {
             // 미션 승인 처리
@@ -424,25 +412,22 @@ public class MissionManagementService {
             }
 
             // ApplicationStatus: SELECTED → COMPLETED
+            ApplicationStatus previousStatus = application.getApplicationStatus();
             application.updateStatus(ApplicationStatus.COMPLETED);
+            applicantCounterService.onStatusChanged(application.getCampaign().getId(), previousStatus, ApplicationStatus.COMPLETED);
 
             // 포트폴리오에 추가
             createMissionHistory(submission, null, request.getClientFeedback());
 
-            // 미션 완료 이메일 발송
-            try {
-                sesService.sendMissionApprovedEmail(
-                        application.getUser().getEmail(),
-                        application.getUser().getNickname(),
-                        application.getCampaign().getTitle(),
-                        request.getClientFeedback()
-                );
-                log.info("미션 완료 이메일 전송 성공: userId={}, submissionId={}", 
-                        application.getUser().getId(), submissionId);
-            } catch (Exception e) {
-                log.error("미션 완료 이메일 전송 실패: userId={}, submissionId={}, error={}", 
-                        application.getUser().getId(), submissionId, e.getMessage(), e);
-            }
+            // 미션 완료 이메일 (아웃박스 기록, 커밋 후 발송)
+            notificationOutboxService.enqueueTemplatedEmail(
+                    application.getUser().getId(),
+                    application.getUser().getEmail(),
+                    EmailTemplate.MISSION_APPROVED,
+                    SESService.templateData(
+                            "nickname", application.getUser().getNickname(),
+                            "campaignTitle", application.getCampaign().getTitle(),
+                            "clientFeedback", request.getClientFeedback()));
         }
 
         missionSubmissionRepository.save(submission);
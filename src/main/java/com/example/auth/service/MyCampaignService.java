@@ -35,6 +35,7 @@ public class MyCampaignService {
 
     private final CampaignApplicationRepository applicationRepository;
     private final CampaignRepository campaignRepository;
+    private final CampaignApplicantCounterService applicantCounterService;
 
     /**
      * 사용자 역할에 따른 캠페인 요약 정보 조회
@@ -515,9 +516,9 @@ public class MyCampaignService {
     }
 
     /**
-     * 현재 신청자 수 조회
+     * 현재 신청자 수 조회 (신청자 수 카운터 사용)
      */
     private Integer getCurrentApplicationCount(Long campaignId) {
-        return campaignRepository.countCurrentApplicationsByCampaignId(campaignId);
+        return applicantCounterService.getApplicantCount(campaignId);
     }
 }
@@ -0,0 +1,171 @@
+package com.example.auth.service;
+
+import com.example.auth.domain.Notification;
+import com.example.auth.repository.NotificationRepository;
+import com.example.auth.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽지 않은 알림 수 카운터 서비스
+ * 사용자별 읽지 않은 알림 수를 Redis 해시(notification:unread, 필드 = userId)에 유지하여
+ * 알림 요약 조회와 SSE 요약 전송 때 notifications를 COUNT 하지 않도록 합니다.
+ * 원본은 notifications 테이블이며, 증감은 커밋 이후 필드가 있을 때만 반영하고(없으면 다음 조회 때 DB 값으로 채움)
+ * 어긋난 값은 NotificationUnreadCountScheduler가 주기적으로 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCounterService {
+
+    private final NotificationRepository notificationRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public static final String UNREAD_COUNT_KEY = "notification:unread";
+
+    // Lua 스크립트 - ARGV: [userId, 증감, userId, 증감, ...], 필드가 있는 사용자만 증감 (음수가 되면 0)
+    private static final String ADJUST_SCRIPT = """
+        for i = 1, #ARGV, 2 do
+            if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then
+                local value = redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+                if value < 0 then
+                    redis.call('HSET', KEYS[1], ARGV[i], '0')
+                end
+            end
+        end
+        return 1
+        """;
+
+    // Lua 스크립트 - ARGV: [userId, 조회 당시 값, 실제 값, ...], 조회 이후 바뀌지 않은 필드만 실제 값으로 교체 (보정 중 증감 보존)
+    private static final String RECONCILE_SCRIPT = """
+        local fixed = 0
+        for i = 1, #ARGV, 3 do
+            if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2])
+                fixed = fixed + 1
+            end
+        end
+        return fixed
+        """;
+
+    private static final DefaultRedisScript<Long> ADJUST = new DefaultRedisScript<>(ADJUST_SCRIPT, Long.class);
+    private static final DefaultRedisScript<Long> RECONCILE = new DefaultRedisScript<>(RECONCILE_SCRIPT, Long.class);
+
+    /**
+     * 새 알림 저장 반영 (커밋 이후 사용자별 +N)
+     */
+    public void onCreated(Collection<Notification> notifications) {
+        Map<Long, Integer> deltas = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            if (!Boolean.TRUE.equals(notification.getIsRead())) {
+                deltas.merge(notification.getUserId(), 1, Integer::sum);
+            }
+        }
+        TransactionUtils.runAfterCommit(() -> adjust(deltas));
+    }
+
+    /**
+     * 읽음 처리 반영 (커밋 이후 실제로 읽음 전환된 건수만큼 -N)
+     */
+    public void onRead(Long userId, int readCount) {
+        if (readCount <= 0) {
+            return;
+        }
+        TransactionUtils.runAfterCommit(() -> adjust(Map.of(userId, -readCount)));
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 (Redis 우선, 미스 시 DB COUNT 1회 후 채움)
+     */
+    public long getUnreadCount(Long userId) {
+        String field = String.valueOf(userId);
+        try {
+            Object value = redisTemplate.opsForHash().get(UNREAD_COUNT_KEY, field);
+            if (value != null) {
+                return Long.parseLong(value.toString());
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 Redis 조회 실패 - DB 집계 사용: userId={}, error={}", userId, e.getMessage());
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            // 그 사이 다른 요청이 채웠다면 그 값을 유지
+            redisTemplate.opsForHash().putIfAbsent(UNREAD_COUNT_KEY, field, String.valueOf(count));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 Redis 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 카운터 필드 일부를 DB 집계와 비교하여 보정 (보정 스케줄러에서 HSCAN 청크 단위로 호출)
+     *
+     * @param snapshot userId -> 스캔 당시 카운터 값
+     * @return 보정된 사용자 수
+     */
+    public int reconcile(Map<Long, String> snapshot) {
+        if (snapshot.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> actualCounts = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadGroupByUserId(new ArrayList<>(snapshot.keySet()))) {
+            actualCounts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+
+        List<String> args = new ArrayList<>();
+        snapshot.forEach((userId, cached) -> {
+            String actual = String.valueOf(actualCounts.getOrDefault(userId, 0L));
+            if (!actual.equals(cached)) {
+                args.add(String.valueOf(userId));
+                args.add(cached);
+                args.add(actual);
+            }
+        });
+        if (args.isEmpty()) {
+            return 0;
+        }
+
+        Long fixed = redisTemplate.execute(RECONCILE, List.of(UNREAD_COUNT_KEY), args.toArray());
+        return fixed != null ? fixed.intValue() : 0;
+    }
+
+    private void adjust(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((userId, delta) -> {
+            args.add(String.valueOf(userId));
+            args.add(String.valueOf(delta));
+        });
+        try {
+            redisTemplate.execute(ADJUST, List.of(UNREAD_COUNT_KEY), args.toArray());
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 Redis 반영 실패 - 필드 삭제 후 다음 조회 때 재집계: users={}, error={}",
+                    deltas.keySet(), e.getMessage());
+            evict(deltas.keySet());
+        }
+    }
+
+    private void evict(Collection<Long> userIds) {
+        try {
+            redisTemplate.opsForHash().delete(UNREAD_COUNT_KEY, userIds.stream().map(String::valueOf).toArray());
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 Redis 필드 삭제 실패: users={}", userIds, e);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.EmailTemplate;
+import com.example.auth.domain.Notification;
+import com.example.auth.domain.NotificationOutbox.EventType;
+import com.example.auth.domain.User;
+import com.example.auth.scheduler.NotificationOutboxDispatcher;
+import com.example.auth.util.TransactionUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 아웃박스 기록 서비스
+ * 알림함 저장, SSE 전송, 이메일 발송을 업무 트랜잭션 안에서 직접 하지 않고 notification_outbox에 JDBC 배치 INSERT로 기록합니다.
+ * 업무 데이터와 같은 트랜잭션에 커밋되므로 롤백되면 알림도 나가지 않고, 커밋되면 NotificationOutboxDispatcher가 반드시 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox (event_type, user_id, payload, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, 'PENDING', 0, ?, ?)
+            """;
+
+    /**
+     * 알림함 알림 내용 (IN_APP_NOTIFICATION)
+     */
+    public record NotificationPayload(Long userId, String notificationType, String title, String message,
+                                      Long relatedEntityId, String relatedEntityType) {
+
+        public static NotificationPayload from(Notification notification) {
+            return new NotificationPayload(notification.getUserId(), notification.getNotificationType().name(),
+                    notification.getTitle(), notification.getMessage(),
+                    notification.getRelatedEntityId(), notification.getRelatedEntityType());
+        }
+
+        public Notification toNotification() {
+            return Notification.builder()
+                    .userId(userId)
+                    .notificationType(Notification.NotificationType.valueOf(notificationType))
+                    .title(title)
+                    .message(message)
+                    .relatedEntityId(relatedEntityId)
+                    .relatedEntityType(relatedEntityType)
+                    .isRead(false)
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        }
+    }
+
+    /**
+     * 템플릿 이메일 내용 (TEMPLATED_EMAIL)
+     */
+    public record TemplatedEmailPayload(EmailTemplate template, String toEmail, Map<String, String> templateData) {
+    }
+
+    /**
+     * 아웃박스 한 건 (event_type, user_id, payload)
+     */
+    private record OutboxRow(EventType eventType, Long userId, String payload) {
+    }
+
+    /**
+     * 알림함 알림 기록 (저장/SSE 전송은 커밋 후 디스패처가 수행)
+     */
+    @Transactional
+    public void enqueueNotifications(List<Notification> notifications) {
+        List<OutboxRow> rows = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            rows.add(new OutboxRow(EventType.IN_APP_NOTIFICATION, notification.getUserId(),
+                    toJson(NotificationPayload.from(notification))));
+        }
+        insert(rows);
+    }
+
+    /**
+     * 캠페인 선정 이메일 기록
+     */
+    @Transactional
+    public void enqueueCampaignSelectedEmails(List<User> users, String campaignTitle) {
+        List<OutboxRow> rows = new ArrayList<>(users.size());
+        for (User user : users) {
+            rows.add(templatedEmailRow(user.getId(), user.getEmail(), EmailTemplate.CAMPAIGN_SELECTED,
+                    SESService.templateData("nickname", user.getNickname(), "campaignTitle", campaignTitle)));
+        }
+        insert(rows);
+    }
+
+    /**
+     * 템플릿 이메일 1건 기록 (발송은 커밋 후 디스패처가 대량 발송 묶음에 합쳐 수행)
+     */
+    @Transactional
+    public void enqueueTemplatedEmail(Long userId, String toEmail, EmailTemplate template, Map<String, String> templateData) {
+        insert(List.of(templatedEmailRow(userId, toEmail, template, templateData)));
+    }
+
+    private OutboxRow templatedEmailRow(Long userId, String toEmail, EmailTemplate template, Map<String, String> templateData) {
+        return new OutboxRow(EventType.TEMPLATED_EMAIL, userId,
+                toJson(new TemplatedEmailPayload(template, toEmail, templateData)));
+    }
+
+    private void insert(List<OutboxRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.eventType().name());
+            if (row.userId() != null) {
+                ps.setLong(2, row.userId());
+            } else {
+                ps.setNull(2, java.sql.Types.BIGINT);
+            }
+            ps.setString(3, row.payload());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        log.info("알림 아웃박스 기록: type={}, count={}", rows.get(0).eventType(), rows.size());
+
+        // 커밋 직후 바로 처리하도록 디스패처를 깨움 (롤백되면 기록도 사라지므로 호출하지 않음)
+        TransactionUtils.runAfterCommit(notificationOutboxDispatcher::requestDispatch);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 아웃박스 내용 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * notifications 월별 파티션 관리
+ * notifications는 created_at 기준 월 단위 RANGE 파티션 테이블(notifications_pYYYYMM)이며,
+ * 보관 기간은 행 DELETE 대신 만료된 월 파티션을 DETACH 후 DROP 하는 방식으로 적용합니다.
+ * - 파티션은 이번 달부터 monthsAhead개월 뒤까지 미리 생성 (범위 밖 행은 notifications_default로)
+ * - 보관 기간 적용은 notification.partition.retention-enabled=true일 때만 수행 (기본 비활성)
+ * - 상한이 보관 시작일(이번 달 1일 - retentionMonths) 이전인 파티션은 떼어낸 뒤 읽지 않은 알림만 기본 파티션으로 옮기고 삭제
+ *   (읽지 않은 알림은 보관 기간과 관계없이 유지되므로 카운터도 그대로)
+ * - 기존 일반 테이블의 파티션 테이블 전환은 NotificationPartitionMigrationRunner로 한 번만 명시적으로 실행
+ *   (트리거로 변경을 기록하며 잠금 없이 id 구간별로 복사하고 변경분도 잠금 없이 반영한 뒤,
+ *   짧은 ACCESS EXCLUSIVE 잠금 안에서는 마지막 남은 변경분만 맞추고 이름을 교체)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationPartitionManager {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${notification.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${notification.partition.retention-months:6}")
+    private int retentionMonths;
+
+    @Value("${notification.partition.retention-enabled:false}")
+    private boolean retentionEnabled;
+
+    @Value("${notification.partition.migration-batch-size:10000}")
+    private int migrationBatchSize;
+
+    private static final String TABLE = "notifications";
+    private static final String STAGING_TABLE = "notifications_partitioned";
+    private static final String LEGACY_TABLE = "notifications_legacy";
+    private static final String PARTITION_PREFIX = "notifications_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String COLUMNS =
+            "id, user_id, notification_type, title, message, related_entity_id, related_entity_type, is_read, created_at, read_at";
+
+    // 파티션 테이블 정의 (파티션 키가 PK에 포함되어야 하므로 PK = (id, created_at), id는 시퀀스 기본값)
+    private static final String CREATE_PARTITIONED_TABLE_SQL = """
+            CREATE TABLE %s (
+                id BIGINT NOT NULL DEFAULT nextval('notifications_id_seq_p'),
+                user_id BIGINT NOT NULL,
+                notification_type VARCHAR(255) NOT NULL,
+                title VARCHAR(200) NOT NULL,
+                message TEXT NOT NULL,
+                related_entity_id BIGINT,
+                related_entity_type VARCHAR(50),
+                is_read BOOLEAN NOT NULL DEFAULT false,
+                created_at TIMESTAMP(6) NOT NULL,
+                read_at TIMESTAMP(6),
+                PRIMARY KEY (id, created_at)
+            ) PARTITION BY RANGE (created_at)
+            """;
+
+    // 부모에 만들면 모든 파티션에 같은 인덱스가 생성됨 - 사용자 알림함(최신순)과 읽음/읽지 않음 알림함(최신순)
+    // 커서 페이징의 (created_at, id) 이후 범위 조회와 정렬을 인덱스 순서 그대로 처리 (OFFSET/정렬 없이 size + 1건만 읽음)
+    // %s = 대상 테이블 (전환 시에는 복사 전에 임시 테이블에 미리 생성)
+    private static final List<String> INDEX_DDL = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_notifications_p_user_created ON %s (user_id, created_at DESC, id DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_notifications_p_user_read_created ON %s (user_id, is_read, created_at DESC, id DESC)"
+    );
+
+    private static final List<String> INDEX_NAMES = List.of(
+            "idx_notifications_p_user_created", "idx_notifications_p_user_read_created");
+
+    // 전환 전 일반 테이블의 읽음/읽지 않음 알림함 인덱스 (전환 시 임시 테이블 인덱스와 이름이 겹치지 않도록 별도 이름, 기존 테이블과 함께 보관됨)
+    // CONCURRENTLY는 트랜잭션 안에서 실행할 수 없으므로 자동 커밋으로 실행 (쓰기를 막지 않음)
+    private static final String UNPARTITIONED_INDEX_NAME = "idx_notifications_user_read_created";
+    private static final String CREATE_UNPARTITIONED_INDEX_SQL = "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + UNPARTITIONED_INDEX_NAME
+            + " ON notifications (user_id, is_read, created_at DESC, id DESC)";
+
+    // CONCURRENTLY 생성이 중간에 실패하면 INVALID 인덱스가 남아 IF NOT EXISTS로 다시 만들어지지 않음
+    private static final String INDEX_VALID_SQL = "SELECT i.indisvalid FROM pg_index i WHERE i.indexrelid = to_regclass(?)";
+
+    // 읽지 않은 알림 부분 인덱스는 위 복합 인덱스로 대체
+    private static final String DROP_LEGACY_INDEX_SQL = "DROP INDEX IF EXISTS idx_notifications_p_user_unread";
+
+    // 전환 중 기존 테이블 변경 기록 (추가/수정/삭제된 행 id, 반영하면서 지움)
+    private static final String CHANGES_TABLE = "notifications_migration_changes";
+    private static final String CAPTURE_FUNCTION = "notifications_migration_capture";
+    private static final String CAPTURE_TRIGGER = "notifications_migration_capture_trigger";
+
+    private static final String CREATE_CHANGES_TABLE_SQL =
+            "CREATE TABLE " + CHANGES_TABLE + " (change_id BIGSERIAL PRIMARY KEY, id BIGINT NOT NULL)";
+
+    private static final String CREATE_CAPTURE_FUNCTION_SQL = """
+            CREATE FUNCTION %s() RETURNS trigger AS $$
+            BEGIN
+                IF TG_OP = 'DELETE' THEN
+                    INSERT INTO %s (id) VALUES (OLD.id);
+                ELSE
+                    INSERT INTO %s (id) VALUES (NEW.id);
+                END IF;
+                RETURN NULL;
+            END
+            $$ LANGUAGE plpgsql
+            """.formatted(CAPTURE_FUNCTION, CHANGES_TABLE, CHANGES_TABLE);
+
+    private static final String CREATE_CAPTURE_TRIGGER_SQL = "CREATE TRIGGER " + CAPTURE_TRIGGER
+            + " AFTER INSERT OR UPDATE OR DELETE ON notifications FOR EACH ROW EXECUTE FUNCTION " + CAPTURE_FUNCTION + "()";
+
+    private static final String CONSUME_CHANGES_SQL = """
+            DELETE FROM %s
+             WHERE change_id IN (SELECT change_id FROM %s ORDER BY change_id LIMIT ?)
+            RETURNING id
+            """.formatted(CHANGES_TABLE, CHANGES_TABLE);
+
+    private static final String RELKIND_SQL = "SELECT c.relkind FROM pg_class c WHERE c.oid = to_regclass(?)";
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+             WHERE i.inhparent = 'notifications'::regclass
+            """;
+
+    /**
+     * 보관 기간 시작 시각 (상한이 이 시각 이하인 월 파티션이 삭제 대상)
+     */
+    public LocalDateTime getRetentionStart() {
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+
+    /**
+     * notifications가 파티션 테이블로 전환되었는지 확인
+     */
+    public boolean isPartitioned() {
+        return "p".equals(findRelkind(TABLE));
+    }
+
+    /**
+     * 일반 테이블을 파티션 테이블로 전환 (이미 파티션 테이블이면 아무것도 하지 않음, 실패 시 예외)
+     * 1. 기존 테이블에 변경 기록 트리거를 걸고 임시 파티션 테이블과 인덱스 준비
+     * 2. 기존 행을 id 구간별 트랜잭션으로 복사 (쓰기를 막지 않음)
+     * 3. 복사 중 기록된 변경분을 잠금 없이 구간별로 반영 (남은 변경분이 한 구간 미만이 될 때까지)
+     * 4. ACCESS EXCLUSIVE 잠금 안에서는 그 사이 남은 소량의 변경분만 반영하고 이름 교체
+     * 기존 테이블은 notifications_legacy로 남김 (확인 후 수동 삭제)
+     */
+    public void migrate() {
+        String relkind = findRelkind(TABLE);
+        if ("p".equals(relkind)) {
+            log.info("알림 테이블이 이미 파티션 테이블입니다.");
+            return;
+        }
+
+        if (relkind == null) {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS notifications_id_seq_p");
+                jdbcTemplate.execute(CREATE_PARTITIONED_TABLE_SQL.formatted(TABLE));
+                jdbcTemplate.execute("ALTER SEQUENCE notifications_id_seq_p OWNED BY notifications.id");
+                createDefaultPartition(TABLE);
+                createIndexes(TABLE);
+            });
+            log.info("알림 파티션 테이블 생성 완료");
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        // 1. 변경 기록 트리거와 임시 테이블 준비 (이전 실행이 중간에 실패했으면 처음부터 다시)
+        // 트리거 생성은 진행 중인 쓰기가 끝나기를 기다리므로 이후 커밋되는 변경은 모두 기록됨 (쓰기를 막는 잠금이라 별도 짧은 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> {
+            dropChangeCapture();
+            jdbcTemplate.execute(CREATE_CHANGES_TABLE_SQL);
+            jdbcTemplate.execute(CREATE_CAPTURE_FUNCTION_SQL);
+            jdbcTemplate.execute(CREATE_CAPTURE_TRIGGER_SQL);
+        });
+
+        long copyUpTo = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS notifications_id_seq_p");
+            jdbcTemplate.execute(CREATE_PARTITIONED_TABLE_SQL.formatted(STAGING_TABLE));
+            createDefaultPartition(STAGING_TABLE);
+
+            // 기존 데이터가 들어갈 월 파티션을 먼저 만든 뒤 복사 (기본 파티션에는 범위 밖 행만)
+            LocalDate oldest = jdbcTemplate.queryForObject(
+                    "SELECT CAST(MIN(created_at) AS DATE) FROM notifications", LocalDate.class);
+            YearMonth from = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+            createMonthlyPartitions(STAGING_TABLE, from, YearMonth.now().plusMonths(monthsAhead));
+            // 이전 버전이 일반 테이블에 같은 이름의 인덱스를 만들어 두었으면 임시 테이블에 생성되지 않으므로 먼저 제거
+            INDEX_NAMES.forEach(name -> jdbcTemplate.execute("DROP INDEX IF EXISTS " + name));
+            createIndexes(STAGING_TABLE);
+
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM notifications", Long.class);
+            return maxId != null ? maxId : 0L;
+        });
+
+        // 2. 잠금 없이 id 구간별 복사
+        long copied = 0;
+        for (long lastId = 0; lastId < copyUpTo; lastId += migrationBatchSize) {
+            long fromId = lastId;
+            Integer rows = transactionTemplate.execute(status -> jdbcTemplate.update(
+                    "INSERT INTO " + STAGING_TABLE + " (" + COLUMNS + ") SELECT " + COLUMNS
+                            + " FROM notifications WHERE id > ? AND id <= ?",
+                    fromId, Math.min(fromId + migrationBatchSize, copyUpTo)));
+            copied += rows != null ? rows : 0;
+            log.info("알림 파티션 전환 복사 중 - id {}까지 / {}, 누적 {}건", Math.min(fromId + migrationBatchSize, copyUpTo), copyUpTo, copied);
+        }
+
+        // 3. 잠금 없이 변경분 반영 (반영 중 새로 생긴 변경은 다음 구간에서 처리, 한 구간을 못 채우면 남은 양이 적은 것)
+        long caughtUp = 0;
+        int consumed;
+        do {
+            Integer changes = transactionTemplate.execute(status -> applyCapturedChanges());
+            consumed = changes != null ? changes : 0;
+            caughtUp += consumed;
+        } while (consumed == migrationBatchSize);
+        log.info("알림 파티션 전환 변경분 반영 - 잠금 없이 {}건", caughtUp);
+
+        // 4. 짧은 잠금 안에서 남은 변경분만 반영 후 이름 교체
+        long lockStart = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            // 전환 중 쓰기를 막아 마지막 변경분 반영 이후 새 변경이 누락되지 않도록 함
+            jdbcTemplate.execute("LOCK TABLE notifications IN ACCESS EXCLUSIVE MODE");
+
+            int remaining = 0;
+            int applied;
+            do {
+                applied = applyCapturedChanges();
+                remaining += applied;
+            } while (applied == migrationBatchSize);
+            dropChangeCapture();
+
+            jdbcTemplate.execute("SELECT setval('notifications_id_seq_p', COALESCE((SELECT MAX(id) FROM notifications), 0) + 1, false)");
+            jdbcTemplate.execute("ALTER TABLE notifications RENAME TO " + LEGACY_TABLE);
+            jdbcTemplate.execute("ALTER TABLE " + STAGING_TABLE + " RENAME TO notifications");
+            jdbcTemplate.execute("ALTER SEQUENCE notifications_id_seq_p OWNED BY notifications.id");
+
+            log.info("알림 파티션 전환 변경분 반영 - 잠금 안에서 {}건", remaining);
+        });
+
+        log.info("알림 테이블 월별 파티션 전환 완료 - 복사 {}건, 잠금 없이 반영한 변경 {}건, 소요: {}ms (잠금 {}ms, 기존 테이블은 {}로 보관)",
+                copied, caughtUp, System.currentTimeMillis() - startTime,
+                System.currentTimeMillis() - lockStart, LEGACY_TABLE);
+    }
+
+    /**
+     * 기록된 변경을 오래된 순으로 한 구간(migrationBatchSize건)만 꺼내 임시 테이블에 반영 (호출자 트랜잭션 안에서 실행)
+     * 변경된 id의 행을 지우고 현재 기존 테이블 상태로 다시 넣으므로 추가/삭제/읽음 처리 모두 같은 방식으로 맞춰짐.
+     * 기록을 꺼내며 지우므로 시퀀스 순서와 커밋 순서가 달라 늦게 보인 변경도 다음 구간에서 빠짐없이 처리됨
+     *
+     * @return 꺼낸 변경 기록 수
+     */
+    private int applyCapturedChanges() {
+        List<Long> ids = jdbcTemplate.queryForList(CONSUME_CHANGES_SQL, Long.class, migrationBatchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        String idArray = ids.stream().distinct().map(String::valueOf).collect(Collectors.joining(",", "{", "}"));
+        jdbcTemplate.update("DELETE FROM " + STAGING_TABLE + " WHERE id = ANY(CAST(? AS bigint[]))", idArray);
+        jdbcTemplate.update("INSERT INTO " + STAGING_TABLE + " (" + COLUMNS + ") SELECT " + COLUMNS
+                + " FROM notifications WHERE id = ANY(CAST(? AS bigint[]))", idArray);
+        return ids.size();
+    }
+
+    private void dropChangeCapture() {
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + CAPTURE_TRIGGER + " ON notifications");
+        jdbcTemplate.execute("DROP FUNCTION IF EXISTS " + CAPTURE_FUNCTION + "()");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + CHANGES_TABLE);
+    }
+
+    /**
+     * 알림함 인덱스 보장 (이미 파티션 테이블로 전환된 뒤 추가된 인덱스 반영, 있으면 건너뜀)
+     */
+    public void ensureIndexes() {
+        transactionTemplate.executeWithoutResult(status -> {
+            createIndexes(TABLE);
+            jdbcTemplate.execute(DROP_LEGACY_INDEX_SQL);
+        });
+    }
+
+    /**
+     * 전환 전 일반 테이블의 알림함 인덱스 보장 (트랜잭션 밖에서 CONCURRENTLY로 생성, 있으면 건너뜀)
+     * 이전 실행이 실패해 INVALID 상태로 남은 인덱스는 지우고 다시 생성
+     */
+    public void ensureUnpartitionedIndexes() {
+        Boolean valid = jdbcTemplate.query(INDEX_VALID_SQL, rs -> rs.next() ? rs.getBoolean(1) : null, UNPARTITIONED_INDEX_NAME);
+        if (Boolean.FALSE.equals(valid)) {
+            log.warn("알림함 인덱스가 INVALID 상태라 다시 생성합니다: {}", UNPARTITIONED_INDEX_NAME);
+            jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + UNPARTITIONED_INDEX_NAME);
+        }
+        jdbcTemplate.execute(CREATE_UNPARTITIONED_INDEX_SQL);
+    }
+
+    /**
+     * 이번 달부터 monthsAhead개월 뒤까지 월 파티션 생성 (이미 있으면 건너뜀)
+     */
+    public void ensurePartitions() {
+        YearMonth now = YearMonth.now();
+        createMonthlyPartitions(TABLE, now, now.plusMonths(monthsAhead));
+    }
+
+    /**
+     * 보관 기간이 지난 월 파티션 삭제 (파티션마다 별도 트랜잭션, retention-enabled가 아니면 아무것도 하지 않음)
+     *
+     * @return 삭제한 파티션 수
+     */
+    public int dropExpiredPartitions() {
+        if (!retentionEnabled) {
+            log.debug("알림 보관 기간 적용이 비활성화되어 있습니다.");
+            return 0;
+        }
+
+        YearMonth retentionStart = YearMonth.from(getRetentionStart());
+        List<String> partitions = jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+
+        int dropped = 0;
+        for (String partition : partitions) {
+            YearMonth month = parseMonth(partition);
+            // 파티션 상한(다음 달 1일)이 보관 시작일 이하인 경우만 삭제
+            if (month == null || month.plusMonths(1).isAfter(retentionStart)) {
+                continue;
+            }
+            try {
+                dropPartition(partition);
+                dropped++;
+            } catch (Exception e) {
+                log.error("알림 파티션 삭제 실패: partition={}, error={}", partition, e.getMessage(), e);
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * 월 파티션을 떼어낸 뒤 읽지 않은 알림만 부모로 다시 넣고(해당 월 범위가 비었으므로 기본 파티션으로 감) 삭제
+     */
+    private void dropPartition(String partition) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE notifications DETACH PARTITION " + partition);
+            int keptUnread = jdbcTemplate.update("INSERT INTO notifications (" + COLUMNS + ") SELECT " + COLUMNS
+                    + " FROM " + partition + " WHERE is_read = false");
+            jdbcTemplate.execute("DROP TABLE " + partition);
+
+            log.info("알림 파티션 삭제: partition={}, 기본 파티션으로 옮긴 읽지 않은 알림 {}건", partition, keptUnread);
+        });
+    }
+
+    private void createIndexes(String table) {
+        INDEX_DDL.forEach(ddl -> jdbcTemplate.execute(ddl.formatted(table)));
+    }
+
+    private String findRelkind(String table) {
+        return jdbcTemplate.query(RELKIND_SQL, rs -> rs.next() ? rs.getString(1) : null, table);
+    }
+
+    private void createMonthlyPartitions(String table, YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PARTITION_PREFIX + month.format(PARTITION_SUFFIX)
+                    + " PARTITION OF " + table
+                    + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+    }
+
+    private void createDefaultPartition(String table) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS notifications_default PARTITION OF " + table + " DEFAULT");
+    }
+
+    private YearMonth parseMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -1,23 +1,27 @@
 package com.example.auth.service;
 
 import com.example.auth.domain.Notification;
+import com.example.auth.dto.common.CursorPageResponse;
+import com.example.auth.dto.common.KeysetCursor;
 import com.example.auth.dto.common.PageResponse;
 import com.example.auth.dto.notification.CampaignStatusNotificationRequest;
 import com.example.auth.dto.notification.NotificationResponse;
 import com.example.auth.dto.notification.NotificationSummaryResponse;
+import com.example.auth.exception.InvalidCursorException;
 import com.example.auth.exception.ResourceNotFoundException;
 import com.example.auth.repository.NotificationRepository;
+import com.example.auth.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 알림 서비스
@@ -32,6 +36,10 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final SseEmitterService sseEmitterService;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationPartitionManager notificationPartitionManager;
+
+    private static final int MAX_PAGE_SIZE = 50; // 커서 페이징 최대 크기
 
     /**
      * 사용자의 알림 목록 조회
@@ -40,22 +48,20 @@ public class NotificationService {
         log.info("사용자 알림 목록 조회: userId={}, type={}, page={}, size={}", userId, type, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> notificationPage;
+        Page<NotificationResponse> notificationPage;
 
         switch (type.toLowerCase()) {
             case "unread":
-                notificationPage = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId, pageable);
+                notificationPage = notificationRepository.findRecentByUserIdAndIsRead(userId, false, pageable);
                 break;
             case "read":
-                notificationPage = notificationRepository.findByUserIdAndIsReadTrueOrderByCreatedAtDesc(userId, pageable);
+                notificationPage = notificationRepository.findRecentByUserIdAndIsRead(userId, true, pageable);
                 break;
             default:
-                notificationPage = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+                notificationPage = notificationRepository.findRecentByUserId(userId, pageable);
         }
 
-        List<NotificationResponse> responses = notificationPage.getContent().stream()
-                .map(NotificationResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<NotificationResponse> responses = notificationPage.getContent();
 
         return PageResponse.<NotificationResponse>builder()
                 .content(responses)
@@ -68,13 +74,82 @@ public class NotificationService {
                 .build();
     }
 
+    /**
+     * 사용자의 알림 목록 커서 페이징 조회 - (createdAt, id) 이후 size + 1건을 프로젝션으로 읽어 다음 페이지 여부 판단
+     * 전체 개수는 includeTotal일 때만 계산 (읽지 않은 알림은 Redis 카운터, 그 외는 COUNT)
+     *
+     * @throws InvalidCursorException 커서 형식이 잘못된 경우
+     */
+    public CursorPageResponse<NotificationResponse> getUserNotificationsByCursor(Long userId, String type, String cursor,
+                                                                              int size, boolean includeTotal) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        KeysetCursor decoded = KeysetCursor.decode(cursor, KeysetCursor.NOTIFICATION);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        Boolean isRead = toReadFilter(type);
+
+        List<NotificationResponse> notifications;
+        if (isRead == null) {
+            notifications = decoded == null
+                    ? notificationRepository.findInbox(userId, limit)
+                    : notificationRepository.findInboxAfter(userId, decoded.getCreatedAt(), decoded.getId(), limit);
+        } else {
+            notifications = decoded == null
+                    ? notificationRepository.findInboxByIsRead(userId, isRead, limit)
+                    : notificationRepository.findInboxByIsReadAfter(userId, isRead, decoded.getCreatedAt(), decoded.getId(), limit);
+        }
+
+        boolean hasNext = notifications.size() > pageSize;
+        if (hasNext) {
+            notifications = notifications.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            NotificationResponse last = notifications.get(notifications.size() - 1);
+            nextCursor = new KeysetCursor(KeysetCursor.NOTIFICATION, last.getCreatedAt(), last.getNotificationId()).encode();
+        }
+
+        Long totalElements = null;
+        if (includeTotal) {
+            if (Boolean.FALSE.equals(isRead)) {
+                totalElements = notificationCounterService.getUnreadCount(userId);
+            } else if (isRead == null) {
+                totalElements = notificationRepository.countInbox(userId);
+            } else {
+                totalElements = notificationRepository.countInboxByIsRead(userId, true);
+            }
+        }
+
+        log.info("사용자 알림 커서 목록 조회 완료: userId={}, type={}, 크기={}, 다음 페이지={}",
+                userId, type, notifications.size(), hasNext);
+
+        return CursorPageResponse.<NotificationResponse>builder()
+                .content(notifications)
+                .pageSize(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+
+    private Boolean toReadFilter(String type) {
+        switch (type.toLowerCase()) {
+            case "unread":
+                return false;
+            case "read":
+                return true;
+            default:
+                return null;
+        }
+    }
+
     /**
      * 사용자의 알림 요약 정보 조회
      */
     public NotificationSummaryResponse getUserNotificationSummary(Long userId) {
         log.info("사용자 알림 요약 조회: userId={}", userId);
 
-        long unreadCount = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long unreadCount = notificationCounterService.getUnreadCount(userId);
         boolean isConnected = sseEmitterService.isConnected(userId.toString());
 
         return NotificationSummaryResponse.builder()
@@ -96,16 +171,18 @@ public class NotificationService {
         if (notificationIds == null || notificationIds.isEmpty()) {
             // 모든 알림 읽음 처리
             int updatedCount = notificationRepository.markAllAsReadByUserId(userId, readAt);
+            notificationCounterService.onRead(userId, updatedCount);
             log.info("모든 알림 읽음 처리 완료: userId={}, updatedCount={}", userId, updatedCount);
         } else {
             // 특정 알림들만 읽음 처리
             int updatedCount = notificationRepository.markAsReadByIds(notificationIds, userId, readAt);
+            notificationCounterService.onRead(userId, updatedCount);
             log.info("특정 알림 읽음 처리 완료: userId={}, notificationIds={}, updatedCount={}", 
                     userId, notificationIds, updatedCount);
         }
 
-        // 실시간으로 읽음 상태 업데이트 전송
-        sendNotificationSummaryUpdate(userId);
+        // 실시간으로 읽음 상태 업데이트 전송 (카운터가 커밋 후 감소하므로 그 이후에 전송)
+        TransactionUtils.runAfterCommit(() -> sendNotificationSummaryUpdate(userId));
     }
 
     /**
@@ -151,7 +228,7 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Notification savedNotification = notificationRepository.save(notification);
+        Notification savedNotification = saveNotification(notification);
 
         // SSE 실시간 알림 전송
         sendRealtimeNotification(request.getUserId(), savedNotification);
@@ -160,9 +237,18 @@ public class NotificationService {
     }
 
     /**
-     * SSE를 통한 실시간 알림 전송
+     * 알림 저장 + 읽지 않은 알림 카운터 증가 (커밋 후 반영)
+     */
+    private Notification saveNotification(Notification notification) {
+        Notification savedNotification = notificationRepository.save(notification);
+        notificationCounterService.onCreated(List.of(savedNotification));
+        return savedNotification;
+    }
+
+    /**
+     * SSE를 통한 실시간 알림 전송 (알림 아웃박스 디스패처도 저장 커밋 후 호출)
      */
-    private void sendRealtimeNotification(Long userId, Notification notification) {
+    public void sendRealtimeNotification(Long userId, Notification notification) {
         try {
             NotificationResponse response = NotificationResponse.fromEntity(notification);
             
@@ -215,7 +301,7 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Notification savedNotification = notificationRepository.save(notification);
+        Notification savedNotification = saveNotification(notification);
         sendRealtimeNotification(userId, savedNotification);
         
         log.info("인플루언서 선정 알림 전송 완료: notificationId={}", savedNotification.getId());
@@ -242,7 +328,7 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Notification savedNotification = notificationRepository.save(notification);
+        Notification savedNotification = saveNotification(notification);
         sendRealtimeNotification(userId, savedNotification);
         
         log.info("인플루언서 거절 알림 전송 완료: notificationId={}", savedNotification.getId());
@@ -255,6 +341,17 @@ public class NotificationService {
     public void sendCampaignSelectionNotification(Long userId, Long campaignId, String campaignTitle, String additionalMessage) {
         log.info("캠페인 선정 알림 생성: userId={}, campaignId={}, campaignTitle={}", userId, campaignId, campaignTitle);
 
+        Notification notification = buildCampaignSelectionNotification(userId, campaignId, campaignTitle, additionalMessage);
+        Notification savedNotification = saveNotification(notification);
+        sendRealtimeNotification(userId, savedNotification);
+        
+        log.info("캠페인 선정 알림 전송 완료: notificationId={}", savedNotification.getId());
+    }
+
+    /**
+     * 캠페인 선정 알림 내용 생성 (저장/전송 없음, 아웃박스 기록에도 사용)
+     */
+    public Notification buildCampaignSelectionNotification(Long userId, Long campaignId, String campaignTitle, String additionalMessage) {
         String title = "캠페인에 선정되었습니다!";
         String message = String.format("축하합니다! '%s' 캠페인에 선정되셨습니다.", campaignTitle);
         
@@ -262,7 +359,7 @@ public class NotificationService {
             message += "\n\n" + additionalMessage;
         }
 
-        Notification notification = Notification.builder()
+        return Notification.builder()
                 .userId(userId)
                 .notificationType(Notification.NotificationType.CAMPAIGN_SELECTED)
                 .title(title)
@@ -272,11 +369,6 @@ public class NotificationService {
                 .isRead(false)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        Notification savedNotification = notificationRepository.save(notification);
-        sendRealtimeNotification(userId, savedNotification);
-        
-        log.info("캠페인 선정 알림 전송 완료: notificationId={}", savedNotification.getId());
     }
 
     /**
@@ -286,6 +378,37 @@ public class NotificationService {
     public void sendCampaignNotSelectedNotification(Long userId, Long campaignId, String campaignTitle, String additionalMessage) {
         log.info("캠페인 미선정 알림 생성: userId={}, campaignId={}, campaignTitle={}", userId, campaignId, campaignTitle);
 
+        Notification notification = buildCampaignNotSelectedNotification(userId, campaignId, campaignTitle, additionalMessage);
+        Notification savedNotification = saveNotification(notification);
+        sendRealtimeNotification(userId, savedNotification);
+        
+        log.info("캠페인 미선정 알림 전송 완료: notificationId={}", savedNotification.getId());
+    }
+
+    /**
+     * 캠페인 모집 마감 알림 내용 생성 (저장/전송 없음, 아웃박스 기록용)
+     * 알림 타입은 Admin 서비스와 notification_type 제약에 이미 있는 CAMPAIGN_DEADLINE_REMINDER를 사용
+     */
+    public Notification buildCampaignRecruitmentClosedNotification(Long userId, Long campaignId, String campaignTitle) {
+        String title = "캠페인 모집 마감 안내";
+        String message = String.format("'%s' 캠페인의 모집이 마감되어 신청이 선정 대기 상태로 전환되었습니다. 선정 결과는 알림으로 안내드리겠습니다.", campaignTitle);
+
+        return Notification.builder()
+                .userId(userId)
+                .notificationType(Notification.NotificationType.CAMPAIGN_DEADLINE_REMINDER)
+                .title(title)
+                .message(message)
+                .relatedEntityId(campaignId)
+                .relatedEntityType("CAMPAIGN")
+                .isRead(false)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 캠페인 미선정 알림 내용 생성 (저장/전송 없음, 아웃박스 기록에도 사용)
+     */
+    public Notification buildCampaignNotSelectedNotification(Long userId, Long campaignId, String campaignTitle, String additionalMessage) {
         String title = "캠페인 선정 결과 안내";
         String message = String.format("'%s' 캠페인의 선정 결과를 안내드립니다. 아쉽게도 이번 캠페인에는 선정되지 않으셨습니다.", campaignTitle);
         
@@ -295,7 +418,7 @@ public class NotificationService {
             message += "\n\n더 좋은 기회로 다시 만날 수 있기를 기대합니다.";
         }
 
-        Notification notification = Notification.builder()
+        return Notification.builder()
                 .userId(userId)
                 .notificationType(Notification.NotificationType.CAMPAIGN_NOT_SELECTED)
                 .title(title)
@@ -305,11 +428,6 @@ public class NotificationService {
                 .isRead(false)
                 .createdAt(LocalDateTime.now())
                 .build();
-
-        Notification savedNotification = notificationRepository.save(notification);
-        sendRealtimeNotification(userId, savedNotification);
-        
-        log.info("캠페인 미선정 알림 전송 완료: notificationId={}", savedNotification.getId());
     }
 
     /**
@@ -342,7 +460,7 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Notification savedNotification = notificationRepository.save(notification);
+        Notification savedNotification = saveNotification(notification);
         sendRealtimeNotification(userId, savedNotification);
         
         log.info("캠페인 신청 접수 알림 전송 완료: notificationId={}", savedNotification.getId());
@@ -375,7 +493,7 @@ public class NotificationService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        Notification savedNotification = notificationRepository.save(notification);
+        Notification savedNotification = saveNotification(notification);
         sendRealtimeNotification(userId, savedNotification);
         
         log.info("일반 알림 전송 완료: notificationId={}", savedNotification.getId());
@@ -399,12 +517,14 @@ public class NotificationService {
     }
 
     /**
-     * 오래된 읽은 알림 정리 (스케줄러에서 호출)
+     * 오래된 알림 정리 (스케줄러에서 호출, notification.partition.retention-enabled=true일 때만 삭제)
+     * 행 단위 DELETE 대신 보관 기간이 지난 월 파티션을 통째로 삭제 (읽지 않은 알림은 기본 파티션으로 옮겨 유지)
+     * 파티션마다 별도 트랜잭션으로 처리하므로 클래스의 읽기 전용 트랜잭션에 참여하지 않음
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cleanupOldNotifications() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);  // 30일 이전 읽은 알림 삭제
-        int deletedCount = notificationRepository.deleteOldReadNotifications(cutoffDate);
-        log.info("오래된 알림 정리 완료: deletedCount={}", deletedCount);
+        int droppedCount = notificationPartitionManager.dropExpiredPartitions();
+        log.info("오래된 알림 정리 완료: droppedPartitions={}, retentionStart={}",
+                droppedCount, notificationPartitionManager.getRetentionStart());
     }
 }
@@ -1,27 +1,30 @@
 package com.example.auth.service;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ListObjectsV2Request;
 import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.example.auth.domain.Campaign;
-import com.example.auth.domain.User;
-import com.example.auth.repository.CampaignRepository;
-import com.example.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * S3에 저장된 이미지 중 현재 데이터베이스에서 사용되지 않는 이미지를 식별하고 정리하는 서비스
  * 스케줄러에 의해 자동으로 실행됩니다.
+ * 사용 중인 이미지 URL 컬럼만 JDBC 커서로 읽어 정렬된 키 배열로 만들고, S3 목록은 페이지(최대 1000개)마다 받아
+ * 정렬 순서대로 맞춰 보며(병합 조인) 1000개 단위 DeleteObjects 요청으로 삭제하므로 버킷 크기와 무관하게 메모리 사용량이 일정합니다.
+ * aws.s3.endpoint로 로컬 S3 호환 서버를 지정하면 실제 버킷 없이 확인할 수 있습니다.
  */
 @Slf4j
 @Service
@@ -29,92 +32,143 @@ import java.util.stream.Collectors;
 public class S3CleanupService {
 
     private final AmazonS3Client amazonS3Client;
-    private final CampaignRepository campaignRepository;
-    private final UserRepository userRepository;
-    private final S3Service s3Service;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
 
+    private static final int LIST_PAGE_SIZE = 1000; // ListObjectsV2 최대 페이지 크기
+    private static final int DELETE_BATCH_SIZE = 1000; // DeleteObjects 요청당 최대 키 수
+    private static final int FETCH_SIZE = 1000; // 이미지 URL 커서 조회 단위
+    private static final int MAX_REPORTED_IMAGES = 100; // 결과에 포함할 삭제 대상 예시 수
+
+    // 이미지 URL을 담는 컬럼 (엔티티를 읽지 않고 URL만 조회)
+    private static final String USED_IMAGE_URL_SQL = """
+            SELECT thumbnail_url FROM campaigns WHERE thumbnail_url IS NOT NULL AND thumbnail_url <> ''
+            UNION ALL
+            SELECT profile_img FROM users WHERE profile_img IS NOT NULL AND profile_img <> ''
+            UNION ALL
+            SELECT banner_url FROM banner_images WHERE banner_url IS NOT NULL AND banner_url <> ''
+            """;
+
     /**
      * 미사용 이미지를 자동으로 찾아 정리하는 통합 메소드
      * 스케줄러에 의해 호출됩니다.
      * 
      * @param prefix S3 객체 접두사 (특정 경로만 처리하고 싶을 때)
      * @param olderThanDays 지정된 일수보다 오래된 이미지만 삭제 (기본값: 7)
-     * @param dryRun true면 삭제하지 않고 삭제 대상 목록만 반환
-     * @return 삭제 대상 이미지 정보 또는 삭제된 이미지 정보
+     * @param dryRun true면 삭제하지 않고 삭제 대상 건수/용량만 집계
+     * @return 조회/삭제 대상/삭제 건수와 삭제 대상 예시(최대 100개)
      */
     public Map<String, Object> cleanupUnusedImages(String prefix, int olderThanDays, boolean dryRun) {
         log.info("미사용 이미지 정리 작업 시작 - 접두사: {}, {}일 이상 지난 이미지, 테스트 모드: {}", 
                 prefix, olderThanDays, dryRun);
-        
-        // 1. S3에서 모든 이미지 가져오기
-        List<S3ObjectSummary> allS3Objects = listAllS3Objects(prefix);
-        log.info("S3에서 총 {}개의 객체를 조회했습니다", allS3Objects.size());
 
-        // 2. 데이터베이스에서 사용 중인 모든 이미지 URL 가져오기
-        Set<String> usedImageKeys = getAllUsedImageKeys();
+        // 1. 데이터베이스에서 사용 중인 이미지 키 (접두사에 해당하는 것만, S3 목록과 같은 순서로 정렬)
+        UsedKeyIndex usedImageKeys = loadUsedImageKeys(prefix);
         log.info("데이터베이스에서 사용 중인 이미지 키: {}개", usedImageKeys.size());
 
-        // 3. 기준 날짜 계산 (현재로부터 olderThanDays일 이전)
+        // 2. 기준 날짜 계산 (현재로부터 olderThanDays일 이전)
         Instant cutoffDate = Instant.now().minus(olderThanDays, ChronoUnit.DAYS);
 
-        // 4. 미사용 이미지 필터링 (데이터베이스에 없고, 기준일보다 오래된 이미지)
-        List<Map<String, Object>> unusedImages = allS3Objects.stream()
-                .filter(obj -> {
-                    String objectKey = obj.getKey();
-                    Date lastModified = obj.getLastModified();
-                    
-                    // 폴더는 제외
-                    if (objectKey.endsWith("/")) {
-                        return false;
-                    }
-                    
-                    // 이미지 파일만 대상으로 하고 싶다면 확장자 체크
-                    if (!isImageFile(objectKey)) {
-                        return false;
+        // 3. S3 목록을 페이지 단위로 받아 미사용 이미지(데이터베이스에 없고, 기준일보다 오래된 이미지)를 골라 배치 삭제
+        long scannedCount = 0;
+        int totalFound = 0;
+        long totalSize = 0;
+        int deletedCount = 0;
+        int failedCount = 0;
+        List<Map<String, Object>> reportedImages = new ArrayList<>();
+        List<String> deleteBatch = new ArrayList<>(DELETE_BATCH_SIZE);
+
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withMaxKeys(LIST_PAGE_SIZE);
+
+        ListObjectsV2Result page;
+        do {
+            page = amazonS3Client.listObjectsV2(request);
+            for (S3ObjectSummary obj : page.getObjectSummaries()) {
+                scannedCount++;
+                if (!isDeletionCandidate(obj, usedImageKeys, cutoffDate)) {
+                    continue;
+                }
+
+                totalFound++;
+                totalSize += obj.getSize();
+                if (reportedImages.size() < MAX_REPORTED_IMAGES) {
+                    Map<String, Object> image = new HashMap<>();
+                    image.put("key", obj.getKey());
+                    image.put("size", obj.getSize());
+                    image.put("lastModified", obj.getLastModified());
+                    reportedImages.add(image);
+                }
+
+                if (!dryRun) {
+                    deleteBatch.add(obj.getKey());
+                    if (deleteBatch.size() == DELETE_BATCH_SIZE) {
+                        int deleted = deleteUnusedImages(deleteBatch);
+                        deletedCount += deleted;
+                        failedCount += deleteBatch.size() - deleted;
+                        deleteBatch.clear();
                     }
-                    
-                    // 데이터베이스에 사용 중인지 확인
-                    boolean isUsed = usedImageKeys.contains(objectKey);
-                    
-                    // 기준일보다 오래되었는지 확인
-                    boolean isOldEnough = lastModified.toInstant().isBefore(cutoffDate);
-                    
-                    return !isUsed && isOldEnough;
-                })
-                .map(obj -> {
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("key", obj.getKey());
-                    result.put("size", obj.getSize());
-                    result.put("lastModified", obj.getLastModified());
-                    return result;
-                })
-                .collect(Collectors.toList());
-
-        log.info("총 {}개의 미사용 이미지를 찾았습니다", unusedImages.size());
-        
+                }
+            }
+            request.setContinuationToken(page.getNextContinuationToken());
+            log.debug("S3 목록 페이지 처리 - 누적 조회 {}개, 삭제 대상 {}개", scannedCount, totalFound);
+        } while (page.isTruncated());
+
+        if (!deleteBatch.isEmpty()) {
+            int deleted = deleteUnusedImages(deleteBatch);
+            deletedCount += deleted;
+            failedCount += deleteBatch.size() - deleted;
+        }
+
+        log.info("S3에서 총 {}개의 객체를 조회했고, {}개의 미사용 이미지({} bytes)를 찾았습니다", scannedCount, totalFound, totalSize);
+
         Map<String, Object> result = new HashMap<>();
-        result.put("totalFound", unusedImages.size());
-        result.put("unusedImages", unusedImages);
-        
-        // 5. dryRun이 아닌 경우 이미지 삭제
-        if (!dryRun && !unusedImages.isEmpty()) {
-            List<String> imagesToDelete = unusedImages.stream()
-                    .map(img -> (String) img.get("key"))
-                    .collect(Collectors.toList());
-            
-            int deletedCount = deleteUnusedImages(imagesToDelete);
+        result.put("scannedCount", scannedCount);
+        result.put("totalFound", totalFound);
+        result.put("totalSize", totalSize);
+        result.put("unusedImages", reportedImages);
+
+        if (!dryRun) {
             result.put("deletedCount", deletedCount);
-            log.info("총 {}개의 미사용 이미지 중 {}개를 삭제했습니다", unusedImages.size(), deletedCount);
+            result.put("failedCount", failedCount);
+            log.info("총 {}개의 미사용 이미지 중 {}개를 삭제했습니다 (실패 {}개)", totalFound, deletedCount, failedCount);
         } else {
             result.put("dryRun", true);
-            log.info("테스트 모드: 삭제 없이 {}개의 미사용 이미지만 식별했습니다", unusedImages.size());
+            log.info("테스트 모드: 삭제 없이 {}개의 미사용 이미지만 식별했습니다", totalFound);
         }
         
         return result;
     }
+
+    /**
+     * 삭제 대상인지 확인 (폴더/이미지 외 파일 제외, 데이터베이스에서 사용 중이 아니고 기준일보다 오래된 이미지)
+     */
+    private boolean isDeletionCandidate(S3ObjectSummary obj, UsedKeyIndex usedImageKeys, Instant cutoffDate) {
+        String objectKey = obj.getKey();
+
+        // 폴더는 제외
+        if (objectKey.endsWith("/")) {
+            return false;
+        }
+
+        // 이미지 파일만 대상
+        if (!isImageFile(objectKey)) {
+            return false;
+        }
+
+        // 기준일보다 오래되었는지 확인
+        if (!obj.getLastModified().toInstant().isBefore(cutoffDate)) {
+            return false;
+        }
+
+        // 데이터베이스에서 사용 중인지 확인
+        return !usedImageKeys.contains(objectKey);
+    }
     
     /**
      * 특정 이미지 파일 확장자인지 확인합니다.
@@ -132,54 +186,31 @@ public class S3CleanupService {
     }
 
     /**
-     * S3에서 지정된 접두사를 가진 모든 객체를 가져옵니다.
+     * 데이터베이스에서 사용 중인 이미지 URL을 커서로 읽어 S3 객체 키로 변환하고 정렬된 키 배열로 만듭니다.
+     * 접두사에 해당하지 않는 키는 담지 않습니다.
      */
-    private List<S3ObjectSummary> listAllS3Objects(String prefix) {
-        List<S3ObjectSummary> allObjects = new ArrayList<>();
-        ListObjectsV2Request request = new ListObjectsV2Request()
-                .withBucketName(bucketName)
-                .withPrefix(prefix);
+    private UsedKeyIndex loadUsedImageKeys(String prefix) {
+        List<String> usedImageKeys = new ArrayList<>();
+        String keyPrefix = prefix != null ? prefix : "";
 
-        ListObjectsV2Result result;
-        do {
-            result = amazonS3Client.listObjectsV2(request);
-            allObjects.addAll(result.getObjectSummaries());
-            request.setContinuationToken(result.getNextContinuationToken());
-        } while (result.isTruncated());
+        // PostgreSQL은 트랜잭션 안에서만 fetchSize 단위로 나누어 읽음
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(USED_IMAGE_URL_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> addImageKeyIfNotEmpty(usedImageKeys, rs.getString(1), keyPrefix)));
 
-        return allObjects;
+        return UsedKeyIndex.of(usedImageKeys);
     }
 
     /**
-     * 데이터베이스에서 사용 중인 모든 이미지 URL을 가져와서 S3 객체 키로 변환합니다.
+     * URL이 비어있지 않으면 S3 객체 키로 변환하여 목록에 추가합니다.
      */
-    @Transactional(readOnly = true)
-    protected Set<String> getAllUsedImageKeys() {
-        Set<String> usedImageKeys = new HashSet<>();
-
-        // 1. 캠페인 썸네일 이미지
-        campaignRepository.findAll().forEach(campaign -> {
-            addImageKeyIfNotEmpty(usedImageKeys, campaign.getThumbnailUrl());
-        });
-
-        // 2. 사용자 프로필 이미지
-        userRepository.findAll().forEach(user -> {
-            addImageKeyIfNotEmpty(usedImageKeys, user.getProfileImg());
-        });
-
-        // 여기에 다른 이미지 URL을 포함하는 엔티티를 추가할 수 있습니다.
-
-        return usedImageKeys;
-    }
-
-    /**
-     * URL이 비어있지 않으면 S3 객체 키로 변환하여 세트에 추가합니다.
-     */
-    private void addImageKeyIfNotEmpty(Set<String> keys, String imageUrl) {
+    private void addImageKeyIfNotEmpty(List<String> keys, String imageUrl, String prefix) {
         if (imageUrl != null && !imageUrl.trim().isEmpty()) {
             String objectKey = extractObjectKeyFromUrl(imageUrl);
             if (objectKey != null && !objectKey.isEmpty()) {
-                keys.add(objectKey);
+                addIfMatches(keys, objectKey, prefix);
                 
                 // 이미지 크기 변형 버전도 포함 (예: thumbnail-, medium-, large- 접두사가 붙은 버전)
                 // 이 부분은 이미지 처리 로직에 따라 다를 수 있습니다.
@@ -187,15 +218,21 @@ public class S3CleanupService {
                 if (baseName != null && !baseName.isEmpty()) {
                     String directory = getDirectoryFromObjectKey(objectKey);
                     if (directory != null) {
-                        keys.add(directory + "thumbnail-" + baseName);
-                        keys.add(directory + "medium-" + baseName);
-                        keys.add(directory + "large-" + baseName);
+                        addIfMatches(keys, directory + "thumbnail-" + baseName, prefix);
+                        addIfMatches(keys, directory + "medium-" + baseName, prefix);
+                        addIfMatches(keys, directory + "large-" + baseName, prefix);
                     }
                 }
             }
         }
     }
 
+    private void addIfMatches(List<String> keys, String objectKey, String prefix) {
+        if (objectKey.startsWith(prefix)) {
+            keys.add(objectKey);
+        }
+    }
+
     /**
      * 객체 키에서 기본 파일명을 추출합니다.
      */
@@ -247,6 +284,14 @@ public class S3CleanupService {
                 }
                 return path;
             }
+
+            // 경로 방식 URL인 경우 (로컬 S3 호환 서버 등 - http://호스트/버킷/키)
+            if (imageUrl.startsWith("http://") || imageUrl.startsWith("https://")) {
+                String path = new java.net.URL(imageUrl).getPath();
+                if (path.startsWith("/" + bucketName + "/")) {
+                    return path.substring(bucketName.length() + 2);
+                }
+            }
             
             // 이미 객체 키인 경우
             return imageUrl;
@@ -257,7 +302,7 @@ public class S3CleanupService {
     }
 
     /**
-     * 사용되지 않는 이미지를 S3에서 삭제합니다.
+     * 사용되지 않는 이미지를 S3에서 삭제합니다. (DeleteObjects 요청 한 번, 최대 1000개)
      * 내부적으로만 사용되는 메소드입니다.
      *
      * @param imagesToDelete 삭제할 이미지 객체 키 목록
@@ -265,24 +310,89 @@ public class S3CleanupService {
      */
     private int deleteUnusedImages(List<String> imagesToDelete) {
         if (imagesToDelete == null || imagesToDelete.isEmpty()) {
-            log.info("삭제할 이미지가 없습니다.");
             return 0;
         }
 
-        log.info("{}개의 미사용 이미지 삭제 시작", imagesToDelete.size());
-        
-        int deletedCount = 0;
-        for (String objectKey : imagesToDelete) {
-            try {
-                amazonS3Client.deleteObject(bucketName, objectKey);
-                log.info("이미지 삭제 성공: {}", objectKey);
-                deletedCount++;
-            } catch (Exception e) {
-                log.error("이미지 삭제 중 오류 발생: {}, 오류: {}", objectKey, e.getMessage(), e);
+        DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                .withKeys(imagesToDelete.toArray(new String[0]))
+                .withQuiet(true); // 실패한 키만 응답
+
+        try {
+            amazonS3Client.deleteObjects(request);
+            log.info("미사용 이미지 {}개 삭제 완료 ({} ~ {})", imagesToDelete.size(),
+                    imagesToDelete.get(0), imagesToDelete.get(imagesToDelete.size() - 1));
+            return imagesToDelete.size();
+        } catch (MultiObjectDeleteException e) {
+            e.getErrors().forEach(error -> log.error("이미지 삭제 중 오류 발생: {}, 오류: {} {}",
+                    error.getKey(), error.getCode(), error.getMessage()));
+            int deleted = imagesToDelete.size() - e.getErrors().size();
+            log.info("미사용 이미지 {}개 중 {}개 삭제 완료", imagesToDelete.size(), deleted);
+            return deleted;
+        } catch (Exception e) {
+            log.error("미사용 이미지 {}개 일괄 삭제 중 오류 발생 ({} ~ {}), 오류: {}", imagesToDelete.size(),
+                    imagesToDelete.get(0), imagesToDelete.get(imagesToDelete.size() - 1), e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    /**
+     * 사용 중인 이미지 키 정렬 배열 (중복 제거)
+     * S3 목록은 키의 UTF-8 바이트 순(= 코드 포인트 순)으로 오므로 같은 순서로 정렬해 두고,
+     * 조회 키가 직전 키보다 크거나 같으면 위치를 앞으로만 옮기며 비교합니다. (순서가 어긋나면 이진 탐색)
+     */
+    private static final class UsedKeyIndex {
+
+        private static final Comparator<String> CODE_POINT_ORDER = UsedKeyIndex::compareCodePoints;
+
+        private final String[] keys;
+        private int position;
+        private String lastKey;
+
+        private UsedKeyIndex(String[] keys) {
+            this.keys = keys;
+        }
+
+        static UsedKeyIndex of(List<String> keys) {
+            String[] sorted = keys.toArray(new String[0]);
+            Arrays.sort(sorted, CODE_POINT_ORDER);
+
+            int unique = 0;
+            for (String key : sorted) {
+                if (unique == 0 || !sorted[unique - 1].equals(key)) {
+                    sorted[unique++] = key;
+                }
+            }
+            return new UsedKeyIndex(Arrays.copyOf(sorted, unique));
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        boolean contains(String key) {
+            if (lastKey != null && compareCodePoints(key, lastKey) < 0) {
+                return Arrays.binarySearch(keys, key, CODE_POINT_ORDER) >= 0;
+            }
+            lastKey = key;
+            while (position < keys.length && compareCodePoints(keys[position], key) < 0) {
+                position++;
             }
+            return position < keys.length && keys[position].equals(key);
         }
 
-        log.info("총 {}개의 미사용 이미지를 삭제했습니다", deletedCount);
-        return deletedCount;
+        private static int compareCodePoints(String a, String b) {
+            int i = 0;
+            int j = 0;
+            while (i < a.length() && j < b.length()) {
+                int ca = a.codePointAt(i);
+                int cb = b.codePointAt(j);
+                if (ca != cb) {
+                    return Integer.compare(ca, cb);
+                }
+                i += Character.charCount(ca);
+                j += Character.charCount(cb);
+            }
+            return Integer.compare(a.length() - i, b.length() - j);
+        }
     }
 }
@@ -2,17 +2,31 @@ package com.example.auth.service;
 
 
 import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
-import com.amazonaws.services.simpleemail.AmazonSimpleEmailServiceClientBuilder;
 import com.amazonaws.services.simpleemail.model.*;
+import com.example.auth.constant.EmailTemplate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Slf4j
 @Service
 public class SESService {
 
     private final AmazonSimpleEmailService sesClient;
+    private final SesSendRateLimiter sesSendRateLimiter;
+    private final ObjectMapper objectMapper;
     
     @Value("${aws.ses.from-email}")
     private String fromEmail;
@@ -20,15 +34,44 @@ public class SESService {
     @Value("${aws.ses.from-name:ChkokTeam}")
     private String fromName;
 
-public SESService(
-        @Value("${aws.ses.region:us-east-1}") String region
-) {
+    // SendBulkTemplatedEmail 한 번에 넣을 수 있는 최대 수신자 수 (SES 제한)
+    private static final int BULK_DESTINATION_LIMIT = 50;
 
+    // 등록(생성/갱신) 확인이 끝난 템플릿
+    private final Set<EmailTemplate> registeredTemplates = ConcurrentHashMap.newKeySet();
 
-    this.sesClient = AmazonSimpleEmailServiceClientBuilder.standard()
-            .withRegion(region)
-            .build();
-}
+    public SESService(AmazonSimpleEmailService sesClient, SesSendRateLimiter sesSendRateLimiter, ObjectMapper objectMapper) {
+        this.sesClient = sesClient;
+        this.sesSendRateLimiter = sesSendRateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 대량 발송 수신자 (템플릿 치환값 포함)
+     */
+    public record BulkEmailRecipient(String toEmail, Map<String, String> templateData) {
+    }
+
+    /**
+     * 대량 발송 수신자별 결과 (실패 시 errorCode는 EmailSendException과 같은 코드 체계)
+     */
+    public record BulkEmailResult(String toEmail, boolean success, String messageId, String errorCode, String error) {
+    }
+
+    /**
+     * 애플리케이션 시작 후 템플릿을 SES에 등록 (없으면 생성, 내용이 바뀌었으면 갱신)
+     * 실패한 템플릿은 첫 발송 때 다시 등록을 시도합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerTemplates() {
+        for (EmailTemplate template : EmailTemplate.values()) {
+            try {
+                ensureTemplate(template);
+            } catch (Exception e) {
+                log.warn("SES 템플릿 등록 실패 (첫 발송 때 재시도): template={}, error={}", template.getTemplateName(), e.getMessage());
+            }
+        }
+    }
 
     /**
      * 텍스트 이메일 발송
@@ -122,6 +165,214 @@ public SESService(
         }
     }
     
+    /**
+     * 템플릿 이메일 단건 발송 (초당 발송 한도 준수)
+     */
+    public void sendTemplatedEmail(String toEmail, EmailTemplate template, Map<String, String> templateData) {
+        try {
+            if (toEmail == null || !isValidEmailFormat(toEmail)) {
+                throw new IllegalArgumentException("올바르지 않은 이메일 형식입니다: " + toEmail);
+            }
+            ensureTemplate(template);
+            sesSendRateLimiter.acquire(1);
+
+            SendTemplatedEmailResult result = sesClient.sendTemplatedEmail(new SendTemplatedEmailRequest()
+                    .withDestination(new Destination().withToAddresses(toEmail))
+                    .withSource(fromName + " <" + fromEmail + ">")
+                    .withTemplate(template.getTemplateName())
+                    .withTemplateData(toTemplateData(template, templateData)));
+            log.info("템플릿 이메일 발송 성공: messageId={}, to={}, template={}",
+                    result.getMessageId(), toEmail, template.getTemplateName());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new com.example.auth.exception.EmailSendException(
+                "이메일 발송이 중단되었습니다.", "UNKNOWN_ERROR", toEmail, e);
+        } catch (Exception e) {
+            throw toEmailSendException(e, toEmail, template.getTemplateName());
+        }
+    }
+
+    /**
+     * 템플릿 이메일 대량 발송
+     * 수신자를 50명 단위 SendBulkTemplatedEmail 호출로 묶고, 호출마다 수신자 수만큼 발송 한도 토큰을 확보합니다.
+     * 호출 스레드에서 끝까지 실행되므로 요청 스레드가 아닌 발송 전용 실행기(알림 아웃박스 디스패처 등)에서 호출하세요.
+     *
+     * @return 수신자 순서와 같은 순서의 결과 (한 묶음 호출 자체가 실패하면 그 묶음 전원이 같은 오류로 실패)
+     */
+    public List<BulkEmailResult> sendBulkTemplatedEmail(EmailTemplate template, List<BulkEmailRecipient> recipients) {
+        List<BulkEmailResult> results = new ArrayList<>(recipients.size());
+        for (int from = 0; from < recipients.size(); from += BULK_DESTINATION_LIMIT) {
+            List<BulkEmailRecipient> chunk = recipients.subList(from, Math.min(from + BULK_DESTINATION_LIMIT, recipients.size()));
+            results.addAll(sendBulkChunk(template, chunk));
+        }
+
+        long failed = results.stream().filter(result -> !result.success()).count();
+        log.info("템플릿 이메일 대량 발송 완료: template={}, 전체 {}명, 실패 {}명",
+                template.getTemplateName(), results.size(), failed);
+        return results;
+    }
+
+    private List<BulkEmailResult> sendBulkChunk(EmailTemplate template, List<BulkEmailRecipient> chunk) {
+        // 형식 오류 수신자를 빼고 보내더라도 결과는 수신자 순서 그대로 채움 (호출 측이 순서로 대응)
+        BulkEmailResult[] results = new BulkEmailResult[chunk.size()];
+        List<Integer> validIndexes = new ArrayList<>(chunk.size());
+        List<BulkEmailDestination> destinations = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkEmailRecipient recipient = chunk.get(i);
+            if (recipient.toEmail() == null || !isValidEmailFormat(recipient.toEmail())) {
+                results[i] = new BulkEmailResult(recipient.toEmail(), false, null, "MESSAGE_REJECTED", "올바르지 않은 이메일 형식");
+                continue;
+            }
+            validIndexes.add(i);
+            destinations.add(new BulkEmailDestination()
+                    .withDestination(new Destination().withToAddresses(recipient.toEmail()))
+                    .withReplacementTemplateData(toTemplateData(template, recipient.templateData())));
+        }
+        if (validIndexes.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        try {
+            ensureTemplate(template);
+            sesSendRateLimiter.acquire(validIndexes.size());
+
+            SendBulkTemplatedEmailResult result = sesClient.sendBulkTemplatedEmail(new SendBulkTemplatedEmailRequest()
+                    .withSource(fromName + " <" + fromEmail + ">")
+                    .withTemplate(template.getTemplateName())
+                    .withDefaultTemplateData(toTemplateData(template, Map.of()))
+                    .withDestinations(destinations));
+
+            List<BulkEmailDestinationStatus> statuses = result.getStatus();
+            for (int i = 0; i < validIndexes.size(); i++) {
+                BulkEmailDestinationStatus status = statuses.get(i);
+                int index = validIndexes.get(i);
+                String toEmail = chunk.get(index).toEmail();
+                if (BulkEmailStatus.Success.toString().equals(status.getStatus())) {
+                    results[index] = new BulkEmailResult(toEmail, true, status.getMessageId(), null, null);
+                } else {
+                    log.warn("대량 발송 수신자 실패: to={}, status={}, error={}", toEmail, status.getStatus(), status.getError());
+                    results[index] = new BulkEmailResult(toEmail, false, null, toErrorCode(status.getStatus()), status.getError());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            validIndexes.forEach(index -> results[index] =
+                    new BulkEmailResult(chunk.get(index).toEmail(), false, null, "UNKNOWN_ERROR", "발송 중단"));
+        } catch (Exception e) {
+            com.example.auth.exception.EmailSendException mapped =
+                    toEmailSendException(e, validIndexes.size() + "명", template.getTemplateName());
+            validIndexes.forEach(index -> results[index] =
+                    new BulkEmailResult(chunk.get(index).toEmail(), false, null, mapped.getErrorCode(), e.getMessage()));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 템플릿 등록 확인 (처음 한 번만 SES 조회)
+     */
+    private void ensureTemplate(EmailTemplate template) {
+        if (registeredTemplates.contains(template)) {
+            return;
+        }
+
+        Template definition = new Template()
+                .withTemplateName(template.getTemplateName())
+                .withSubjectPart(template.getSubject())
+                .withHtmlPart(template.getHtmlPart());
+        try {
+            Template current = sesClient.getTemplate(new GetTemplateRequest()
+                    .withTemplateName(template.getTemplateName())).getTemplate();
+            if (!template.getSubject().equals(current.getSubjectPart()) || !template.getHtmlPart().equals(current.getHtmlPart())) {
+                sesClient.updateTemplate(new UpdateTemplateRequest().withTemplate(definition));
+                log.info("SES 템플릿 갱신: {}", template.getTemplateName());
+            }
+        } catch (TemplateDoesNotExistException e) {
+            try {
+                sesClient.createTemplate(new CreateTemplateRequest().withTemplate(definition));
+                log.info("SES 템플릿 생성: {}", template.getTemplateName());
+            } catch (AlreadyExistsException ignored) {
+                // 다른 인스턴스가 먼저 생성함
+            }
+        }
+        registeredTemplates.add(template);
+    }
+
+    /**
+     * 템플릿 치환값 JSON (템플릿 변수 중 빠진 값은 빈 문자열로 채워 렌더링 실패 방지)
+     */
+    private String toTemplateData(EmailTemplate template, Map<String, String> templateData) {
+        Map<String, String> data = new HashMap<>();
+        template.getVariables().forEach(variable -> data.put(variable, ""));
+        if (templateData != null) {
+            templateData.forEach((key, value) -> data.put(key, value != null ? value : ""));
+        }
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("템플릿 치환값 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 대량 발송 수신자 상태를 오류 코드로 변환 (재시도 판단은 호출 측에서 MESSAGE_REJECTED만 영구 실패로 취급)
+     */
+    private String toErrorCode(String status) {
+        if (BulkEmailStatus.MessageRejected.toString().equals(status)) {
+            return "MESSAGE_REJECTED";
+        }
+        if (BulkEmailStatus.MailFromDomainNotVerified.toString().equals(status)) {
+            return "SENDER_NOT_VERIFIED";
+        }
+        if (BulkEmailStatus.AccountThrottled.toString().equals(status)
+                || BulkEmailStatus.AccountDailyQuotaExceeded.toString().equals(status)) {
+            return "THROTTLED";
+        }
+        if (BulkEmailStatus.AccountSendingPaused.toString().equals(status)) {
+            return "ACCOUNT_PAUSED";
+        }
+        return "UNKNOWN_ERROR";
+    }
+
+    private com.example.auth.exception.EmailSendException toEmailSendException(Exception e, String toEmail, String templateName) {
+        if (e instanceof com.example.auth.exception.EmailSendException emailSendException) {
+            return emailSendException;
+        }
+        if (e instanceof MessageRejectedException) {
+            log.error("SES 메시지 거부: to={}, template={}, reason={}", toEmail, templateName, e.getMessage());
+            return new com.example.auth.exception.EmailSendException(
+                "이메일이 거부되었습니다. 수신자 주소를 확인해주세요.", "MESSAGE_REJECTED", toEmail, e);
+        }
+        if (e instanceof MailFromDomainNotVerifiedException) {
+            log.error("발신자 도메인 미인증: from={}, to={}", fromEmail, toEmail);
+            return new com.example.auth.exception.EmailSendException(
+                "발신자 이메일 도메인이 인증되지 않았습니다.", "SENDER_NOT_VERIFIED", toEmail, e);
+        }
+        if (e instanceof AccountSendingPausedException) {
+            log.error("SES 계정 발송 중단: {}", e.getMessage());
+            return new com.example.auth.exception.EmailSendException(
+                "이메일 발송 계정이 일시 중단되었습니다. 관리자에게 문의하세요.", "ACCOUNT_PAUSED", toEmail, e);
+        }
+        if (e instanceof IllegalArgumentException) {
+            log.error("이메일 파라미터 오류: to={}, template={}, error={}", toEmail, templateName, e.getMessage());
+            return new com.example.auth.exception.EmailSendException(
+                e.getMessage(), "MESSAGE_REJECTED", toEmail, e);
+        }
+        if (e instanceof AmazonSimpleEmailServiceException sesException && "Throttling".equals(sesException.getErrorCode())) {
+            log.warn("SES 발송 한도 초과: to={}, template={}", toEmail, templateName);
+            return new com.example.auth.exception.EmailSendException(
+                "이메일 발송 한도를 초과했습니다.", "THROTTLED", toEmail, e);
+        }
+        if (e instanceof TemplateDoesNotExistException) {
+            registeredTemplates.removeIf(template -> template.getTemplateName().equals(templateName));
+        }
+        log.error("템플릿 이메일 발송 중 예상치 못한 오류: to={}, template={}, error={}",
+                toEmail, templateName, e.getMessage(), e);
+        return new com.example.auth.exception.EmailSendException(
+            "이메일 발송 중 오류가 발생했습니다.", "UNKNOWN_ERROR", toEmail, e);
+    }
+
     /**
      * 안전한 이메일 발송 (예외를 던지지 않음)
      */
@@ -177,164 +428,40 @@ public SESService(
      * 캠페인 선정 알림 이메일 발송
      */
     public void sendCampaignSelectedEmail(String toEmail, String nickname, String campaignTitle) {
-        String subject = "🎉 캠페인에 선정되었어요!";
-        String htmlBody = String.format("""
-            <html>
-            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
-                    <h1 style="color: #2388FF; text-align: center;">
-                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;"> 축하해요!
-                    </h1>
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
-                        <h2 style="margin-top: 0; color: white;">%s님이 선정되었어요!</h2>
-                        <p style="font-size: 18px; margin: 15px 0; color: white;">
-                            <strong style="color: white;">캠페인: %s</strong>
-                        </p>
-                    </div>
-                                            
-                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
-                        <h3 style="margin-top: 0; color: #555;">다음 단계</h3>
-                        <ol style="color: #666; padding-left: 20px;">
-                            <li>체험콕에 로그인해주세요</li>
-                            <li>마이페이지에서 선정된 캠페인을 확인해주세요</li>
-                            <li>캠페인 미션을 수행해주세요</li>
-                            <li>미션 완료 후 결과물을 제출해주세요</li>
-                        </ol>
-                    </div>
-                    
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="https://chkok.kr" 
-                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
-                            캠페인 확인하기
-                        </a>
-                    </div>
-                    
-                    <p style="color: #666; text-align: center;">
-                        선정을 축하드려요! 멋진 체험 후기를 기대할게요! 🌟
-                    </p>
-                    
-                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
-                    <p style="font-size: 12px; color: #888; text-align: center;">
-                        체험콕<br>
-                        이 이메일은 발송 전용이에요.
-                    </p>
-                </div>
-            </body>
-            </html>
-            """, nickname, campaignTitle);
-            
-        sendHtmlEmail(toEmail, subject, htmlBody);
+        sendTemplatedEmail(toEmail, EmailTemplate.CAMPAIGN_SELECTED, templateData(
+                "nickname", nickname,
+                "campaignTitle", campaignTitle));
     }
 
     /**
      * 미션 승인 알림 이메일 발송
      */
     public void sendMissionApprovedEmail(String toEmail, String nickname, String campaignTitle, String clientFeedback) {
-        String subject = "미션이 완료되었어요!";
-        String htmlBody = String.format("""
-            <html>
-            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #333;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
-                    <h1 style="color: #2388FF; text-align: center;">
-                        <img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;">미션 완료!</h1>
-                    
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0; text-align: center;">
-                        <h2 style="margin-top: 0; color: white;">%s님의 미션이 완료되었어요!</h2>
-                        <p style="font-size: 18px; margin: 10px 0; color: white;">
-                            <strong>캠페인:</strong> %s
-                        </p>
-                    </div>
-                    
-                    %s
-                    
-                    <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0; border-left: 4px solid #f9f9f9;">
-                        <h3 style="margin-top: 0; color: #555;">🎁 다음 단계</h3>
-                        <ol style="color: #555; margin-bottom: 0;">
-                            <li>체험 후기 공유는 언제든지 환영해요</li>
-                            <li>다른 멋진 캠페인도 참여해보세요!</li>
-                        </ol>
-                    </div>
-                    
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="https://chkok.kr" 
-                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
-                            새로운 캠페인 둘러보기
-                        </a>
-                    </div>
-                    
-                    <p style="color: #666; text-align: center;">
-                        수고하셨어요! 앞으로도 많은 참여 부탁드려요. 🌟
-                    </p>
-                    
-                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
-                    <p style="font-size: 12px; color: #888; text-align: center;">
-                        체험콕<br>
-                        이 이메일은 발송 전용이에요.
-                    </p>
-                </div>
-            </body>
-            </html>
-            """
-        );
-        sendHtmlEmail(toEmail, subject, htmlBody);
+        sendTemplatedEmail(toEmail, EmailTemplate.MISSION_APPROVED, templateData(
+                "nickname", nickname,
+                "campaignTitle", campaignTitle,
+                "clientFeedback", clientFeedback));
     }
 
     /**
      * 미션 수정 요청 알림 이메일 발송
      */
     public void sendMissionRevisionRequestEmail(String toEmail, String nickname, String campaignTitle, String revisionReason) {
-        String subject = "미션 수정이 요청왔어요!";
-        String htmlBody = String.format("""
-            <html>
-            <body style="font-family: Arial, sans-serif; line-height: 1.6; color: #2388FF;">
-                <div style="max-width: 600px; margin: 0 auto; padding: 20px;">
-                    <h1 style="color: #2388FF; text-align: center;"><img src="https://ckokservice.s3.ap-northeast-2.amazonaws.com/email/Frame+59.svg" alt="축하 아이콘" style="width: 40px; height: 40px; vertical-align: middle;"> 미션 수정 요청!</h1>
-                    
-                    <div style="background-color: #2388FF; padding: 20px; border-radius: 8px; margin: 20px 0;">
-                        <h2 style="margin-top: 0; color: white; text-align: center;">%s님, 미션 수정이 필요해요</h2>
-                        <p style="font-size: 18px; margin: 10px 0; color: white; text-align: center;">
-                            <strong>캠페인:</strong> %s
-                        </p>
-                    </div>
-                    
-                     <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
-                        <h3 style="margin-top: 0; color: #555;">수정 요청 사유</h3>
-                        <p style="color: #555; font-size: 18px; margin-bottom: 0; background-color: #f9f9f9; padding: 15px; border-radius: 4px;">
-                            "%s"
-                        </p>
-                    </div>
-                    
-                     <div style="background-color: #f9f9f9; padding: 20px; border-radius: 5px; margin: 20px 0;">
-                        <h3 style="margin-top: 0; color: #555;">수정 가이드</h3>
-                        <ol style="color: #555; margin-bottom: 0; padding-left: 20px;">
-                            <li>위의 수정 사유를 확인해주세요</li>
-                            <li>해당 부분을 보완하여 다시 제출해주세요</li>
-                            <li>추가 문의사항은 고객센터로 연락해주세요</li>
-                        </ol>
-                    </div>
-                    
-                    <div style="text-align: center; margin: 30px 0;">
-                        <a href="https://chkok.kr" 
-                           style="display: inline-block; padding: 15px 30px; background-color: #2388FF; color: white; text-decoration: none; border-radius: 5px; font-size: 16px;">
-                            미션 수정하러 가기
-                        </a>
-                    </div>
-                    
-                    <p style="color: #666; text-align: center;">
-                        빠른 시일 내에 수정해서 다시 제출해주세요. 💪
-                    </p>
-                    
-                    <hr style="margin: 30px 0; border: none; border-top: 1px solid #ddd;">
-                    <p style="font-size: 12px; color: #888; text-align: center;">
-                        체험콕<br>
-                        이 이메일은 발송 전용이에요.
-                    </p>
-                </div>
-            </body>
-            </html>
-            """, nickname, campaignTitle, revisionReason != null ? revisionReason : "세부 사항을 보완해 주세요.");
-            
-        sendHtmlEmail(toEmail, subject, htmlBody);
+        sendTemplatedEmail(toEmail, EmailTemplate.MISSION_REVISION_REQUEST, templateData(
+                "nickname", nickname,
+                "campaignTitle", campaignTitle,
+                "revisionReason", revisionReason != null ? revisionReason : "세부 사항을 보완해 주세요."));
+    }
+
+    /**
+     * 템플릿 치환값 생성 (키, 값, 키, 값, ... / null 값 허용)
+     */
+    public static Map<String, String> templateData(String... keyValues) {
+        Map<String, String> data = new HashMap<>();
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            data.put(keyValues[i], keyValues[i + 1]);
+        }
+        return data;
     }
 
     /**
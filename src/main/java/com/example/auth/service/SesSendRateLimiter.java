@@ -0,0 +1,84 @@
+package com.example.auth.service;
+
+import com.amazonaws.services.simpleemail.AmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.model.GetSendQuotaResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SES 초당 발송 한도 토큰 버킷
+ * 수신자 1명 = 토큰 1개이며, 버킷 크기는 1초 분량(초당 한도)입니다.
+ * 토큰이 모자라면 잔고를 음수로 예약한 뒤 호출 스레드가 부족분만큼 대기하므로, 여러 발송 스레드가 공유해도 전체 발송량이 한도를 넘지 않습니다.
+ * 한도는 10분마다 GetSendQuota의 MaxSendRate로 갱신하고, 조회에 실패하면 aws.ses.max-send-rate 값을 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SesSendRateLimiter {
+
+    private final AmazonSimpleEmailService sesClient;
+
+    @Value("${aws.ses.max-send-rate:14}")
+    private double fallbackRate;
+
+    private double ratePerSecond;
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * 발송 한도 갱신 (시작 시 1회 + 10분마다)
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 600000)
+    public void refreshSendQuota() {
+        double rate = fallbackRate;
+        try {
+            GetSendQuotaResult quota = sesClient.getSendQuota();
+            if (quota.getMaxSendRate() != null && quota.getMaxSendRate() > 0) {
+                rate = quota.getMaxSendRate();
+            }
+            log.info("SES 발송 한도 갱신 - 초당 {}, 24시간 {} 중 {} 사용", rate, quota.getMax24HourSend(), quota.getSentLast24Hours());
+        } catch (Exception e) {
+            log.warn("SES 발송 한도 조회 실패, 기본값 사용: rate={}, error={}", rate, e.getMessage());
+        }
+        updateRate(rate);
+    }
+
+    /**
+     * permits명에게 보낼 만큼 토큰을 확보 (부족하면 확보될 때까지 대기)
+     */
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    public synchronized double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    private synchronized void updateRate(double rate) {
+        if (ratePerSecond == 0) {
+            lastRefillNanos = System.nanoTime();
+            tokens = rate;
+        }
+        ratePerSecond = rate;
+    }
+
+    private synchronized long reserve(int permits) {
+        if (ratePerSecond == 0) {
+            updateRate(fallbackRate);
+        }
+
+        long now = System.nanoTime();
+        tokens = Math.min(ratePerSecond, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * ratePerSecond);
+        lastRefillNanos = now;
+        tokens -= permits;
+        return tokens >= 0 ? 0 : (long) (-tokens / ratePerSecond * 1_000_000_000L);
+    }
+}
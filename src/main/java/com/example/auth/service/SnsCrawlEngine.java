@@ -0,0 +1,279 @@
+package com.example.auth.service;
+
+import com.example.auth.config.AsyncExecutorMonitor;
+import com.example.auth.config.BulkheadExecutor;
+import com.example.auth.constant.PlatformType;
+import com.example.auth.exception.SnsCrawlException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SNS 팔로워 수 수집 엔진
+ * user_sns_platforms를 id 구간 단위(pageSize건)로 읽어 엔티티 전체를 메모리에 올리지 않고,
+ * 플랫폼 종류별 실행 레인(동시 요청 수 + 초당 요청 수 토큰 버킷)으로 나누어 조회한 뒤 페이지마다 JDBC 배치 UPDATE로 반영합니다.
+ * - 429/5xx/타임아웃은 지수 백오프로 재시도 (최대 maxAttempts회), 끝내 실패한 플랫폼은 갱신하지 않아 다음 수집 때 다시 대상이 됨
+ * - 조회 API가 설정되지 않은 플랫폼은 요청 없이 기존 팔로워 수를 유지하고 수집 시각만 갱신
+ * - 유튜브는 YouTube API 키가 있으면 YouTubeChannelStatisticsCollector로 채널 50개씩 묶어 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SnsCrawlEngine {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnsFollowerCountClient snsFollowerCountClient;
+    private final Environment environment;
+    private final YouTubeChannelStatisticsCollector youTubeChannelStatisticsCollector;
+    private final AsyncExecutorMonitor asyncExecutorMonitor;
+
+    @Value("${sns.crawl.page-size:500}")
+    private int pageSize;
+
+    @Value("${sns.crawl.max-attempts:3}")
+    private int maxAttempts;
+
+    private static final long BASE_BACKOFF_MILLIS = 2000;
+    private static final long MAX_BACKOFF_MILLIS = 60000;
+
+    private static final String SELECT_PAGE_SQL = """
+            SELECT id, platform_type, account_url, follower_count
+              FROM user_sns_platforms
+             WHERE id > ? AND (last_crawled_at IS NULL OR last_crawled_at < ?)
+             ORDER BY id
+             LIMIT ?
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE user_sns_platforms
+               SET follower_count = ?, last_crawled_at = ?, updated_at = ?
+             WHERE id = ?
+            """;
+
+    private final Map<PlatformType, Lane> lanes = new EnumMap<>(PlatformType.class);
+
+    /**
+     * 수집 대상 플랫폼 한 건
+     */
+    private record CrawlTarget(long id, String platformType, String accountUrl, Integer followerCount) {
+    }
+
+    /**
+     * 수집 결과 (followerCount가 null이면 실패로 갱신하지 않음)
+     */
+    private record CrawlResult(long id, Integer followerCount) {
+    }
+
+    /**
+     * 수집 실행 결과
+     */
+    public record CrawlSummary(int scanned, int updated, int failed) {
+    }
+
+    /**
+     * 플랫폼 종류별 실행 레인 (동시성 제한 실행기 + 초당 요청 수 제한)
+     */
+    private record Lane(PlatformType platformType, BulkheadExecutor executor, RateLimiter rateLimiter) {
+    }
+
+    @PostConstruct
+    public void initLanes() {
+        for (PlatformType type : PlatformType.values()) {
+            int concurrency = environment.getProperty("sns.crawl." + type.getValue() + ".concurrency", Integer.class, 2);
+            double ratePerSecond = environment.getProperty("sns.crawl." + type.getValue() + ".rate-per-second", Double.class, 2.0);
+            // 큐는 한 페이지 분량이면 충분하고, 넘치면 페이지를 읽는 스레드가 직접 실행하여 속도를 맞춤
+            BulkheadExecutor executor = new BulkheadExecutor("sns-crawl-" + type.getValue(), concurrency, concurrency,
+                    pageSize, new ThreadPoolExecutor.CallerRunsPolicy());
+            lanes.put(type, new Lane(type, executor, new RateLimiter(ratePerSecond)));
+            // 레인 실행기는 빈이 아니므로 상태 로그 대상에 직접 등록
+            asyncExecutorMonitor.register(executor);
+        }
+    }
+
+    @PreDestroy
+    public void shutdownLanes() {
+        lanes.values().forEach(lane -> {
+            asyncExecutorMonitor.unregister(lane.executor());
+            lane.executor().shutdownNow();
+        });
+    }
+
+    /**
+     * 스케줄러 스레드를 점유하지 않도록 SNS 수집 실행기에서 전체 수집
+     */
+    @Async("snsCrawlAsyncExecutor")
+    public CompletableFuture<CrawlSummary> crawlAsync(LocalDateTime crawledBefore) {
+        return CompletableFuture.completedFuture(crawl(crawledBefore));
+    }
+
+    /**
+     * crawledBefore 이전에 수집되었거나 수집된 적 없는 플랫폼 전체 수집
+     * 같은 기준 시각으로 다시 실행하면 이미 반영된 플랫폼은 건너뛰므로 중단된 수집을 이어서 진행할 수 있음
+     */
+    public CrawlSummary crawl(LocalDateTime crawledBefore) {
+        Timestamp threshold = Timestamp.valueOf(crawledBefore);
+        long lastId = 0;
+        int scanned = 0;
+        int updated = 0;
+        int failed = 0;
+
+        List<CrawlTarget> page;
+        do {
+            page = jdbcTemplate.query(SELECT_PAGE_SQL,
+                    (rs, rowNum) -> new CrawlTarget(
+                            rs.getLong("id"),
+                            rs.getString("platform_type"),
+                            rs.getString("account_url"),
+                            rs.getObject("follower_count", Integer.class)),
+                    lastId, threshold, pageSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastId = page.get(page.size() - 1).id();
+            scanned += page.size();
+
+            List<CrawlResult> results = crawlPage(page);
+            List<CrawlResult> succeeded = results.stream().filter(result -> result.followerCount() != null).toList();
+            writeBack(succeeded);
+            updated += succeeded.size();
+            failed += results.size() - succeeded.size();
+
+            log.debug("SNS 수집 페이지 처리: 마지막 id={}, {}건 중 반영 {}건", lastId, page.size(), succeeded.size());
+        } while (page.size() == pageSize);
+
+        return new CrawlSummary(scanned, updated, failed);
+    }
+
+    /**
+     * 한 페이지를 플랫폼 종류별 레인에 나누어 조회하고 전체 완료까지 대기
+     */
+    private List<CrawlResult> crawlPage(List<CrawlTarget> page) {
+        List<CompletableFuture<CrawlResult>> futures = new ArrayList<>(page.size());
+        for (CrawlTarget target : page) {
+            Lane lane = findLane(target.platformType());
+            if (lane != null && lane.platformType() == PlatformType.YOUTUBE && youTubeChannelStatisticsCollector.isEnabled()) {
+                // 유튜브는 채널 50개씩 묶어 조회 (묶음 요청 수는 수집기가 제한)
+                futures.add(youTubeChannelStatisticsCollector.requestSubscriberCount(target.accountUrl())
+                        .thenApply(count -> new CrawlResult(target.id(), count)));
+                continue;
+            }
+            if (lane == null || !snsFollowerCountClient.isEnabled(lane.platformType())) {
+                // 조회할 수 없는 플랫폼은 기존 값 유지 (없으면 0)
+                futures.add(CompletableFuture.completedFuture(new CrawlResult(target.id(),
+                        target.followerCount() != null ? target.followerCount() : 0)));
+                continue;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> crawlOne(lane, target), lane.executor()));
+        }
+
+        List<CrawlResult> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).join());
+            } catch (Exception e) {
+                log.warn("SNS 팔로워 수 수집 실패: platformId={}, error={}", page.get(i).id(), e.getMessage());
+                results.add(new CrawlResult(page.get(i).id(), null));
+            }
+        }
+        return results;
+    }
+
+    private CrawlResult crawlOne(Lane lane, CrawlTarget target) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                lane.rateLimiter().acquire();
+                return new CrawlResult(target.id(),
+                        snsFollowerCountClient.fetchFollowerCount(lane.platformType(), target.accountUrl()));
+            } catch (SnsCrawlException e) {
+                if (!e.isRetryable() || attempt >= maxAttempts) {
+                    throw e;
+                }
+                sleep(Math.min(BASE_BACKOFF_MILLIS << (attempt - 1), MAX_BACKOFF_MILLIS));
+            }
+        }
+    }
+
+    private void writeBack(List<CrawlResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, results, results.size(), (ps, result) -> {
+            ps.setInt(1, result.followerCount());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setLong(4, result.id());
+        });
+    }
+
+    private Lane findLane(String platformType) {
+        try {
+            return lanes.get(PlatformType.fromString(platformType));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SnsCrawlException("SNS 수집 중단", false, e);
+        }
+    }
+
+    /**
+     * 초당 요청 수 토큰 버킷 (버킷 크기 = 1초 분량, 부족하면 잔고를 음수로 예약하고 부족분만큼 대기)
+     */
+    private static final class RateLimiter {
+
+        private final double ratePerSecond;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private RateLimiter(double ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+            this.tokens = ratePerSecond;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        private void acquire() {
+            long waitNanos = reserve();
+            if (waitNanos <= 0) {
+                return;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SnsCrawlException("SNS 수집 중단", false, e);
+            }
+        }
+
+        private synchronized long reserve() {
+            long now = System.nanoTime();
+            tokens = Math.min(ratePerSecond, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * ratePerSecond);
+            lastRefillNanos = now;
+            tokens -= 1;
+            return tokens >= 0 ? 0 : (long) (-tokens / ratePerSecond * 1_000_000_000L);
+        }
+    }
+}
@@ -1,49 +1,33 @@
 package com.example.auth.service;
 
-import com.example.auth.domain.UserSnsPlatform;
-import com.example.auth.repository.UserSnsPlatformRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SnsCrawlScheduler {
 
-    private final UserSnsPlatformRepository platformRepository;
-    private final SnsCrawlService snsCrawlService;
+    private final SnsCrawlEngine snsCrawlEngine;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String CRAWL_LOCK_KEY = "sns:crawl:lock";
+    private static final int LOCK_TIMEOUT_HOURS = 6;
 
     /**
-     * 매일 새벽 3시에 전체 SNS 플랫폼 크롤링 수행
+     * 매일 새벽 3시에 전체 SNS 플랫폼 크롤링 수행 (오늘 아직 수집하지 않은 플랫폼만이므로 중단되어도 다시 실행하면 이어서 진행)
      * cron 표현식: 초 분 시 일 월 요일
      */
     @Scheduled(cron = "0 0 3 * * ?")
     public void scheduleDailyCrawl() {
-        log.info("일일 SNS 크롤링 작업 시작: {}", LocalDateTime.now());
-
-        try {
-            List<UserSnsPlatform> platforms = platformRepository.findAll();
-            log.info("크롤링 대상 플랫폼 수: {}", platforms.size());
-
-            for (UserSnsPlatform platform : platforms) {
-                try {
-                    // 각 플랫폼별 크롤링 수행
-                    snsCrawlService.crawlSnsDataAsync(platform.getId());
-                } catch (Exception e) {
-                    log.error("플랫폼 크롤링 실패 (작업 계속 진행): platformId={}, error={}",
-                            platform.getId(), e.getMessage());
-                }
-            }
-
-            log.info("일일 SNS 크롤링 작업 완료: {}", LocalDateTime.now());
-        } catch (Exception e) {
-            log.error("일일 SNS 크롤링 작업 실패: {}", e.getMessage(), e);
-        }
+        runCrawl("일일 SNS 크롤링", LocalDate.now().atStartOfDay());
     }
 
     /**
@@ -51,27 +35,56 @@ public class SnsCrawlScheduler {
      */
     @Scheduled(cron = "0 0 4 * * MON")
     public void scheduleWeeklyCleanup() {
-        log.info("주간 미크롤링 플랫폼 정리 작업 시작: {}", LocalDateTime.now());
+        runCrawl("주간 미크롤링 플랫폼 정리", LocalDateTime.now().minusWeeks(1));
+    }
 
-        try {
-            LocalDateTime oneWeekAgo = LocalDateTime.now().minusWeeks(1);
+    /**
+     * 다른 인스턴스와 겹치지 않도록 락을 잡고 SNS 수집 실행기에서 수집 (완료 시 락 해제)
+     */
+    private void runCrawl(String jobName, LocalDateTime crawledBefore) {
+        if (!acquireLock()) {
+            log.info("다른 인스턴스에서 SNS 크롤링이 실행 중입니다. {} 작업을 건너뜁니다.", jobName);
+            return;
+        }
 
-            // 일주일 이상 크롤링되지 않은 플랫폼 조회
-            List<UserSnsPlatform> platforms = platformRepository.findByLastCrawledAtBeforeOrLastCrawledAtIsNull(oneWeekAgo);
-            log.info("일주일 이상 미크롤링 플랫폼 수: {}", platforms.size());
+        long startTime = System.currentTimeMillis();
+        log.info("{} 작업 시작: 기준 시각={}", jobName, crawledBefore);
 
-            for (UserSnsPlatform platform : platforms) {
+        try {
+            snsCrawlEngine.crawlAsync(crawledBefore).whenComplete((summary, e) -> {
                 try {
-                    snsCrawlService.crawlSnsDataAsync(platform.getId());
-                } catch (Exception e) {
-                    log.error("미크롤링 플랫폼 처리 실패: platformId={}, error={}",
-                            platform.getId(), e.getMessage());
+                    if (e != null) {
+                        log.error("{} 작업 실패: {}", jobName, e.getMessage(), e);
+                    } else {
+                        log.info("{} 작업 완료 - 대상 {}건, 반영 {}건, 실패 {}건, 소요: {}ms", jobName,
+                                summary.scanned(), summary.updated(), summary.failed(), System.currentTimeMillis() - startTime);
+                    }
+                } finally {
+                    releaseLock();
                 }
-            }
+            });
+        } catch (Exception e) {
+            log.error("{} 작업 시작 실패: {}", jobName, e.getMessage(), e);
+            releaseLock();
+        }
+    }
 
-            log.info("주간 미크롤링 플랫폼 정리 작업 완료: {}", LocalDateTime.now());
+    private boolean acquireLock() {
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(
+                    CRAWL_LOCK_KEY, "locked", LOCK_TIMEOUT_HOURS, TimeUnit.HOURS);
+            return Boolean.TRUE.equals(acquired);
+        } catch (Exception e) {
+            log.warn("SNS 크롤링 락 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock() {
+        try {
+            redisTemplate.delete(CRAWL_LOCK_KEY);
         } catch (Exception e) {
-            log.error("주간 미크롤링 플랫폼 정리 작업 실패: {}", e.getMessage(), e);
+            log.warn("SNS 크롤링 락 해제 실패: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
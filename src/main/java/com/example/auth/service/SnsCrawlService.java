@@ -4,11 +4,9 @@ import com.example.auth.domain.UserSnsPlatform;
 import com.example.auth.repository.UserSnsPlatformRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -17,22 +15,6 @@ public class SnsCrawlService {
 
     private final UserSnsPlatformRepository platformRepository;
 
-    /**
-     * SNS 데이터 처리 (비동기, 크롤링 기능 제거됨)
-     * @param platformId 대상 플랫폼 ID
-     * @return CompletableFuture<Void>
-     */
-    @Async
-    public CompletableFuture<Void> crawlSnsDataAsync(Long platformId) {
-        try {
-            processSnsData(platformId);
-            return CompletableFuture.completedFuture(null);
-        } catch (Exception e) {
-            log.error("비동기 처리 작업 실패: platformId={}, error={}", platformId, e.getMessage(), e);
-            return CompletableFuture.failedFuture(e);
-        }
-    }
-
     /**
      * SNS 데이터 처리 (동기, 크롤링 기능 제거됨)
      * @param platformId 대상 플랫폼 ID
@@ -0,0 +1,78 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.PlatformType;
+import com.example.auth.exception.SnsCrawlException;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 플랫폼별 팔로워 수 조회 HTTP 클라이언트
+ * 플랫폼마다 sns.crawl.{instagram|youtube|blog|tiktok}.endpoint에 지정한 조회 API를 호출하며,
+ * 주소의 {url} 자리에 계정 URL이 들어가고 응답은 {"followerCount": 123} 형식입니다.
+ * 엔드포인트가 없으면 조회하지 않고 null을 반환하여 기존 팔로워 수를 유지합니다 (테스트에서는 SnsCrawlStubServer로 대체).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnsFollowerCountClient {
+
+    private final WebClient webClient;
+    private final Environment environment;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * 조회 API가 설정된 플랫폼인지
+     */
+    public boolean isEnabled(PlatformType platformType) {
+        return !getEndpoint(platformType).isBlank();
+    }
+
+    /**
+     * 팔로워 수 조회
+     *
+     * @return 팔로워 수 (조회 API가 설정되지 않은 플랫폼이면 null)
+     * @throws SnsCrawlException 조회 실패 (429/5xx/타임아웃은 재시도 가능)
+     */
+    public Integer fetchFollowerCount(PlatformType platformType, String accountUrl) {
+        String endpoint = getEndpoint(platformType);
+        if (endpoint.isBlank()) {
+            return null;
+        }
+
+        try {
+            JsonNode body = webClient.get()
+                    .uri(endpoint, Map.of("url", accountUrl))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block(REQUEST_TIMEOUT);
+
+            if (body == null || !body.path("followerCount").canConvertToInt()) {
+                throw new SnsCrawlException("팔로워 수 응답 형식 오류: " + body, false);
+            }
+            return body.path("followerCount").asInt();
+
+        } catch (WebClientResponseException e) {
+            int status = e.getStatusCode().value();
+            boolean retryable = status == 429 || e.getStatusCode().is5xxServerError();
+            throw new SnsCrawlException(platformType.getValue() + " 팔로워 수 조회 실패: HTTP " + status, retryable, e);
+        } catch (SnsCrawlException e) {
+            throw e;
+        } catch (Exception e) {
+            // 타임아웃, 연결 오류 등
+            throw new SnsCrawlException(platformType.getValue() + " 팔로워 수 조회 실패: " + e.getMessage(), true, e);
+        }
+    }
+
+    private String getEndpoint(PlatformType platformType) {
+        return environment.getProperty("sns.crawl." + platformType.getValue() + ".endpoint", "");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.auth.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 하나와 그 연결 전용 송신 큐
+ * 큐 크기는 제한되며, 하트비트와 알림 요약 이벤트는 큐에 쌓이지 않도록 버리거나 최신 값으로 합칩니다.
+ * 큐 조작은 이 객체 모니터로 동기화하고, 실제 전송은 SseDispatcher가 연결당 한 작업자에서만 수행합니다.
+ */
+public class SseConnection {
+
+    /**
+     * 송신 이벤트 종류
+     * EVENT: 순서대로 모두 전달해야 하는 이벤트, SUMMARY: 최신 값만 의미 있는 이벤트, HEARTBEAT: 연결 유지용
+     */
+    public enum Kind {
+        EVENT, SUMMARY, HEARTBEAT
+    }
+
+    public enum OfferResult {
+        QUEUED,     // 큐에 추가됨
+        COALESCED,  // 대기 중인 같은 종류 이벤트를 최신 값으로 교체
+        DROPPED,    // 버려도 되는 이벤트라 버림 (대기 중인 이벤트가 있어 하트비트 불필요)
+        OVERFLOW    // 큐가 가득 차 반드시 전달할 이벤트를 넣지 못함
+    }
+
+    /**
+     * 송신 이벤트 (id가 null이면 SSE id 필드 없이 전송)
+     */
+    public record OutboundEvent(Kind kind, String name, String data, String id) {
+
+        public static OutboundEvent heartbeat() {
+            return new OutboundEvent(Kind.HEARTBEAT, "heartbeat", "ping", null);
+        }
+    }
+
+    private final String userId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final ArrayDeque<OutboundEvent> queue = new ArrayDeque<>();
+
+    final AtomicBoolean draining = new AtomicBoolean(false);
+    volatile boolean closed = false;
+    volatile long lastProgressAt = System.currentTimeMillis(); // 큐가 비어 있지 않은 동안 마지막으로 전송에 성공한 시각
+    final AtomicLong writeStartedAt = new AtomicLong(); // 진행 중인 전송 시작 시각 (0: 전송 없음, 음수: 기한 초과로 작업자 반납됨)
+    int wheelSlot;
+
+    public SseConnection(String userId, SseEmitter emitter, int capacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    synchronized OfferResult offer(OutboundEvent event) {
+        if (event.kind() == Kind.HEARTBEAT && !queue.isEmpty()) {
+            return OfferResult.DROPPED;
+        }
+
+        if (event.kind() == Kind.SUMMARY) {
+            for (Iterator<OutboundEvent> it = queue.iterator(); it.hasNext(); ) {
+                if (it.next().kind() == Kind.SUMMARY) {
+                    it.remove();
+                    queue.addLast(event);
+                    return OfferResult.COALESCED;
+                }
+            }
+        }
+
+        if (queue.size() >= capacity) {
+            return OfferResult.OVERFLOW;
+        }
+        if (queue.isEmpty()) {
+            lastProgressAt = System.currentTimeMillis();
+        }
+        queue.addLast(event);
+        return OfferResult.QUEUED;
+    }
+
+    synchronized OutboundEvent poll() {
+        return queue.pollFirst();
+    }
+
+    synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 표시 (이미 종료된 연결이면 false, 동시에 여러 곳에서 종료해도 한 번만 true)
+     */
+    synchronized boolean markClosed() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+
+    synchronized void clear() {
+        queue.clear();
+    }
+}
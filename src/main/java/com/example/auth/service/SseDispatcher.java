@@ -0,0 +1,354 @@
+package com.example.auth.service;
+
+import com.example.auth.service.SseConnection.OfferResult;
+import com.example.auth.service.SseConnection.OutboundEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * SSE 송신 디스패처
+ * - 이벤트는 연결별 제한 크기 큐에 넣기만 하고 호출 스레드는 바로 반환 (전송은 sseNotificationExecutor 작업자가 수행)
+ * - 연결당 동시에 하나의 드레인 작업만 돌며, 한 번에 drainBatchSize건까지만 보내고 다시 줄을 서서 느린 연결이 작업자를 독점하지 않음
+ * - 반드시 전달할 이벤트로 큐가 넘치거나, 큐가 비지 않은 채 slowConsumerTimeout 동안 전송이 진행되지 않은 연결은 종료
+ *   (클라이언트는 Last-Event-ID로 재연결하여 놓친 이벤트를 재전송받음)
+ * - emitter.send는 소켓 쓰기에서 멈출 수 있고 complete()로는 풀리지 않으므로, writeTimeout을 넘긴 전송은 감시 작업이
+ *   연결을 종료하고 작업자 풀에 대체 스레드를 하나 추가하여 멈춘 쓰기가 공용 작업자 자리를 차지하지 않게 함
+ *   (멈춘 스레드는 컨테이너 쓰기 타임아웃 등으로 전송이 끝나면 대체분만큼 풀을 줄이고 종료)
+ * - 하트비트는 30초를 1초 단위 30칸 타이밍 휠로 나누어, 매 틱마다 한 칸에 속한 연결에만 보냄 (30초마다 전체 연결에 몰아서 보내지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseDispatcher {
+
+    private final ThreadPoolExecutor sseNotificationExecutor;
+    private final ScheduledExecutorService sseHeartbeatScheduler;
+
+    // 하트비트 간격 30초 = 1초 틱 x 30칸
+    private static final int WHEEL_SLOTS = 30;
+    private static final long TICK_MILLIS = 1000L;
+
+    @Value("${sse.dispatch.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${sse.dispatch.drain-batch-size:16}")
+    private int drainBatchSize;
+
+    @Value("${sse.dispatch.slow-consumer-timeout-ms:15000}")
+    private long slowConsumerTimeoutMillis;
+
+    @Value("${sse.dispatch.write-timeout-ms:10000}")
+    private long writeTimeoutMillis;
+
+    @Value("${sse.dispatch.max-detached-workers:200}")
+    private int maxDetachedWorkers;
+
+    private final List<Set<SseConnection>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final AtomicLong tickCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    // 전송 중인 연결 (쓰기 감시 대상)
+    private final Set<SseConnection> inFlightWrites = ConcurrentHashMap.newKeySet();
+    private final Object poolResizeLock = new Object();
+    private int detachedWorkers; // 기한 초과 전송에 묶여 대체 스레드를 추가한 작업자 수 (poolResizeLock)
+
+    // 틱마다 호출 (해당 칸 연결의 사용자 ID, 휠 한 바퀴 완료 여부)
+    private volatile BiConsumer<Set<String>, Boolean> tickListener;
+
+    @PostConstruct
+    public void startWheel() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        sseHeartbeatScheduler.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        long watchdogMillis = Math.max(10L, Math.min(TICK_MILLIS, writeTimeoutMillis / 2));
+        sseHeartbeatScheduler.scheduleWithFixedDelay(this::checkStalledWrites, watchdogMillis, watchdogMillis, TimeUnit.MILLISECONDS);
+        log.info("SSE 하트비트 타이밍 휠 시작됨 ({}칸, {}ms 틱, 전송 기한 {}ms)", WHEEL_SLOTS, TICK_MILLIS, writeTimeoutMillis);
+    }
+
+    public void setTickListener(BiConsumer<Set<String>, Boolean> tickListener) {
+        this.tickListener = tickListener;
+    }
+
+    /**
+     * 연결 등록 (하트비트 칸은 순서대로 배정하여 칸마다 연결 수를 고르게 유지)
+     */
+    public SseConnection open(String userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity);
+        connection.wheelSlot = Math.floorMod(nextSlot.getAndIncrement(), WHEEL_SLOTS);
+        wheel.get(connection.wheelSlot).add(connection);
+        return connection;
+    }
+
+    /**
+     * 연결 해제 (대기 중인 이벤트는 버림)
+     */
+    public void close(SseConnection connection) {
+        connection.closed = true;
+        wheel.get(connection.wheelSlot).remove(connection);
+        connection.clear();
+    }
+
+    /**
+     * 연결 해제 후 emitter 완료 (전송 중인 연결은 전송이 끝난 뒤 전송 스레드가 완료하므로 호출 스레드가 막히지 않음)
+     */
+    public void terminate(SseConnection connection) {
+        terminate(connection, null);
+    }
+
+    /**
+     * 이벤트를 연결 큐에 추가하고 필요하면 드레인 작업 예약 (블로킹 없음)
+     *
+     * @return 큐에 추가되었거나 대기 이벤트와 합쳐졌으면 true
+     */
+    public boolean enqueue(SseConnection connection, OutboundEvent event) {
+        if (connection.closed) {
+            return false;
+        }
+
+        OfferResult result = connection.offer(event);
+        switch (result) {
+            case QUEUED -> {
+                scheduleDrain(connection);
+                return true;
+            }
+            case COALESCED -> {
+                return true;
+            }
+            case OVERFLOW -> {
+                evict(connection, "송신 큐 가득 참", null);
+                return false;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public int getConnectionCount() {
+        return wheel.stream().mapToInt(Set::size).sum();
+    }
+
+    public int getDetachedWorkerCount() {
+        synchronized (poolResizeLock) {
+            return detachedWorkers;
+        }
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.draining.compareAndSet(false, true)) {
+            return; // 이미 드레인 중이면 그 작업이 이어서 보냄
+        }
+        try {
+            sseNotificationExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.draining.set(false);
+            log.warn("SSE 드레인 작업 예약 실패: userId={}", connection.getUserId());
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        int sent = 0;
+        while (sent < drainBatchSize && !connection.closed) {
+            OutboundEvent event = connection.poll();
+            if (event == null) {
+                break;
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event()
+                .name(event.name())
+                .data(event.data());
+            if (event.id() != null) {
+                builder.id(event.id());
+            }
+            if (!send(connection, builder)) {
+                return;
+            }
+            sent++;
+        }
+
+        connection.draining.set(false);
+        // 플래그 해제 직전에 추가된 이벤트가 남지 않도록 다시 확인 (남은 배치도 여기서 다시 줄 세움)
+        if (!connection.closed && !connection.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    /**
+     * 전송 하나를 쓰기 감시 대상으로 올려두고 수행
+     *
+     * @return 전송에 성공했으면 true, 실패했거나 전송 중 연결이 종료된 경우 false (드레인 중단)
+     */
+    private boolean send(SseConnection connection, SseEmitter.SseEventBuilder builder) {
+        long startedAt = System.currentTimeMillis();
+        connection.writeStartedAt.set(startedAt);
+        inFlightWrites.add(connection);
+        Exception failure = null;
+        try {
+            // evict와 교차 확인: 종료 표시 후에는 쓰기를 시작하지 않음 (evict는 closed를 쓰고 writeStartedAt을 읽음)
+            if (!connection.closed) {
+                connection.getEmitter().send(builder);
+                connection.lastProgressAt = System.currentTimeMillis();
+            }
+        } catch (IOException | IllegalStateException e) {
+            failure = e;
+        } finally {
+            inFlightWrites.remove(connection);
+            if (!connection.writeStartedAt.compareAndSet(startedAt, 0L)) {
+                // 감시 작업이 이 전송을 포기하고 대체 스레드를 추가했으므로 풀 크기를 되돌림
+                releaseDetachedWorker(connection);
+                connection.writeStartedAt.set(0L);
+            }
+        }
+
+        if (connection.closed) {
+            // 전송 중에 종료된 연결은 evict가 emitter 잠금을 기다리지 않도록 이 스레드에서 emitter를 완료
+            completeEmitter(connection, failure);
+            return false;
+        }
+        if (failure != null) {
+            evict(connection, "전송 실패: " + failure.getMessage(), failure);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 기한을 넘긴 전송 처리: 연결을 종료하고, 멈춘 작업자 대신 일할 스레드를 풀에 추가
+     * 대체 스레드 수는 maxDetachedWorkers로 제한하며, 한도를 넘으면 연결만 종료하고 작업자는 전송이 끝날 때까지 묶여 있음
+     */
+    private void checkStalledWrites() {
+        try {
+            long now = System.currentTimeMillis();
+            for (SseConnection connection : inFlightWrites) {
+                long startedAt = connection.writeStartedAt.get();
+                if (startedAt <= 0 || now - startedAt <= writeTimeoutMillis) {
+                    continue;
+                }
+                if (detachWorker(connection, startedAt)) {
+                    evict(connection, "전송이 " + (now - startedAt) + "ms 동안 끝나지 않음", null);
+                }
+            }
+        } catch (Exception e) {
+            log.error("SSE 전송 감시 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 멈춘 전송의 작업자를 반납하고 대체 스레드 추가 (작업자가 회수할 때도 같은 잠금을 잡음)
+     *
+     * @return 전송이 아직 끝나지 않았으면 true (방금 끝났으면 false)
+     */
+    private boolean detachWorker(SseConnection connection, long startedAt) {
+        synchronized (poolResizeLock) {
+            if (detachedWorkers >= maxDetachedWorkers) {
+                if (!connection.closed) {
+                    log.error("SSE 대체 작업자 한도({}) 초과로 멈춘 전송의 작업자를 반납하지 못함: userId={}",
+                            maxDetachedWorkers, connection.getUserId());
+                }
+                return connection.writeStartedAt.get() == startedAt;
+            }
+            if (!connection.writeStartedAt.compareAndSet(startedAt, -startedAt)) {
+                return false;
+            }
+            detachedWorkers++;
+            // 늘릴 때는 최대 크기부터, 줄일 때는 기본 크기부터 조정 (기본 크기 > 최대 크기 예외 방지)
+            sseNotificationExecutor.setMaximumPoolSize(sseNotificationExecutor.getMaximumPoolSize() + 1);
+            sseNotificationExecutor.setCorePoolSize(sseNotificationExecutor.getCorePoolSize() + 1);
+            log.warn("SSE 전송 기한 초과로 대체 작업자 추가: userId={}, 반납된 작업자 {}개",
+                    connection.getUserId(), detachedWorkers);
+            return true;
+        }
+    }
+
+    private void releaseDetachedWorker(SseConnection connection) {
+        synchronized (poolResizeLock) {
+            detachedWorkers--;
+            sseNotificationExecutor.setCorePoolSize(sseNotificationExecutor.getCorePoolSize() - 1);
+            sseNotificationExecutor.setMaximumPoolSize(sseNotificationExecutor.getMaximumPoolSize() - 1);
+        }
+        log.info("SSE 기한 초과 전송 종료, 대체 작업자 회수: userId={}", connection.getUserId());
+    }
+
+    /**
+     * 느린/끊긴 연결 종료 (emitter 완료 콜백에서 SseEmitterService가 연결 목록을 정리)
+     */
+    private void evict(SseConnection connection, String reason, Exception cause) {
+        if (!connection.markClosed()) {
+            return;
+        }
+        evictedCount.incrementAndGet();
+        log.warn("SSE 연결 종료 (느린 소비자): userId={}, 사유={}", connection.getUserId(), reason);
+        terminate(connection, cause);
+    }
+
+    private void terminate(SseConnection connection, Exception cause) {
+        close(connection);
+        // 전송 중이면 emitter가 전송 잠금을 쥐고 있어 complete()가 막히므로 완료는 전송 스레드에 맡김 (send 참고)
+        if (connection.writeStartedAt.get() == 0L) {
+            completeEmitter(connection, cause);
+        }
+    }
+
+    private void completeEmitter(SseConnection connection, Exception cause) {
+        try {
+            if (cause != null) {
+                connection.getEmitter().completeWithError(cause);
+            } else {
+                connection.getEmitter().complete();
+            }
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 중 오류: userId={}, error={}", connection.getUserId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 타이밍 휠 한 칸 처리: 정체된 연결 종료, 나머지에 하트비트 (큐에 대기 이벤트가 있으면 생략)
+     */
+    private void tick() {
+        try {
+            long tick = tickCount.getAndIncrement();
+            int slot = (int) (tick % WHEEL_SLOTS);
+            long now = System.currentTimeMillis();
+
+            Set<String> userIds = new HashSet<>();
+            for (SseConnection connection : wheel.get(slot)) {
+                if (!connection.isEmpty() && now - connection.lastProgressAt > slowConsumerTimeoutMillis) {
+                    evict(connection, "전송 정체 " + (now - connection.lastProgressAt) + "ms", null);
+                    continue;
+                }
+                enqueue(connection, OutboundEvent.heartbeat());
+                userIds.add(connection.getUserId());
+            }
+
+            BiConsumer<Set<String>, Boolean> listener = tickListener;
+            if (listener != null) {
+                listener.accept(userIds, slot == 0);
+            }
+        } catch (Exception e) {
+            log.error("SSE 타이밍 휠 틱 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
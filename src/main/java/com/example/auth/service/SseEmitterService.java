@@ -1,99 +1,138 @@
 package com.example.auth.service;
 
+import com.example.auth.service.SseConnection.Kind;
+import com.example.auth.service.SseConnection.OutboundEvent;
+import com.example.auth.service.SseReplayStore.ReplayEvent;
+import com.example.auth.service.SseReplayStore.ReplayResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * SSE Emitter 관리 서비스
  * SSE 연결 생성, 관리, 메시지 전송을 담당합니다.
+ * 사용자당 여러 연결(웹, 모바일 탭 등)을 동시에 유지하며, 사용자 이벤트에는 사용자별 단조 증가 ID를 부여하고
+ * SseReplayStore에 기록하여 재연결 시 Last-Event-ID 이후 이벤트를 다시 보냅니다.
+ * 연결은 인스턴스별 메모리에 있으므로 SsePresenceRegistry에 사용자 연결 위치(노드)를 등록하고,
+ * 다른 노드에 연결된 사용자에게는 해당 노드 전용 Redis 채널로 메시지를 전달합니다.
+ * 전체 브로드캐스트는 사용자 수와 무관하게 브로드캐스트 채널에 한 번만 발행하고 각 노드가 로컬 연결에 전송합니다.
+ * 실제 전송과 하트비트는 SseDispatcher가 연결별 송신 큐로 처리합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SseEmitterService {
+public class SseEmitterService implements MessageListener {
 
-    private final ConcurrentHashMap<String, SseEmitter> sseEmitters;
-    private final ScheduledExecutorService sseHeartbeatScheduler;
-    private final ExecutorService sseNotificationExecutor;
+    private final ConcurrentHashMap<String, Set<SseConnection>> sseEmitters;
+    private final SseDispatcher sseDispatcher;
     private final ObjectMapper objectMapper;
+    private final SsePresenceRegistry ssePresenceRegistry;
+    private final SseReplayStore sseReplayStore;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String MESSAGE_TYPE_SEND = "SEND";
+    private static final String MESSAGE_TYPE_DISCONNECT = "DISCONNECT";
+
+    /**
+     * 노드 간 전달 메시지 (data는 이미 직렬화된 JSON 문자열, 브로드캐스트는 userId/eventId 없음)
+     */
+    public record ClusterMessage(String type, String userId, String eventId, String eventName, String data) {
+    }
 
     // SSE 연결 타임아웃 (30분)
     private static final Long DEFAULT_TIMEOUT = 30L * 60L * 1000L;
-    
-    // 하트비트 전송 간격 (30초)
-    private static final long HEARTBEAT_INTERVAL = 30L;
+
+    private static final String SUMMARY_EVENT_NAME = "notification-summary";
 
     @PostConstruct
-    public void startHeartbeat() {
-        // 주기적으로 하트비트 전송하여 연결 유지
-        sseHeartbeatScheduler.scheduleAtFixedRate(
-            this::sendHeartbeatToAll,
-            HEARTBEAT_INTERVAL,
-            HEARTBEAT_INTERVAL,
-            TimeUnit.SECONDS
-        );
-        log.info("SSE 하트비트 스케줄러 시작됨 ({}초 간격)", HEARTBEAT_INTERVAL);
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(ssePresenceRegistry.getNodeChannel()),
+                new ChannelTopic(SsePresenceRegistry.BROADCAST_CHANNEL)));
+    }
+
+    @PostConstruct
+    public void registerTickListener() {
+        // 하트비트는 디스패처 타이밍 휠이 보내고, 같은 틱에 해당 칸 사용자들의 연결 위치 TTL을 연장
+        sseDispatcher.setTickListener(this::onHeartbeatTick);
     }
 
     @PreDestroy
     public void cleanup() {
-        // 모든 SSE 연결 정리
-        sseEmitters.values().forEach(SseEmitter::complete);
+        // 모든 SSE 연결 정리 (연결 위치도 해제하여 다른 노드가 이 노드로 메시지를 보내지 않도록)
+        sseEmitters.keySet().forEach(ssePresenceRegistry::unregister);
+        sseEmitters.values().forEach(connections -> connections.forEach(sseDispatcher::terminate));
         sseEmitters.clear();
         log.info("모든 SSE 연결이 정리되었습니다.");
     }
 
     /**
-     * 새로운 SSE 연결 생성
+     * 새로운 SSE 연결 생성 (같은 사용자의 기존 연결은 유지)
+     *
+     * @param lastEventId 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
      */
-    public SseEmitter createEmitter(String userId) {
+    public SseEmitter createEmitter(String userId, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        
-        // 기존 연결이 있다면 종료
-        SseEmitter oldEmitter = sseEmitters.put(userId, emitter);
-        if (oldEmitter != null) {
-            oldEmitter.complete();
-            log.info("기존 SSE 연결 종료됨: userId={}", userId);
+        SseConnection connection = sseDispatcher.open(userId, emitter);
+
+        sseEmitters.compute(userId, (key, connections) -> {
+            Set<SseConnection> target = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            target.add(connection);
+            return target;
+        });
+        sseReplayStore.attach(userId);
+
+        try {
+            ssePresenceRegistry.register(userId);
+        } catch (Exception e) {
+            log.warn("SSE 연결 위치 등록 실패 (다음 하트비트에 재등록): userId={}, error={}", userId, e.getMessage());
         }
 
         // 연결 이벤트 핸들러 설정
         emitter.onCompletion(() -> {
-            sseEmitters.remove(userId);
+            removeEmitter(userId, connection);
             log.info("SSE 연결 완료됨: userId={}", userId);
         });
 
         emitter.onTimeout(() -> {
-            sseEmitters.remove(userId);
+            removeEmitter(userId, connection);
             log.info("SSE 연결 타임아웃: userId={}", userId);
         });
 
         emitter.onError((ex) -> {
-            sseEmitters.remove(userId);
+            removeEmitter(userId, connection);
             log.error("SSE 연결 오류: userId={}, error={}", userId, ex.getMessage());
         });
 
         // 연결 확인 메시지 전송 (503 에러 방지)
+        // 사용자 이벤트가 아닌 메시지에는 ID를 붙이지 않아 클라이언트의 Last-Event-ID가 유지되도록 함
+        // 연결 확인/재전송은 응답 시작 전에 emitter에 직접 보내며, 이후 이벤트는 디스패처 큐를 거침
         try {
             emitter.send(SseEmitter.event()
                 .name("connect")
-                .data("SSE 연결이 성공적으로 설정되었습니다.")
-                .id(String.valueOf(System.currentTimeMillis())));
-            
-            log.info("새로운 SSE 연결 생성됨: userId={}, 현재 연결 수={}", userId, sseEmitters.size());
+                .data("SSE 연결이 성공적으로 설정되었습니다."));
+
+            replayMissedEvents(userId, emitter, lastEventId);
+
+            log.info("새로운 SSE 연결 생성됨: userId={}, 사용자 연결 수={}, 현재 연결 사용자 수={}",
+                    userId, sseEmitters.getOrDefault(userId, Set.of()).size(), sseEmitters.size());
         } catch (IOException e) {
-            sseEmitters.remove(userId);
+            removeEmitter(userId, connection);
             log.error("SSE 초기 메시지 전송 실패: userId={}, error={}", userId, e.getMessage());
             emitter.completeWithError(e);
         }
@@ -101,37 +140,108 @@ public class SseEmitterService {
         return emitter;
     }
 
+    /**
+     * Last-Event-ID 이후 놓친 이벤트 재전송
+     * 재전송 구간 일부가 이미 버퍼에서 밀려났으면 resync 이벤트로 클라이언트에 목록 재조회를 요청합니다.
+     * 재전송 직후 도착한 실시간 이벤트와 같은 ID가 중복될 수 있으므로 클라이언트는 ID 기준으로 중복을 무시합니다.
+     */
+    private void replayMissedEvents(String userId, SseEmitter emitter, String lastEventId) throws IOException {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+
+        ReplayResult result;
+        try {
+            result = sseReplayStore.findAfter(userId, lastEventId.trim());
+        } catch (Exception e) {
+            log.warn("SSE 재전송 이벤트 조회 실패: userId={}, lastEventId={}, error={}", userId, lastEventId, e.getMessage());
+            result = new ReplayResult(List.of(), false);
+        }
+        if (result == null) {
+            log.debug("SSE 재전송 생략 (잘못된 Last-Event-ID): userId={}, lastEventId={}", userId, lastEventId);
+            return;
+        }
+
+        if (!result.complete()) {
+            emitter.send(SseEmitter.event()
+                .name("resync")
+                .data("재연결 중 누락된 알림이 있을 수 있습니다. 목록을 다시 조회해주세요."));
+        }
+        for (ReplayEvent event : result.events()) {
+            emitter.send(SseEmitter.event()
+                .name(event.eventName())
+                .data(event.data())
+                .id(event.id()));
+        }
+
+        log.info("SSE 이벤트 재전송: userId={}, lastEventId={}, 재전송 수={}, 누락 없음={}",
+                userId, lastEventId, result.events().size(), result.complete());
+    }
+
     /**
      * 특정 사용자에게 알림 메시지 전송 (비동기)
+     * 이벤트를 재전송 버퍼에 기록해 ID를 받은 뒤, 현재 노드 연결에는 직접 전송하고
+     * 다른 노드의 연결에는 해당 노드 채널로 전달합니다.
      */
     public void sendNotification(String userId, Object data, String eventName) {
-        SseEmitter emitter = sseEmitters.get(userId);
-        if (emitter == null) {
-            log.debug("SSE 연결이 없음: userId={}", userId);
+        String jsonData;
+        try {
+            jsonData = objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            log.error("SSE 알림 데이터 직렬화 실패: userId={}, event={}, error={}", userId, eventName, e.getMessage());
             return;
         }
 
-        // CompletableFuture로 비동기 처리
-        CompletableFuture.runAsync(() -> {
-            try {
-                String jsonData = objectMapper.writeValueAsString(data);
-                
-                emitter.send(SseEmitter.event()
-                    .name(eventName)
-                    .data(jsonData)
-                    .id(String.valueOf(System.currentTimeMillis())));
-                
-                log.info("SSE 알림 전송 성공: userId={}, event={}", userId, eventName);
-                
-            } catch (IOException e) {
-                log.error("SSE 알림 전송 실패: userId={}, event={}, error={}", userId, eventName, e.getMessage());
-                // 연결이 끊어진 경우 제거
-                sseEmitters.remove(userId);
-                emitter.completeWithError(e);
-            } catch (Exception e) {
-                log.error("SSE 알림 데이터 직렬화 실패: userId={}, event={}, error={}", userId, eventName, e.getMessage());
+        String eventId = null;
+        try {
+            eventId = sseReplayStore.append(userId, eventName, jsonData);
+        } catch (Exception e) {
+            log.warn("SSE 재전송 버퍼 기록 실패 (ID 없이 전송): userId={}, event={}, error={}", userId, eventName, e.getMessage());
+        }
+
+        Set<String> nodes;
+        try {
+            nodes = ssePresenceRegistry.findNodes(userId);
+        } catch (Exception e) {
+            log.warn("SSE 연결 위치 조회 실패 (현재 노드만 전송): userId={}, error={}", userId, e.getMessage());
+            nodes = Set.of();
+        }
+
+        String currentNode = ssePresenceRegistry.getNodeId();
+        if (nodes.contains(currentNode) || sseEmitters.containsKey(userId)) {
+            sendLocal(userId, eventId, jsonData, eventName);
+        }
+        for (String node : nodes) {
+            if (!node.equals(currentNode)) {
+                publish(SsePresenceRegistry.nodeChannel(node),
+                        new ClusterMessage(MESSAGE_TYPE_SEND, userId, eventId, eventName, jsonData));
+                log.debug("SSE 알림 노드 전달: userId={}, event={}, node={}", userId, eventName, node);
             }
-        }, sseNotificationExecutor);
+        }
+    }
+
+    /**
+     * 현재 노드에 연결된 사용자의 모든 연결 큐에 추가 (재전송 링 버퍼에도 보관)
+     * 알림 요약은 최신 값만 의미가 있으므로 아직 보내지 못한 이전 요약과 합쳐집니다.
+     */
+    private void sendLocal(String userId, String eventId, String jsonData, String eventName) {
+        if (eventId != null) {
+            sseReplayStore.remember(userId, new ReplayEvent(eventId, eventName, jsonData));
+        }
+
+        Set<SseConnection> connections = sseEmitters.get(userId);
+        if (connections == null || connections.isEmpty()) {
+            log.debug("SSE 연결이 없음: userId={}", userId);
+            return;
+        }
+
+        Kind kind = SUMMARY_EVENT_NAME.equals(eventName) ? Kind.SUMMARY : Kind.EVENT;
+        OutboundEvent event = new OutboundEvent(kind, eventName, jsonData, eventId);
+        for (SseConnection connection : connections) {
+            sseDispatcher.enqueue(connection, event);
+        }
+        log.debug("SSE 알림 전송 예약: userId={}, event={}, eventId={}, 연결 수={}",
+                userId, eventName, eventId, connections.size());
     }
 
     /**
@@ -145,91 +255,158 @@ public class SseEmitterService {
      * 특정 사용자에게 알림 요약 정보 전송
      */
     public void sendNotificationSummary(String userId, Object data) {
-        sendNotification(userId, data, "notification-summary");
+        sendNotification(userId, data, SUMMARY_EVENT_NAME);
     }
 
     /**
      * 모든 연결된 사용자에게 메시지 전송 (브로드캐스트)
+     * 브로드캐스트 채널에 한 번만 발행하며, 현재 노드를 포함한 각 노드가 수신 후 로컬 연결에 전송합니다.
+     * 브로드캐스트는 사용자 이벤트 ID를 부여하지 않으며 재전송 대상이 아닙니다.
      */
     public void sendToAll(Object data, String eventName) {
-        if (sseEmitters.isEmpty()) {
-            log.debug("전송할 SSE 연결이 없음");
-            return;
-        }
-
         try {
             String jsonData = objectMapper.writeValueAsString(data);
-            
-            sseEmitters.forEach((userId, emitter) -> {
-                CompletableFuture.runAsync(() -> {
-                    try {
-                        emitter.send(SseEmitter.event()
-                            .name(eventName)
-                            .data(jsonData)
-                            .id(String.valueOf(System.currentTimeMillis())));
-                        
-                    } catch (IOException e) {
-                        log.error("SSE 브로드캐스트 전송 실패: userId={}, error={}", userId, e.getMessage());
-                        sseEmitters.remove(userId);
-                        emitter.completeWithError(e);
-                    }
-                }, sseNotificationExecutor);
-            });
-            
-            log.info("SSE 브로드캐스트 전송 완료: event={}, 대상={}", eventName, sseEmitters.size());
-            
+            publish(SsePresenceRegistry.BROADCAST_CHANNEL,
+                    new ClusterMessage(MESSAGE_TYPE_SEND, null, null, eventName, jsonData));
+            log.info("SSE 브로드캐스트 발행 완료: event={}", eventName);
         } catch (Exception e) {
             log.error("SSE 브로드캐스트 데이터 직렬화 실패: event={}, error={}", eventName, e.getMessage());
         }
     }
 
     /**
-     * 모든 연결에 하트비트 전송
+     * 현재 노드의 모든 연결 큐에 추가 (연결당 작업을 만들지 않고 큐에 넣기만 함)
      */
-    private void sendHeartbeatToAll() {
+    private void sendToAllLocal(String jsonData, String eventName) {
         if (sseEmitters.isEmpty()) {
+            log.debug("전송할 SSE 연결이 없음");
             return;
         }
 
-        sseEmitters.forEach((userId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                    .name("heartbeat")
-                    .data("ping")
-                    .id(String.valueOf(System.currentTimeMillis())));
-                
-            } catch (IOException e) {
-                log.debug("SSE 하트비트 전송 실패 (연결 제거): userId={}", userId);
-                sseEmitters.remove(userId);
-                emitter.completeWithError(e);
+        OutboundEvent event = new OutboundEvent(Kind.EVENT, eventName, jsonData, null);
+        sseEmitters.values().forEach(connections -> connections.forEach(connection ->
+                sseDispatcher.enqueue(connection, event)));
+
+        log.info("SSE 브로드캐스트 전송 예약 완료: event={}, 대상 사용자={}", eventName, sseEmitters.size());
+    }
+
+    /**
+     * 노드 채널/브로드캐스트 채널 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ClusterMessage clusterMessage = objectMapper.readValue(message.getBody(), ClusterMessage.class);
+
+            if (MESSAGE_TYPE_DISCONNECT.equals(clusterMessage.type())) {
+                if (closeLocal(clusterMessage.userId())) {
+                    log.info("다른 노드 요청으로 SSE 연결 종료됨: userId={}", clusterMessage.userId());
+                }
+            } else if (clusterMessage.userId() == null) {
+                sendToAllLocal(clusterMessage.data(), clusterMessage.eventName());
+            } else {
+                sendLocal(clusterMessage.userId(), clusterMessage.eventId(), clusterMessage.data(), clusterMessage.eventName());
             }
+        } catch (Exception e) {
+            log.warn("잘못된 SSE 노드 메시지: {}", e.getMessage());
+        }
+    }
+
+    private void publish(String channel, ClusterMessage clusterMessage) {
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(clusterMessage));
+        } catch (Exception e) {
+            log.error("SSE 노드 메시지 발행 실패: channel={}, userId={}, error={}",
+                    channel, clusterMessage.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 연결 하나 제거
+     * 사용자의 마지막 연결이 끊겨도 연결 위치는 바로 해제하지 않습니다. 위치 TTL이 남아 있는 동안 이 노드가 계속
+     * 이벤트를 받아 링 버퍼에 보관하므로, 같은 노드로 곧바로 재연결하면 Redis 조회 없이 재전송할 수 있습니다.
+     */
+    private void removeEmitter(String userId, SseConnection connection) {
+        sseDispatcher.close(connection);
+        Set<SseConnection> remaining = sseEmitters.computeIfPresent(userId, (key, connections) -> {
+            connections.remove(connection);
+            return connections.isEmpty() ? null : connections;
         });
+        if (remaining == null) {
+            sseReplayStore.detach(userId);
+        }
+    }
 
-        log.debug("SSE 하트비트 전송 완료: 연결 수={}", sseEmitters.size());
+    /**
+     * 현재 노드의 사용자 연결 모두 종료 및 연결 위치/링 버퍼 해제
+     *
+     * @return 종료한 연결이 있으면 true
+     */
+    private boolean closeLocal(String userId) {
+        Set<SseConnection> connections = sseEmitters.remove(userId);
+        ssePresenceRegistry.unregister(userId);
+        sseReplayStore.discard(userId);
+        if (connections == null) {
+            return false;
+        }
+        connections.forEach(sseDispatcher::terminate);
+        return true;
     }
 
     /**
-     * 특정 사용자의 연결 상태 확인
+     * 하트비트 틱 처리: 이번 칸 사용자들의 연결 위치 TTL 연장, 휠 한 바퀴마다 오래 끊긴 링 버퍼 정리
+     */
+    private void onHeartbeatTick(Set<String> userIds, boolean fullRevolution) {
+        if (fullRevolution) {
+            sseReplayStore.evictDetached();
+        }
+
+        userIds.removeIf(userId -> !sseEmitters.containsKey(userId));
+        try {
+            ssePresenceRegistry.refresh(userIds);
+        } catch (Exception e) {
+            log.warn("SSE 연결 위치 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 특정 사용자의 연결 상태 확인 (다른 노드 연결 포함)
+     * 마지막 연결이 끊긴 뒤 연결 위치 TTL(최대 90초) 동안은 연결된 것으로 보일 수 있습니다.
      */
     public boolean isConnected(String userId) {
-        return sseEmitters.containsKey(userId);
+        if (sseEmitters.containsKey(userId)) {
+            return true;
+        }
+        try {
+            return !ssePresenceRegistry.findNodes(userId).isEmpty();
+        } catch (Exception e) {
+            log.warn("SSE 연결 위치 조회 실패: userId={}, error={}", userId, e.getMessage());
+            return false;
+        }
     }
 
     /**
-     * 현재 연결된 사용자 수 조회
+     * 현재 노드에 연결된 사용자 수 조회
      */
     public int getConnectionCount() {
         return sseEmitters.size();
     }
 
     /**
-     * 특정 사용자의 연결 강제 종료
+     * 특정 사용자의 연결 강제 종료 (모든 노드의 모든 연결)
      */
     public void disconnectUser(String userId) {
-        SseEmitter emitter = sseEmitters.remove(userId);
-        if (emitter != null) {
-            emitter.complete();
+        if (closeLocal(userId)) {
             log.info("SSE 연결 강제 종료됨: userId={}", userId);
         }
+
+        // 다른 노드에 연결된 경우 해당 노드에 종료 요청
+        for (String node : ssePresenceRegistry.findNodes(userId)) {
+            if (!node.equals(ssePresenceRegistry.getNodeId())) {
+                publish(SsePresenceRegistry.nodeChannel(node),
+                        new ClusterMessage(MESSAGE_TYPE_DISCONNECT, userId, null, null, null));
+                log.info("SSE 연결 강제 종료 요청 전달: userId={}, node={}", userId, node);
+            }
+        }
     }
 }
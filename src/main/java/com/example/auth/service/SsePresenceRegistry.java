@@ -0,0 +1,122 @@
+package com.example.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SSE 연결 위치 레지스트리 (userId -> 연결을 보유한 노드 ID 집합)
+ * 한 사용자가 여러 기기/탭으로 서로 다른 노드에 연결할 수 있으므로 사용자별 ZSET(노드 ID -> 만료 시각 ms)으로 관리합니다.
+ * 하트비트마다 만료 시각을 연장하므로 인스턴스가 비정상 종료되어도 TTL이 지나면 해당 노드는 대상에서 빠집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SsePresenceRegistry {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String PRESENCE_KEY_PREFIX = "sse:presence:";
+    private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+    public static final String BROADCAST_CHANNEL = "sse:broadcast";
+    public static final Duration PRESENCE_TTL = Duration.ofSeconds(90); // 하트비트(30초) 3회 누락 시 만료
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    // Lua 스크립트 - 사용자별 현재 노드 만료 시각 연장, 만료된 노드 정리, 키 TTL 연장
+    private static final String REFRESH_SCRIPT = """
+        for i, key in ipairs(KEYS) do
+            redis.call('ZADD', key, ARGV[4], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', key, 0, ARGV[2])
+            redis.call('PEXPIRE', key, ARGV[3])
+        end
+        return #KEYS
+        """;
+
+    private static final DefaultRedisScript<Long> refreshScript = new DefaultRedisScript<>(REFRESH_SCRIPT, Long.class);
+
+    @Value("${sse.cluster.node-id:}")
+    private String configuredNodeId;
+
+    private String nodeId;
+
+    @PostConstruct
+    public void init() {
+        // 미설정 시 시작할 때마다 새 UUID (재시작 전 노드로 향한 메시지는 수신되지 않음)
+        nodeId = configuredNodeId != null && !configuredNodeId.isBlank()
+                ? configuredNodeId
+                : UUID.randomUUID().toString();
+        log.info("SSE 클러스터 노드 ID: {}", nodeId);
+    }
+
+    /**
+     * 현재 인스턴스의 노드 ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 현재 노드 전용 채널
+     */
+    public String getNodeChannel() {
+        return nodeChannel(getNodeId());
+    }
+
+    public static String nodeChannel(String nodeId) {
+        return NODE_CHANNEL_PREFIX + nodeId;
+    }
+
+    /**
+     * 사용자 연결 위치에 현재 노드 등록
+     */
+    public void register(String userId) {
+        refresh(List.of(userId));
+    }
+
+    /**
+     * 사용자 연결 위치에서 현재 노드 제거
+     */
+    public void unregister(String userId) {
+        try {
+            redisTemplate.opsForZSet().remove(PRESENCE_KEY_PREFIX + userId, getNodeId());
+        } catch (Exception e) {
+            log.warn("SSE 연결 위치 해제 실패 (TTL 만료 후 정리): userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 연결을 보유한 노드 ID 목록 조회 (만료된 노드 제외, 연결 없으면 빈 집합)
+     */
+    public Set<String> findNodes(String userId) {
+        Set<String> nodes = redisTemplate.opsForZSet()
+                .rangeByScore(PRESENCE_KEY_PREFIX + userId, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return nodes != null ? nodes : Set.of();
+    }
+
+    /**
+     * 현재 노드에 연결된 사용자들의 위치 정보 만료 시각 연장 (REFRESH_CHUNK_SIZE명당 스크립트 1회 호출)
+     */
+    public void refresh(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = userIds.stream().map(userId -> PRESENCE_KEY_PREFIX + userId).toList();
+        long now = System.currentTimeMillis();
+        long ttl = PRESENCE_TTL.toMillis();
+        for (int from = 0; from < keys.size(); from += REFRESH_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, keys.size()));
+            redisTemplate.execute(refreshScript, chunk,
+                    getNodeId(), String.valueOf(now), String.valueOf(ttl), String.valueOf(now + ttl));
+        }
+    }
+}
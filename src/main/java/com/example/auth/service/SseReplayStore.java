@@ -0,0 +1,256 @@
+package com.example.auth.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SSE 사용자 이벤트 재전송 버퍼
+ * 사용자별 이벤트를 Redis Stream(sse:replay:<userId>)에 최근 N건, TTL과 함께 기록하고 스트림 ID를 이벤트 ID로 사용합니다.
+ * 스트림 ID는 사용자별로 단조 증가하므로 재연결 시 Last-Event-ID 이후 이벤트만 다시 보낼 수 있습니다.
+ * 연결을 보유한 노드는 같은 이벤트를 메모리 링 버퍼에도 보관하여, Redis 조회가 실패할 때 같은 노드로 재연결한 사용자에게 재전송합니다.
+ * 링 버퍼는 노드 간 전달이 누락되면 중간이 빠질 수 있으므로 누락 여부 판단(complete)은 항상 Redis Stream 기준입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseReplayStore {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String REPLAY_KEY_PREFIX = "sse:replay:";
+    private static final Pattern STREAM_ID_PATTERN = Pattern.compile("\\d+(-\\d+)?");
+
+    // 마지막 연결이 끊긴 뒤에도 위치 정보가 남아 이벤트를 계속 수신하는 최소 시간 (위치 TTL 90초 - 하트비트 간격 30초)
+    private static final long LOCAL_REPLAY_GRACE_MILLIS = 60_000;
+
+    // Lua 스크립트 - 이벤트 추가(최근 N건만 유지) 후 TTL 연장, 생성된 스트림 ID 반환
+    private static final String APPEND_SCRIPT = """
+        local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'event', ARGV[2], 'data', ARGV[3])
+        redis.call('PEXPIRE', KEYS[1], ARGV[4])
+        return id
+        """;
+
+    private static final DefaultRedisScript<String> appendScript = new DefaultRedisScript<>(APPEND_SCRIPT, String.class);
+
+    @Value("${sse.replay.buffer-size:50}")
+    private int bufferSize;
+
+    @Value("${sse.replay.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private final ConcurrentHashMap<String, LocalRing> rings = new ConcurrentHashMap<>();
+
+    /**
+     * 재전송 대상 이벤트
+     *
+     * @param id        스트림 ID (SSE 이벤트 ID)
+     * @param eventName SSE 이벤트명
+     * @param data      직렬화된 JSON 데이터
+     */
+    public record ReplayEvent(String id, String eventName, String data) {
+    }
+
+    /**
+     * 재전송 조회 결과
+     *
+     * @param events   Last-Event-ID 이후 이벤트 (ID 오름차순)
+     * @param complete Last-Event-ID 이후 이벤트가 모두 남아 있는지 (false면 클라이언트가 목록을 다시 조회해야 함)
+     */
+    public record ReplayResult(List<ReplayEvent> events, boolean complete) {
+    }
+
+    /**
+     * 노드 메모리 링 버퍼 (detachedAt: 마지막 연결이 끊긴 시각, 연결 중이면 0)
+     */
+    private static class LocalRing {
+        private final ArrayDeque<ReplayEvent> events = new ArrayDeque<>();
+        private volatile long detachedAt = 0;
+    }
+
+    /**
+     * 사용자 이벤트 기록 (Redis 1회 호출)
+     *
+     * @return 이벤트 ID (단조 증가 스트림 ID)
+     */
+    public String append(String userId, String eventName, String data) {
+        return redisTemplate.execute(appendScript, List.of(REPLAY_KEY_PREFIX + userId),
+                String.valueOf(bufferSize), eventName, data, String.valueOf(ttlSeconds * 1000));
+    }
+
+    /**
+     * 현재 노드에 사용자 연결이 생김 (링 버퍼 사용 시작)
+     */
+    public void attach(String userId) {
+        long now = System.currentTimeMillis();
+        // 유예 시간을 넘겨 끊겨 있던 링은 중간 이벤트가 빠졌을 수 있으므로 새로 시작
+        rings.compute(userId, (key, ring) -> ring == null || isExpired(ring, now) ? new LocalRing() : ring)
+                .detachedAt = 0;
+    }
+
+    /**
+     * 현재 노드의 사용자 연결이 모두 끊김 (유예 시간 동안만 링 버퍼 유지)
+     */
+    public void detach(String userId) {
+        LocalRing ring = rings.get(userId);
+        if (ring != null) {
+            ring.detachedAt = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 링 버퍼 즉시 제거 (강제 종료 등 더 이상 이벤트를 수신하지 않는 경우)
+     */
+    public void discard(String userId) {
+        rings.remove(userId);
+    }
+
+    /**
+     * 현재 노드로 전달된 이벤트를 링 버퍼에 보관 (링 버퍼가 있는 사용자만)
+     */
+    public void remember(String userId, ReplayEvent event) {
+        LocalRing ring = rings.get(userId);
+        if (ring == null) {
+            return;
+        }
+        synchronized (ring) {
+            ring.events.addLast(event);
+            while (ring.events.size() > bufferSize) {
+                ring.events.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Last-Event-ID 이후 이벤트 조회 (Redis Stream 기준, Redis 조회 실패 시에만 링 버퍼 사용)
+     *
+     * @return 형식이 잘못된 ID면 null
+     */
+    public ReplayResult findAfter(String userId, String lastEventId) {
+        if (lastEventId == null || !STREAM_ID_PATTERN.matcher(lastEventId).matches()) {
+            return null;
+        }
+
+        try {
+            return findInStream(userId, lastEventId);
+        } catch (DataAccessException e) {
+            log.warn("SSE 재전송 Redis 조회 실패, 노드 링 버퍼로 대체: userId={}, error={}", userId, e.getMessage());
+            List<ReplayEvent> local = findInRing(userId, lastEventId);
+            // 링 버퍼만으로는 중간 누락 여부를 확인할 수 없으므로 항상 목록 재조회 요청
+            return new ReplayResult(local != null ? local : List.of(), false);
+        }
+    }
+
+    /**
+     * Redis Stream에서 Last-Event-ID 이후 이벤트를 끝까지 조회
+     * XADD MAXLEN ~ 은 노드 단위로만 잘라 스트림에 bufferSize보다 많은 이벤트가 남을 수 있으므로,
+     * 한 번에 bufferSize + 1건씩 마지막으로 읽은 ID 다음부터 스트림 끝까지 이어서 읽음 (중간에서 끊고 complete로 응답하지 않도록)
+     */
+    private ReplayResult findInStream(String userId, String lastEventId) {
+        String key = REPLAY_KEY_PREFIX + userId;
+        int pageSize = bufferSize + 1;
+
+        List<ReplayEvent> events = new ArrayList<>();
+        boolean complete = false;
+        Range.Bound<String> from = Range.Bound.inclusive(lastEventId);
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                    key, Range.rightUnbounded(from), Limit.limit().count(pageSize));
+            if (records == null || records.isEmpty()) {
+                break;
+            }
+
+            for (MapRecord<String, Object, Object> record : records) {
+                String id = record.getId().getValue();
+                if (id.equals(lastEventId)) {
+                    complete = true; // 마지막 수신 이벤트가 아직 남아 있으면 이후 구간에 누락 없음
+                    continue;
+                }
+                Map<Object, Object> value = record.getValue();
+                events.add(new ReplayEvent(id, String.valueOf(value.get("event")), String.valueOf(value.get("data"))));
+            }
+
+            if (records.size() < pageSize) {
+                break;
+            }
+            from = Range.Bound.exclusive(records.get(records.size() - 1).getId().getValue());
+        }
+        return new ReplayResult(events, complete);
+    }
+
+    /**
+     * 오래 끊긴 사용자의 링 버퍼 정리 (하트비트 주기마다 호출)
+     */
+    public void evictDetached() {
+        long now = System.currentTimeMillis();
+        rings.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
+    }
+
+    private static boolean isExpired(LocalRing ring, long now) {
+        long detachedAt = ring.detachedAt;
+        return detachedAt > 0 && now - detachedAt > LOCAL_REPLAY_GRACE_MILLIS;
+    }
+
+    /**
+     * 링 버퍼에 Last-Event-ID가 남아 있고 유예 시간 내라면 그 이후 이벤트 반환, 아니면 null
+     * (링 버퍼에는 노드 간 전달이 누락된 이벤트가 빠져 있을 수 있음)
+     */
+    private List<ReplayEvent> findInRing(String userId, String lastEventId) {
+        LocalRing ring = rings.get(userId);
+        if (ring == null) {
+            return null;
+        }
+        if (isExpired(ring, System.currentTimeMillis())) {
+            return null;
+        }
+
+        synchronized (ring) {
+            boolean found = false;
+            List<ReplayEvent> events = new ArrayList<>();
+            for (ReplayEvent event : ring.events) {
+                int compared = compareStreamIds(event.id(), lastEventId);
+                if (compared == 0) {
+                    found = true;
+                } else if (compared > 0) {
+                    events.add(event);
+                }
+            }
+            if (!found) {
+                return null;
+            }
+            // 노드 간 전달 순서가 뒤바뀔 수 있으므로 ID 순으로 정렬
+            events.sort(Comparator.comparing(ReplayEvent::id, SseReplayStore::compareStreamIds));
+            return events;
+        }
+    }
+
+    private static int compareStreamIds(String left, String right) {
+        long[] a = parseStreamId(left);
+        long[] b = parseStreamId(right);
+        int compared = Long.compare(a[0], b[0]);
+        return compared != 0 ? compared : Long.compare(a[1], b[1]);
+    }
+
+    private static long[] parseStreamId(String id) {
+        int dash = id.indexOf('-');
+        if (dash < 0) {
+            return new long[]{Long.parseLong(id), 0};
+        }
+        return new long[]{Long.parseLong(id.substring(0, dash)), Long.parseLong(id.substring(dash + 1))};
+    }
+}
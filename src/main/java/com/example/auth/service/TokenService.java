@@ -1,16 +1,59 @@
 package com.example.auth.service;
 
+import com.example.auth.security.JwtUtil;
+import com.example.auth.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 리프레시 토큰 저장 및 액세스 토큰 블랙리스트 관리
+ * 블랙리스트는 토큰 전체 문자열 대신 SHA-256 해시로 저장하고, 인스턴스마다 블룸 필터를 두어
+ * 대부분인 "블랙리스트 아님" 판정은 Redis 조회 없이 처리합니다. 필터가 "있을 수도 있음"이라고 할 때만 Redis로 정확히 확인합니다.
+ * 필터는 주기적으로 Redis 인덱스(ZSET)에서 다시 만들고, 새 블랙리스트는 Pub/Sub으로 모든 인스턴스에 즉시 반영합니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class TokenService {
+public class TokenService implements MessageListener {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private static final String BLACKLIST_KEY_PREFIX = "BLACKLIST:";
+    private static final String BLACKLIST_INDEX_KEY = "BLACKLIST:index"; // 해시 -> 만료 시각(ms) ZSET
+    private static final String BLACKLIST_CHANNEL = "auth:blacklist:add";
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final int BLOOM_MIN_CAPACITY = 10000;
+
+    // null이면 아직 필터가 없으므로 모든 확인을 Redis로 처리
+    private volatile BloomFilter blacklistFilter;
+    private volatile boolean rebuilding = false;
+    private volatile boolean legacyKeysMigrated = false;
+    private final Queue<byte[]> addedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+    }
 
     public void saveRefreshToken(Long userId, String refreshToken) {
         redisTemplate.opsForValue().set("REFRESH:" + userId, refreshToken, Duration.ofDays(7));
@@ -25,10 +68,138 @@ public class TokenService {
     }
 
     public void blacklistAccessToken(String accessToken, long expireMillis) {
-        redisTemplate.opsForValue().set("BLACKLIST:" + accessToken, "true", Duration.ofMillis(expireMillis));
+        byte[] digest = JwtUtil.digest(accessToken);
+        String hash = HexFormat.of().formatHex(digest);
+
+        redisTemplate.opsForValue().set(BLACKLIST_KEY_PREFIX + hash, "true", Duration.ofMillis(expireMillis));
+        redisTemplate.opsForZSet().add(BLACKLIST_INDEX_KEY, hash, System.currentTimeMillis() + expireMillis);
+
+        addToFilter(digest);
+        try {
+            redisTemplate.convertAndSend(BLACKLIST_CHANNEL, hash);
+        } catch (Exception e) {
+            log.warn("블랙리스트 전파 실패 - 다른 인스턴스는 다음 필터 재생성 시 반영: {}", e.getMessage());
+        }
     }
 
     public boolean isBlacklisted(String accessToken) {
-        return redisTemplate.hasKey("BLACKLIST:" + accessToken);
+        return isBlacklisted(accessToken, JwtUtil.digest(accessToken));
+    }
+
+    /**
+     * 블랙리스트 확인 (이미 계산한 토큰 다이제스트 재사용)
+     */
+    public boolean isBlacklisted(String accessToken, byte[] digest) {
+        BloomFilter filter = blacklistFilter;
+        if (filter == null) {
+            // 필터 생성 전에는 이전 형식(토큰 전체 문자열) 키까지 함께 확인
+            Long count = redisTemplate.countExistingKeys(List.of(
+                    BLACKLIST_KEY_PREFIX + HexFormat.of().formatHex(digest),
+                    BLACKLIST_KEY_PREFIX + accessToken));
+            return count != null && count > 0;
+        }
+
+        if (!filter.mightContain(digest)) {
+            return false; // 확실히 블랙리스트 아님 (네트워크 왕복 없음)
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_KEY_PREFIX + HexFormat.of().formatHex(digest)));
+    }
+
+    /**
+     * 블룸 필터 재생성 (시작 직후, 이후 1분마다)
+     * 만료된 인덱스 항목을 정리한 뒤 남은 해시로 새 필터를 만들어 교체합니다.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 60000)
+    public void rebuildBlacklistFilter() {
+        try {
+            if (!legacyKeysMigrated) {
+                migrateLegacyBlacklistKeys();
+                legacyKeysMigrated = true;
+            }
+
+            rebuilding = true;
+            addedDuringRebuild.clear();
+
+            redisTemplate.opsForZSet().removeRangeByScore(BLACKLIST_INDEX_KEY, 0, System.currentTimeMillis());
+            Set<String> hashes = redisTemplate.opsForZSet().range(BLACKLIST_INDEX_KEY, 0, -1);
+            int size = hashes != null ? hashes.size() : 0;
+
+            BloomFilter filter = new BloomFilter(Math.max(BLOOM_MIN_CAPACITY, size * 2L), BLOOM_FALSE_POSITIVE_RATE);
+            if (hashes != null) {
+                for (String hash : hashes) {
+                    filter.put(HexFormat.of().parseHex(hash));
+                }
+            }
+
+            blacklistFilter = filter;
+
+            // 재생성 중에 추가된 블랙리스트를 새 필터에도 반영 (플래그 해제 직전 추가분까지 두 번 비움)
+            drainAddedDuringRebuild(filter);
+            rebuilding = false;
+            drainAddedDuringRebuild(filter);
+
+            log.debug("토큰 블랙리스트 필터 재생성 완료 - {}건", size);
+        } catch (Exception e) {
+            rebuilding = false;
+            log.error("토큰 블랙리스트 필터 재생성 실패 - 기존 필터 유지: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            addToFilter(HexFormat.of().parseHex(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 블랙리스트 전파 메시지: {}", e.getMessage());
+        }
+    }
+
+    private void drainAddedDuringRebuild(BloomFilter filter) {
+        byte[] digest;
+        while ((digest = addedDuringRebuild.poll()) != null) {
+            filter.put(digest);
+        }
+    }
+
+    private void addToFilter(byte[] digest) {
+        BloomFilter filter = blacklistFilter;
+        if (filter != null) {
+            filter.put(digest);
+        }
+        if (rebuilding) {
+            addedDuringRebuild.add(digest);
+        }
+    }
+
+    /**
+     * 이전 형식(BLACKLIST:<토큰 전체>) 키를 해시 키로 이관 (남은 TTL 유지, SCAN 사용)
+     */
+    private void migrateLegacyBlacklistKeys() {
+        int migrated = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String value = key.substring(BLACKLIST_KEY_PREFIX.length());
+                if (key.equals(BLACKLIST_INDEX_KEY) || isSha256Hex(value)) {
+                    continue;
+                }
+
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                if (ttl != null && ttl > 0) {
+                    blacklistAccessToken(value, ttl);
+                }
+                redisTemplate.delete(key);
+                migrated++;
+            }
+        }
+
+        if (migrated > 0) {
+            log.info("이전 형식 토큰 블랙리스트 이관 완료 - {}건", migrated);
+        }
+    }
+
+    private boolean isSha256Hex(String value) {
+        return value.length() == 64 && value.chars().allMatch(c -> Character.digit(c, 16) >= 0);
     }
 }
@@ -9,6 +9,7 @@ import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.CampaignApplicationRepository;
 import com.example.auth.repository.UserSnsPlatformRepository;
 import com.example.auth.repository.CompanyRepository;
+import com.example.auth.security.UserPrincipalCache;
 import com.example.auth.service.S3Service;
 import com.example.auth.service.ImageProcessingService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -31,6 +33,8 @@ public class UserService {
     private final UserSnsPlatformRepository userSnsPlatformRepository;
     private final CompanyRepository companyRepository;
     private final TempUserService tempUserService;
+    private final CampaignApplicantCounterService applicantCounterService;
+    private final UserPrincipalCache userPrincipalCache;
 
     // UserService.java
     public UserLoginResult findOrCreateUser(String provider, KakaoUserInfo info) {
@@ -210,7 +214,11 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
         
         user.updateRole(role);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+
+        // 인증 필터 권한 캐시 무효화 (모든 인스턴스)
+        userPrincipalCache.invalidate(userId);
+        return savedUser;
     }
     
     /**
@@ -226,8 +234,10 @@ public class UserService {
         
         log.info("회원 탈퇴 처리 시작: userId={}, role={}", userId, user.getRole());
         
-        // 1. 사용자가 신청한 캠페인 신청 내역 삭제
+        // 1. 사용자가 신청한 캠페인 신청 내역 삭제 (영향받는 캠페인의 신청자 수 카운터 재계산)
+        List<Long> appliedCampaignIds = campaignApplicationRepository.findCampaignIdsByUserId(userId);
         campaignApplicationRepository.deleteByUserId(userId);
+        applicantCounterService.recalculate(appliedCampaignIds);
         log.info("캠페인 신청 내역 삭제 완료: userId={}", userId);
         
         // 2. 사용자의 SNS 플랫폼 연동 정보 삭제
@@ -257,6 +267,7 @@ public class UserService {
         
         // 5. 마지막으로 사용자 삭제
         userRepository.deleteById(userId);
+        userPrincipalCache.invalidate(userId);
         log.info("회원 탈퇴 처리 완료: userId={}", userId);
     }
 }
\ No newline at end of file
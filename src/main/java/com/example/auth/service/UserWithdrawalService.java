@@ -10,6 +10,7 @@ import com.example.auth.repository.CampaignApplicationRepository;
 import com.example.auth.repository.CampaignRepository;
 import com.example.auth.repository.UserRepository;
 import com.example.auth.repository.WithdrawnUserRepository;
+import com.example.auth.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -32,6 +33,7 @@ public class UserWithdrawalService {
     private final WithdrawnUserRepository withdrawnUserRepository;
     private final CampaignRepository campaignRepository;
     private final CampaignApplicationRepository campaignApplicationRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 회원 탈퇴 처리
@@ -55,6 +57,7 @@ public class UserWithdrawalService {
 
         // 4. 사용자 계정 완전 삭제 (Hard Delete)
         userRepository.deleteById(userId);
+        userPrincipalCache.invalidate(userId);
 
         // 5. 응답 생성
         return WithdrawalResponse.builder()
@@ -0,0 +1,319 @@
+package com.example.auth.service;
+
+import com.example.auth.dto.YouTubeChannelInfo;
+import com.example.auth.exception.SnsCrawlException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 유튜브 채널 구독자 수 묶음 조회기
+ * 호출자별 요청을 모아 YouTube Data API channels.list 한 번에 채널 id 최대 50개씩 조회하고, 결과를 각 호출자의 future로 돌려줍니다.
+ * - 요청은 최대 batchWindowMs 동안 모으거나 50개가 차면 바로 전송 (WebClient 비동기 호출, 동시 요청 수 제한)
+ * - 계정 URL이 @핸들 / c/이름 / user/이름 형식이면 채널 id를 한 번 조회한 뒤 Redis에 30일 캐시
+ * - 429/5xx는 지수 백오프로 재시도
+ * - 요청/묶음 단위 오류는 해당 요청만 실패 처리하고, 파이프라인이 예기치 않게 종료되면 새 sink로 다시 구독
+ * youtube.api.key가 없으면 비활성입니다 (테스트에서는 youtube.api.base-url을 YouTubeApiStubServer 주소로 대체).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YouTubeChannelStatisticsCollector {
+
+    private final WebClient webClient;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${youtube.api.key:}")
+    private String apiKey;
+
+    @Value("${youtube.api.base-url:https://www.googleapis.com/youtube/v3}")
+    private String baseUrl;
+
+    @Value("${youtube.api.batch-window-ms:200}")
+    private long batchWindowMillis;
+
+    @Value("${youtube.api.max-concurrent-requests:2}")
+    private int maxConcurrentRequests;
+
+    private static final int MAX_IDS_PER_REQUEST = 50; // channels.list id 파라미터 최대 개수
+    private static final int MAX_RETRIES = 2;
+    private static final long REQUEST_TIMEOUT_SECONDS = 60; // 묶음 대기 + 재시도를 포함한 요청당 최대 대기
+    private static final String CHANNEL_ID_CACHE_PREFIX = "youtube:channel-id:";
+    private static final Duration CHANNEL_ID_CACHE_TTL = Duration.ofDays(30);
+
+    private static final Pattern CHANNEL_ID_PATTERN = Pattern.compile("youtube\\.com/channel/(UC[\\w-]+)");
+    private static final Pattern HANDLE_PATTERN = Pattern.compile("youtube\\.com/(@[^/?#]+)");
+    private static final Pattern CUSTOM_URL_PATTERN = Pattern.compile("youtube\\.com/c/([^/?#]+)");
+    private static final Pattern USERNAME_PATTERN = Pattern.compile("youtube\\.com/user/([^/?#]+)");
+
+    /**
+     * 구독자 수 요청 (계정 URL 기준)
+     */
+    private record PendingRequest(String accountUrl, CompletableFuture<Integer> result) {
+    }
+
+    /**
+     * 채널 id가 확인된 요청
+     */
+    private record ResolvedRequest(String channelId, CompletableFuture<Integer> result) {
+    }
+
+    private volatile Sinks.Many<PendingRequest> sink;
+    private volatile Disposable subscription;
+    private volatile boolean stopped;
+
+    @PostConstruct
+    public void start() {
+        stopped = false;
+        startPipeline();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private synchronized void startPipeline() {
+        Sinks.Many<PendingRequest> newSink = Sinks.many().unicast().onBackpressureBuffer();
+        subscription = newSink.asFlux()
+                .flatMap(this::resolve, maxConcurrentRequests)
+                .bufferTimeout(MAX_IDS_PER_REQUEST, Duration.ofMillis(batchWindowMillis))
+                .onBackpressureBuffer()
+                .flatMap(this::fetchBatch, maxConcurrentRequests)
+                // 종료/취소로 버려지는 요청은 타임아웃까지 기다리지 않도록 바로 실패 처리
+                .doOnDiscard(Object.class, this::failDiscarded)
+                .subscribe(null, this::restartPipeline);
+        sink = newSink;
+    }
+
+    /**
+     * 파이프라인이 오류로 종료되면 이후 요청이 영구히 멈추지 않도록 새 sink로 다시 구독
+     */
+    private void restartPipeline(Throwable e) {
+        if (stopped) {
+            return;
+        }
+        log.error("유튜브 채널 통계 조회 파이프라인 오류 종료, 다시 구독합니다: error={}", e.getMessage(), e);
+        startPipeline();
+    }
+
+    private void failDiscarded(Object discarded) {
+        if (discarded instanceof PendingRequest request) {
+            request.result().completeExceptionally(pipelineStopped());
+        } else if (discarded instanceof ResolvedRequest request) {
+            request.result().completeExceptionally(pipelineStopped());
+        } else if (discarded instanceof List<?> batch) {
+            batch.forEach(this::failDiscarded);
+        }
+    }
+
+    private SnsCrawlException pipelineStopped() {
+        return new SnsCrawlException("유튜브 채널 통계 조회가 중단되었습니다.", true);
+    }
+
+    public boolean isEnabled() {
+        return !apiKey.isBlank();
+    }
+
+    /**
+     * 채널 구독자 수 요청 (다른 요청과 묶여 조회된 뒤 완료)
+     *
+     * @return 구독자 수 (실패 시 SnsCrawlException으로 완료)
+     */
+    public CompletableFuture<Integer> requestSubscriberCount(String accountUrl) {
+        CompletableFuture<Integer> result = new CompletableFuture<>();
+        if (!isEnabled()) {
+            result.completeExceptionally(new SnsCrawlException("YouTube API 키가 설정되지 않았습니다.", false));
+            return result;
+        }
+        if (accountUrl == null || accountUrl.isBlank()) {
+            result.completeExceptionally(new SnsCrawlException("유튜브 채널 URL이 비어 있습니다.", false));
+            return result;
+        }
+        try {
+            // 여러 스레드에서 동시에 넣을 수 있으므로 직렬화 충돌 시 잠시 재시도
+            sink.emitNext(new PendingRequest(accountUrl, result), Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+        } catch (Sinks.EmissionException e) {
+            // 파이프라인 재시작 중이거나 종료됨 - 다음 수집에서 재시도
+            result.completeExceptionally(pipelineStopped());
+            return result;
+        }
+        return result.orTimeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 계정 URL -> 채널 id (실패하면 해당 요청만 실패 처리하고 묶음에서 제외)
+     */
+    private Mono<ResolvedRequest> resolve(PendingRequest request) {
+        return Mono.defer(() -> resolveChannelId(request.accountUrl()))
+                .switchIfEmpty(Mono.error(new SnsCrawlException("유튜브 채널을 찾을 수 없습니다: " + request.accountUrl(), false)))
+                .map(channelId -> new ResolvedRequest(channelId, request.result()))
+                .onErrorResume(e -> {
+                    request.result().completeExceptionally(e);
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<String> resolveChannelId(String accountUrl) {
+        Matcher channelMatcher = CHANNEL_ID_PATTERN.matcher(accountUrl);
+        if (channelMatcher.find()) {
+            return Mono.just(channelMatcher.group(1));
+        }
+
+        String lookupParam;
+        String lookupValue;
+        Matcher handleMatcher = HANDLE_PATTERN.matcher(accountUrl);
+        Matcher customMatcher = CUSTOM_URL_PATTERN.matcher(accountUrl);
+        Matcher userMatcher = USERNAME_PATTERN.matcher(accountUrl);
+        if (handleMatcher.find()) {
+            lookupParam = "forHandle";
+            lookupValue = handleMatcher.group(1);
+        } else if (customMatcher.find()) {
+            // 예전 맞춤 URL은 대부분 같은 이름의 핸들로 전환됨
+            lookupParam = "forHandle";
+            lookupValue = "@" + customMatcher.group(1);
+        } else if (userMatcher.find()) {
+            lookupParam = "forUsername";
+            lookupValue = userMatcher.group(1);
+        } else {
+            return Mono.error(new SnsCrawlException("유튜브 채널 URL 형식이 아닙니다: " + accountUrl, false));
+        }
+
+        String cacheKey = CHANNEL_ID_CACHE_PREFIX + lookupValue.toLowerCase();
+        return Mono.fromCallable(() -> redisTemplate.opsForValue().get(cacheKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(Mono.defer(() -> lookupChannelId(lookupParam, lookupValue)
+                        .flatMap(channelId -> Mono.fromRunnable(() -> cacheChannelId(cacheKey, channelId))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .thenReturn(channelId))));
+    }
+
+    private Mono<String> lookupChannelId(String lookupParam, String lookupValue) {
+        return webClient.get()
+                .uri(baseUrl + "/channels?part=id&" + lookupParam + "={value}&key={key}", lookupValue, apiKey)
+                .retrieve()
+                .bodyToMono(YouTubeChannelInfo.class)
+                .retryWhen(retrySpec())
+                .onErrorMap(this::toCrawlException)
+                .flatMap(info -> info.getItems() == null || info.getItems().isEmpty()
+                        ? Mono.empty()
+                        : Mono.just(info.getItems().get(0).getId()));
+    }
+
+    private void cacheChannelId(String cacheKey, String channelId) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, channelId, CHANNEL_ID_CACHE_TTL);
+        } catch (Exception e) {
+            log.warn("유튜브 채널 id 캐시 저장 실패: key={}, error={}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 최대 50개 채널의 통계를 한 번에 조회하여 각 요청 완료 (같은 채널을 여러 요청이 기다리면 모두 같은 값으로 완료)
+     * 묶음 처리 중 오류는 아직 완료되지 않은 요청만 실패 처리하고 파이프라인으로 전파하지 않음
+     */
+    private Mono<Void> fetchBatch(List<ResolvedRequest> batch) {
+        return Mono.defer(() -> requestStatistics(batch))
+                .onErrorResume(e -> {
+                    SnsCrawlException failure = toCrawlException(e);
+                    log.warn("유튜브 채널 통계 묶음 조회 실패: 요청 {}건, error={}", batch.size(), failure.getMessage());
+                    // 이미 완료된 future에는 영향 없음
+                    batch.forEach(request -> request.result().completeExceptionally(failure));
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> requestStatistics(List<ResolvedRequest> batch) {
+        Map<String, List<CompletableFuture<Integer>>> waiters = new LinkedHashMap<>();
+        for (ResolvedRequest request : batch) {
+            waiters.computeIfAbsent(request.channelId(), key -> new ArrayList<>()).add(request.result());
+        }
+
+        return webClient.get()
+                .uri(baseUrl + "/channels?part=statistics&maxResults=50&id={ids}&key={key}",
+                        String.join(",", waiters.keySet()), apiKey)
+                .retrieve()
+                .bodyToMono(YouTubeChannelInfo.class)
+                .retryWhen(retrySpec())
+                .doOnNext(info -> {
+                    if (info.getItems() != null) {
+                        for (YouTubeChannelInfo.Item item : info.getItems()) {
+                            List<CompletableFuture<Integer>> futures = waiters.remove(item.getId());
+                            if (futures != null) {
+                                completeWithStatistics(item, futures);
+                            }
+                        }
+                    }
+                    // 응답에 없는 채널은 삭제되었거나 잘못된 id
+                    waiters.forEach((channelId, futures) -> futures.forEach(future -> future.completeExceptionally(
+                            new SnsCrawlException("유튜브 채널을 찾을 수 없습니다: " + channelId, false))));
+                    log.debug("유튜브 채널 통계 묶음 조회: 요청 {}건, 채널 {}개", batch.size(),
+                            info.getItems() != null ? info.getItems().size() : 0);
+                })
+                .then();
+    }
+
+    private void completeWithStatistics(YouTubeChannelInfo.Item item, List<CompletableFuture<Integer>> futures) {
+        YouTubeChannelInfo.Statistics statistics = item.getStatistics();
+        if (statistics == null || statistics.isHiddenSubscriberCount() || statistics.getSubscriberCount() == null) {
+            SnsCrawlException hidden = new SnsCrawlException("구독자 수가 비공개인 채널입니다: " + item.getId(), false);
+            futures.forEach(future -> future.completeExceptionally(hidden));
+            return;
+        }
+        long parsed;
+        try {
+            parsed = Long.parseLong(statistics.getSubscriberCount());
+        } catch (NumberFormatException e) {
+            // 한 채널의 잘못된 응답이 같은 묶음의 다른 요청에 영향을 주지 않도록 해당 채널만 실패 처리
+            SnsCrawlException invalid = new SnsCrawlException("구독자 수 형식이 올바르지 않습니다: " + item.getId(), false);
+            futures.forEach(future -> future.completeExceptionally(invalid));
+            return;
+        }
+        int subscriberCount = (int) Math.min(parsed, Integer.MAX_VALUE);
+        futures.forEach(future -> future.complete(subscriberCount));
+    }
+
+    private Retry retrySpec() {
+        return Retry.backoff(MAX_RETRIES, Duration.ofSeconds(1))
+                .filter(e -> e instanceof WebClientResponseException response
+                        && (response.getStatusCode().value() == 429 || response.getStatusCode().is5xxServerError()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private SnsCrawlException toCrawlException(Throwable e) {
+        if (e instanceof SnsCrawlException crawlException) {
+            return crawlException;
+        }
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return new SnsCrawlException("YouTube API 호출 실패: HTTP " + status,
+                    status == 429 || response.getStatusCode().is5xxServerError(), e);
+        }
+        return new SnsCrawlException("YouTube API 호출 실패: " + e.getMessage(), true, e);
+    }
+}
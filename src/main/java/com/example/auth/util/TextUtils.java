@@ -1,7 +1,11 @@
 package com.example.auth.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -89,6 +93,57 @@ public class TextUtils {
         }
     }
 
+    /**
+     * 검색 색인용 정규화 (모든 공백 제거, 소문자 변환)
+     * 띄어쓰기가 일정하지 않은 한국어 제목도 같은 형태로 비교하기 위해 사용하며,
+     * campaign_list_view.search_text 생성식(lower(regexp_replace(..., '\s+', '', 'g')))과 동일해야 합니다.
+     */
+    public static String normalizeForSearchIndex(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열의 2-gram 토큰 추출 (중복 제거, 코드 포인트 단위)
+     * 한국어는 2음절 단어가 많아 bigram 단위로 색인합니다. 1글자 검색어는 빈 목록을 반환합니다.
+     */
+    public static List<String> toBigrams(String normalized) {
+        if (normalized == null) {
+            return List.of();
+        }
+
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> bigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            bigrams.add(new String(codePoints, i, 2));
+        }
+        return new ArrayList<>(bigrams);
+    }
+
+    /**
+     * LIKE 패턴 특수문자 이스케이프 (기본 이스케이프 문자 \ 기준)
+     */
+    public static String escapeLikePattern(String text) {
+        if (text == null) {
+            return null;
+        }
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * PostgreSQL text[] 리터럴로 변환 (요소마다 큰따옴표로 감싸 쉼표/중괄호를 안전하게 처리)
+     */
+    public static String toPostgresArrayLiteral(Collection<String> values) {
+        if (values == null || values.isEmpty()) {
+            return "{}";
+        }
+        return values.stream()
+                .map(value -> "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
     /**
      * 검색어 하이라이팅을 위한 정보 생성
      */
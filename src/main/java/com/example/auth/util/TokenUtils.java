@@ -4,10 +4,8 @@ import com.example.auth.domain.User;
 import com.example.auth.exception.JwtValidationException;
 import com.example.auth.exception.TokenErrorType;
 import com.example.auth.exception.UnauthorizedException;
-import com.example.auth.security.JwtUtil;
-import com.example.auth.service.TokenService;
+import com.example.auth.security.VerifiedTokenResolver;
 import com.example.auth.service.UserService;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +20,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TokenUtils {
 
-    private final JwtUtil jwtUtil;
-    private final TokenService tokenService;
+    private final VerifiedTokenResolver verifiedTokenResolver;
     private final UserService userService;
 
     /**
@@ -42,16 +39,16 @@ public class TokenUtils {
         String token = bearerToken.replace("Bearer ", "");
 
         try {
-            // 만료 여부 먼저 확인 (ExpiredJwtException을 catch해서 TOKEN_EXPIRED로 처리)
-            Claims claims = jwtUtil.getClaims(token);
+            // 만료 여부 먼저 확인 - 인증 필터에서 이미 검증한 요청이면 결과 재사용
+            VerifiedTokenResolver.VerifiedToken verified = verifiedTokenResolver.resolve(token);
 
             // 블랙리스트 체크는 만료 확인 후에 수행
-            if (tokenService.isBlacklisted(token)) {
+            if (verified.blacklisted()) {
                 log.warn("블랙리스트에 포함된 토큰");
                 throw new UnauthorizedException("로그아웃된 토큰입니다.");
             }
 
-            return Long.valueOf(claims.getSubject());
+            return verified.userId();
         } catch (ExpiredJwtException e) {
             log.warn("만료된 토큰");
             throw new JwtValidationException("토큰이 만료되었습니다.", TokenErrorType.EXPIRED);
@@ -97,14 +94,9 @@ public class TokenUtils {
 
         String token = bearerToken.replace("Bearer ", "");
 
-        // 블랙리스트 체크
-        if (tokenService.isBlacklisted(token)) {
-            return false;
-        }
-
         try {
-            jwtUtil.validateToken(token);
-            return true;
+            // 서명/만료 검증 + 블랙리스트 체크
+            return !verifiedTokenResolver.resolve(token).blacklisted();
         } catch (Exception e) {
             return false;
         }
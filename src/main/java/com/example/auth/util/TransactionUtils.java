@@ -0,0 +1,27 @@
+package com.example.auth.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 유틸리티
+ */
+public class TransactionUtils {
+
+    /**
+     * 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 실행 (롤백되면 실행하지 않음)
+     * 캐시/카운터 반영, 메시지 발행처럼 커밋된 데이터를 기준으로 해야 하는 후속 작업에 사용합니다.
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
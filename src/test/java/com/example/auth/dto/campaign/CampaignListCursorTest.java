@@ -0,0 +1,38 @@
+package com.example.auth.dto.campaign;
+
+import com.example.auth.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CampaignListCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 정렬 기준으로 그대로 복원된다")
+    void roundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 16, 12, 30, 15);
+        String encoded = new CampaignListCursor(CampaignListCursor.SORT_POPULAR, 7, createdAt, null, 42L).encode();
+
+        CampaignListCursor decoded = CampaignListCursor.decode(encoded, CampaignListCursor.SORT_POPULAR);
+
+        assertThat(decoded.getCurrentApplicants()).isEqualTo(7);
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("정렬 키가 비어 있는 커서는 다음 페이지가 비지 않도록 잘못된 커서로 거부한다")
+    void rejectsMissingSortKeys() {
+        String latestWithoutCreatedAt = new CampaignListCursor(CampaignListCursor.SORT_LATEST, 0, null, null, 42L).encode();
+        String popularWithoutCreatedAt = new CampaignListCursor(CampaignListCursor.SORT_POPULAR, 3, null, null, 42L).encode();
+
+        assertThatThrownBy(() -> CampaignListCursor.decode(latestWithoutCreatedAt, CampaignListCursor.SORT_LATEST))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CampaignListCursor.decode(popularWithoutCreatedAt, CampaignListCursor.SORT_POPULAR))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.auth.dto.common;
+
+import com.example.auth.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 버전 태그로 그대로 복원된다")
+    void roundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 16, 12, 30, 15, 123_000_000);
+        String encoded = new KeysetCursor(KeysetCursor.NOTIFICATION, createdAt, 42L).encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(encoded, KeysetCursor.NOTIFICATION);
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("다른 목록의 버전 태그가 붙은 커서는 거부한다")
+    void rejectsOtherVersion() {
+        String kokPostCursor = new KeysetCursor(KeysetCursor.KOK_POST, LocalDateTime.now(), 42L).encode();
+
+        assertThatThrownBy(() -> KeysetCursor.decode(kokPostCursor, KeysetCursor.NOTIFICATION))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지로, 형식이 깨진 커서는 잘못된 커서로 처리한다")
+    void handlesBlankAndMalformed() {
+        assertThat(KeysetCursor.decode(null, KeysetCursor.KOK_POST)).isNull();
+        assertThat(KeysetCursor.decode(" ", KeysetCursor.KOK_POST)).isNull();
+        assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor", KeysetCursor.KOK_POST))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.auth.repository;
+
+import com.example.auth.config.CampaignListViewIndexInitializer;
+import com.example.auth.util.TextUtils;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * campaign_list_view 키워드 검색 쿼리/인덱스 테스트 (Testcontainers PostgreSQL)
+ * H2는 text[] 포함 연산자(@>)와 GIN 인덱스를 지원하지 않아 실제 PostgreSQL 컨테이너에서 실행합니다.
+ * 쿼리와 인덱스 DDL은 CampaignListViewRepository의 @Query 값과 CampaignListViewIndexInitializer를 그대로 사용하므로
+ * 운영 SQL이 바뀌면 이 테스트도 바뀐 SQL로 검증됩니다. 대용량 성능 비교는 CampaignSearchIndexBenchmarkTest(선택 실행)를 참고하세요.
+ */
+@Testcontainers
+class CampaignListViewSearchQueryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final int FILLER_COUNT = 2000;
+
+    private record Seed(long id, String title, String productShortInfo, String campaignType,
+                        int currentApplicants, String approvalStatus, LocalDate recruitmentEndDate, boolean alwaysOpen) {
+
+        boolean listed() {
+            return "APPROVED".equals(approvalStatus) && (alwaysOpen || !recruitmentEndDate.isBefore(TODAY));
+        }
+
+        String searchText() {
+            return TextUtils.normalizeForSearchIndex(title + "|" + productShortInfo);
+        }
+    }
+
+    private static final List<Seed> SEEDS = List.of(
+            new Seed(1, "카페 라떼 체험단", "라떼 + 디저트", "INSTAGRAM", 1, "APPROVED", TODAY.plusDays(7), false),
+            new Seed(2, "감성 카페 투어", "원두 샘플", "BLOG", 50, "APPROVED", TODAY.plusDays(7), false),
+            new Seed(3, "디저트 체험", "카페 쿠폰", "INSTAGRAM", 100, "APPROVED", TODAY.plusDays(7), false),
+            new Seed(4, "동네카페 리뷰어", "스킨케어  세트", "YOUTUBE", 5, "APPROVED", TODAY, false),
+            new Seed(5, "Premium LATTE 서포터즈", "텀블러", "BLOG", 7, "APPROVED", TODAY.plusDays(3), false),
+            new Seed(6, "할인 100% 쿠폰 이벤트", "a_b 세트", "INSTAGRAM", 3, "APPROVED", TODAY.plusDays(3), false),
+            new Seed(7, "1000 쿠폰 이벤트", "axb 세트", "INSTAGRAM", 2, "APPROVED", TODAY.plusDays(3), false),
+            new Seed(8, "감성 카페 반려", "원두 샘플", "BLOG", 90, "REJECTED", TODAY.plusDays(7), false),
+            new Seed(9, "감성 카페 마감", "원두 샘플", "BLOG", 80, "APPROVED", TODAY.minusDays(1), false),
+            new Seed(10, "상시 카페 모집", "원두 샘플", "BLOG", 0, "APPROVED", TODAY.minusDays(1), true));
+
+    private static JdbcTemplate jdbcTemplate;
+    private static NamedParameterJdbcTemplate namedJdbcTemplate;
+    private static String searchSql;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        // SET enable_seqscan 이 EXPLAIN 과 같은 세션에 적용되도록 커넥션 1개만 사용
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE campaign_categories (id bigint PRIMARY KEY, category_name varchar(50), category_type varchar(20))");
+        jdbcTemplate.execute("""
+                CREATE TABLE campaigns (
+                    id bigint PRIMARY KEY,
+                    title varchar(200),
+                    thumbnail_url varchar(500),
+                    recruitment_end_date date,
+                    max_applicants integer,
+                    campaign_type varchar(50),
+                    product_short_info varchar(500),
+                    created_at timestamp,
+                    category_id bigint,
+                    current_applicants integer,
+                    is_always_open boolean,
+                    approval_status varchar(20)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE campaign_list_view (
+                    campaign_id bigint PRIMARY KEY,
+                    title varchar(200) NOT NULL,
+                    thumbnail_url varchar(500),
+                    recruitment_end_date date,
+                    max_applicants integer,
+                    campaign_type varchar(50),
+                    product_short_info varchar(500),
+                    created_at timestamp NOT NULL,
+                    category_name varchar(50),
+                    category_type varchar(20),
+                    current_applicants integer NOT NULL,
+                    is_always_open boolean,
+                    approval_status varchar(20),
+                    search_text text,
+                    search_tokens text[],
+                    refreshed_at timestamp
+                )
+                """);
+        new CampaignListViewIndexInitializer(jdbcTemplate).run();
+
+        jdbcTemplate.update("INSERT INTO campaign_categories VALUES (1, '맛집', '방문')");
+        String upsertSql = queryOf("upsertByCampaignId", Long.class);
+        for (Seed seed : SEEDS) {
+            // 같은 순서로 넣으면 created_at도 id 순으로 증가 (최신순 정렬 확인용)
+            jdbcTemplate.update("""
+                    INSERT INTO campaigns (id, title, recruitment_end_date, max_applicants, campaign_type, product_short_info,
+                                           created_at, category_id, current_applicants, is_always_open, approval_status)
+                    VALUES (?, ?, ?, 10, ?, ?, TIMESTAMP '2024-01-01 00:00:00' + make_interval(mins => ?), 1, ?, ?, ?)
+                    """, seed.id(), seed.title(), seed.recruitmentEndDate(), seed.campaignType(), seed.productShortInfo(),
+                    (int) seed.id(), seed.currentApplicants(), seed.alwaysOpen(), seed.approvalStatus());
+            namedJdbcTemplate.update(upsertSql, new MapSqlParameterSource("campaignId", seed.id()));
+        }
+
+        // 어떤 검색어에도 걸리지 않는 노출 대상 캠페인 - 행 수가 충분해야 플래너가 GIN 인덱스를 고름
+        jdbcTemplate.update("""
+                INSERT INTO campaigns (id, title, recruitment_end_date, max_applicants, campaign_type, product_short_info,
+                                       created_at, category_id, current_applicants, is_always_open, approval_status)
+                SELECT 1000 + g, '생활용품 체험 ' || g, CAST(? AS date), 10, 'BLOG', '기본 구성',
+                       TIMESTAMP '2023-01-01 00:00:00' + make_interval(mins => g), 1, 0, false, 'APPROVED'
+                FROM generate_series(1, ?) AS g
+                """, TODAY.plusDays(30), FILLER_COUNT);
+        namedJdbcTemplate.update(queryOf("upsertChangedInRange", Long.class, Long.class),
+                new MapSqlParameterSource().addValue("fromId", 1000L).addValue("toId", 1000L + FILLER_COUNT));
+        jdbcTemplate.execute("ANALYZE campaign_list_view");
+
+        searchSql = queryOf("searchByKeyword", String.class, LocalDate.class, String.class, Integer.class,
+                String.class, Integer.class, String.class, String.class, Pageable.class);
+    }
+
+    @Test
+    @DisplayName("upsert가 만든 search_text/search_tokens는 TextUtils 정규화/2-gram 결과와 같다")
+    void upsertBuildsSameIndexAsTextUtils() {
+        for (Seed seed : SEEDS) {
+            String searchText = jdbcTemplate.queryForObject(
+                    "SELECT search_text FROM campaign_list_view WHERE campaign_id = ?", String.class, seed.id());
+            String[] tokens = jdbcTemplate.queryForObject(
+                    "SELECT search_tokens FROM campaign_list_view WHERE campaign_id = ?",
+                    (rs, rowNum) -> (String[]) rs.getArray(1).getArray(), seed.id());
+
+            assertThat(searchText).isEqualTo(seed.searchText());
+            assertThat(new HashSet<>(Arrays.asList(tokens))).isEqualTo(new HashSet<>(TextUtils.toBigrams(seed.searchText())));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"카페", "감성 카페", "감성카페", "LaTTe", "라", "100%", "a_b", "스킨케어 세트", "없는검색어"})
+    @DisplayName("색인 검색 결과는 노출 대상 중 정규화 문자열에 검색어가 포함된 캠페인과 정확히 같다")
+    void searchMatchesNormalizedContains(String keyword) {
+        String normalized = TextUtils.normalizeForSearchIndex(keyword);
+        Set<Long> expected = new HashSet<>();
+        for (Seed seed : SEEDS) {
+            if (seed.listed() && seed.searchText().contains(normalized)) {
+                expected.add(seed.id());
+            }
+        }
+
+        assertThat(new HashSet<>(search(keyword, "createdAt", null))).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("관련도순은 제목 접두 일치 > 제목 포함 > 제품 정보 포함, 같은 단계에서는 신청자 수 순으로 정렬한다")
+    void ordersByRelevanceThenApplicants() {
+        assertThat(search("카페", "relevance", null)).containsExactly(1L, 2L, 4L, 10L, 3L);
+        assertThat(search("카페", "currentApplicants", null)).containsExactly(3L, 2L, 4L, 1L, 10L);
+        assertThat(search("카페", "createdAt", null)).containsExactly(10L, 4L, 3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("캠페인 타입 필터를 검색 조건과 함께 적용한다")
+    void appliesCampaignTypeFilter() {
+        assertThat(search("카페", "createdAt", List.of("BLOG"))).containsExactly(10L, 2L);
+        assertThat(search("카페", "createdAt", List.of("INSTAGRAM", "YOUTUBE"))).containsExactly(4L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("2글자 이상 검색어는 search_tokens GIN 인덱스(idx_clv_search_tokens)로 후보를 찾는다")
+    void usesSearchTokensIndex() {
+        jdbcTemplate.execute("SET enable_seqscan = off"); // 행 수가 적어도 인덱스 사용 가능 여부를 확인
+        try {
+            String plan = String.join("\n", namedJdbcTemplate.queryForList(
+                    "EXPLAIN " + searchSql, searchParams("감성 카페", "relevance", null), String.class));
+
+            assertThat(plan).contains("idx_clv_search_tokens");
+        } finally {
+            jdbcTemplate.execute("RESET enable_seqscan");
+        }
+    }
+
+    private static List<Long> search(String keyword, String sort, List<String> campaignTypes) {
+        return namedJdbcTemplate.query(searchSql, searchParams(keyword, sort, campaignTypes),
+                (rs, rowNum) -> rs.getLong("campaign_id"));
+    }
+
+    /**
+     * CampaignViewService.searchCampaignsWithFilters 와 같은 방식으로 검색 파라미터 생성
+     */
+    private static MapSqlParameterSource searchParams(String keyword, String sort, List<String> campaignTypes) {
+        String normalized = TextUtils.normalizeForSearchIndex(keyword);
+        List<String> bigrams = TextUtils.toBigrams(normalized);
+        boolean filterTypes = campaignTypes != null && !campaignTypes.isEmpty();
+        return new MapSqlParameterSource()
+                .addValue("approvalStatus", "APPROVED")
+                .addValue("currentDate", TODAY)
+                .addValue("keyword", TextUtils.escapeLikePattern(normalized))
+                .addValue("searchTokenCount", bigrams.size())
+                .addValue("searchTokens", TextUtils.toPostgresArrayLiteral(bigrams))
+                .addValue("campaignTypesSize", filterTypes ? campaignTypes.size() : 0)
+                .addValue("campaignTypesArray", filterTypes ? "{" + String.join(",", campaignTypes) + "}" : null,
+                        Types.VARCHAR)
+                .addValue("sort", sort);
+    }
+
+    private static String queryOf(String methodName, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return CampaignListViewRepository.class.getMethod(methodName, parameterTypes).getAnnotation(Query.class).value();
+    }
+}
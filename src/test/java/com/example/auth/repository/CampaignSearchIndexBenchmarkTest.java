@@ -0,0 +1,173 @@
+package com.example.auth.repository;
+
+import com.example.auth.util.TextUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캠페인 검색 벤치마크 (기존 LIKE '%keyword%' 방식 vs 2-gram GIN 검색 색인)
+ * PostgreSQL이 필요하므로 BENCHMARK_POSTGRES_URL(및 BENCHMARK_POSTGRES_USER/PASSWORD)이 설정된 경우에만 실행됩니다.
+ * 세션 임시 테이블에 합성 캠페인을 만들어 색인 검색이 LIKE 결과를 모두 포함하는지 확인하고, 평균 소요 시간을 로그로 남깁니다.
+ * 쿼리 결과/인덱스 사용 검증은 항상 실행되는 CampaignListViewSearchQueryTest가 담당하며, 이 클래스는 선택 실행용 성능 측정입니다.
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_POSTGRES_URL", matches = ".+")
+class CampaignSearchIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CampaignSearchIndexBenchmarkTest.class);
+
+    private static final int ROW_COUNT = 100000;
+    private static final int ITERATIONS = 20;
+
+    private static final String LIKE_QUERY = """
+            SELECT id FROM bench_campaign_search
+            WHERE title LIKE ? OR product_short_info LIKE ?
+            """;
+
+    // CampaignListViewRepository.searchByKeyword 와 같은 조건
+    private static final String INDEX_QUERY = """
+            SELECT id FROM bench_campaign_search
+            WHERE (? = 0 OR search_tokens @> CAST(? AS text[]))
+            AND search_text LIKE ?
+            """;
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void prepareData() throws SQLException {
+        connection = DriverManager.getConnection(System.getenv("BENCHMARK_POSTGRES_URL"),
+                System.getenv("BENCHMARK_POSTGRES_USER"), System.getenv("BENCHMARK_POSTGRES_PASSWORD"));
+        long startTime = System.currentTimeMillis();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TEMP TABLE bench_campaign_search (
+                        id bigint PRIMARY KEY,
+                        title varchar(200),
+                        product_short_info varchar(500),
+                        created_at timestamp,
+                        search_text text,
+                        search_tokens text[]
+                    )
+                    """);
+
+            // 실제 캠페인 제목과 비슷한 분포의 한국어 합성 데이터
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO bench_campaign_search (id, title, product_short_info, created_at)
+                    SELECT g,
+                           (ARRAY['인스타','블로그','유튜브','감성','신상','프리미엄','동네','핫플'])[1 + g % 8] || ' ' ||
+                           (ARRAY['카페','맛집','뷰티','숙박','식품','화장품','생활용품','패션','잡화','디저트'])[1 + (g / 8) % 10] || ' ' ||
+                           (ARRAY['체험단','리뷰어','서포터즈','모집'])[1 + (g / 80) % 4] || ' ' || g,
+                           (ARRAY['라떼','케이크','립스틱','파운데이션','스킨케어 세트','샴푸','텀블러','가방'])[1 + (g / 7) % 8] || ' + ' ||
+                           (ARRAY['디저트','쿠폰','샘플','굿즈'])[1 + (g / 11) % 4],
+                           NOW() - (g || ' minutes')::interval
+                    FROM generate_series(1, ?) AS g
+                    """)) {
+                insert.setInt(1, ROW_COUNT);
+                insert.executeUpdate();
+            }
+
+            // campaign_list_view 와 동일한 정규화/토큰화
+            statement.execute("""
+                    UPDATE bench_campaign_search
+                    SET search_text = lower(regexp_replace(COALESCE(title, '') || '|' || COALESCE(product_short_info, ''), '\\s+', '', 'g'))
+                    """);
+            statement.execute("""
+                    UPDATE bench_campaign_search
+                    SET search_tokens = ARRAY(SELECT DISTINCT substr(search_text, g.i, 2)
+                                              FROM generate_series(1, length(search_text) - 1) AS g(i))
+                    """);
+            statement.execute("CREATE INDEX ON bench_campaign_search USING GIN (search_tokens)");
+            statement.execute("ANALYZE bench_campaign_search");
+        }
+
+        log.info("검색 벤치마크 데이터 준비 완료 - {}건, 소요: {}ms", ROW_COUNT, System.currentTimeMillis() - startTime);
+    }
+
+    @AfterAll
+    static void dropData() throws SQLException {
+        if (connection != null) {
+            connection.close(); // 임시 테이블은 세션 종료 시 삭제
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"카페", "감성 카페", "디저트", "립스틱", "스킨케어 세트", "라떼"})
+    @DisplayName("색인 검색은 LIKE 검색 결과를 모두 포함한다")
+    void indexSearchCoversLikeSearch(String keyword) throws SQLException {
+        String likePattern = "%" + TextUtils.escapeLikePattern(keyword) + "%";
+
+        String normalized = TextUtils.normalizeForSearchIndex(keyword);
+        List<String> bigrams = TextUtils.toBigrams(normalized);
+        String indexPattern = "%" + TextUtils.escapeLikePattern(normalized) + "%";
+        String tokens = TextUtils.toPostgresArrayLiteral(bigrams);
+
+        long likeNanos = 0;
+        long indexNanos = 0;
+        Set<Long> likeIds = Set.of();
+        Set<Long> indexIds = Set.of();
+
+        try (PreparedStatement likeStatement = connection.prepareStatement(LIKE_QUERY);
+             PreparedStatement indexStatement = connection.prepareStatement(INDEX_QUERY)) {
+
+            likeStatement.setString(1, likePattern);
+            likeStatement.setString(2, likePattern);
+            indexStatement.setInt(1, bigrams.size());
+            indexStatement.setString(2, tokens);
+            indexStatement.setString(3, indexPattern);
+
+            // 워밍업 1회 후 측정
+            for (int i = 0; i <= ITERATIONS; i++) {
+                long start = System.nanoTime();
+                Set<Long> like = fetchIds(likeStatement);
+                long likeElapsed = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                Set<Long> index = fetchIds(indexStatement);
+                long indexElapsed = System.nanoTime() - start;
+
+                if (i > 0) {
+                    likeNanos += likeElapsed;
+                    indexNanos += indexElapsed;
+                }
+                likeIds = like;
+                indexIds = index;
+            }
+        }
+
+        log.info("검색 벤치마크 - keyword: '{}', LIKE 평균 {}ms ({}건), 색인 평균 {}ms ({}건)",
+                keyword,
+                String.format("%.2f", likeNanos / 1_000_000.0 / ITERATIONS), likeIds.size(),
+                String.format("%.2f", indexNanos / 1_000_000.0 / ITERATIONS), indexIds.size());
+
+        assertThat(likeIds).isNotEmpty();
+        assertThat(indexIds).containsAll(likeIds);
+    }
+
+    private static Set<Long> fetchIds(PreparedStatement statement) throws SQLException {
+        Set<Long> ids = new HashSet<>();
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids;
+    }
+}
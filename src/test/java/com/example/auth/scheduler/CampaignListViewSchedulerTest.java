@@ -0,0 +1,79 @@
+package com.example.auth.scheduler;
+
+import com.example.auth.repository.CampaignRepository;
+import com.example.auth.service.AutoCompleteService;
+import com.example.auth.service.CampaignListViewService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CampaignListViewScheduler 변경분/전체 동기화 선택 테스트 (Redis, DB는 mock)
+ */
+class CampaignListViewSchedulerTest {
+
+    private static final String WATERMARK_KEY = "campaign:list-view:sync:watermark";
+
+    private CampaignRepository campaignRepository;
+    private CampaignListViewService campaignListViewService;
+    private ValueOperations<String, String> valueOperations;
+    private CampaignListViewScheduler scheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        campaignRepository = Mockito.mock(CampaignRepository.class);
+        campaignListViewService = Mockito.mock(CampaignListViewService.class);
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        valueOperations = Mockito.mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        scheduler = new CampaignListViewScheduler(campaignRepository, campaignListViewService,
+                Mockito.mock(AutoCompleteService.class), redisTemplate);
+    }
+
+    @Test
+    @DisplayName("워터마크가 있으면 그 이후 수정된 캠페인만 동기화하고 전체 구간은 비교하지 않는다")
+    void syncsOnlyChangedSinceWatermark() {
+        LocalDateTime watermark = LocalDateTime.of(2026, 10, 16, 12, 0);
+        when(valueOperations.get(WATERMARK_KEY)).thenReturn(watermark.toString());
+
+        scheduler.syncChanges();
+
+        verify(campaignListViewService).syncChangedSince(watermark.minusMinutes(1));
+        verify(campaignListViewService, never()).syncRange(anyLong(), anyLong());
+        verify(campaignListViewService, never()).removeOrphans();
+        verify(valueOperations).set(eq(WATERMARK_KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("워터마크가 없으면 전체 구간을 동기화하고 워터마크를 기록한다")
+    void fallsBackToFullSyncWithoutWatermark() {
+        when(campaignRepository.findMaxId()).thenReturn(2500L);
+
+        scheduler.syncChanges();
+
+        verify(campaignListViewService).syncRange(0L, 1000L);
+        verify(campaignListViewService).syncRange(1000L, 2000L);
+        verify(campaignListViewService).syncRange(2000L, 3000L);
+        verify(campaignListViewService).removeOrphans();
+        verify(campaignListViewService, never()).syncChangedSince(any());
+        verify(valueOperations).set(eq(WATERMARK_KEY), anyString(), any(Duration.class));
+    }
+}
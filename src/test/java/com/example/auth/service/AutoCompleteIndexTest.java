@@ -0,0 +1,109 @@
+package com.example.auth.service;
+
+import com.example.auth.service.AutoCompleteIndex.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AutoCompleteIndex 스냅샷 조회 테스트 (접두사/포함 일치, 순위, 개수 제한, 정규화)
+ */
+class AutoCompleteIndexTest {
+
+    @Test
+    @DisplayName("접두사 일치 항목을 인기순으로 먼저 돌려주고 부족하면 포함 일치 항목을 이어 붙인다")
+    void prefixMatchesComeBeforeContainsMatches() {
+        AutoCompleteIndex index = AutoCompleteIndex.build(List.of(
+                new Entry("캠핑 용품", 10),
+                new Entry("캠핑장 체험", 30),
+                new Entry("카페 투어", 50),
+                new Entry("맛집 캠핑", 40)));
+
+        assertThat(index.search("캠핑", 10)).containsExactly("캠핑장 체험", "캠핑 용품", "맛집 캠핑");
+        assertThat(index.search("카", 10)).containsExactly("카페 투어");
+        assertThat(index.search("캠핑장 체험 후기", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인기 점수가 같으면 짧은 제목, 그다음 사전순으로 정렬한다")
+    void ranksByPopularityThenLengthThenTitle() {
+        AutoCompleteIndex index = AutoCompleteIndex.build(List.of(
+                new Entry("가나다라", 5),
+                new Entry("가나다", 5),
+                new Entry("가나", 5),
+                new Entry("가나나", 5),
+                new Entry("가방", 7)));
+
+        assertThat(index.search("가", 10)).containsExactly("가방", "가나", "가나나", "가나다", "가나다라");
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 제목 중간에 포함된 항목을 찾는다")
+    void singleCharacterContainsMatch() {
+        AutoCompleteIndex index = AutoCompleteIndex.build(List.of(
+                new Entry("여행 가방", 3),
+                new Entry("제주 여행", 8),
+                new Entry("행사 안내", 1)));
+
+        assertThat(index.search("행", 10)).containsExactly("행사 안내", "제주 여행", "여행 가방");
+    }
+
+    @Test
+    @DisplayName("요청 개수만큼만 돌려주고 최대 MAX_SUGGESTIONS개를 넘지 않는다")
+    void respectsLimit() {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            entries.add(new Entry(String.format("item %02d", i), i));
+        }
+        AutoCompleteIndex index = AutoCompleteIndex.build(entries);
+
+        assertThat(index.search("item", 3)).containsExactly("item 29", "item 28", "item 27");
+        assertThat(index.search("item", 100)).hasSize(AutoCompleteIndex.MAX_SUGGESTIONS);
+        assertThat(index.search("item", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 찾되 원래 제목 그대로 돌려준다")
+    void matchesMixedCaseAndReturnsOriginalTitle() {
+        AutoCompleteIndex index = AutoCompleteIndex.build(List.of(
+                new Entry("Nike Air", 1),
+                new Entry("NIKE 운동화", 2),
+                new Entry("신상 Nike", 3)));
+
+        String query = AutoCompleteIndex.normalize("  nIKe ");
+
+        assertThat(query).isEqualTo("nike");
+        assertThat(index.search(query, 10)).containsExactly("NIKE 운동화", "Nike Air", "신상 Nike");
+    }
+
+    @Test
+    @DisplayName("같은 제목은 인기 점수가 높은 항목 하나만 남기고 빈 제목은 제외한다")
+    void deduplicatesTitlesAndSkipsBlank() {
+        AutoCompleteIndex index = AutoCompleteIndex.build(Arrays.asList(
+                new Entry("가방", 1),
+                new Entry("가방", 9),
+                new Entry("가구", 5),
+                new Entry(" ", 100),
+                new Entry(null, 100)));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("가", 10)).containsExactly("가방", "가구");
+    }
+
+    @Test
+    @DisplayName("빈 스냅샷이나 빈 검색어는 빈 결과를 돌려준다")
+    void emptySnapshotAndEmptyQuery() {
+        AutoCompleteIndex populated = AutoCompleteIndex.build(List.of(new Entry("캠핑 용품", 1)));
+
+        assertThat(AutoCompleteIndex.EMPTY.size()).isZero();
+        assertThat(AutoCompleteIndex.EMPTY.search("캠핑", 10)).isEmpty();
+        assertThat(AutoCompleteIndex.build(List.of()).search("a", 10)).isEmpty();
+        assertThat(populated.search(AutoCompleteIndex.normalize(null), 10)).isEmpty();
+        assertThat(populated.search(AutoCompleteIndex.normalize("   "), 10)).isEmpty();
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.auth.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 콕포스트 조회수 증가 스크립트 테스트 + 벤치마크 (조회 1건당 Redis 처리 지연)
+ * - 기존: 요청마다 스크립트 객체 생성(SHA 재계산) + 스크립트 + DB 조회수/캠페인 상태 GET + 인기 포스트 ZADD/ZREMRANGEBYRANK/EXPIRE
+ * - 개선: 캐시된 스크립트 1회(EVALSHA)로 전체 처리
+ * Testcontainers로 띄운 Redis(redis:7-alpine)에서 실행되며, bench:kokpost: 접두사의 임시 키만 사용하고 테스트마다 삭제합니다.
+ */
+@Testcontainers
+class KokPostViewCountScriptTest {
+
+    private static final int REDIS_PORT = 6379;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(REDIS_PORT);
+
+    private static final Logger log = LoggerFactory.getLogger(KokPostViewCountScriptTest.class);
+
+    private static final String KEY_PREFIX = "bench:kokpost:";
+    private static final String TTL_SECONDS = String.valueOf(24 * 3600);
+    private static final String POPULAR_TTL_SECONDS = String.valueOf(3600);
+    private static final int ITERATIONS = 5000;
+    private static final int POST_COUNT = 100;
+
+    // 변경 전 KokPostService의 조회수 증가 스크립트 (비교 기준)
+    private static final String LEGACY_SCRIPT = """
+        local duplicate_key = KEYS[1]
+        local view_count_key = KEYS[2]
+        local daily_key = KEYS[3]
+        local backup_key = KEYS[4]
+        local dirty_key = KEYS[5]
+        local ttl = tonumber(ARGV[1])
+        local post_id = ARGV[2]
+
+        if redis.call('EXISTS', duplicate_key) == 0 then
+            redis.call('SETEX', duplicate_key, ttl, 'viewed')
+            local new_count = redis.call('INCR', view_count_key)
+            redis.call('EXPIRE', view_count_key, ttl * 2)
+            redis.call('INCR', daily_key)
+            redis.call('EXPIRE', daily_key, ttl * 2)
+            redis.call('SADD', dirty_key, post_id)
+            redis.call('INCR', backup_key)
+            redis.call('EXPIRE', backup_key, ttl * 3)
+            return new_count
+        else
+            local current_count = redis.call('GET', view_count_key)
+            return current_count or 0
+        end
+        """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> viewCountScript =
+            new DefaultRedisScript<>(KokPostService.VIEW_COUNT_INCREMENT_SCRIPT, List.class);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                REDIS.getHost(), REDIS.getMappedPort(REDIS_PORT)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @AfterEach
+    void cleanup() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+            }
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 조회는 조회수/일일/백업을 증가시키고 인기 포스트를 갱신하며, 중복 조회는 증가시키지 않는다")
+    void incrementsOnceAndReturnsCachedValues() {
+        redisTemplate.opsForValue().set(KEY_PREFIX + "db_view_count:7", "40", Duration.ofHours(1));
+        redisTemplate.opsForValue().set(KEY_PREFIX + "campaign_status:7", "true", Duration.ofHours(1));
+
+        List<?> first = cachedView(1, "7");
+        List<?> duplicate = cachedView(1, "7");
+
+        assertThat(first).containsExactly("1", "40", "true");
+        assertThat(duplicate).containsExactly("1", "40", "true");
+        assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "view:7")).isEqualTo("1");
+        assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "daily:7")).isEqualTo("1");
+        assertThat(redisTemplate.opsForValue().get(KEY_PREFIX + "backup_daily:7")).isEqualTo("1");
+        assertThat(redisTemplate.opsForSet().members(KEY_PREFIX + "dirty")).containsExactly("7");
+        assertThat(redisTemplate.opsForZSet().score(KEY_PREFIX + "popular", "7")).isEqualTo(41.0);
+    }
+
+    @Test
+    @DisplayName("DB 조회수 캐시가 없으면 인기 포스트는 갱신하지 않고 빈 값을 돌려준다")
+    void skipsPopularUpdateWithoutDbCountCache() {
+        List<?> result = cachedView(1, "8");
+
+        assertThat(result).containsExactly("1", "", "");
+        assertThat(redisTemplate.opsForZSet().score(KEY_PREFIX + "popular", "8")).isNull();
+    }
+
+    @Test
+    @DisplayName("인기 포스트는 상위 100개만 유지한다")
+    void keepsTopHundredPopularPosts() {
+        for (int postId = 0; postId < 150; postId++) {
+            redisTemplate.opsForValue().set(KEY_PREFIX + "db_view_count:" + postId, String.valueOf(postId), Duration.ofHours(1));
+            cachedView(postId, String.valueOf(postId));
+        }
+
+        assertThat(redisTemplate.opsForZSet().size(KEY_PREFIX + "popular")).isEqualTo(100);
+        assertThat(redisTemplate.opsForZSet().score(KEY_PREFIX + "popular", "0")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(KEY_PREFIX + "popular", "149")).isEqualTo(150.0);
+    }
+
+    @Test
+    @DisplayName("조회 1건당 처리 시간 비교 (기존 흐름 vs 캐시된 스크립트 1회)")
+    void benchmark() {
+        for (int postId = 0; postId < POST_COUNT; postId++) {
+            redisTemplate.opsForValue().set(KEY_PREFIX + "db_view_count:" + postId, String.valueOf(postId * 10), Duration.ofHours(1));
+            redisTemplate.opsForValue().set(KEY_PREFIX + "campaign_status:" + postId, "true", Duration.ofHours(1));
+        }
+
+        // 워밍업 (스크립트 캐시 적재, 커넥션 준비)
+        for (int i = 0; i < 500; i++) {
+            legacyView(i);
+            cachedView(i, String.valueOf(i % POST_COUNT));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyView(i);
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            cachedView(i, String.valueOf(i % POST_COUNT));
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        log.info("조회수 증가 벤치마크 - {}회, 기존 평균 {}us, 개선 평균 {}us",
+                ITERATIONS,
+                String.format("%.1f", legacyNanos / 1_000.0 / ITERATIONS),
+                String.format("%.1f", cachedNanos / 1_000.0 / ITERATIONS));
+
+        assertThat(redisTemplate.opsForZSet().size(KEY_PREFIX + "popular")).isEqualTo(POST_COUNT);
+    }
+
+    /**
+     * 변경 전 조회 1건 처리 흐름
+     */
+    private void legacyView(int i) {
+        String postId = String.valueOf(i % POST_COUNT);
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>(LEGACY_SCRIPT, Long.class);
+        Long count = redisTemplate.execute(script, keys(i, postId), TTL_SECONDS, postId);
+
+        String dbCount = redisTemplate.opsForValue().get(KEY_PREFIX + "db_view_count:" + postId);
+        redisTemplate.opsForValue().get(KEY_PREFIX + "campaign_status:" + postId);
+
+        long total = Long.parseLong(dbCount != null ? dbCount : "0") + (count != null ? count : 0L);
+        redisTemplate.opsForZSet().add(KEY_PREFIX + "popular", postId, total);
+        redisTemplate.opsForZSet().removeRange(KEY_PREFIX + "popular", 0, -101);
+        redisTemplate.expire(KEY_PREFIX + "popular", Duration.ofHours(1));
+    }
+
+    /**
+     * 변경 후 조회 1건 처리 흐름 (Redis 왕복 1회, KokPostService와 같은 키 순서)
+     */
+    private List<?> cachedView(int viewer, String postId) {
+        List<String> keys = new ArrayList<>(keys(viewer, postId));
+        keys.add(KEY_PREFIX + "db_view_count:" + postId);
+        keys.add(KEY_PREFIX + "popular");
+        keys.add(KEY_PREFIX + "campaign_status:" + postId);
+        return redisTemplate.execute(viewCountScript, keys, TTL_SECONDS, postId, POPULAR_TTL_SECONDS);
+    }
+
+    private List<String> keys(int viewer, String postId) {
+        return List.of(
+                KEY_PREFIX + "duplicate:" + viewer + ":" + postId,
+                KEY_PREFIX + "view:" + postId,
+                KEY_PREFIX + "daily:" + postId,
+                KEY_PREFIX + "backup_daily:" + postId,
+                KEY_PREFIX + "dirty");
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * S3CleanupService 미사용 이미지 정리 테스트
+ * H2 메모리 DB의 이미지 URL 컬럼과 StubAmazonS3Client(메모리 버킷)로 병합 조인 판정, 배치 삭제, 키별 실패 집계, 테스트 모드를 확인합니다.
+ */
+class S3CleanupServiceTest {
+
+    private static final String BUCKET = "kok-images";
+    private static final Instant OLD = Instant.now().minus(30, ChronoUnit.DAYS);
+    private static final Instant RECENT = Instant.now().minus(1, ChronoUnit.DAYS);
+
+    private StubAmazonS3Client s3Client;
+    private JdbcTemplate jdbcTemplate;
+    private S3CleanupService s3CleanupService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:s3-cleanup-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE campaigns (id BIGINT AUTO_INCREMENT PRIMARY KEY, thumbnail_url VARCHAR(500))");
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT AUTO_INCREMENT PRIMARY KEY, profile_img VARCHAR(500))");
+        jdbcTemplate.execute("CREATE TABLE banner_images (id BIGINT AUTO_INCREMENT PRIMARY KEY, banner_url VARCHAR(500))");
+
+        s3Client = new StubAmazonS3Client();
+        s3CleanupService = new S3CleanupService(s3Client, jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+        ReflectionTestUtils.setField(s3CleanupService, "bucketName", BUCKET);
+    }
+
+    @Test
+    @DisplayName("사용 중인 이미지와 크기 변형본은 남기고, 미사용 이미지 중 기준일보다 오래된 이미지 파일만 삭제한다")
+    void keepsReferencedKeysAndResizeVariants() {
+        jdbcTemplate.update("INSERT INTO campaigns (thumbnail_url) VALUES (?)", "https://d1234.cloudfront.net/campaigns/a.jpg");
+        jdbcTemplate.update("INSERT INTO users (profile_img) VALUES (?)",
+                "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/profiles/p.png");
+        jdbcTemplate.update("INSERT INTO banner_images (banner_url) VALUES (?)", "banners/b.webp");
+
+        for (String key : new String[]{"campaigns/a.jpg", "campaigns/thumbnail-a.jpg", "campaigns/medium-a.jpg",
+                "campaigns/large-a.jpg", "profiles/p.png", "banners/b.webp",
+                "campaigns/orphan.jpg", "profiles/thumbnail-orphan.png", "campaigns/notes.txt", "campaigns/"}) {
+            s3Client.putObject(key, OLD);
+        }
+        s3Client.putObject("campaigns/recent-orphan.jpg", RECENT);
+
+        Map<String, Object> result = s3CleanupService.cleanupUnusedImages(null, 7, false);
+
+        assertThat(result.get("totalFound")).isEqualTo(2);
+        assertThat(result.get("deletedCount")).isEqualTo(2);
+        assertThat(result.get("failedCount")).isEqualTo(0);
+        assertThat(s3Client.keys())
+                .doesNotContain("campaigns/orphan.jpg", "profiles/thumbnail-orphan.png")
+                .containsExactlyInAnyOrder("campaigns/a.jpg", "campaigns/thumbnail-a.jpg", "campaigns/medium-a.jpg",
+                        "campaigns/large-a.jpg", "profiles/p.png", "banners/b.webp",
+                        "campaigns/notes.txt", "campaigns/", "campaigns/recent-orphan.jpg");
+    }
+
+    @Test
+    @DisplayName("한글/이모지 키도 S3 바이트 순 목록과 맞춰 판정하고, 목록 순서가 달라도 사용 중인 키를 지우지 않는다")
+    void handlesNonAsciiAndOutOfOrderKeys() {
+        // UTF-16 순서와 UTF-8 바이트 순서가 다른 조합 (보조 문자 이모지 vs 전각 문자)
+        String[] usedKeys = {"캠페인/대표이미지.jpg", "campaigns/😀.png", "campaigns/！.png", "campaigns/Zeta.png"};
+        String[] orphanKeys = {"캠페인/삭제대상.jpg", "campaigns/😁.png", "campaigns/＂.png", "campaigns/alpha.png"};
+        for (String key : usedKeys) {
+            jdbcTemplate.update("INSERT INTO campaigns (thumbnail_url) VALUES (?)", key);
+        }
+
+        for (boolean javaStringOrder : new boolean[]{false, true}) {
+            for (String key : usedKeys) {
+                s3Client.putObject(key, OLD);
+            }
+            for (String key : orphanKeys) {
+                s3Client.putObject(key, OLD);
+            }
+            s3Client.setListInJavaStringOrder(javaStringOrder);
+
+            Map<String, Object> result = s3CleanupService.cleanupUnusedImages(null, 7, false);
+
+            assertThat(result.get("deletedCount")).as("javaStringOrder=%s", javaStringOrder).isEqualTo(orphanKeys.length);
+            assertThat(s3Client.keys()).as("javaStringOrder=%s", javaStringOrder).containsExactlyInAnyOrder(usedKeys);
+        }
+    }
+
+    @Test
+    @DisplayName("삭제 대상이 많아도 DeleteObjects 요청당 1000개를 넘지 않는다")
+    void deleteBatchesNeverExceedThousandKeys() {
+        jdbcTemplate.update("INSERT INTO campaigns (thumbnail_url) VALUES (?)", "campaigns/kept.jpg");
+        s3Client.putObject("campaigns/kept.jpg", OLD);
+        for (int i = 0; i < 2500; i++) {
+            s3Client.putObject("campaigns/orphan-%05d.jpg".formatted(i), OLD);
+        }
+
+        Map<String, Object> result = s3CleanupService.cleanupUnusedImages("campaigns/", 7, false);
+
+        assertThat(result.get("scannedCount")).isEqualTo(2501L);
+        assertThat(result.get("deletedCount")).isEqualTo(2500);
+        assertThat(s3Client.getDeleteBatchSizes()).containsExactly(1000, 1000, 500);
+        assertThat(s3Client.keys()).containsExactly("campaigns/kept.jpg");
+    }
+
+    @Test
+    @DisplayName("일부 키 삭제가 실패하면(MultiObjectDeleteException) 실패한 키 수만큼 실패로 집계한다")
+    void countsPerKeyFailures() {
+        for (int i = 0; i < 10; i++) {
+            s3Client.putObject("campaigns/orphan-" + i + ".jpg", OLD);
+        }
+        s3Client.failDeletionOf("campaigns/orphan-3.jpg");
+        s3Client.failDeletionOf("campaigns/orphan-7.jpg");
+
+        Map<String, Object> result = s3CleanupService.cleanupUnusedImages(null, 7, false);
+
+        assertThat(result.get("totalFound")).isEqualTo(10);
+        assertThat(result.get("deletedCount")).isEqualTo(8);
+        assertThat(result.get("failedCount")).isEqualTo(2);
+        assertThat(s3Client.keys()).containsExactlyInAnyOrder("campaigns/orphan-3.jpg", "campaigns/orphan-7.jpg");
+    }
+
+    @Test
+    @DisplayName("테스트 모드에서는 삭제 대상만 집계하고 아무것도 삭제하지 않는다")
+    void dryRunDeletesNothing() {
+        for (int i = 0; i < 5; i++) {
+            s3Client.putObject("campaigns/orphan-" + i + ".jpg", OLD);
+        }
+
+        Map<String, Object> result = s3CleanupService.cleanupUnusedImages(null, 7, true);
+
+        assertThat(result.get("dryRun")).isEqualTo(true);
+        assertThat(result.get("totalFound")).isEqualTo(5);
+        assertThat(result).doesNotContainKey("deletedCount");
+        assertThat(s3Client.getDeleteBatchSizes()).isEmpty();
+        assertThat(s3Client.keys()).hasSize(5);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.EmailTemplate;
+import com.example.auth.service.SESService.BulkEmailRecipient;
+import com.example.auth.service.SESService.BulkEmailResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SESService 템플릿 대량 발송 테스트 (StubAmazonSimpleEmailService 사용, 실제 발송 없음)
+ */
+class SESServiceBulkEmailTest {
+
+    private static final double MAX_SEND_RATE = 100;
+
+    private final StubAmazonSimpleEmailService sesClient = new StubAmazonSimpleEmailService(MAX_SEND_RATE, 0);
+
+    @Test
+    @DisplayName("발송 한도 토큰 버킷을 거치면 한도를 넘는 대량 발송도 Throttling 없이 모두 성공한다")
+    void bulkSendStaysUnderSendRate() {
+        SesSendRateLimiter limiter = new SesSendRateLimiter(sesClient);
+        limiter.refreshSendQuota();
+        SESService sesService = sesService(limiter);
+
+        List<BulkEmailRecipient> recipients = recipients(250);
+        long startNanos = System.nanoTime();
+        List<BulkEmailResult> results = sesService.sendBulkTemplatedEmail(EmailTemplate.CAMPAIGN_SELECTED, recipients);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        assertThat(limiter.getRatePerSecond()).isEqualTo(MAX_SEND_RATE);
+        assertThat(results).hasSize(250).allMatch(BulkEmailResult::success);
+        assertThat(sesClient.getThrottledCount()).isZero();
+        assertThat(sesClient.getSentCount()).isEqualTo(250);
+        // 첫 1초 분량(100명)은 즉시, 나머지 150명은 초당 100명 속도로 발송
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(1400);
+    }
+
+    @Test
+    @DisplayName("한도 제어 없이 보내면 스텁이 Throttling을 내고 해당 묶음 수신자는 THROTTLED로 실패한다")
+    void bulkSendWithoutLimiterIsThrottled() {
+        SESService sesService = sesService(Mockito.mock(SesSendRateLimiter.class));
+
+        List<BulkEmailResult> results = sesService.sendBulkTemplatedEmail(EmailTemplate.CAMPAIGN_SELECTED, recipients(150));
+
+        // 50명 묶음 2개(100명)는 버킷 안에서 성공, 세 번째 묶음은 한도 초과
+        assertThat(results.subList(0, 100)).allMatch(BulkEmailResult::success);
+        assertThat(results.subList(100, 150)).allSatisfy(result -> {
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorCode()).isEqualTo("THROTTLED");
+        });
+        assertThat(sesClient.getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수신자별 결과는 형식 오류 수신자가 섞여도 요청 순서를 유지하고 거부/형식 오류 수신자만 실패한다")
+    void mapsPerRecipientFailures() {
+        SesSendRateLimiter limiter = new SesSendRateLimiter(sesClient);
+        limiter.refreshSendQuota();
+        SESService sesService = sesService(limiter);
+
+        List<BulkEmailRecipient> recipients = new ArrayList<>(recipients(3));
+        recipients.add(1, new BulkEmailRecipient("blocked@reject.stub", Map.of("nickname", "거부")));
+        recipients.add(3, new BulkEmailRecipient("not-an-email", Map.of("nickname", "형식 오류")));
+
+        List<BulkEmailResult> results = sesService.sendBulkTemplatedEmail(EmailTemplate.CAMPAIGN_SELECTED, recipients);
+
+        assertThat(results).extracting(BulkEmailResult::toEmail)
+                .containsExactlyElementsOf(recipients.stream().map(BulkEmailRecipient::toEmail).toList());
+        assertThat(results).extracting(BulkEmailResult::success)
+                .containsExactly(true, false, true, false, true);
+        assertThat(results.get(1).errorCode()).isEqualTo("MESSAGE_REJECTED");
+        assertThat(results.get(3).errorCode()).isEqualTo("MESSAGE_REJECTED");
+        assertThat(results).filteredOn(BulkEmailResult::success)
+                .allSatisfy(result -> assertThat(result.messageId()).startsWith("stub-"));
+    }
+
+    private SESService sesService(SesSendRateLimiter limiter) {
+        SESService sesService = new SESService(sesClient, limiter, new ObjectMapper());
+        ReflectionTestUtils.setField(sesService, "fromEmail", "noreply@example.com");
+        ReflectionTestUtils.setField(sesService, "fromName", "ChkokTeam");
+        sesService.registerTemplates();
+        return sesService;
+    }
+
+    private static List<BulkEmailRecipient> recipients(int count) {
+        List<BulkEmailRecipient> recipients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            recipients.add(new BulkEmailRecipient("user" + i + "@example.com",
+                    SESService.templateData("nickname", "사용자" + i, "campaignTitle", "캠페인")));
+        }
+        return recipients;
+    }
+}
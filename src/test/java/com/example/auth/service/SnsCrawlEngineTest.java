@@ -0,0 +1,136 @@
+package com.example.auth.service;
+
+import com.example.auth.config.AsyncExecutorMonitor;
+import com.example.auth.constant.PlatformType;
+import com.example.auth.service.SnsCrawlEngine.CrawlSummary;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SnsCrawlEngine 테스트
+ * H2 메모리 DB의 user_sns_platforms와 SnsCrawlStubServer(실제 HTTP)로 페이지 단위 수집, 레인별 초당 요청 제한, 재시도를 확인합니다.
+ */
+class SnsCrawlEngineTest {
+
+    private static final double STUB_RATE_LIMIT = 10;
+    private static final double LANE_RATE_PER_SECOND = 8;
+
+    private SnsCrawlStubServer stubServer;
+    private JdbcTemplate jdbcTemplate;
+    private SnsCrawlEngine snsCrawlEngine;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubServer = new SnsCrawlStubServer(5, STUB_RATE_LIMIT);
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sns-crawl-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+                CREATE TABLE user_sns_platforms (
+                    id BIGINT PRIMARY KEY,
+                    platform_type VARCHAR(20),
+                    account_url VARCHAR(500),
+                    follower_count INT,
+                    last_crawled_at TIMESTAMP,
+                    updated_at TIMESTAMP
+                )
+                """);
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("sns.crawl.instagram.endpoint", stubServer.endpoint(PlatformType.INSTAGRAM))
+                .withProperty("sns.crawl.instagram.concurrency", "4")
+                .withProperty("sns.crawl.instagram.rate-per-second", String.valueOf(LANE_RATE_PER_SECOND));
+
+        YouTubeChannelStatisticsCollector youTubeCollector = Mockito.mock(YouTubeChannelStatisticsCollector.class);
+        snsCrawlEngine = new SnsCrawlEngine(jdbcTemplate, new SnsFollowerCountClient(WebClient.create(), environment),
+                environment, youTubeCollector, new AsyncExecutorMonitor(List.of()));
+        ReflectionTestUtils.setField(snsCrawlEngine, "pageSize", 7);
+        ReflectionTestUtils.setField(snsCrawlEngine, "maxAttempts", 2);
+        snsCrawlEngine.initLanes();
+    }
+
+    @AfterEach
+    void tearDown() {
+        snsCrawlEngine.shutdownLanes();
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("전체 대상을 페이지 단위로 수집하고, 레인 초당 제한으로 429 없이 반영하며, 같은 기준 시각으로 다시 돌리면 건너뛴다")
+    void crawlsAllTargetsWithinRateLimit() {
+        for (long id = 1; id <= 16; id++) {
+            insert(id, "instagram", "https://instagram.com/user" + id, null);
+        }
+        insert(17, "blog", "https://blog.naver.com/user17", 321);
+        insert(18, "tiktok", "https://tiktok.com/@user18", null);
+        insert(19, "unknown", "https://example.com/user19", 5);
+
+        LocalDateTime crawledBefore = LocalDateTime.now();
+        CrawlSummary summary = snsCrawlEngine.crawl(crawledBefore);
+
+        assertThat(summary.scanned()).isEqualTo(19);
+        assertThat(summary.updated()).isEqualTo(19);
+        assertThat(summary.failed()).isZero();
+        assertThat(stubServer.getRateLimitedCount()).isZero();
+        assertThat(stubServer.getRequestCount()).isEqualTo(16);
+
+        for (long id = 1; id <= 16; id++) {
+            assertThat(followerCount(id)).isEqualTo(SnsCrawlStubServer.followerCount("https://instagram.com/user" + id));
+        }
+        // 조회 API가 없는 플랫폼은 기존 값 유지 (없으면 0)
+        assertThat(followerCount(17)).isEqualTo(321);
+        assertThat(followerCount(18)).isZero();
+        assertThat(followerCount(19)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_sns_platforms WHERE last_crawled_at IS NULL", Integer.class)).isZero();
+
+        CrawlSummary resumed = snsCrawlEngine.crawl(crawledBefore);
+        assertThat(resumed.scanned()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시 오류(503)는 백오프 후 재시도하고, 끝내 실패한 대상은 수집 시각을 남기지 않아 다음 수집 대상이 된다")
+    void retriesTransientErrorsAndLeavesExhaustedTargetsPending() {
+        insert(1, "instagram", "https://instagram.com/flaky", 10);
+        insert(2, "instagram", "https://instagram.com/down", 20);
+        insert(3, "instagram", "https://instagram.com/ok", 30);
+        stubServer.failNext("https://instagram.com/flaky", 1);
+        stubServer.failNext("https://instagram.com/down", 2);
+
+        CrawlSummary summary = snsCrawlEngine.crawl(LocalDateTime.now());
+
+        assertThat(summary.scanned()).isEqualTo(3);
+        assertThat(summary.updated()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(stubServer.getFailedCount()).isEqualTo(3);
+
+        assertThat(followerCount(1)).isEqualTo(SnsCrawlStubServer.followerCount("https://instagram.com/flaky"));
+        assertThat(followerCount(2)).isEqualTo(20);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT id FROM user_sns_platforms WHERE last_crawled_at IS NULL", Long.class)).isEqualTo(2L);
+    }
+
+    private void insert(long id, String platformType, String accountUrl, Integer followerCount) {
+        jdbcTemplate.update("INSERT INTO user_sns_platforms (id, platform_type, account_url, follower_count) VALUES (?, ?, ?, ?)",
+                id, platformType, accountUrl, followerCount);
+    }
+
+    private Integer followerCount(long id) {
+        return jdbcTemplate.queryForObject("SELECT follower_count FROM user_sns_platforms WHERE id = ?", Integer.class, id);
+    }
+}
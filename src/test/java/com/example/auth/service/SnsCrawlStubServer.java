@@ -0,0 +1,167 @@
+package com.example.auth.service;
+
+import com.example.auth.constant.PlatformType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 SNS 팔로워 수 조회 스텁 서버
+ * 임의 포트에 HTTP 서버를 띄워 GET /{플랫폼}/followers?url=... 에 계정 URL마다 항상 같은 팔로워 수를
+ * {"followerCount": n}으로 응답합니다. sns.crawl.{플랫폼}.endpoint를 endpoint(플랫폼) 값으로 지정해 사용합니다.
+ * - latencyMs만큼 지연 후 응답, 플랫폼별 초당 rateLimit(1초 분량 토큰 버킷) 초과 시 429
+ * - failNext로 지정한 계정은 지정 횟수만큼 503 (재시도/백오프 확인용)
+ */
+class SnsCrawlStubServer implements AutoCloseable {
+
+    private final long latencyMillis;
+    private final double rateLimit;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    // 플랫폼(경로)별 토큰 버킷
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> pendingFailures = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    SnsCrawlStubServer(long latencyMillis, double rateLimit) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.rateLimit = rateLimit;
+        this.executor = Executors.newFixedThreadPool(8);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * sns.crawl.{플랫폼}.endpoint 설정 값
+     */
+    String endpoint(PlatformType platformType) {
+        return "http://localhost:" + server.getAddress().getPort() + "/" + platformType.getValue() + "/followers?url={url}";
+    }
+
+    /**
+     * 계정 URL별 응답 팔로워 수 (항상 같은 값)
+     */
+    static int followerCount(String accountUrl) {
+        return Math.floorMod(accountUrl.hashCode(), 100_000);
+    }
+
+    /**
+     * 해당 계정의 다음 times번 요청에 503 응답
+     */
+    void failNext(String accountUrl, int times) {
+        pendingFailures.computeIfAbsent(accountUrl, key -> new AtomicInteger()).addAndGet(times);
+    }
+
+    long getRequestCount() {
+        return requestCount.get();
+    }
+
+    long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String accountUrl = extractUrl(exchange.getRequestURI().getRawQuery());
+            if (!path.endsWith("/followers") || accountUrl == null) {
+                respond(exchange, 404, "{\"error\":\"not found\"}");
+                return;
+            }
+
+            if (isOverLimit(path)) {
+                rateLimitedCount.incrementAndGet();
+                respond(exchange, 429, "{\"error\":\"rate limit exceeded\"}");
+                return;
+            }
+
+            Thread.sleep(latencyMillis);
+
+            AtomicInteger failures = pendingFailures.get(accountUrl);
+            if (failures != null && failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                failedCount.incrementAndGet();
+                respond(exchange, 503, "{\"error\":\"temporarily unavailable\"}");
+                return;
+            }
+
+            respond(exchange, 200, "{\"followerCount\":" + followerCount(accountUrl) + "}");
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, "{\"error\":\"interrupted\"}");
+        }
+    }
+
+    private boolean isOverLimit(String path) {
+        Bucket bucket = buckets.computeIfAbsent(path, key -> new Bucket(rateLimit));
+        synchronized (bucket) {
+            long now = System.nanoTime();
+            bucket.tokens = Math.min(rateLimit, bucket.tokens + (now - bucket.lastRefillNanos) / 1_000_000_000.0 * rateLimit);
+            bucket.lastRefillNanos = now;
+            if (bucket.tokens < 1) {
+                return true;
+            }
+            bucket.tokens -= 1;
+            return false;
+        }
+    }
+
+    private String extractUrl(String rawQuery) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String param : rawQuery.split("&")) {
+            if (param.startsWith("url=")) {
+                return URLDecoder.decode(param.substring(4), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        private Bucket(double tokens) {
+            this.tokens = tokens;
+        }
+    }
+}
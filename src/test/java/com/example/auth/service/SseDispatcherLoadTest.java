@@ -0,0 +1,215 @@
+package com.example.auth.service;
+
+import com.example.auth.service.SseConnection.Kind;
+import com.example.auth.service.SseConnection.OutboundEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SseDispatcher 부하 테스트 (유휴 연결 5만 개 + 쓰기가 멈춘 연결 1천 개)
+ * 실제 소켓 대신 메모리 emitter를 운영과 같은 크기(작업자 5개)의 전용 디스패처에 등록하여
+ * 팬아웃 완료, 멈춘 쓰기의 작업자 반납/연결 종료(전송 기한 감시), 하트비트 타이밍 휠 분산을 검증합니다.
+ * 멈춘 쓰기마다 대체 작업자가 하나씩 필요하므로 대체 작업자 한도(운영 기본 200)를 멈춘 연결 수만큼 올려 둡니다.
+ */
+class SseDispatcherLoadTest {
+
+    private static final int WORKER_THREADS = 5;
+    private static final int QUEUE_CAPACITY = 32;
+    private static final int IDLE_CONNECTIONS = 50_000;
+    private static final int STALLED_CONNECTIONS = 1_000;
+    private static final long WRITE_TIMEOUT_MILLIS = 200L;
+    private static final String BROADCAST_EVENT_NAME = "loadtest";
+
+    private ThreadPoolExecutor sseNotificationExecutor;
+    private ScheduledExecutorService sseHeartbeatScheduler;
+    private SseDispatcher sseDispatcher;
+
+    private final AtomicLong idleBroadcastDeliveries = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        sseNotificationExecutor = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        sseHeartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
+        sseDispatcher = new SseDispatcher(sseNotificationExecutor, sseHeartbeatScheduler);
+        ReflectionTestUtils.setField(sseDispatcher, "queueCapacity", QUEUE_CAPACITY);
+        ReflectionTestUtils.setField(sseDispatcher, "drainBatchSize", 16);
+        ReflectionTestUtils.setField(sseDispatcher, "slowConsumerTimeoutMillis", 15000L);
+        ReflectionTestUtils.setField(sseDispatcher, "writeTimeoutMillis", WRITE_TIMEOUT_MILLIS);
+        ReflectionTestUtils.setField(sseDispatcher, "maxDetachedWorkers", STALLED_CONNECTIONS);
+        sseDispatcher.startWheel();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sseHeartbeatScheduler.shutdownNow();
+        sseNotificationExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("유휴 연결 전체에 브로드캐스트가 모두 전달되고 종료되는 연결이 없다")
+    void broadcastReachesAllIdleConnections() throws InterruptedException {
+        int idleConnections = IDLE_CONNECTIONS;
+        int rounds = 20; // 큐 크기(32)보다 적게 보내므로 몰아서 넣어도 넘치지 않음
+        List<SseConnection> connections = openIdle(idleConnections);
+
+        for (int round = 1; round <= rounds; round++) {
+            broadcast(connections, round);
+        }
+
+        assertThat(awaitIdleDeliveries((long) idleConnections * rounds, 60)).isTrue();
+        assertThat(sseDispatcher.getEvictedCount()).isZero();
+        assertThat(sseDispatcher.getConnectionCount()).isEqualTo(idleConnections);
+    }
+
+    @Test
+    @DisplayName("연결 1천 개의 쓰기가 멈춰도 전송 기한 초과 시 작업자가 반납되고 연결이 종료되어 유휴 연결 전달이 계속된다")
+    void stalledWritesDoNotHoldSharedWorkers() throws InterruptedException {
+        int idleConnections = IDLE_CONNECTIONS;
+        int stalledConnections = STALLED_CONNECTIONS;
+        int rounds = QUEUE_CAPACITY + 8;
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<SseConnection> connections = openIdle(idleConnections);
+        for (int i = 0; i < stalledConnections; i++) {
+            connections.add(sseDispatcher.open("loadtest-stalled-" + i, new BlockingEmitter(release)));
+        }
+
+        try {
+            // 라운드마다 유휴 연결 전달 완료를 기다림: 멈춘 쓰기가 작업자를 계속 쥐고 있으면 2라운드부터 전달이 멈춤
+            // 2라운드는 1라운드의 멈춘 전송 1천 건 뒤에 대기하며, 감시 주기마다 작업자 수(5)만큼씩 반납되므로 여유 있게 기다림
+            for (int round = 1; round <= rounds; round++) {
+                broadcast(connections, round);
+                assertThat(awaitIdleDeliveries((long) idleConnections * round, 180))
+                        .as("%d라운드 유휴 연결 전달", round)
+                        .isTrue();
+            }
+
+            assertThat(awaitCondition(() -> sseDispatcher.getDetachedWorkerCount() == stalledConnections, 30)).isTrue();
+            assertThat(sseDispatcher.getEvictedCount()).isEqualTo(stalledConnections);
+            assertThat(sseDispatcher.getConnectionCount()).isEqualTo(idleConnections);
+            assertThat(sseNotificationExecutor.getCorePoolSize()).isEqualTo(WORKER_THREADS + stalledConnections);
+        } finally {
+            release.countDown();
+        }
+
+        // 멈췄던 쓰기가 끝나면 대체 작업자를 회수하여 풀 크기가 원래대로 돌아옴
+        assertThat(awaitCondition(() -> sseDispatcher.getDetachedWorkerCount() == 0, 30)).isTrue();
+        assertThat(sseNotificationExecutor.getCorePoolSize()).isEqualTo(WORKER_THREADS);
+        assertThat(sseNotificationExecutor.getMaximumPoolSize()).isEqualTo(WORKER_THREADS);
+    }
+
+    @Test
+    @DisplayName("하트비트는 틱마다 타이밍 휠 한 칸(전체의 1/30)의 연결에만 보낸다")
+    void heartbeatsAreSpreadAcrossWheelSlots() throws InterruptedException {
+        int idleConnections = 3000;
+        int ticks = 3;
+        openIdle(idleConnections);
+
+        ConcurrentLinkedQueue<Integer> usersPerTick = new ConcurrentLinkedQueue<>();
+        CountDownLatch ticked = new CountDownLatch(ticks);
+        sseDispatcher.setTickListener((Set<String> userIds, Boolean fullRotation) -> {
+            usersPerTick.add(userIds.size());
+            ticked.countDown();
+        });
+
+        assertThat(ticked.await(ticks + 5, TimeUnit.SECONDS)).isTrue();
+        assertThat(usersPerTick).hasSizeGreaterThanOrEqualTo(ticks)
+                .allSatisfy(size -> assertThat(size).isEqualTo(idleConnections / 30));
+    }
+
+    private List<SseConnection> openIdle(int count) {
+        List<SseConnection> connections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            connections.add(sseDispatcher.open("loadtest-idle-" + i, new CountingEmitter()));
+        }
+        return connections;
+    }
+
+    private void broadcast(List<SseConnection> connections, int round) {
+        OutboundEvent event = new OutboundEvent(Kind.EVENT, BROADCAST_EVENT_NAME, String.valueOf(round), null);
+        for (SseConnection connection : connections) {
+            sseDispatcher.enqueue(connection, event);
+        }
+    }
+
+    private boolean awaitIdleDeliveries(long target, int timeoutSeconds) throws InterruptedException {
+        return awaitCondition(() -> idleBroadcastDeliveries.get() >= target, timeoutSeconds);
+    }
+
+    private boolean awaitCondition(BooleanSupplier condition, int timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return condition.getAsBoolean();
+    }
+
+    /**
+     * 전송을 메모리에서만 처리하고 브로드캐스트 이벤트 수를 세는 emitter
+     */
+    private class CountingEmitter extends SseEmitter {
+
+        CountingEmitter() {
+            super(0L);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            // 이벤트명은 build() 결과의 첫 텍스트 조각("event:<name>\n...")에 들어 있음
+            String head = String.valueOf(builder.build().iterator().next().getData());
+            if (head.startsWith("event:" + BROADCAST_EVENT_NAME)) {
+                idleBroadcastDeliveries.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 첫 전송에서 release될 때까지 멈추는 emitter (소켓 쓰기가 막힌 클라이언트 모사)
+     * 블로킹 소켓 쓰기처럼 인터럽트와 complete()로는 풀리지 않음
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+
+        BlockingEmitter(CountDownLatch release) {
+            super(0L);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.auth.service;
+
+import com.example.auth.service.SseReplayStore.ReplayEvent;
+import com.example.auth.service.SseReplayStore.ReplayResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SseReplayStore 재전송 조회 테스트 (Redis Stream은 mock)
+ */
+class SseReplayStoreTest {
+
+    private static final String USER_ID = "42";
+    private static final String STREAM_KEY = "sse:replay:" + USER_ID;
+
+    private StreamOperations<String, Object, Object> streamOperations;
+    private SseReplayStore sseReplayStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        streamOperations = Mockito.mock(StreamOperations.class);
+        when(redisTemplate.opsForStream()).thenReturn((StreamOperations) streamOperations);
+
+        sseReplayStore = new SseReplayStore(redisTemplate);
+        ReflectionTestUtils.setField(sseReplayStore, "bufferSize", 50);
+        ReflectionTestUtils.setField(sseReplayStore, "ttlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("링 버퍼에 Last-Event-ID가 있어도 중간이 빠졌을 수 있으므로 Redis Stream 기준으로 재전송한다")
+    void replaysFromStreamEvenWhenRingHasLastEventId() {
+        // 노드 간 전달 누락으로 링 버퍼에는 2번 이벤트가 빠져 있음
+        sseReplayStore.attach(USER_ID);
+        sseReplayStore.remember(USER_ID, event("1-0"));
+        sseReplayStore.remember(USER_ID, event("3-0"));
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(record("1-0"), record("2-0"), record("3-0")));
+
+        ReplayResult result = sseReplayStore.findAfter(USER_ID, "1-0");
+
+        assertThat(result.complete()).isTrue();
+        assertThat(result.events()).extracting(ReplayEvent::id).containsExactly("2-0", "3-0");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID가 Redis Stream에서 밀려났으면 누락 가능으로 표시한다")
+    void marksIncompleteWhenLastEventIdTrimmed() {
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenReturn(List.of(record("5-0"), record("6-0")));
+
+        ReplayResult result = sseReplayStore.findAfter(USER_ID, "1-0");
+
+        assertThat(result.complete()).isFalse();
+        assertThat(result.events()).extracting(ReplayEvent::id).containsExactly("5-0", "6-0");
+    }
+
+    @Test
+    @DisplayName("MAXLEN ~ 로 bufferSize보다 많은 이벤트가 남아 있으면 스트림 끝까지 이어 읽어 모두 재전송한다")
+    void pagesUntilStreamTailWhenMoreThanBufferSizeRemain() {
+        // Last-Event-ID(1-0) 이후 이벤트 120건 (bufferSize 50의 두 배 이상)
+        List<MapRecord<String, Object, Object>> stream = new ArrayList<>();
+        for (int i = 1; i <= 121; i++) {
+            stream.add(record(i + "-0"));
+        }
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenAnswer(invocation -> xrange(stream, invocation.getArgument(1), invocation.getArgument(2)));
+
+        ReplayResult result = sseReplayStore.findAfter(USER_ID, "1-0");
+
+        assertThat(result.complete()).isTrue();
+        assertThat(result.events()).hasSize(120);
+        assertThat(result.events().get(0).id()).isEqualTo("2-0");
+        assertThat(result.events().get(119).id()).isEqualTo("121-0");
+        verify(streamOperations, times(3)).range(eq(STREAM_KEY), any(Range.class), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 링 버퍼 이벤트를 재전송하되 누락 여부를 확인할 수 없어 목록 재조회를 요청한다")
+    void fallsBackToRingWhenRedisIsDown() {
+        sseReplayStore.attach(USER_ID);
+        sseReplayStore.remember(USER_ID, event("1-0"));
+        sseReplayStore.remember(USER_ID, event("3-0"));
+        sseReplayStore.remember(USER_ID, event("2-0"));
+        when(streamOperations.range(eq(STREAM_KEY), any(Range.class), any(Limit.class)))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        ReplayResult result = sseReplayStore.findAfter(USER_ID, "1-0");
+        ReplayResult withoutRing = sseReplayStore.findAfter("other", "1-0");
+
+        assertThat(result.complete()).isFalse();
+        assertThat(result.events()).extracting(ReplayEvent::id).containsExactly("2-0", "3-0");
+        assertThat(withoutRing.complete()).isFalse();
+        assertThat(withoutRing.events()).isEmpty();
+    }
+
+    /**
+     * XRANGE 동작 흉내 - ID 오름차순 스트림에서 하한(포함/제외) 이후 count건
+     */
+    private static List<MapRecord<String, Object, Object>> xrange(List<MapRecord<String, Object, Object>> stream,
+                                                                   Range<String> range, Limit limit) {
+        Range.Bound<String> lower = range.getLowerBound();
+        long from = lower.getValue().map(SseReplayStoreTest::sequence).orElse(0L);
+        return stream.stream()
+                .filter(record -> {
+                    long current = sequence(record.getId().getValue());
+                    return lower.isInclusive() ? current >= from : current > from;
+                })
+                .limit(limit.getCount())
+                .toList();
+    }
+
+    private static long sequence(String id) {
+        return Long.parseLong(id.substring(0, id.indexOf('-')));
+    }
+
+    private static ReplayEvent event(String id) {
+        return new ReplayEvent(id, "notification", "{\"id\":\"" + id + "\"}");
+    }
+
+    private static MapRecord<String, Object, Object> record(String id) {
+        Map<Object, Object> value = Map.of("event", "notification", "data", "{\"id\":\"" + id + "\"}");
+        return StreamRecords.newRecord().in(STREAM_KEY).withId(RecordId.of(id)).ofMap(value);
+    }
+}
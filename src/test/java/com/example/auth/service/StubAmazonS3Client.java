@@ -0,0 +1,132 @@
+package com.example.auth.service;
+
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 테스트용 S3 스텁 (한 버킷, 메모리 보관)
+ * 목록은 실제 S3처럼 키의 UTF-8 바이트 순으로 maxKeys개씩 나누어 돌려주며, listInJavaStringOrder를 켜면
+ * 순서가 다른 S3 호환 서버처럼 Java 문자열(UTF-16) 순으로 돌려줍니다.
+ * DeleteObjects는 실제 S3처럼 1000개를 넘으면 거부하고, failingKeys에 있는 키는 삭제하지 않고 키별 오류로 응답합니다.
+ */
+class StubAmazonS3Client extends AmazonS3Client {
+
+    private static final int MAX_DELETE_KEYS = 1000;
+    private static final Comparator<String> UTF8_ORDER =
+            (a, b) -> Arrays.compareUnsigned(a.getBytes(StandardCharsets.UTF_8), b.getBytes(StandardCharsets.UTF_8));
+
+    private final TreeMap<String, S3ObjectSummary> objects = new TreeMap<>(UTF8_ORDER);
+    private final Set<String> failingKeys = new HashSet<>();
+    private final List<Integer> deleteBatchSizes = new ArrayList<>();
+    private boolean listInJavaStringOrder;
+
+    @SuppressWarnings("deprecation")
+    StubAmazonS3Client() {
+        super(new BasicAWSCredentials("stub", "stub"));
+    }
+
+    void putObject(String key, Instant lastModified) {
+        S3ObjectSummary summary = new S3ObjectSummary();
+        summary.setBucketName("stub");
+        summary.setKey(key);
+        summary.setSize(1024);
+        summary.setLastModified(Date.from(lastModified));
+        objects.put(key, summary);
+    }
+
+    void failDeletionOf(String key) {
+        failingKeys.add(key);
+    }
+
+    void setListInJavaStringOrder(boolean listInJavaStringOrder) {
+        this.listInJavaStringOrder = listInJavaStringOrder;
+    }
+
+    Set<String> keys() {
+        return new HashSet<>(objects.keySet());
+    }
+
+    List<Integer> getDeleteBatchSizes() {
+        return deleteBatchSizes;
+    }
+
+    /**
+     * 이어받기 토큰은 직전 페이지 마지막 키 (목록 도중 삭제되어도 다음 키부터 이어짐)
+     */
+    @Override
+    public ListObjectsV2Result listObjectsV2(ListObjectsV2Request request) {
+        String prefix = request.getPrefix() != null ? request.getPrefix() : "";
+        String startAfter = request.getContinuationToken();
+        Comparator<String> order = listInJavaStringOrder ? Comparator.naturalOrder() : UTF8_ORDER;
+        List<String> listed = objects.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .filter(key -> startAfter == null || order.compare(key, startAfter) > 0)
+                .sorted(order)
+                .toList();
+        List<String> page = listed.subList(0, Math.min(request.getMaxKeys(), listed.size()));
+
+        ListObjectsV2Result result = new ListObjectsV2Result();
+        result.setBucketName(request.getBucketName());
+        result.setPrefix(request.getPrefix());
+        page.forEach(key -> result.getObjectSummaries().add(objects.get(key)));
+        result.setKeyCount(page.size());
+        result.setTruncated(page.size() < listed.size());
+        result.setNextContinuationToken(page.size() < listed.size() ? page.get(page.size() - 1) : null);
+        return result;
+    }
+
+    @Override
+    public DeleteObjectsResult deleteObjects(DeleteObjectsRequest request) {
+        List<DeleteObjectsRequest.KeyVersion> keys = request.getKeys();
+        if (keys.size() > MAX_DELETE_KEYS) {
+            AmazonS3Exception exception = new AmazonS3Exception("The XML you provided was not well-formed");
+            exception.setErrorCode("MalformedXML");
+            exception.setStatusCode(400);
+            throw exception;
+        }
+        deleteBatchSizes.add(keys.size());
+
+        List<DeletedObject> deleted = new ArrayList<>();
+        List<DeleteError> errors = new ArrayList<>();
+        for (DeleteObjectsRequest.KeyVersion keyVersion : keys) {
+            String key = keyVersion.getKey();
+            if (failingKeys.contains(key)) {
+                DeleteError error = new DeleteError();
+                error.setKey(key);
+                error.setCode("AccessDenied");
+                error.setMessage("Access Denied");
+                errors.add(error);
+                continue;
+            }
+            objects.remove(key);
+            DeletedObject deletedObject = new DeletedObject();
+            deletedObject.setKey(key);
+            deleted.add(deletedObject);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new MultiObjectDeleteException(errors, deleted);
+        }
+        return new DeleteObjectsResult(request.isQuiet() ? List.of() : deleted);
+    }
+}
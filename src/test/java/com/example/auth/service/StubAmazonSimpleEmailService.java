@@ -0,0 +1,158 @@
+package com.example.auth.service;
+
+import com.amazonaws.services.simpleemail.AbstractAmazonSimpleEmailService;
+import com.amazonaws.services.simpleemail.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 SES 스텁
+ * 템플릿은 메모리에 보관하고, 발송은 호출당 latencyMs 지연 후 가짜 messageId를 돌려줍니다.
+ * 초당 발송 한도(maxSendRate)를 넘겨 호출하면 실제 SES처럼 Throttling 오류를 내므로 SesSendRateLimiter 동작을 확인할 수 있습니다.
+ * 한도는 1초 분량 크기의 토큰 버킷으로 검사하며, 수신 주소가 "@reject.stub"으로 끝나면 MessageRejected로 응답합니다.
+ */
+class StubAmazonSimpleEmailService extends AbstractAmazonSimpleEmailService {
+
+    private static final String REJECTED_DOMAIN = "@reject.stub";
+
+    private final double maxSendRate;
+    private final long latencyMillis;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private final AtomicLong sentCount = new AtomicLong();
+
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    // 한도 초과 감지용 토큰 버킷 (1초 분량, 수신자 1명 = 토큰 1개)
+    private double tokens;
+    private long lastRefillNanos;
+
+    StubAmazonSimpleEmailService(double maxSendRate, long latencyMillis) {
+        this.maxSendRate = maxSendRate;
+        this.latencyMillis = latencyMillis;
+        this.tokens = maxSendRate;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    @Override
+    public GetSendQuotaResult getSendQuota(GetSendQuotaRequest request) {
+        return new GetSendQuotaResult()
+                .withMaxSendRate(maxSendRate)
+                .withMax24HourSend(maxSendRate * 86400)
+                .withSentLast24Hours((double) sentCount.get());
+    }
+
+    @Override
+    public CreateTemplateResult createTemplate(CreateTemplateRequest request) {
+        if (templates.putIfAbsent(request.getTemplate().getTemplateName(), request.getTemplate()) != null) {
+            throw new AlreadyExistsException("Template " + request.getTemplate().getTemplateName() + " already exists");
+        }
+        return new CreateTemplateResult();
+    }
+
+    @Override
+    public UpdateTemplateResult updateTemplate(UpdateTemplateRequest request) {
+        String name = request.getTemplate().getTemplateName();
+        if (templates.replace(name, request.getTemplate()) == null) {
+            throw new TemplateDoesNotExistException("Template " + name + " does not exist");
+        }
+        return new UpdateTemplateResult();
+    }
+
+    @Override
+    public GetTemplateResult getTemplate(GetTemplateRequest request) {
+        Template template = templates.get(request.getTemplateName());
+        if (template == null) {
+            throw new TemplateDoesNotExistException("Template " + request.getTemplateName() + " does not exist");
+        }
+        return new GetTemplateResult().withTemplate(template);
+    }
+
+    @Override
+    public SendEmailResult sendEmail(SendEmailRequest request) {
+        send(request.getDestination().getToAddresses().size());
+        return new SendEmailResult().withMessageId(messageId());
+    }
+
+    @Override
+    public SendTemplatedEmailResult sendTemplatedEmail(SendTemplatedEmailRequest request) {
+        requireTemplate(request.getTemplate());
+        if (isRejected(request.getDestination().getToAddresses().get(0))) {
+            throw new MessageRejectedException("Email address is on the suppression list");
+        }
+        send(1);
+        return new SendTemplatedEmailResult().withMessageId(messageId());
+    }
+
+    @Override
+    public SendBulkTemplatedEmailResult sendBulkTemplatedEmail(SendBulkTemplatedEmailRequest request) {
+        requireTemplate(request.getTemplate());
+        send(request.getDestinations().size());
+
+        List<BulkEmailDestinationStatus> statuses = new ArrayList<>(request.getDestinations().size());
+        for (BulkEmailDestination destination : request.getDestinations()) {
+            if (isRejected(destination.getDestination().getToAddresses().get(0))) {
+                statuses.add(new BulkEmailDestinationStatus()
+                        .withStatus(BulkEmailStatus.MessageRejected)
+                        .withError("Email address is on the suppression list"));
+            } else {
+                statuses.add(new BulkEmailDestinationStatus()
+                        .withStatus(BulkEmailStatus.Success)
+                        .withMessageId(messageId()));
+            }
+        }
+        return new SendBulkTemplatedEmailResult().withStatus(statuses);
+    }
+
+    long getSentCount() {
+        return sentCount.get();
+    }
+
+    long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    private void send(int recipients) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(maxSendRate, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * maxSendRate);
+            lastRefillNanos = now;
+            // 버킷 크기(1초 분량)만큼의 순간 발송은 허용 (타이머 오차 1토큰 허용)
+            if (tokens + 1 < Math.min(maxSendRate, recipients)) {
+                throttledCount.incrementAndGet();
+                AmazonSimpleEmailServiceException e = new AmazonSimpleEmailServiceException("Maximum sending rate exceeded.");
+                e.setErrorCode("Throttling");
+                e.setStatusCode(400);
+                throw e;
+            }
+            tokens -= recipients;
+        }
+        sentCount.addAndGet(recipients);
+    }
+
+    private void requireTemplate(String templateName) {
+        if (!templates.containsKey(templateName)) {
+            throw new TemplateDoesNotExistException("Template " + templateName + " does not exist");
+        }
+    }
+
+    private boolean isRejected(String address) {
+        return address != null && address.endsWith(REJECTED_DOMAIN);
+    }
+
+    private String messageId() {
+        return "stub-" + UUID.randomUUID();
+    }
+}
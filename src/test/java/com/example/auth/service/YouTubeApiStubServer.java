@@ -0,0 +1,153 @@
+package com.example.auth.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 YouTube Data API 스텁 서버
+ * 임의 포트에 channels.list만 흉내 내는 HTTP 서버를 띄웁니다. youtube.api.base-url을 baseUrl() 값으로 지정해 사용합니다.
+ * - id=a,b,c (최대 50개): 채널마다 항상 같은 구독자 수, "UCmissing"으로 시작하는 id는 응답에서 제외,
+ *   "UCbroken"으로 시작하는 id는 숫자가 아닌 구독자 수로 응답, 50개 초과 시 400
+ * - forHandle / forUsername: 이름에서 만든 고정 채널 id 반환 ("missing"이 들어간 이름은 빈 응답)
+ * 묶음 조회가 동작하는지 확인할 수 있도록 통계 요청 수와 요청당 최대 채널 수를 기록합니다.
+ */
+class YouTubeApiStubServer implements AutoCloseable {
+
+    private static final int MAX_IDS_PER_REQUEST = 50;
+
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicLong statisticsRequestCount = new AtomicLong();
+    private final AtomicLong lookupRequestCount = new AtomicLong();
+    private final AtomicInteger maxIdsPerRequest = new AtomicInteger();
+
+    YouTubeApiStubServer(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.executor = Executors.newFixedThreadPool(4);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/channels", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * youtube.api.base-url 설정 값
+     */
+    String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 채널 id별 응답 구독자 수 (항상 같은 값)
+     */
+    static int subscriberCount(String channelId) {
+        return Math.floorMod(channelId.hashCode(), 1_000_000);
+    }
+
+    /**
+     * 이름(@핸들/사용자명)에서 만든 고정 채널 id (UC + 22자)
+     */
+    static String channelIdOf(String name) {
+        String hash = String.format("%022d", Math.floorMod((long) name.toLowerCase().hashCode(), 10_000_000_000L));
+        return "UC" + hash.substring(hash.length() - 22);
+    }
+
+    long getStatisticsRequestCount() {
+        return statisticsRequestCount.get();
+    }
+
+    long getLookupRequestCount() {
+        return lookupRequestCount.get();
+    }
+
+    int getMaxIdsPerRequest() {
+        return maxIdsPerRequest.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+        if (params.getOrDefault("key", "").isBlank()) {
+            respond(exchange, 403, "{\"error\":{\"code\":403,\"message\":\"API key missing\"}}");
+            return;
+        }
+
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<String> items = new ArrayList<>();
+        if (params.containsKey("id")) {
+            String[] ids = params.get("id").split(",");
+            if (ids.length > MAX_IDS_PER_REQUEST) {
+                respond(exchange, 400, "{\"error\":{\"code\":400,\"message\":\"too many ids\"}}");
+                return;
+            }
+            for (String id : ids) {
+                if (id.startsWith("UCmissing")) {
+                    continue;
+                }
+                String subscribers = id.startsWith("UCbroken") ? "n/a" : String.valueOf(subscriberCount(id));
+                items.add("{\"kind\":\"youtube#channel\",\"id\":\"" + id + "\",\"statistics\":{\"subscriberCount\":\""
+                        + subscribers + "\",\"hiddenSubscriberCount\":false}}");
+            }
+            statisticsRequestCount.incrementAndGet();
+            maxIdsPerRequest.accumulateAndGet(ids.length, Math::max);
+        } else {
+            lookupRequestCount.incrementAndGet();
+            String name = params.getOrDefault("forHandle", params.get("forUsername"));
+            if (name != null && !name.toLowerCase().contains("missing")) {
+                items.add("{\"kind\":\"youtube#channel\",\"id\":\"" + channelIdOf(name) + "\"}");
+            }
+        }
+
+        respond(exchange, 200, "{\"kind\":\"youtube#channelListResponse\",\"pageInfo\":{\"totalResults\":"
+                + items.size() + ",\"resultsPerPage\":" + items.size() + "},\"items\":[" + String.join(",", items) + "]}");
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String param : rawQuery.split("&")) {
+            int index = param.indexOf('=');
+            if (index > 0) {
+                params.put(param.substring(0, index), URLDecoder.decode(param.substring(index + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
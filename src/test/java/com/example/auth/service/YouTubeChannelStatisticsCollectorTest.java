@@ -0,0 +1,163 @@
+package com.example.auth.service;
+
+import com.example.auth.exception.SnsCrawlException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * YouTubeChannelStatisticsCollector 테스트
+ * YouTubeApiStubServer(실제 HTTP)로 채널 50개 묶음 조회, 핸들 -> 채널 id 조회/캐시, 없는 채널 처리,
+ * 요청 단위 오류 격리와 파이프라인 재구독을 확인합니다.
+ */
+class YouTubeChannelStatisticsCollectorTest {
+
+    private YouTubeApiStubServer stubServer;
+    private ValueOperations<String, String> valueOperations;
+    private YouTubeChannelStatisticsCollector collector;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws IOException {
+        stubServer = new YouTubeApiStubServer(5);
+
+        RedisTemplate<String, String> redisTemplate = Mockito.mock(RedisTemplate.class);
+        valueOperations = Mockito.mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        collector = new YouTubeChannelStatisticsCollector(WebClient.create(), redisTemplate);
+        ReflectionTestUtils.setField(collector, "apiKey", "test-key");
+        ReflectionTestUtils.setField(collector, "baseUrl", stubServer.baseUrl());
+        ReflectionTestUtils.setField(collector, "batchWindowMillis", 200L);
+        ReflectionTestUtils.setField(collector, "maxConcurrentRequests", 2);
+        collector.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        collector.stop();
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 요청은 channels.list 한 번에 채널 50개씩 묶어 조회한다")
+    void batchesRequestsIntoFiftyIdCalls() {
+        List<String> channelIds = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            String channelId = "UCchannel" + i;
+            channelIds.add(channelId);
+            futures.add(collector.requestSubscriberCount("https://www.youtube.com/channel/" + channelId));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).orTimeout(10, TimeUnit.SECONDS).join())
+                    .isEqualTo(YouTubeApiStubServer.subscriberCount(channelIds.get(i)));
+        }
+        assertThat(stubServer.getStatisticsRequestCount()).isEqualTo(3);
+        assertThat(stubServer.getMaxIdsPerRequest()).isEqualTo(50);
+        assertThat(stubServer.getLookupRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 채널을 기다리는 요청은 한 번만 조회하고 모두 같은 값으로 완료한다")
+    void deduplicatesChannelsWithinBatch() {
+        CompletableFuture<Integer> first = collector.requestSubscriberCount("https://www.youtube.com/channel/UCsame");
+        CompletableFuture<Integer> second = collector.requestSubscriberCount("https://youtube.com/channel/UCsame?si=share");
+
+        int expected = YouTubeApiStubServer.subscriberCount("UCsame");
+        assertThat(first.orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo(expected);
+        assertThat(second.orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo(expected);
+        assertThat(stubServer.getStatisticsRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("@핸들 URL은 채널 id를 조회해 Redis에 캐시하고, 캐시가 있으면 조회 없이 사용한다")
+    void resolvesHandleAndUsesCache() {
+        String handleChannelId = YouTubeApiStubServer.channelIdOf("@creator");
+        when(valueOperations.get("youtube:channel-id:@cached")).thenReturn("UCfromcache");
+
+        CompletableFuture<Integer> handle = collector.requestSubscriberCount("https://www.youtube.com/@creator");
+        CompletableFuture<Integer> cached = collector.requestSubscriberCount("https://www.youtube.com/@cached");
+
+        assertThat(handle.orTimeout(10, TimeUnit.SECONDS).join())
+                .isEqualTo(YouTubeApiStubServer.subscriberCount(handleChannelId));
+        assertThat(cached.orTimeout(10, TimeUnit.SECONDS).join())
+                .isEqualTo(YouTubeApiStubServer.subscriberCount("UCfromcache"));
+        assertThat(stubServer.getLookupRequestCount()).isEqualTo(1);
+        verify(valueOperations).set(eq("youtube:channel-id:@creator"), eq(handleChannelId), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("없는 채널과 채널 URL이 아닌 요청만 재시도 불가로 실패하고 같은 묶음의 다른 요청은 성공한다")
+    void failsOnlyMissingChannels() {
+        CompletableFuture<Integer> missing = collector.requestSubscriberCount("https://www.youtube.com/channel/UCmissing1");
+        CompletableFuture<Integer> missingHandle = collector.requestSubscriberCount("https://www.youtube.com/@missing");
+        CompletableFuture<Integer> notYouTube = collector.requestSubscriberCount("https://instagram.com/someone");
+        CompletableFuture<Integer> ok = collector.requestSubscriberCount("https://www.youtube.com/channel/UCok");
+
+        assertThat(ok.orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo(YouTubeApiStubServer.subscriberCount("UCok"));
+        for (CompletableFuture<Integer> failed : List.of(missing, missingHandle, notYouTube)) {
+            assertThatThrownBy(() -> failed.orTimeout(10, TimeUnit.SECONDS).join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOfSatisfying(SnsCrawlException.class, e -> assertThat(e.isRetryable()).isFalse());
+        }
+        verify(valueOperations, Mockito.never()).set(eq("youtube:channel-id:@missing"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("구독자 수 형식이 잘못된 채널과 빈 URL만 실패하고 같은 묶음과 이후 요청은 계속 처리된다")
+    void isolatesPerRequestErrors() {
+        CompletableFuture<Integer> broken = collector.requestSubscriberCount("https://www.youtube.com/channel/UCbroken1");
+        CompletableFuture<Integer> nullUrl = collector.requestSubscriberCount(null);
+        CompletableFuture<Integer> sameBatch = collector.requestSubscriberCount("https://www.youtube.com/channel/UCneighbor");
+
+        assertThat(sameBatch.orTimeout(10, TimeUnit.SECONDS).join())
+                .isEqualTo(YouTubeApiStubServer.subscriberCount("UCneighbor"));
+        for (CompletableFuture<Integer> failed : List.of(broken, nullUrl)) {
+            assertThatThrownBy(() -> failed.orTimeout(10, TimeUnit.SECONDS).join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOfSatisfying(SnsCrawlException.class, e -> assertThat(e.isRetryable()).isFalse());
+        }
+
+        CompletableFuture<Integer> later = collector.requestSubscriberCount("https://www.youtube.com/channel/UClater");
+        assertThat(later.orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo(YouTubeApiStubServer.subscriberCount("UClater"));
+    }
+
+    @Test
+    @DisplayName("파이프라인이 오류로 종료되면 새 sink로 다시 구독해 이후 요청을 처리한다")
+    @SuppressWarnings("unchecked")
+    void resubscribesAfterPipelineError() {
+        Sinks.Many<Object> failedSink = (Sinks.Many<Object>) ReflectionTestUtils.getField(collector, "sink");
+        failedSink.tryEmitError(new IllegalStateException("pipeline failure"));
+
+        assertThat(ReflectionTestUtils.getField(collector, "sink")).isNotSameAs(failedSink);
+        CompletableFuture<Integer> next = collector.requestSubscriberCount("https://www.youtube.com/channel/UCafter");
+        assertThat(next.orTimeout(10, TimeUnit.SECONDS).join()).isEqualTo(YouTubeApiStubServer.subscriberCount("UCafter"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.auth.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캠페인 검색 색인용 TextUtils 테스트
+ * 2-gram 색인 조건(search_tokens @> 검색어 bigram AND search_text LIKE 검색어)이
+ * 기존 LIKE '%keyword%' 검색 결과를 빠뜨리지 않는지 합성 제목으로 확인합니다.
+ */
+class TextUtilsSearchIndexTest {
+
+    private static final List<String> KEYWORDS = List.of("카페", "감성 카페", "디저트", "립스틱", "스킨케어 세트", "라떼", "A_B%");
+
+    @Test
+    @DisplayName("검색 색인 정규화는 모든 공백을 제거하고 소문자로 변환한다")
+    void normalizeForSearchIndex() {
+        assertThat(TextUtils.normalizeForSearchIndex("  감성 카페\t체험단 Coffee ")).isEqualTo("감성카페체험단coffee");
+        assertThat(TextUtils.normalizeForSearchIndex(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("bigram은 코드 포인트 단위로 중복 없이 추출하고 1글자는 빈 목록이다")
+    void toBigrams() {
+        assertThat(TextUtils.toBigrams("카페카페")).containsExactly("카페", "페카");
+        assertThat(TextUtils.toBigrams("카")).isEmpty();
+        assertThat(TextUtils.toBigrams("a😀b")).containsExactly("a😀", "😀b");
+        assertThat(TextUtils.toBigrams(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LIKE 패턴 특수문자와 배열 리터럴 특수문자를 이스케이프한다")
+    void escapes() {
+        assertThat(TextUtils.escapeLikePattern("10%_할인\\")).isEqualTo("10\\%\\_할인\\\\");
+        assertThat(TextUtils.toPostgresArrayLiteral(List.of("a,", "}\"", "\\b")))
+                .isEqualTo("{\"a,\",\"}\\\"\",\"\\\\b\"}");
+        assertThat(TextUtils.toPostgresArrayLiteral(List.of())).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("색인 조건은 기존 LIKE 검색 결과를 모두 포함하고, 결과는 모두 정규화된 검색어를 포함한다")
+    void indexMatchesCoverLikeMatches() {
+        List<String> texts = syntheticTexts(5000);
+
+        for (String keyword : KEYWORDS) {
+            String normalizedKeyword = TextUtils.normalizeForSearchIndex(keyword);
+            List<String> keywordBigrams = TextUtils.toBigrams(normalizedKeyword);
+
+            int likeCount = 0;
+            for (String text : texts) {
+                String searchText = TextUtils.normalizeForSearchIndex(text);
+                boolean indexMatch = TextUtils.toBigrams(searchText).containsAll(keywordBigrams)
+                        && searchText.contains(normalizedKeyword);
+                boolean likeMatch = text.contains(keyword);
+
+                if (likeMatch) {
+                    likeCount++;
+                    assertThat(indexMatch).as("keyword '%s', text '%s'", keyword, text).isTrue();
+                }
+                if (indexMatch) {
+                    assertThat(searchText).contains(normalizedKeyword);
+                }
+            }
+            if (!keyword.contains("%")) {
+                assertThat(likeCount).as("keyword '%s'", keyword).isPositive();
+            }
+        }
+    }
+
+    /**
+     * 실제 캠페인 제목 + 제품 정보와 비슷한 분포의 합성 텍스트 (search_text 생성식과 같은 '|' 구분)
+     */
+    private static List<String> syntheticTexts(int count) {
+        String[] prefixes = {"인스타", "블로그", "유튜브", "감성", "신상", "프리미엄", "동네", "핫플"};
+        String[] categories = {"카페", "맛집", "뷰티", "숙박", "식품", "화장품", "생활용품", "패션", "잡화", "디저트"};
+        String[] suffixes = {"체험단", "리뷰어", "서포터즈", "모집"};
+        String[] products = {"라떼", "케이크", "립스틱", "파운데이션", "스킨케어 세트", "샴푸", "텀블러", "가방"};
+        String[] extras = {"디저트", "쿠폰", "샘플", "굿즈"};
+
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(g -> prefixes[g % 8] + " " + categories[(g / 8) % 10] + " " + suffixes[(g / 80) % 4] + " " + g
+                        + "|" + products[(g / 7) % 8] + " + " + extras[(g / 11) % 4])
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.auth.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 즉시 실행한다")
+    void runsImmediatelyWithoutTransaction() {
+        AtomicInteger calls = new AtomicInteger();
+
+        TransactionUtils.runAfterCommit(calls::incrementAndGet);
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 있으면 커밋 이후에만 실행하고 롤백되면 실행하지 않는다")
+    void defersUntilCommit() {
+        AtomicInteger calls = new AtomicInteger();
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionUtils.runAfterCommit(calls::incrementAndGet);
+        assertThat(calls).hasValue(0);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertThat(calls).hasValue(1);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionUtils.runAfterCommit(calls::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(calls).hasValue(1);
+    }
+}